@@ -0,0 +1,20 @@
+package com.bank_services.account.application.dto;
+
+import java.math.BigDecimal;
+
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AccountAggregateResponse {
+
+	private final String branchCode;
+	private final Currency currency;
+	private final AccountStatus status;
+	private final long accounts;
+	private final BigDecimal totalBalance;
+}
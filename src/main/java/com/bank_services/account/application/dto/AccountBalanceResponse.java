@@ -0,0 +1,20 @@
+package com.bank_services.account.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AccountBalanceResponse {
+
+	private final UUID accountId;
+	// null: saldo actual
+	private final LocalDateTime at;
+	// último movimiento incluido; null si la cuenta no tenía movimientos a esa fecha
+	private final Long seq;
+	private final BigDecimal balance;
+}
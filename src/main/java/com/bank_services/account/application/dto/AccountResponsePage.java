@@ -0,0 +1,21 @@
+package com.bank_services.account.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AccountResponsePage {
+
+	private final List<BankAccountResponse> items;
+
+	// null cuando no hay más resultados
+	private final UUID nextCursor;
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+}
@@ -0,0 +1,35 @@
+package com.bank_services.account.application.dto;
+
+import java.math.BigDecimal;
+
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+
+import jakarta.validation.constraints.AssertTrue;
+import lombok.Data;
+
+// Filtros combinables de GET /api/v1/accounts/search; los nulos no filtran
+@Data
+public class AccountSearchCriteria {
+
+	private String ownerDocument;
+
+	private String branchCode;
+
+	private Currency currency;
+
+	private AccountStatus status;
+
+	private BigDecimal minBalance;
+
+	private BigDecimal maxBalance;
+
+	@AssertTrue(message = "minBalance must not be greater than maxBalance")
+	public boolean isBalanceRangeValid() {
+		return minBalance == null || maxBalance == null || minBalance.compareTo(maxBalance) <= 0;
+	}
+
+	public boolean hasBalanceRange() {
+		return minBalance != null || maxBalance != null;
+	}
+}
@@ -0,0 +1,14 @@
+package com.bank_services.account.application.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class AccountSummaryBatchResponse {
+
+	private int found;
+	private int notFound;
+	// en el orden de los ids pedidos
+	private List<AccountSummaryItemResponse> results;
+}
@@ -0,0 +1,18 @@
+package com.bank_services.account.application.dto;
+
+import java.util.UUID;
+
+import lombok.Data;
+
+@Data
+public class AccountSummaryItemResponse {
+
+	public enum Status {
+		FOUND, NOT_FOUND
+	}
+
+	private UUID id;
+	private Status status;
+	// null con NOT_FOUND
+	private AccountSummaryResponse summary;
+}
@@ -1,10 +1,12 @@
 package com.bank_services.account.application.dto;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 import com.bank_services.account.domain.model.AccountStatus;
 import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.model.RiskRuleType;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -39,4 +41,7 @@ public class AccountSummaryResponse {
 	
 	@NotBlank
 	private boolean lowBalanceRisk;
+
+	// tipos de regla de riesgo que cumple la cuenta con las reglas vigentes
+	private List<RiskRuleType> risks;
 }
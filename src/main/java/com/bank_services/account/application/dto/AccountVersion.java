@@ -0,0 +1,16 @@
+package com.bank_services.account.application.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Validadores de una cuenta (versión JPA y última modificación) para las peticiones condicionales
+@Getter
+@AllArgsConstructor
+public class AccountVersion {
+
+	private final Long version;
+
+	private final LocalDateTime updatedAt;
+}
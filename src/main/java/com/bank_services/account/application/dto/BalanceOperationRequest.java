@@ -0,0 +1,17 @@
+package com.bank_services.account.application.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class BalanceOperationRequest {
+
+	@NotNull
+	@Positive
+	@Digits(integer = 17, fraction = 2)
+	private BigDecimal amount;
+}
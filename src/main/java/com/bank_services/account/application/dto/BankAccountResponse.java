@@ -9,9 +9,14 @@ import com.bank_services.account.domain.model.Currency;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+// El constructor completo lo usan las proyecciones JPQL de AccountQueryAdapter (orden de los campos incluido)
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class BankAccountResponse {
 
 	@NotBlank
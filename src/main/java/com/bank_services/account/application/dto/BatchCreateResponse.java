@@ -0,0 +1,15 @@
+package com.bank_services.account.application.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class BatchCreateResponse {
+
+	private int created;
+	private int duplicates;
+	private int invalid;
+	private int failed;
+	private List<BatchItemResponse> results;
+}
@@ -0,0 +1,17 @@
+package com.bank_services.account.application.dto;
+
+import java.util.UUID;
+
+import com.bank_services.account.domain.model.BatchItemStatus;
+
+import lombok.Data;
+
+@Data
+public class BatchItemResponse {
+
+	private int index;
+	private BatchItemStatus status;
+	private UUID id;
+	private String cbu;
+	private String message;
+}
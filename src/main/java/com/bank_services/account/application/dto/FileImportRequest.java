@@ -0,0 +1,17 @@
+package com.bank_services.account.application.dto;
+
+import com.bank_services.account.infrastructure.importer.ImportFormat;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class FileImportRequest {
+
+	// relativo a account.import.base-dir
+	@NotBlank
+	private String path;
+
+	// opcional: si no se informa se deduce de la extensión (.csv o NDJSON)
+	private ImportFormat format;
+}
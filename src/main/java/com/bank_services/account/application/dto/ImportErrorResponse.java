@@ -0,0 +1,14 @@
+package com.bank_services.account.application.dto;
+
+import com.bank_services.account.domain.model.BatchItemStatus;
+
+import lombok.Data;
+
+@Data
+public class ImportErrorResponse {
+
+	private long line;
+	private String cbu;
+	private BatchItemStatus status;
+	private String message;
+}
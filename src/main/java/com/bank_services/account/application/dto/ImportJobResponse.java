@@ -0,0 +1,33 @@
+package com.bank_services.account.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.bank_services.account.infrastructure.importer.ImportFormat;
+import com.bank_services.account.infrastructure.importer.ImportJobStatus;
+
+import lombok.Data;
+
+@Data
+public class ImportJobResponse {
+
+	private UUID id;
+	private ImportFormat format;
+	private String source;
+	private ImportJobStatus status;
+	private LocalDateTime createdAt;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private String failureReason;
+
+	private long read;
+	private long created;
+	private long duplicates;
+	private long invalid;
+	private long failed;
+	private long backpressureMillis;
+
+	// sólo los primeros errores (account.import.max-errors)
+	private List<ImportErrorResponse> errors;
+}
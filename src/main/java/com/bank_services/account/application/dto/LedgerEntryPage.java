@@ -0,0 +1,19 @@
+package com.bank_services.account.application.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LedgerEntryPage {
+
+	private final List<LedgerEntryResponse> items;
+	// seq del último movimiento devuelto; null si no hay más
+	private final Long nextCursor;
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+}
@@ -0,0 +1,22 @@
+package com.bank_services.account.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.bank_services.account.domain.model.LedgerEntryType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LedgerEntryResponse {
+
+	private final long seq;
+	private final LedgerEntryType type;
+	private final BigDecimal amount;
+	private final BigDecimal balanceAfter;
+	private final UUID counterpartyId;
+	private final LocalDateTime createdAt;
+}
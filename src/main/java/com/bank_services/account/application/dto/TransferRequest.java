@@ -0,0 +1,24 @@
+package com.bank_services.account.application.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class TransferRequest {
+
+	@NotNull
+	private UUID sourceAccountId;
+
+	@NotNull
+	private UUID targetAccountId;
+
+	@NotNull
+	@Positive
+	@Digits(integer = 17, fraction = 2)
+	private BigDecimal amount;
+}
@@ -0,0 +1,11 @@
+package com.bank_services.account.application.dto;
+
+import lombok.Data;
+
+@Data
+public class TransferResponse {
+
+	private BankAccountResponse source;
+
+	private BankAccountResponse target;
+}
@@ -0,0 +1,29 @@
+package com.bank_services.account.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Respuesta de una cuenta con su versión JPA: el cuerpo y los validadores HTTP salen de la misma lectura
+@Getter
+@AllArgsConstructor
+public class VersionedAccountResponse {
+
+	private final BankAccountResponse account;
+
+	private final Long version;
+
+	// Lo usa la proyección JPQL de SpringDataAccountRepository (orden de los campos incluido)
+	public VersionedAccountResponse(UUID id, String accountNumber, String cbu, String ownerName, String ownerDocument,
+			Currency currency, BigDecimal balance, AccountStatus status, String branchCode, LocalDateTime createdAt,
+			LocalDateTime updatedAt, Long version) {
+		this(new BankAccountResponse(id, accountNumber, cbu, ownerName, ownerDocument, currency, balance, status,
+				branchCode, createdAt, updatedAt), version);
+	}
+}
@@ -0,0 +1,18 @@
+package com.bank_services.account.application.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Resumen de una cuenta con la versión y la fecha de modificación de la misma lectura: de ahí salen sus validadores
+@Getter
+@AllArgsConstructor
+public class VersionedAccountSummary {
+
+	private final AccountSummaryResponse summary;
+
+	private final Long version;
+
+	private final LocalDateTime updatedAt;
+}
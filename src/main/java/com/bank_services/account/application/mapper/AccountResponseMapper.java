@@ -0,0 +1,16 @@
+package com.bank_services.account.application.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.domain.model.BankAccount;
+
+@Component
+public class AccountResponseMapper {
+
+	public BankAccountResponse toResponse(BankAccount account) {
+		return new BankAccountResponse(account.getId(), account.getAccountNumber(), account.getCbu(),
+				account.getOwnerName(), account.getOwnerDocument(), account.getCurrency(), account.getBalance(),
+				account.getStatus(), account.getBranchCode(), account.getCreatedAt(), account.getUpdatedAt());
+	}
+}
@@ -0,0 +1,13 @@
+package com.bank_services.account.application.port;
+
+import java.util.List;
+
+import com.bank_services.account.application.dto.AccountAggregateResponse;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+
+public interface AccountAggregatePort {
+
+	// Filtros opcionales (null = todos); una combinación por sucursal, moneda y estado con cuentas
+	List<AccountAggregateResponse> findAggregates(String branchCode, Currency currency, AccountStatus status);
+}
@@ -0,0 +1,16 @@
+package com.bank_services.account.application.port;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.bank_services.account.application.dto.AccountBalanceResponse;
+import com.bank_services.account.application.dto.LedgerEntryPage;
+
+public interface AccountLedgerQueryPort {
+
+	// Movimientos con seq > after (o desde el primero si es null), en orden, con el saldo después de cada uno
+	LedgerEntryPage findEntries(UUID accountId, Long after, int limit);
+
+	// Saldo con los movimientos registrados hasta at (null = todos)
+	AccountBalanceResponse findBalance(UUID accountId, LocalDateTime at);
+}
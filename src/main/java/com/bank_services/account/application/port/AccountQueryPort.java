@@ -0,0 +1,31 @@
+package com.bank_services.account.application.port;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.bank_services.account.application.dto.AccountResponsePage;
+import com.bank_services.account.application.dto.AccountSearchCriteria;
+import com.bank_services.account.application.dto.AccountVersion;
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.application.dto.VersionedAccountResponse;
+
+/**
+ * Modelo de lectura: devuelve directamente los DTOs de respuesta, sin pasar por el modelo de dominio. Los comandos
+ * siguen usando {@link com.bank_services.account.domain.port.AccountRepositoryPort}.
+ */
+public interface AccountQueryPort {
+
+	Optional<BankAccountResponse> findById(UUID id);
+
+	// La respuesta y su versión en una sola lectura, para devolver el cuerpo con su ETag
+	Optional<VersionedAccountResponse> findVersionedById(UUID id);
+
+	// Sólo versión y fecha de modificación, para responder peticiones condicionales sin leer la fila completa
+	Optional<AccountVersion> findVersion(UUID id);
+
+	// Misma paginación por cursor que AccountRepositoryPort.findPage
+	AccountResponsePage findPage(UUID after, int limit);
+
+	// Búsqueda por filtros combinables, paginada por el mismo cursor (id ascendente)
+	AccountResponsePage search(AccountSearchCriteria criteria, UUID after, int limit);
+}
@@ -0,0 +1,77 @@
+package com.bank_services.account.application.query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.bank_services.account.application.dto.AccountAggregateResponse;
+import com.bank_services.account.application.dto.AccountBalanceResponse;
+import com.bank_services.account.application.dto.AccountResponsePage;
+import com.bank_services.account.application.dto.AccountSearchCriteria;
+import com.bank_services.account.application.dto.AccountVersion;
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.application.dto.LedgerEntryPage;
+import com.bank_services.account.application.dto.VersionedAccountResponse;
+import com.bank_services.account.application.port.AccountAggregatePort;
+import com.bank_services.account.application.port.AccountLedgerQueryPort;
+import com.bank_services.account.application.port.AccountQueryPort;
+import com.bank_services.account.domain.exception.ResourceNotFoundException;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.service.AccountService;
+
+// Consultas de sólo lectura; las escrituras siguen pasando por AccountService
+@Service
+public class AccountQueryService {
+
+	private final AccountQueryPort queryPort;
+	private final AccountAggregatePort aggregatePort;
+	private final AccountLedgerQueryPort ledgerPort;
+
+	public AccountQueryService(AccountQueryPort queryPort, AccountAggregatePort aggregatePort,
+			AccountLedgerQueryPort ledgerPort) {
+		this.queryPort = queryPort;
+		this.aggregatePort = aggregatePort;
+		this.ledgerPort = ledgerPort;
+	}
+
+	public BankAccountResponse getById(UUID id) {
+		return queryPort.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("BankAccount with id " + id + " not found"));
+	}
+
+	public VersionedAccountResponse getVersionedById(UUID id) {
+		return queryPort.findVersionedById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("BankAccount with id " + id + " not found"));
+	}
+
+	public AccountVersion getVersion(UUID id) {
+		return queryPort.findVersion(id)
+				.orElseThrow(() -> new ResourceNotFoundException("BankAccount with id " + id + " not found"));
+	}
+
+	public AccountResponsePage getPage(UUID after, int limit) {
+		return queryPort.findPage(after, AccountService.pageSize(limit));
+	}
+
+	public AccountResponsePage search(AccountSearchCriteria criteria, UUID after, int limit) {
+		return queryPort.search(criteria, after, AccountService.pageSize(limit));
+	}
+
+	public List<AccountAggregateResponse> getAggregates(String branchCode, Currency currency, AccountStatus status) {
+		return aggregatePort.findAggregates(branchCode, currency, status);
+	}
+
+	public LedgerEntryPage getLedger(UUID id, Long after, int limit) {
+		getVersion(id);
+		return ledgerPort.findEntries(id, after, AccountService.pageSize(limit));
+	}
+
+	// at null: saldo con todos los movimientos confirmados
+	public AccountBalanceResponse getBalance(UUID id, LocalDateTime at) {
+		getVersion(id);
+		return ledgerPort.findBalance(id, at);
+	}
+}
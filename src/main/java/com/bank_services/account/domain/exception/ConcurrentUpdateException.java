@@ -0,0 +1,8 @@
+package com.bank_services.account.domain.exception;
+
+public class ConcurrentUpdateException extends DomainException {
+
+	public ConcurrentUpdateException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,14 @@
+package com.bank_services.account.domain.exception;
+
+/**
+ * Base de las excepciones de dominio que el flujo normal de la API lanza (404 de un id inexistente, 409 de un CBU
+ * duplicado, 422 de una regla de saldo) y que {@code GlobalExceptionHandler} convierte en respuesta sin mirar su
+ * stack trace. No lo capturan: con un stack de Spring MVC de cien marcos o más, llenarlo es casi todo el costo de
+ * lanzarlas. Tampoco registran suppressed.
+ */
+public abstract class DomainException extends RuntimeException {
+
+	protected DomainException(String message) {
+		super(message, null, false, false);
+	}
+}
@@ -1,6 +1,6 @@
 package com.bank_services.account.domain.exception;
 
-public class DuplicateResourceException extends RuntimeException {
+public class DuplicateResourceException extends DomainException {
 
 	public DuplicateResourceException(String message) {
 		super(message);
@@ -0,0 +1,8 @@
+package com.bank_services.account.domain.exception;
+
+public class InsufficientFundsException extends DomainException {
+
+	public InsufficientFundsException(String message) {
+		super(message);
+	}
+}
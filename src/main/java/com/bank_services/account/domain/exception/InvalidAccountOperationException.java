@@ -0,0 +1,8 @@
+package com.bank_services.account.domain.exception;
+
+public class InvalidAccountOperationException extends DomainException {
+
+	public InvalidAccountOperationException(String message) {
+		super(message);
+	}
+}
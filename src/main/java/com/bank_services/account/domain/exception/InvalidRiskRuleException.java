@@ -0,0 +1,8 @@
+package com.bank_services.account.domain.exception;
+
+public class InvalidRiskRuleException extends RuntimeException {
+
+	public InvalidRiskRuleException(String message) {
+		super(message);
+	}
+}
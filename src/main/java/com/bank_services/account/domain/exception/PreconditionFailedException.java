@@ -0,0 +1,8 @@
+package com.bank_services.account.domain.exception;
+
+public class PreconditionFailedException extends DomainException {
+
+	public PreconditionFailedException(String message) {
+		super(message);
+	}
+}
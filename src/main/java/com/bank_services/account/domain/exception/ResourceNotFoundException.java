@@ -1,6 +1,6 @@
 package com.bank_services.account.domain.exception;
 
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends DomainException {
 
 	public ResourceNotFoundException(String message) {
 		super(message);
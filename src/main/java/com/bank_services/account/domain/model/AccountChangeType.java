@@ -0,0 +1,5 @@
+package com.bank_services.account.domain.model;
+
+public enum AccountChangeType {
+	CREATED, UPDATED, CLOSED, BALANCE_CHANGED
+}
@@ -0,0 +1,21 @@
+package com.bank_services.account.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AccountPage {
+
+	private final List<BankAccount> items;
+
+	// null cuando no hay más resultados
+	private final UUID nextCursor;
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+}
@@ -0,0 +1,30 @@
+package com.bank_services.account.domain.model;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Lo que aporta una cuenta a los agregados por sucursal, moneda y estado: la clave y el saldo.
+ */
+@Getter
+@AllArgsConstructor
+public class AccountPosition {
+
+	private final String branchCode;
+	private final Currency currency;
+	private final AccountStatus status;
+	private final BigDecimal balance;
+
+	public static AccountPosition of(BankAccount account) {
+		return new AccountPosition(account.getBranchCode(), account.getCurrency(), account.getStatus(),
+				account.getBalance() != null ? account.getBalance() : BigDecimal.ZERO);
+	}
+
+	// Posición previa a un movimiento de saldo que no cambió la clave
+	public static AccountPosition beforeDelta(BankAccount account, BigDecimal delta) {
+		AccountPosition after = of(account);
+		return new AccountPosition(after.branchCode, after.currency, after.status, after.balance.subtract(delta));
+	}
+}
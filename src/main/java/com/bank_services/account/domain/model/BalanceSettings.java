@@ -0,0 +1,17 @@
+package com.bank_services.account.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BalanceSettings {
+
+	private final BalanceWriteMode writeMode;
+
+	private final int maxRetries;
+
+	public static BalanceSettings defaults() {
+		return new BalanceSettings(BalanceWriteMode.CONDITIONAL, 5);
+	}
+}
@@ -0,0 +1,10 @@
+package com.bank_services.account.domain.model;
+
+public enum BalanceWriteMode {
+	// UPDATE condicional de una sola sentencia (balance = balance + ?)
+	CONDITIONAL,
+	// lectura + escritura versionada, con reintentos ante conflicto
+	OPTIMISTIC,
+	// como OPTIMISTIC, pero serializando en memoria las mutaciones de una misma cuenta (AccountLockManager)
+	STRIPED
+}
@@ -1,5 +1,8 @@
 package com.bank_services.account.domain.model;
 
+import com.bank_services.account.domain.exception.InsufficientFundsException;
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,7 +13,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BankAccount {
@@ -26,6 +29,7 @@ public class BankAccount {
 	private String branchCode;
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
+	private Long version;
 
 	public static BankAccount createNew(String accountNumber, String cbu, String ownerName, String ownerDocument,
 			Currency currency, String branchCode) {
@@ -35,21 +39,62 @@ public class BankAccount {
 				.branchCode(branchCode).createdAt(now).updatedAt(now).build();
 	}
 
+	// Completa los datos de alta que no vengan informados
+	public void prepareForCreate(LocalDateTime now) {
+		if (this.createdAt == null) {
+			this.createdAt = now;
+		}
+		this.updatedAt = now;
+		if (this.status == null) {
+			this.status = AccountStatus.ACTIVE;
+		}
+	}
+
 	public void updateFrom(BankAccount source) {
 		if (source == null)
 			return;
+		if (source.cbu != null) {
+			this.cbu = source.cbu;
+		}
 		this.ownerName = source.ownerName;
 		this.ownerDocument = source.ownerDocument;
 		this.accountNumber = source.accountNumber;
 		this.branchCode = source.branchCode;
 		this.currency = source.currency;
-		this.balance = source.balance;
+		// el saldo no se copia: sólo lo mueven débitos, créditos y transferencias
 		if (source.status != null) {
 			this.status = source.status;
 		}
 		this.updatedAt = LocalDateTime.now();
 	}
 
+	public void debit(BigDecimal amount) {
+		requireActiveAndPositive(amount);
+		BigDecimal current = balance != null ? balance : BigDecimal.ZERO;
+		if (current.compareTo(amount) < 0) {
+			throw new InsufficientFundsException(
+					"BankAccount " + id + " has insufficient funds for a debit of " + amount);
+		}
+		this.balance = current.subtract(amount);
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	public void credit(BigDecimal amount) {
+		requireActiveAndPositive(amount);
+		BigDecimal current = balance != null ? balance : BigDecimal.ZERO;
+		this.balance = current.add(amount);
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	private void requireActiveAndPositive(BigDecimal amount) {
+		if (amount == null || amount.signum() <= 0) {
+			throw new InvalidAccountOperationException("Amount must be greater than zero");
+		}
+		if (status != AccountStatus.ACTIVE) {
+			throw new InvalidAccountOperationException("BankAccount " + id + " is not active");
+		}
+	}
+
 	public void close() {
 		this.status = AccountStatus.CLOSED;
 		this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,29 @@
+package com.bank_services.account.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BatchItemResult {
+
+	private final BatchItemStatus status;
+
+	// sólo informado cuando la cuenta fue creada
+	private final BankAccount account;
+
+	private final String message;
+
+	public static BatchItemResult created(BankAccount account) {
+		return new BatchItemResult(BatchItemStatus.CREATED, account, null);
+	}
+
+	public static BatchItemResult duplicate(String cbu) {
+		return new BatchItemResult(BatchItemStatus.DUPLICATE, null,
+				"BankAccount with CBU " + cbu + " already exists");
+	}
+
+	public static BatchItemResult failed(String message) {
+		return new BatchItemResult(BatchItemStatus.FAILED, null, message);
+	}
+}
@@ -0,0 +1,5 @@
+package com.bank_services.account.domain.model;
+
+public enum BatchItemStatus {
+	CREATED, DUPLICATE, INVALID, FAILED
+}
@@ -0,0 +1,17 @@
+package com.bank_services.account.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BatchSettings {
+
+	private final int chunkSize;
+
+	private final int maxItems;
+
+	public static BatchSettings defaults() {
+		return new BatchSettings(500, 10_000);
+	}
+}
@@ -0,0 +1,5 @@
+package com.bank_services.account.domain.model;
+
+public enum LedgerEntryType {
+	OPENING, CREDIT, DEBIT, TRANSFER_IN, TRANSFER_OUT, ADJUSTMENT
+}
@@ -0,0 +1,22 @@
+package com.bank_services.account.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LockStats {
+
+	private final int stripes;
+
+	// hilos esperando un lock en este momento (profundidad de la cola)
+	private final int queueDepth;
+	private final long maxQueueDepth;
+
+	private final long acquisitions;
+	private final long contendedAcquisitions;
+	private final long timeouts;
+
+	private final long avgWaitMicros;
+	private final long maxWaitMicros;
+}
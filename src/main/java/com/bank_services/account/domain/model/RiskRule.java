@@ -0,0 +1,24 @@
+package com.bank_services.account.domain.model;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Regla de riesgo tal como se configura. {@code currency} y {@code branchCode} acotan a qué cuentas aplica (null:
+ * cualquiera); entre las reglas del mismo tipo que aplican a una cuenta gana la más específica: moneda y sucursal,
+ * luego sólo moneda, luego sólo sucursal y por último la general. {@code threshold} es obligatorio para los tipos de
+ * saldo y se ignora en {@link RiskRuleType#NOT_ACTIVE}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskRule {
+
+	private RiskRuleType type;
+	private Currency currency;
+	private String branchCode;
+	private BigDecimal threshold;
+}
@@ -0,0 +1,45 @@
+package com.bank_services.account.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Tipos de regla de riesgo. El orden fija el bit de cada tipo en la máscara que devuelve RiskRuleTable.evaluate
+public enum RiskRuleType {
+
+	// saldo menor al umbral
+	LOW_BALANCE,
+	// saldo mayor al umbral (concentración)
+	HIGH_BALANCE,
+	// cuenta bloqueada o cerrada
+	NOT_ACTIVE;
+
+	private static final List<List<RiskRuleType>> BY_MASK = byMask();
+
+	public int bit() {
+		return 1 << ordinal();
+	}
+
+	public static int allMask() {
+		return (1 << values().length) - 1;
+	}
+
+	// Lista inmutable precalculada: convertir la máscara no asigna memoria
+	public static List<RiskRuleType> fromMask(int mask) {
+		return BY_MASK.get(mask & allMask());
+	}
+
+	private static List<List<RiskRuleType>> byMask() {
+		RiskRuleType[] types = values();
+		List<List<RiskRuleType>> lists = new ArrayList<>(1 << types.length);
+		for (int mask = 0; mask < 1 << types.length; mask++) {
+			List<RiskRuleType> list = new ArrayList<>(types.length);
+			for (RiskRuleType type : types) {
+				if ((mask & type.bit()) != 0) {
+					list.add(type);
+				}
+			}
+			lists.add(List.copyOf(list));
+		}
+		return List.copyOf(lists);
+	}
+}
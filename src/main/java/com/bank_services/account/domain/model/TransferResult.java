@@ -0,0 +1,13 @@
+package com.bank_services.account.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TransferResult {
+
+	private final BankAccount source;
+
+	private final BankAccount target;
+}
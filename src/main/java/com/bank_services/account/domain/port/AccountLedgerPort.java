@@ -0,0 +1,22 @@
+package com.bank_services.account.domain.port;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.LedgerEntryType;
+
+/**
+ * Libro de movimientos de saldo, sólo de inserción. Se llama dentro de la transacción que cambió el saldo y después
+ * de escribir la cuenta: el número de movimiento es la versión que dejó esa escritura, así que crece en el mismo orden
+ * en que se confirman los cambios de la cuenta.
+ */
+public interface AccountLedgerPort {
+
+	// amount con signo: negativo para débitos y transferencias salientes
+	void record(UUID accountId, LedgerEntryType type, BigDecimal amount, UUID counterpartyId);
+
+	// Saldo inicial de cuentas recién insertadas, en un lote
+	void recordOpenings(List<BankAccount> accounts);
+}
@@ -0,0 +1,12 @@
+package com.bank_services.account.domain.port;
+
+import com.bank_services.account.domain.model.AccountPosition;
+
+/**
+ * Recibe cada alta, modificación, cierre o movimiento de saldo una vez confirmado en la base.
+ */
+public interface AccountMutationListener {
+
+	// before es null en las altas
+	void onMutation(AccountPosition before, AccountPosition after);
+}
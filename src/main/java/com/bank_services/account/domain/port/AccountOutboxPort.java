@@ -0,0 +1,18 @@
+package com.bank_services.account.domain.port;
+
+import java.util.List;
+
+import com.bank_services.account.domain.model.AccountChangeType;
+import com.bank_services.account.domain.model.BankAccount;
+
+/**
+ * Registro de cambios de cuentas para sistemas externos. Se llama dentro de la transacción de la mutación: el evento
+ * queda escrito si y sólo si el cambio se confirma.
+ */
+public interface AccountOutboxPort {
+
+	void append(AccountChangeType type, BankAccount account);
+
+	// Un lote JDBC para las altas masivas
+	void appendAll(AccountChangeType type, List<BankAccount> accounts);
+}
@@ -1,24 +1,51 @@
 package com.bank_services.account.domain.port;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import com.bank_services.account.domain.model.AccountPage;
 import com.bank_services.account.domain.model.BankAccount;
 
 public interface AccountRepositoryPort {
 
 	BankAccount save(BankAccount account);
 
+	// Alta masiva: las inserciones se envían en lotes JDBC
+	List<BankAccount> saveAll(List<BankAccount> accounts);
+
 	Optional<BankAccount> findById(UUID id);
 
+	// Las cuentas existentes entre los ids recibidos, en una sola consulta (IN) y sin orden
+	List<BankAccount> findAllById(Collection<UUID> ids);
+
 	Optional<BankAccount> findByCbu(String cbu);
 
 	List<BankAccount> findAll();
 
+	// Paginación por cursor (keyset) ordenada por id: "after" es el último id de la página anterior
+	AccountPage findPage(UUID after, int limit);
+
+	// Recorre todas las cuentas sin materializarlas en memoria
+	void streamAll(Consumer<BankAccount> consumer);
+
+	/**
+	 * Suma {@code delta} al saldo en una única sentencia condicional: sólo aplica si la cuenta está activa y el saldo
+	 * resultante no es negativo. Devuelve false si la condición no se cumplió.
+	 */
+	boolean applyBalanceDelta(UUID id, BigDecimal delta, LocalDateTime at);
+
 	void deleteById(UUID id);
 
 	boolean existsById(UUID id);
 
 	boolean existsByCbu(String cbu);
+
+	// Devuelve cuáles de los CBU recibidos ya existen, en una sola consulta
+	Set<String> findExistingCbus(Collection<String> cbus);
 }
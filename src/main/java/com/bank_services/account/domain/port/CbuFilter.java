@@ -0,0 +1,16 @@
+package com.bank_services.account.domain.port;
+
+/**
+ * Filtro probabilístico de CBU ya dados de alta. Sólo sirve para evitar trabajo: la unicidad la garantiza la
+ * restricción de la base, que sigue siendo la que decide.
+ */
+public interface CbuFilter {
+
+	// false si el filtro está deshabilitado: nadie debe consultarlo
+	boolean isActive();
+
+	// false: el CBU seguro no existe | true: puede existir (o el filtro todavía no terminó de cargarse)
+	boolean mightExist(String cbu);
+
+	void add(String cbu);
+}
@@ -0,0 +1,9 @@
+package com.bank_services.account.domain.port;
+
+import java.util.function.Supplier;
+
+public interface TransactionPort {
+
+	// Ejecuta el trabajo dentro de una transacción; un conflicto de versión se informa como ConcurrentUpdateException
+	<T> T execute(Supplier<T> work);
+}
@@ -0,0 +1,150 @@
+package com.bank_services.account.domain.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.bank_services.account.domain.exception.DuplicateResourceException;
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
+import com.bank_services.account.domain.model.AccountChangeType;
+import com.bank_services.account.domain.model.AccountPosition;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.BatchItemResult;
+import com.bank_services.account.domain.model.BatchSettings;
+import com.bank_services.account.domain.port.AccountLedgerPort;
+import com.bank_services.account.domain.port.AccountMutationListener;
+import com.bank_services.account.domain.port.AccountOutboxPort;
+import com.bank_services.account.domain.port.AccountRepositoryPort;
+import com.bank_services.account.domain.port.CbuFilter;
+import com.bank_services.account.domain.port.TransactionPort;
+
+/**
+ * Alta masiva de cuentas: por cada chunk se consultan los CBU existentes en una sola sentencia y las altas se insertan
+ * en una transacción (lote JDBC). Devuelve un resultado por cuenta, en el mismo orden recibido.
+ */
+@Service
+public class AccountBatchService {
+
+	private final AccountRepositoryPort repositoryPort;
+	private final TransactionPort transactionPort;
+	private final BatchSettings batchSettings;
+	private final AccountOutboxPort outboxPort;
+	private final AccountLedgerPort ledgerPort;
+	private final CbuFilter cbuFilter;
+	private final List<AccountMutationListener> listeners;
+
+	public AccountBatchService(AccountRepositoryPort repositoryPort, TransactionPort transactionPort,
+			BatchSettings batchSettings, AccountOutboxPort outboxPort, AccountLedgerPort ledgerPort,
+			CbuFilter cbuFilter, List<AccountMutationListener> listeners) {
+		this.repositoryPort = repositoryPort;
+		this.transactionPort = transactionPort;
+		this.batchSettings = batchSettings;
+		this.outboxPort = outboxPort;
+		this.ledgerPort = ledgerPort;
+		this.cbuFilter = cbuFilter;
+		this.listeners = listeners;
+	}
+
+	// El controller lo llama antes de validar y mapear los ítems, así un lote excedido no reserva nada por ítem
+	public void checkSize(int items) {
+		if (items > batchSettings.getMaxItems()) {
+			throw new InvalidAccountOperationException("Batch of %d accounts exceeds the limit of %d"
+					.formatted(items, batchSettings.getMaxItems()));
+		}
+	}
+
+	public List<BatchItemResult> createAll(List<BankAccount> accounts) {
+		checkSize(accounts.size());
+
+		BatchItemResult[] results = new BatchItemResult[accounts.size()];
+		Set<String> seenCbus = new HashSet<>();
+		int chunkSize = Math.max(1, batchSettings.getChunkSize());
+		for (int from = 0; from < accounts.size(); from += chunkSize) {
+			int to = Math.min(accounts.size(), from + chunkSize);
+			createChunk(accounts, from, to, seenCbus, results);
+		}
+		return Arrays.asList(results);
+	}
+
+	private void createChunk(List<BankAccount> accounts, int from, int to, Set<String> seenCbus,
+			BatchItemResult[] results) {
+		// con el filtro de CBU activo sólo se consultan los que pueden existir; si ninguno, no hay consulta
+		List<String> cbus = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			String cbu = accounts.get(i).getCbu();
+			if (!cbuFilter.isActive() || cbuFilter.mightExist(cbu)) {
+				cbus.add(cbu);
+			}
+		}
+		Set<String> existing = cbus.isEmpty() ? Set.of() : repositoryPort.findExistingCbus(cbus);
+
+		LocalDateTime now = LocalDateTime.now();
+		List<Integer> pendingIndexes = new ArrayList<>(to - from);
+		List<BankAccount> pending = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			BankAccount account = accounts.get(i);
+			// repetido contra la base o contra un ítem anterior del mismo request
+			if (existing.contains(account.getCbu()) || !seenCbus.add(account.getCbu())) {
+				results[i] = BatchItemResult.duplicate(account.getCbu());
+				continue;
+			}
+			account.prepareForCreate(now);
+			pendingIndexes.add(i);
+			pending.add(account);
+		}
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		try {
+			List<BankAccount> saved = transactionPort.execute(() -> {
+				List<BankAccount> inserted = repositoryPort.saveAll(pending);
+				ledgerPort.recordOpenings(inserted);
+				outboxPort.appendAll(AccountChangeType.CREATED, inserted);
+				return inserted;
+			});
+			for (int j = 0; j < saved.size(); j++) {
+				results[pendingIndexes.get(j)] = BatchItemResult.created(saved.get(j));
+				created(saved.get(j));
+			}
+		} catch (RuntimeException e) {
+			// el lote se revirtió completo (p. ej. un CBU dado de alta en paralelo): se reintenta de a una para
+			// aislar los ítems que fallan
+			for (int j = 0; j < pending.size(); j++) {
+				results[pendingIndexes.get(j)] = createOne(pending.get(j));
+			}
+		}
+	}
+
+	private BatchItemResult createOne(BankAccount account) {
+		try {
+			BankAccount saved = transactionPort.execute(() -> {
+				BankAccount inserted = repositoryPort.save(account);
+				ledgerPort.recordOpenings(List.of(inserted));
+				outboxPort.append(AccountChangeType.CREATED, inserted);
+				return inserted;
+			});
+			created(saved);
+			return BatchItemResult.created(saved);
+		} catch (DuplicateResourceException e) {
+			return BatchItemResult.duplicate(account.getCbu());
+		} catch (RuntimeException e) {
+			if (repositoryPort.existsByCbu(account.getCbu())) {
+				return BatchItemResult.duplicate(account.getCbu());
+			}
+			return BatchItemResult.failed(e.getMessage());
+		}
+	}
+
+	private void created(BankAccount account) {
+		cbuFilter.add(account.getCbu());
+		for (AccountMutationListener listener : listeners) {
+			listener.onMutation(null, AccountPosition.of(account));
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.bank_services.account.domain.service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import com.bank_services.account.domain.exception.ConcurrentUpdateException;
+import com.bank_services.account.domain.model.LockStats;
+
+/**
+ * Locks por franjas (striped) indexados por id de cuenta: las mutaciones sobre una misma cuenta se serializan en
+ * memoria (en orden FIFO si el lock es justo) y las de cuentas distintas avanzan en paralelo.
+ */
+public class AccountLockManager {
+
+	private final ReentrantLock[] stripes;
+	private final int mask;
+	private final long timeoutNanos;
+
+	private final AtomicInteger waiting = new AtomicInteger();
+	private final LongAccumulator maxWaiting = new LongAccumulator(Math::max, 0);
+	private final LongAdder acquisitions = new LongAdder();
+	private final LongAdder contended = new LongAdder();
+	private final LongAdder timeouts = new LongAdder();
+	private final LongAdder totalWaitNanos = new LongAdder();
+	private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+	public AccountLockManager(int stripeCount, boolean fair, Duration timeout) {
+		// potencia de dos para indexar con máscara
+		int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+		this.stripes = new ReentrantLock[size];
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new ReentrantLock(fair);
+		}
+		this.mask = size - 1;
+		this.timeoutNanos = timeout.toNanos();
+	}
+
+	public <T> T withLock(UUID id, Supplier<T> work) {
+		ReentrantLock lock = stripes[stripeIndex(id)];
+		acquire(lock);
+		try {
+			return work.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Dos cuentas: se toman en orden de franja para evitar deadlocks; si caen en la misma franja basta un lock
+	public <T> T withLocks(UUID first, UUID second, Supplier<T> work) {
+		int a = stripeIndex(first);
+		int b = stripeIndex(second);
+		if (a == b) {
+			return withLock(first, work);
+		}
+		ReentrantLock outer = stripes[Math.min(a, b)];
+		ReentrantLock inner = stripes[Math.max(a, b)];
+		acquire(outer);
+		try {
+			acquire(inner);
+			try {
+				return work.get();
+			} finally {
+				inner.unlock();
+			}
+		} finally {
+			outer.unlock();
+		}
+	}
+
+	public LockStats stats() {
+		long count = acquisitions.sum();
+		long avgWaitMicros = count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.sum() / count);
+		return new LockStats(stripes.length, waiting.get(), maxWaiting.get(), count, contended.sum(), timeouts.sum(),
+				avgWaitMicros, TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get()));
+	}
+
+	int stripeIndex(UUID id) {
+		int h = id.hashCode();
+		h ^= (h >>> 16);
+		return h & mask;
+	}
+
+	private void acquire(ReentrantLock lock) {
+		// tryLock() se adelanta a la cola aunque el lock sea justo; con timeout 0 respeta el orden FIFO
+		if (tryLockNow(lock)) {
+			acquisitions.increment();
+			return;
+		}
+
+		int depth = waiting.incrementAndGet();
+		maxWaiting.accumulate(depth);
+		contended.increment();
+		long start = System.nanoTime();
+		try {
+			if (!lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS)) {
+				timeouts.increment();
+				throw new ConcurrentUpdateException("Timed out waiting for account lock");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ConcurrentUpdateException("Interrupted while waiting for account lock");
+		} finally {
+			waiting.decrementAndGet();
+			long waited = System.nanoTime() - start;
+			totalWaitNanos.add(waited);
+			maxWaitNanos.accumulate(waited);
+		}
+		acquisitions.increment();
+	}
+
+	private static boolean tryLockNow(ReentrantLock lock) {
+		if (!lock.isFair()) {
+			return lock.tryLock();
+		}
+		try {
+			return lock.tryLock(0, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ConcurrentUpdateException("Interrupted while waiting for account lock");
+		}
+	}
+}
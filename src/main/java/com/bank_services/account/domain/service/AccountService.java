@@ -1,71 +1,346 @@
 package com.bank_services.account.domain.service;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.springframework.stereotype.Service;
 
+import com.bank_services.account.domain.exception.ConcurrentUpdateException;
 import com.bank_services.account.domain.exception.DuplicateResourceException;
+import com.bank_services.account.domain.exception.InsufficientFundsException;
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
+import com.bank_services.account.domain.exception.PreconditionFailedException;
 import com.bank_services.account.domain.exception.ResourceNotFoundException;
+import com.bank_services.account.domain.model.AccountChangeType;
+import com.bank_services.account.domain.model.AccountPage;
+import com.bank_services.account.domain.model.AccountPosition;
 import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.BalanceSettings;
+import com.bank_services.account.domain.model.BalanceWriteMode;
 import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.LedgerEntryType;
+import com.bank_services.account.domain.model.TransferResult;
+import com.bank_services.account.domain.port.AccountLedgerPort;
+import com.bank_services.account.domain.port.AccountMutationListener;
+import com.bank_services.account.domain.port.AccountOutboxPort;
 import com.bank_services.account.domain.port.AccountRepositoryPort;
+import com.bank_services.account.domain.port.CbuFilter;
+import com.bank_services.account.domain.port.TransactionPort;
 
 @Service
 public class AccountService {
 
+	public static final int DEFAULT_PAGE_SIZE = 50;
+	public static final int MAX_PAGE_SIZE = 500;
+	public static final int MAX_LOOKUP_IDS = 500;
+
 	private final AccountRepositoryPort repositoryPort;
+	private final TransactionPort transactionPort;
+	private final BalanceSettings balanceSettings;
+	private final AccountLockManager lockManager;
+	private final AccountOutboxPort outboxPort;
+	private final AccountLedgerPort ledgerPort;
+	private final CbuFilter cbuFilter;
+	private final List<AccountMutationListener> listeners;
 
-	public AccountService(AccountRepositoryPort repositoryPort) {
+	public AccountService(AccountRepositoryPort repositoryPort, TransactionPort transactionPort,
+			BalanceSettings balanceSettings, AccountLockManager lockManager, AccountOutboxPort outboxPort,
+			AccountLedgerPort ledgerPort, CbuFilter cbuFilter, List<AccountMutationListener> listeners) {
 		this.repositoryPort = repositoryPort;
+		this.transactionPort = transactionPort;
+		this.balanceSettings = balanceSettings;
+		this.lockManager = lockManager;
+		this.outboxPort = outboxPort;
+		this.ledgerPort = ledgerPort;
+		this.cbuFilter = cbuFilter;
+		this.listeners = listeners;
 	}
 
+	// Se inserta directamente: un CBU repetido lo rechaza la restricción única (DuplicateResourceException)
 	public BankAccount create(BankAccount bankAccount) {
-		if (repositoryPort.existsByCbu(bankAccount.getCbu())) {
-			throw new DuplicateResourceException(
-					"BankAccount with CBU %s already exists".formatted(bankAccount.getCbu()));
-		}
-
-		LocalDateTime now = LocalDateTime.now();
-		if (bankAccount.getCreatedAt() == null) {
-			bankAccount.setCreatedAt(now);
-		}
-		bankAccount.setUpdatedAt(now);
+		requireCbuNotTaken(bankAccount.getCbu());
 
-		if (bankAccount.getStatus() == null) {
-			bankAccount.setStatus(AccountStatus.ACTIVE);
-		}
-
-		return repositoryPort.save(bankAccount);
+		bankAccount.prepareForCreate(LocalDateTime.now());
+		BankAccount saved = transactionPort.execute(() -> {
+			BankAccount inserted = repositoryPort.save(bankAccount);
+			ledgerPort.recordOpenings(List.of(inserted));
+			return recorded(AccountChangeType.CREATED, inserted);
+		});
+		cbuFilter.add(saved.getCbu());
+		notifyListeners(null, AccountPosition.of(saved));
+		return saved;
 	}
 
 	public BankAccount getById(UUID id) {
 		return repositoryPort.findById(id)
-				.orElseThrow(() -> new ResourceNotFoundException("BankAccount with id %s not found".formatted(id)));
+				.orElseThrow(() -> new ResourceNotFoundException("BankAccount with id " + id + " not found"));
+	}
+
+	// Las cuentas existentes entre los ids pedidos, resueltas en una sola consulta; los que no existen no aparecen
+	public Map<UUID, BankAccount> getByIds(Collection<UUID> ids) {
+		if (ids.size() > MAX_LOOKUP_IDS) {
+			throw new InvalidAccountOperationException(
+					"Lookup of %d ids exceeds the limit of %d".formatted(ids.size(), MAX_LOOKUP_IDS));
+		}
+		for (UUID id : ids) {
+			if (id == null) {
+				throw new InvalidAccountOperationException("Account ids must not be null");
+			}
+		}
+		Map<UUID, BankAccount> found = HashMap.newHashMap(ids.size());
+		for (BankAccount account : repositoryPort.findAllById(ids)) {
+			found.put(account.getId(), account);
+		}
+		return found;
 	}
 
 	public List<BankAccount> getAll() {
 		return repositoryPort.findAll();
 	}
 
+	public AccountPage getPage(UUID after, int limit) {
+		return repositoryPort.findPage(after, pageSize(limit));
+	}
+
+	public static int pageSize(int limit) {
+		return limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+	}
+
+	public void streamAll(Consumer<BankAccount> consumer) {
+		repositoryPort.streamAll(consumer);
+	}
+
 	public BankAccount update(UUID id, BankAccount updatedAccount) {
-		BankAccount existing = getById(id);
+		return update(id, updatedAccount, null);
+	}
 
-		if (updatedAccount.getCbu() != null && !updatedAccount.getCbu().equals(existing.getCbu())
-				&& repositoryPort.existsByCbu(updatedAccount.getCbu())) {
-			throw new DuplicateResourceException(
-					"Another BankAccount with CBU %s already exists".formatted(updatedAccount.getCbu()));
-		}
+	// expectedVersion (If-Match) se compara con la versión leída y el @Version de la fila la confirma al escribir: si
+	// otra escritura se adelanta entre la lectura y el save también es 412. null actualiza sin condición
+	public BankAccount update(UUID id, BankAccount updatedAccount, Long expectedVersion) {
+		return serialized(id, () -> {
+			BankAccount existing = getById(id);
+			if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+				throw new PreconditionFailedException("BankAccount %s is at version %s, expected %s"
+						.formatted(id, existing.getVersion(), expectedVersion));
+			}
+			// el PUT puede repetir el saldo actual pero no cambiarlo: no pasa por el libro ni por las validaciones
+			// de débitos y créditos
+			if (updatedAccount.getBalance() != null
+					&& updatedAccount.getBalance().compareTo(orZero(existing.getBalance())) != 0) {
+				throw new InvalidAccountOperationException("Balance of BankAccount " + id
+						+ " cannot be changed by an update; use debit, credit or transfer");
+			}
+
+			boolean cbuChanged = updatedAccount.getCbu() != null
+					&& !updatedAccount.getCbu().equals(existing.getCbu());
+			if (cbuChanged) {
+				requireCbuNotTaken(updatedAccount.getCbu());
+			}
 
-		existing.updateFrom(updatedAccount);
-		existing.setUpdatedAt(LocalDateTime.now());
-		return repositoryPort.save(existing);
+			AccountPosition before = AccountPosition.of(existing);
+			existing.updateFrom(updatedAccount);
+			existing.setUpdatedAt(LocalDateTime.now());
+			BankAccount saved;
+			try {
+				saved = transactionPort
+						.execute(() -> recorded(AccountChangeType.UPDATED, repositoryPort.save(existing)));
+			} catch (ConcurrentUpdateException e) {
+				if (expectedVersion == null) {
+					throw e;
+				}
+				throw new PreconditionFailedException(
+						"BankAccount " + id + " was modified after version " + expectedVersion);
+			}
+			if (cbuChanged) {
+				cbuFilter.add(saved.getCbu());
+			}
+			notifyListeners(before, AccountPosition.of(saved));
+			return saved;
+		});
 	}
 
 	public void delete(UUID id) {
-		BankAccount existing = getById(id);
-		existing.close();
-		repositoryPort.save(existing);
+		serialized(id, () -> {
+			BankAccount existing = getById(id);
+			AccountPosition before = AccountPosition.of(existing);
+			existing.close();
+			BankAccount saved = transactionPort
+					.execute(() -> recorded(AccountChangeType.CLOSED, repositoryPort.save(existing)));
+			notifyListeners(before, AccountPosition.of(saved));
+			return saved;
+		});
+	}
+
+	public BankAccount debit(UUID id, BigDecimal amount) {
+		requirePositive(amount);
+		if (balanceSettings.getWriteMode() == BalanceWriteMode.CONDITIONAL) {
+			BankAccount moved = transactionPort
+					.execute(() -> applyDeltaOrFail(id, amount.negate(), LedgerEntryType.DEBIT, null));
+			return balanceMoved(moved, amount.negate());
+		}
+		return serialized(id, () -> balanceMoved(withOptimisticRetry(() -> {
+			BankAccount account = getById(id);
+			account.debit(amount);
+			BankAccount saved = repositoryPort.save(account);
+			ledgerPort.record(id, LedgerEntryType.DEBIT, amount.negate(), null);
+			return recorded(AccountChangeType.BALANCE_CHANGED, saved);
+		}), amount.negate()));
+	}
+
+	public BankAccount credit(UUID id, BigDecimal amount) {
+		requirePositive(amount);
+		if (balanceSettings.getWriteMode() == BalanceWriteMode.CONDITIONAL) {
+			BankAccount moved = transactionPort
+					.execute(() -> applyDeltaOrFail(id, amount, LedgerEntryType.CREDIT, null));
+			return balanceMoved(moved, amount);
+		}
+		return serialized(id, () -> balanceMoved(withOptimisticRetry(() -> {
+			BankAccount account = getById(id);
+			account.credit(amount);
+			BankAccount saved = repositoryPort.save(account);
+			ledgerPort.record(id, LedgerEntryType.CREDIT, amount, null);
+			return recorded(AccountChangeType.BALANCE_CHANGED, saved);
+		}), amount));
+	}
+
+	public TransferResult transfer(UUID sourceId, UUID targetId, BigDecimal amount) {
+		requirePositive(amount);
+		if (sourceId.equals(targetId)) {
+			throw new InvalidAccountOperationException("Source and target accounts must be different");
+		}
+
+		if (balanceSettings.getWriteMode() == BalanceWriteMode.CONDITIONAL) {
+			TransferResult moved = transactionPort.execute(() -> {
+				// orden fijo por id para que dos transferencias cruzadas no se bloqueen mutuamente en la base
+				if (sourceId.compareTo(targetId) < 0) {
+					BankAccount source = applyDeltaOrFail(sourceId, amount.negate(), LedgerEntryType.TRANSFER_OUT,
+							targetId);
+					return new TransferResult(source,
+							applyDeltaOrFail(targetId, amount, LedgerEntryType.TRANSFER_IN, sourceId));
+				}
+				BankAccount target = applyDeltaOrFail(targetId, amount, LedgerEntryType.TRANSFER_IN, sourceId);
+				return new TransferResult(
+						applyDeltaOrFail(sourceId, amount.negate(), LedgerEntryType.TRANSFER_OUT, targetId), target);
+			});
+			return transferred(moved, amount);
+		}
+
+		return serialized(sourceId, targetId, () -> transferred(withOptimisticRetry(() -> {
+			BankAccount source = getById(sourceId);
+			BankAccount target = getById(targetId);
+			source.debit(amount);
+			target.credit(amount);
+			BankAccount savedSource;
+			BankAccount savedTarget;
+			if (sourceId.compareTo(targetId) < 0) {
+				savedSource = repositoryPort.save(source);
+				savedTarget = repositoryPort.save(target);
+			} else {
+				savedTarget = repositoryPort.save(target);
+				savedSource = repositoryPort.save(source);
+			}
+			ledgerPort.record(sourceId, LedgerEntryType.TRANSFER_OUT, amount.negate(), targetId);
+			ledgerPort.record(targetId, LedgerEntryType.TRANSFER_IN, amount, sourceId);
+			return new TransferResult(recorded(AccountChangeType.BALANCE_CHANGED, savedSource),
+					recorded(AccountChangeType.BALANCE_CHANGED, savedTarget));
+		}), amount));
+	}
+
+	private TransferResult transferred(TransferResult result, BigDecimal amount) {
+		balanceMoved(result.getSource(), amount.negate());
+		balanceMoved(result.getTarget(), amount);
+		return result;
+	}
+
+	// Los movimientos de saldo no cambian sucursal, moneda ni estado: se notifica el delta aplicado, no la diferencia
+	// con la lectura previa (que en modo CONDITIONAL no existe)
+	private BankAccount balanceMoved(BankAccount account, BigDecimal delta) {
+		notifyListeners(AccountPosition.beforeDelta(account, delta), AccountPosition.of(account));
+		return account;
+	}
+
+	// Sólo consulta la base si el filtro de CBU dice que puede existir: evita abrir una transacción destinada a fallar
+	private void requireCbuNotTaken(String cbu) {
+		if (cbuFilter.isActive() && cbuFilter.mightExist(cbu) && repositoryPort.existsByCbu(cbu)) {
+			throw new DuplicateResourceException("BankAccount with CBU " + cbu + " already exists");
+		}
+	}
+
+	// Dentro de la transacción de la escritura: el evento se confirma o se revierte con la cuenta
+	private BankAccount recorded(AccountChangeType type, BankAccount saved) {
+		outboxPort.append(type, saved);
+		return saved;
+	}
+
+	// Se llama con la transacción ya confirmada
+	private void notifyListeners(AccountPosition before, AccountPosition after) {
+		for (AccountMutationListener listener : listeners) {
+			listener.onMutation(before, after);
+		}
+	}
+
+	// Dentro de una transacción: el movimiento del libro toma la versión que dejó la sentencia, con la fila bloqueada.
+	// La cuenta se relee en la misma transacción para que el evento lleve el saldo y la versión que se confirman
+	private BankAccount applyDeltaOrFail(UUID id, BigDecimal delta, LedgerEntryType type, UUID counterpartyId) {
+		if (repositoryPort.applyBalanceDelta(id, delta, LocalDateTime.now())) {
+			ledgerPort.record(id, type, delta, counterpartyId);
+			return recorded(AccountChangeType.BALANCE_CHANGED, getById(id));
+		}
+		// la sentencia condicional no aplicó: se determina el motivo para informar el error correcto
+		BankAccount account = getById(id);
+		if (account.getStatus() != AccountStatus.ACTIVE) {
+			throw new InvalidAccountOperationException("BankAccount " + id + " is not active");
+		}
+		throw new InsufficientFundsException(
+				"BankAccount " + id + " has insufficient funds for a debit of " + delta.negate());
+	}
+
+	// En modo STRIPED las mutaciones de una misma cuenta se encolan en memoria; en el resto de los modos no hay lock
+	private <T> T serialized(UUID id, Supplier<T> work) {
+		if (balanceSettings.getWriteMode() == BalanceWriteMode.STRIPED) {
+			return lockManager.withLock(id, work);
+		}
+		return work.get();
+	}
+
+	private <T> T serialized(UUID first, UUID second, Supplier<T> work) {
+		if (balanceSettings.getWriteMode() == BalanceWriteMode.STRIPED) {
+			return lockManager.withLocks(first, second, work);
+		}
+		return work.get();
+	}
+
+	private <T> T withOptimisticRetry(Supplier<T> attempt) {
+		int maxAttempts = Math.max(1, balanceSettings.getMaxRetries() + 1);
+		for (int i = 1;; i++) {
+			try {
+				return transactionPort.execute(attempt);
+			} catch (ConcurrentUpdateException e) {
+				if (i >= maxAttempts) {
+					throw e;
+				}
+				// backoff aleatorio corto para desincronizar a los escritores que colisionaron
+				LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(50_000L, 200_000L * Math.min(i, 10)));
+			}
+		}
+	}
+
+	private static BigDecimal orZero(BigDecimal value) {
+		return value == null ? BigDecimal.ZERO : value;
+	}
+
+	private static void requirePositive(BigDecimal amount) {
+		if (amount == null || amount.signum() <= 0) {
+			throw new InvalidAccountOperationException("Amount must be greater than zero");
+		}
 	}
 }
@@ -0,0 +1,164 @@
+package com.bank_services.account.domain.service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.bank_services.account.domain.exception.InvalidRiskRuleException;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.model.RiskRule;
+import com.bank_services.account.domain.model.RiskRuleType;
+
+/**
+ * Reglas de riesgo precompiladas en una tabla inmutable: para cada sucursal mencionada en alguna regla (más la
+ * entrada general) y cada moneda queda resuelto de antemano qué umbral de cada tipo aplica. Evaluar una cuenta es
+ * un acceso a la tabla y, como mucho, dos {@code compareTo} contra umbrales con la escala del saldo: no asigna
+ * memoria.
+ */
+public final class RiskRuleTable {
+
+	// escala de bank_accounts.balance: con la misma escala compareTo compara los long sin escalar
+	private static final int BALANCE_SCALE = 2;
+	private static final RuleSet NONE = new RuleSet(null, null, false);
+
+	private final List<RiskRule> rules;
+	private final RuleSet[] general;
+	private final Map<String, RuleSet[]> byBranch;
+
+	private RiskRuleTable(List<RiskRule> rules, RuleSet[] general, Map<String, RuleSet[]> byBranch) {
+		this.rules = rules;
+		this.general = general;
+		this.byBranch = byBranch;
+	}
+
+	public static RiskRuleTable compile(List<RiskRule> rules) {
+		List<RiskRule> validated = rules.stream().map(RiskRuleTable::validate).toList();
+		checkNoDuplicates(validated);
+
+		Set<String> branches = new LinkedHashSet<>();
+		for (RiskRule rule : validated) {
+			if (rule.getBranchCode() != null) {
+				branches.add(rule.getBranchCode());
+			}
+		}
+		Map<String, RuleSet[]> byBranch = new HashMap<>();
+		for (String branch : branches) {
+			byBranch.put(branch, resolve(validated, branch));
+		}
+		return new RiskRuleTable(validated, resolve(validated, null), Map.copyOf(byBranch));
+	}
+
+	// Máscara con el bit (RiskRuleType.bit) de cada regla que se cumple; un saldo nulo cuenta como cero
+	public int evaluate(Currency currency, String branchCode, BigDecimal balance, AccountStatus status) {
+		if (currency == null) {
+			return 0;
+		}
+		RuleSet[] sets = branchCode == null ? general : byBranch.getOrDefault(branchCode, general);
+		return sets[currency.ordinal()].evaluate(balance, status);
+	}
+
+	public List<RiskRule> rules() {
+		return rules;
+	}
+
+	private static RuleSet[] resolve(List<RiskRule> rules, String branch) {
+		Currency[] currencies = Currency.values();
+		RuleSet[] sets = new RuleSet[currencies.length];
+		for (Currency currency : currencies) {
+			Map<RiskRuleType, RiskRule> winners = new EnumMap<>(RiskRuleType.class);
+			for (RiskRuleType type : RiskRuleType.values()) {
+				RiskRule best = null;
+				for (RiskRule rule : rules) {
+					if (rule.getType() == type && applies(rule, currency, branch)
+							&& (best == null || specificity(rule) > specificity(best))) {
+						best = rule;
+					}
+				}
+				if (best != null) {
+					winners.put(type, best);
+				}
+			}
+			sets[currency.ordinal()] = winners.isEmpty() ? NONE
+					: new RuleSet(threshold(winners.get(RiskRuleType.LOW_BALANCE)),
+							threshold(winners.get(RiskRuleType.HIGH_BALANCE)),
+							winners.containsKey(RiskRuleType.NOT_ACTIVE));
+		}
+		return sets;
+	}
+
+	private static boolean applies(RiskRule rule, Currency currency, String branch) {
+		return (rule.getCurrency() == null || rule.getCurrency() == currency)
+				&& (rule.getBranchCode() == null || rule.getBranchCode().equals(branch));
+	}
+
+	private static int specificity(RiskRule rule) {
+		return (rule.getCurrency() != null ? 2 : 0) + (rule.getBranchCode() != null ? 1 : 0);
+	}
+
+	private static BigDecimal threshold(RiskRule rule) {
+		if (rule == null) {
+			return null;
+		}
+		BigDecimal threshold = rule.getThreshold();
+		// 1000 pasa a 1000.00; un umbral con más decimales que el saldo se deja como está
+		return threshold.scale() < BALANCE_SCALE ? threshold.setScale(BALANCE_SCALE) : threshold;
+	}
+
+	private static RiskRule validate(RiskRule rule) {
+		if (rule == null || rule.getType() == null) {
+			throw new InvalidRiskRuleException("Risk rule type is required");
+		}
+		if (rule.getBranchCode() != null && rule.getBranchCode().isBlank()) {
+			throw new InvalidRiskRuleException("Risk rule branchCode must not be blank");
+		}
+		if (rule.getType() == RiskRuleType.NOT_ACTIVE) {
+			return new RiskRule(rule.getType(), rule.getCurrency(), rule.getBranchCode(), null);
+		}
+		if (rule.getThreshold() == null || rule.getThreshold().signum() < 0) {
+			throw new InvalidRiskRuleException(
+					"Risk rule %s needs a threshold greater than or equal to zero".formatted(rule.getType()));
+		}
+		return new RiskRule(rule.getType(), rule.getCurrency(), rule.getBranchCode(), rule.getThreshold());
+	}
+
+	private static void checkNoDuplicates(List<RiskRule> rules) {
+		Set<List<Object>> scopes = new HashSet<>();
+		for (RiskRule rule : rules) {
+			List<Object> scope = Arrays.asList(rule.getType(), rule.getCurrency(), rule.getBranchCode());
+			if (!scopes.add(scope)) {
+				throw new InvalidRiskRuleException("Duplicate risk rule %s for currency %s and branch %s"
+						.formatted(rule.getType(), Objects.toString(rule.getCurrency(), "*"),
+								Objects.toString(rule.getBranchCode(), "*")));
+			}
+		}
+	}
+
+	private record RuleSet(BigDecimal lowBelow, BigDecimal highAbove, boolean notActive) {
+
+		int evaluate(BigDecimal balance, AccountStatus status) {
+			int mask = 0;
+			if (lowBelow != null && compare(balance, lowBelow) < 0) {
+				mask |= RiskRuleType.LOW_BALANCE.bit();
+			}
+			if (highAbove != null && compare(balance, highAbove) > 0) {
+				mask |= RiskRuleType.HIGH_BALANCE.bit();
+			}
+			if (notActive && status != null && status != AccountStatus.ACTIVE) {
+				mask |= RiskRuleType.NOT_ACTIVE.bit();
+			}
+			return mask;
+		}
+
+		private static int compare(BigDecimal balance, BigDecimal threshold) {
+			return balance == null ? -threshold.signum() : balance.compareTo(threshold);
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.bank_services.account.infrastructure.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.cache")
+public class AccountCacheProperties {
+
+	private boolean enabled = true;
+
+	private int maxSize = 10_000;
+
+	private Duration ttl = Duration.ofMinutes(5);
+
+	private int concurrency = 16;
+}
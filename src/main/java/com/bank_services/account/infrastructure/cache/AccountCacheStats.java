@@ -0,0 +1,25 @@
+package com.bank_services.account.infrastructure.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AccountCacheStats {
+
+	private final int size;
+	private final long hits;
+	private final long misses;
+	private final long evictions;
+	private final long expirations;
+
+	private final int cbuIndexSize;
+	private final long cbuIndexHits;
+	private final long cbuIndexMisses;
+	private final long cbuIndexEvictions;
+
+	public double getHitRatio() {
+		long total = hits + misses;
+		return total == 0 ? 0.0 : (double) hits / total;
+	}
+}
@@ -0,0 +1,206 @@
+package com.bank_services.account.infrastructure.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache acotada con expiración por TTL y desalojo LRU. Se divide en segmentos con lock propio para no serializar
+ * todos los lectores detrás de un único lock.
+ */
+public class BoundedLruCache<K, V> {
+
+	private final Segment<K, V>[] segments;
+	private final long ttlNanos;
+	private final LongSupplier nanoClock;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+
+	public BoundedLruCache(int maxSize, long ttlNanos, int concurrency) {
+		this(maxSize, ttlNanos, concurrency, System::nanoTime);
+	}
+
+	BoundedLruCache(int maxSize, long ttlNanos, int concurrency, LongSupplier nanoClock) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be positive");
+		}
+		int segmentCount = Math.max(1, Math.min(concurrency, maxSize));
+		int perSegment = Math.max(1, maxSize / segmentCount);
+		@SuppressWarnings("unchecked")
+		Segment<K, V>[] created = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			created[i] = new Segment<>(perSegment, evictions);
+		}
+		this.segments = created;
+		this.ttlNanos = ttlNanos;
+		this.nanoClock = nanoClock;
+	}
+
+	public V get(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		segment.lock.lock();
+		try {
+			Entry<V> entry = segment.map.get(key);
+			if (entry == null) {
+				misses.increment();
+				return null;
+			}
+			if (entry.expiresAt - nanoClock.getAsLong() <= 0) {
+				segment.map.remove(key);
+				expirations.increment();
+				misses.increment();
+				return null;
+			}
+			hits.increment();
+			return entry.value;
+		} finally {
+			segment.lock.unlock();
+		}
+	}
+
+	// Lectura sin efectos en estadísticas ni en el orden LRU
+	public V peek(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		segment.lock.lock();
+		try {
+			Entry<V> entry = segment.map.get(key);
+			return entry == null || entry.expiresAt - nanoClock.getAsLong() <= 0 ? null : entry.value;
+		} finally {
+			segment.lock.unlock();
+		}
+	}
+
+	public void put(K key, V value) {
+		Segment<K, V> segment = segmentFor(key);
+		segment.lock.lock();
+		try {
+			segment.map.put(key, new Entry<>(value, nanoClock.getAsLong() + ttlNanos));
+		} finally {
+			segment.lock.unlock();
+		}
+	}
+
+	/**
+	 * Marca de generación del segmento de la clave. Se toma antes de cargar un valor desde la fuente y se pasa a
+	 * {@link #putIfUnchanged} para descartar la carga si hubo una invalidación mientras tanto.
+	 */
+	public long stamp(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		segment.lock.lock();
+		try {
+			return segment.generation;
+		} finally {
+			segment.lock.unlock();
+		}
+	}
+
+	public boolean putIfUnchanged(K key, V value, long stamp) {
+		Segment<K, V> segment = segmentFor(key);
+		segment.lock.lock();
+		try {
+			if (segment.generation != stamp) {
+				return false;
+			}
+			segment.map.put(key, new Entry<>(value, nanoClock.getAsLong() + ttlNanos));
+			return true;
+		} finally {
+			segment.lock.unlock();
+		}
+	}
+
+	public V remove(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		segment.lock.lock();
+		try {
+			segment.generation++;
+			Entry<V> removed = segment.map.remove(key);
+			return removed != null ? removed.value : null;
+		} finally {
+			segment.lock.unlock();
+		}
+	}
+
+	public void clear() {
+		for (Segment<K, V> segment : segments) {
+			segment.lock.lock();
+			try {
+				segment.map.clear();
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			segment.lock.lock();
+			try {
+				size += segment.map.size();
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+		return size;
+	}
+
+	public long hits() {
+		return hits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	public long evictions() {
+		return evictions.sum();
+	}
+
+	public long expirations() {
+		return expirations.sum();
+	}
+
+	private Segment<K, V> segmentFor(K key) {
+		int h = key.hashCode();
+		h ^= (h >>> 16);
+		return segments[(h & 0x7fffffff) % segments.length];
+	}
+
+	private static final class Entry<V> {
+
+		private final V value;
+		private final long expiresAt;
+
+		Entry(V value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	private static final class Segment<K, V> {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final LinkedHashMap<K, Entry<V>> map;
+		private long generation;
+
+		Segment(int capacity, LongAdder evictions) {
+			this.map = new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+					if (size() > capacity) {
+						evictions.increment();
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+	}
+}
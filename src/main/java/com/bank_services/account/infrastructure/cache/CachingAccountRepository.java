@@ -0,0 +1,255 @@
+package com.bank_services.account.infrastructure.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.bank_services.account.domain.model.AccountPage;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.port.AccountRepositoryPort;
+
+/**
+ * Decorador read-through de {@link AccountRepositoryPort}: cachea cuentas por id y mantiene un índice secundario
+ * CBU → id. Las escrituras invalidan las entradas afectadas, y lo que se lee dentro de una transacción de escritura no
+ * se cachea.
+ */
+public class CachingAccountRepository implements AccountRepositoryPort {
+
+	private final AccountRepositoryPort delegate;
+	private final BoundedLruCache<UUID, BankAccount> accounts;
+	private final BoundedLruCache<String, UUID> cbuIndex;
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public CachingAccountRepository(AccountRepositoryPort delegate, AccountCacheProperties properties) {
+		this.delegate = delegate;
+		long ttlNanos = properties.getTtl().toNanos();
+		this.accounts = new BoundedLruCache<>(properties.getMaxSize(), ttlNanos, properties.getConcurrency());
+		this.cbuIndex = new BoundedLruCache<>(properties.getMaxSize(), ttlNanos, properties.getConcurrency());
+	}
+
+	@Override
+	public BankAccount save(BankAccount account) {
+		invalidate(account.getId(), account.getCbu());
+		BankAccount saved = delegate.save(account);
+		// segunda invalidación: cubre lecturas concurrentes que hayan cargado la versión anterior
+		invalidate(saved.getId(), saved.getCbu());
+		return saved;
+	}
+
+	// Cuentas nuevas: no hay entradas que invalidar y no se precarga la caché con el lote
+	@Override
+	public List<BankAccount> saveAll(List<BankAccount> accounts) {
+		return delegate.saveAll(accounts);
+	}
+
+	@Override
+	public Optional<BankAccount> findById(UUID id) {
+		BankAccount cached = accounts.get(id);
+		if (cached != null) {
+			return Optional.of(copy(cached));
+		}
+		long stamp = accounts.stamp(id);
+		Optional<BankAccount> loaded = delegate.findById(id);
+		loaded.ifPresent(account -> store(account, stamp));
+		return loaded;
+	}
+
+	// Los hits salen de la cache y los misses se cargan juntos en una sola consulta
+	@Override
+	public List<BankAccount> findAllById(Collection<UUID> ids) {
+		List<BankAccount> found = new ArrayList<>(ids.size());
+		Map<UUID, Long> missing = new HashMap<>();
+		for (UUID id : ids) {
+			BankAccount cached = accounts.get(id);
+			if (cached != null) {
+				found.add(copy(cached));
+			} else {
+				missing.put(id, accounts.stamp(id));
+			}
+		}
+		if (missing.isEmpty()) {
+			return found;
+		}
+		for (BankAccount account : delegate.findAllById(missing.keySet())) {
+			store(account, missing.get(account.getId()));
+			found.add(account);
+		}
+		return found;
+	}
+
+	@Override
+	public Optional<BankAccount> findByCbu(String cbu) {
+		BankAccount cached = cachedByCbu(cbu);
+		if (cached != null) {
+			return Optional.of(copy(cached));
+		}
+		long observed = invalidations.get();
+		Optional<BankAccount> loaded = delegate.findByCbu(cbu);
+		if (!cacheableLoad()) {
+			return loaded;
+		}
+		loaded.ifPresent(account -> {
+			// El id recién se conoce tras la carga, así que no hay marca por segmento: se inserta y se revalida contra
+			// el contador global. Si hubo una invalidación en el medio, se deshace la inserción.
+			accounts.put(account.getId(), copy(account));
+			cbuIndex.put(cbu, account.getId());
+			if (invalidations.get() != observed) {
+				accounts.remove(account.getId());
+				cbuIndex.remove(cbu);
+			}
+		});
+		return loaded;
+	}
+
+	@Override
+	public List<BankAccount> findAll() {
+		return delegate.findAll();
+	}
+
+	@Override
+	public AccountPage findPage(UUID after, int limit) {
+		return delegate.findPage(after, limit);
+	}
+
+	@Override
+	public void streamAll(Consumer<BankAccount> consumer) {
+		delegate.streamAll(consumer);
+	}
+
+	@Override
+	public boolean applyBalanceDelta(UUID id, BigDecimal delta, LocalDateTime at) {
+		invalidate(id, null);
+		boolean applied = delegate.applyBalanceDelta(id, delta, at);
+		invalidate(id, null);
+		return applied;
+	}
+
+	@Override
+	public void deleteById(UUID id) {
+		delegate.deleteById(id);
+		invalidate(id, null);
+	}
+
+	@Override
+	public boolean existsById(UUID id) {
+		return accounts.get(id) != null || delegate.existsById(id);
+	}
+
+	@Override
+	public boolean existsByCbu(String cbu) {
+		// Sólo los positivos se resuelven en memoria; un CBU desconocido se consulta (y cachea) desde la base
+		return findByCbu(cbu).isPresent();
+	}
+
+	@Override
+	public Set<String> findExistingCbus(Collection<String> cbus) {
+		return delegate.findExistingCbus(cbus);
+	}
+
+	// Lectura sin copia para el modelo de lectura: el mapper recibe la instancia cacheada y no debe modificarla ni
+	// retenerla. Un miss se carga y se cachea igual que en findById
+	public <R> Optional<R> read(UUID id, Function<BankAccount, R> mapper) {
+		BankAccount cached = accounts.get(id);
+		if (cached != null) {
+			return Optional.of(mapper.apply(cached));
+		}
+		long stamp = accounts.stamp(id);
+		Optional<BankAccount> loaded = delegate.findById(id);
+		loaded.ifPresent(account -> store(account, stamp));
+		return loaded.map(mapper);
+	}
+
+	// Acceso de sólo lectura a la instancia cacheada, sin copiar ni tocar estadísticas
+	public BankAccount peek(UUID id) {
+		return accounts.peek(id);
+	}
+
+	public AccountCacheStats stats() {
+		return new AccountCacheStats(accounts.size(), accounts.hits(), accounts.misses(), accounts.evictions(),
+				accounts.expirations(), cbuIndex.size(), cbuIndex.hits(), cbuIndex.misses(), cbuIndex.evictions());
+	}
+
+	public void clear() {
+		accounts.clear();
+		cbuIndex.clear();
+	}
+
+	private BankAccount cachedByCbu(String cbu) {
+		if (cbu == null) {
+			return null;
+		}
+		UUID id = cbuIndex.get(cbu);
+		if (id == null) {
+			return null;
+		}
+		BankAccount cached = accounts.get(id);
+		if (cached == null || !cbu.equals(cached.getCbu())) {
+			cbuIndex.remove(cbu);
+			return null;
+		}
+		return cached;
+	}
+
+	// Sólo se cachea si no hubo invalidaciones desde que empezó la carga (evita reinsertar una fila vieja)
+	private void store(BankAccount account, long stamp) {
+		if (account.getId() == null || !cacheableLoad()) {
+			return;
+		}
+		if (accounts.putIfUnchanged(account.getId(), copy(account), stamp) && account.getCbu() != null) {
+			cbuIndex.put(account.getCbu(), account.getId());
+		}
+	}
+
+	// Dentro de una transacción de escritura la fila leída puede incluir cambios todavía no confirmados (p. ej. la
+	// relectura después de applyBalanceDelta): se devuelve al llamador pero no se comparte con otros hilos
+	private static boolean cacheableLoad() {
+		return !TransactionSynchronizationManager.isActualTransactionActive()
+				|| TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	private void invalidate(UUID id, String cbu) {
+		evict(id, cbu);
+		// Dentro de una transacción, otro hilo podría recargar la fila previa antes del commit: se invalida de nuevo
+		// al completarse
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evict(id, cbu);
+				}
+			});
+		}
+	}
+
+	private void evict(UUID id, String cbu) {
+		// se incrementa antes de remover: ver findByCbu
+		invalidations.incrementAndGet();
+		if (id != null) {
+			BankAccount previous = accounts.remove(id);
+			if (previous != null && previous.getCbu() != null) {
+				cbuIndex.remove(previous.getCbu());
+			}
+		}
+		if (cbu != null) {
+			cbuIndex.remove(cbu);
+		}
+	}
+
+	// BankAccount es mutable: nunca se expone la instancia cacheada
+	private static BankAccount copy(BankAccount account) {
+		return account.toBuilder().build();
+	}
+}
@@ -0,0 +1,129 @@
+package com.bank_services.account.infrastructure.cbu;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.bank_services.account.domain.port.CbuFilter;
+
+/**
+ * Filtro de Bloom de los CBU de {@code bank_accounts}, cargado al arrancar y completado con cada alta confirmada. Un
+ * negativo es seguro para los CBU dados de alta por esta instancia o antes del arranque; los de otras instancias sólo
+ * los ve la restricción única. Los bits se marcan con CAS, sin locks.
+ */
+public class CbuBloomFilter implements CbuFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(CbuBloomFilter.class);
+
+	private final CbuFilterProperties properties;
+	private final JdbcTemplate jdbcTemplate;
+	private final AtomicLongArray words;
+	private final long bits;
+	private final int hashes;
+	private final LongAdder insertions = new LongAdder();
+	private final LongAdder negatives = new LongAdder();
+	private final LongAdder positives = new LongAdder();
+	// hasta terminar la carga cualquier CBU puede existir
+	private volatile boolean loaded;
+
+	public CbuBloomFilter(CbuFilterProperties properties, JdbcTemplate jdbcTemplate) {
+		this.properties = properties;
+		this.jdbcTemplate = jdbcTemplate;
+		long n = Math.max(1, properties.getExpectedInsertions());
+		double p = Math.min(0.5, Math.max(1e-9, properties.getFalsePositiveRate()));
+		long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+		this.words = new AtomicLongArray(properties.isEnabled() ? (int) ((m + 63) >>> 6) : 0);
+		this.bits = (long) words.length() << 6;
+		this.hashes = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+	}
+
+	public void start() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		long started = System.nanoTime();
+		jdbcTemplate.query("select cbu from bank_accounts", rs -> {
+			add(rs.getString(1));
+		});
+		loaded = true;
+		log.info("CBU filter loaded {} CBUs in {} ms ({} bits, {} hashes)", insertions.sum(),
+				(System.nanoTime() - started) / 1_000_000, bits, hashes);
+	}
+
+	@Override
+	public boolean isActive() {
+		return properties.isEnabled();
+	}
+
+	@Override
+	public boolean mightExist(String cbu) {
+		if (!loaded || cbu == null) {
+			return true;
+		}
+		long h1 = mix(hash(cbu));
+		long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashes; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bits);
+			if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				negatives.increment();
+				return false;
+			}
+		}
+		positives.increment();
+		return true;
+	}
+
+	@Override
+	public void add(String cbu) {
+		if (!properties.isEnabled() || cbu == null) {
+			return;
+		}
+		long h1 = mix(hash(cbu));
+		long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < hashes; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bits);
+			int word = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long current;
+			while (((current = words.get(word)) & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+				Thread.onSpinWait();
+			}
+		}
+		insertions.increment();
+	}
+
+	public long insertions() {
+		return insertions.sum();
+	}
+
+	public long negatives() {
+		return negatives.sum();
+	}
+
+	public long positives() {
+		return positives.sum();
+	}
+
+	// FNV-1a de 64 bits sobre los caracteres
+	private static long hash(String value) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			h ^= value.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		return h;
+	}
+
+	// finalizador de MurmurHash3: reparte los bits antes de derivar las posiciones
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
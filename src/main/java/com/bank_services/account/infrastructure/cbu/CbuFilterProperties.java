@@ -0,0 +1,18 @@
+package com.bank_services.account.infrastructure.cbu;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.cbu-filter")
+public class CbuFilterProperties {
+
+	// false: las altas insertan directamente y los duplicados se detectan sólo por la restricción única
+	private boolean enabled = true;
+
+	// cantidad de CBU para la que se dimensiona el filtro; por encima crece la tasa de falsos positivos
+	private int expectedInsertions = 1_000_000;
+
+	private double falsePositiveRate = 0.01;
+}
@@ -0,0 +1,56 @@
+package com.bank_services.account.infrastructure.client;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acota las llamadas salientes en curso: con todos los permisos tomados se espera a lo sumo {@code maxWait} y la
+ * llamada se rechaza, en lugar de acumular hilos bloqueados detrás de un destino lento.
+ */
+public class Bulkhead {
+
+	private final int maxConcurrent;
+	private final long maxWaitNanos;
+	private final Semaphore permits;
+	private final LongAdder rejected = new LongAdder();
+
+	public Bulkhead(int maxConcurrent, Duration maxWait) {
+		if (maxConcurrent < 1) {
+			throw new IllegalArgumentException("maxConcurrent must be positive");
+		}
+		this.maxConcurrent = maxConcurrent;
+		this.maxWaitNanos = maxWait.toNanos();
+		this.permits = new Semaphore(maxConcurrent);
+	}
+
+	public boolean tryAcquire() {
+		try {
+			if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+				return true;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		rejected.increment();
+		return false;
+	}
+
+	// Sin espera ni rechazo contado: lo usan los intentos adicionales, que simplemente no salen si no hay lugar
+	public boolean tryAcquireNow() {
+		return permits.tryAcquire();
+	}
+
+	public void release() {
+		permits.release();
+	}
+
+	public int active() {
+		return maxConcurrent - permits.availablePermits();
+	}
+
+	public long rejected() {
+		return rejected.sum();
+	}
+}
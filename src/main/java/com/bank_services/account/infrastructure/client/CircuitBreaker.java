@@ -0,0 +1,165 @@
+package com.bank_services.account.infrastructure.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker por cantidad de llamadas: con al menos {@code minimumCalls} resultados en la ventana de las últimas
+ * {@code windowSize} y una tasa de fallos mayor o igual al umbral, el circuito se abre y las llamadas se rechazan sin
+ * salir durante {@code openDuration}. Después deja pasar {@code halfOpenCalls} llamadas de prueba: si todas salen bien
+ * se cierra, y con el primer fallo vuelve a abrirse.
+ */
+public class CircuitBreaker {
+
+	private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final String name;
+	private final int minimumCalls;
+	private final int failureRateThreshold;
+	private final long openNanos;
+	private final int halfOpenCalls;
+	private final LongSupplier nanoClock;
+	private final LongAdder rejected = new LongAdder();
+
+	// todo el estado se lee y se modifica bajo el monitor: las secciones son cortas y no bloquean
+	private final boolean[] window;
+	private int next;
+	private int recorded;
+	private int failures;
+	private State state = State.CLOSED;
+	private long openedAt;
+	private int halfOpenPermits;
+	private int halfOpenSuccesses;
+	private long openings;
+
+	public CircuitBreaker(String name, OutboundClientProperties.CircuitBreakerSettings settings) {
+		this(name, settings, System::nanoTime);
+	}
+
+	// El reloj se inyecta en los tests
+	CircuitBreaker(String name, OutboundClientProperties.CircuitBreakerSettings settings, LongSupplier nanoClock) {
+		if (settings.getWindowSize() < 1 || settings.getHalfOpenCalls() < 1) {
+			throw new IllegalArgumentException("windowSize and halfOpenCalls must be positive");
+		}
+		this.name = name;
+		this.window = new boolean[settings.getWindowSize()];
+		this.minimumCalls = Math.min(Math.max(settings.getMinimumCalls(), 1), settings.getWindowSize());
+		this.failureRateThreshold = settings.getFailureRateThreshold();
+		this.openNanos = settings.getOpenDuration().toNanos();
+		this.halfOpenCalls = settings.getHalfOpenCalls();
+		this.nanoClock = nanoClock;
+	}
+
+	// false: la llamada no debe salir. Cada permiso concedido se cierra con onSuccess, onFailure o onIgnored
+	public synchronized boolean tryAcquirePermission() {
+		if (state == State.OPEN) {
+			if (nanoClock.getAsLong() - openedAt < openNanos) {
+				rejected.increment();
+				return false;
+			}
+			transitionTo(State.HALF_OPEN);
+			halfOpenPermits = halfOpenCalls;
+			halfOpenSuccesses = 0;
+		}
+		if (state == State.HALF_OPEN) {
+			if (halfOpenPermits == 0) {
+				rejected.increment();
+				return false;
+			}
+			halfOpenPermits--;
+		}
+		return true;
+	}
+
+	public synchronized void onSuccess() {
+		if (state == State.HALF_OPEN) {
+			if (++halfOpenSuccesses >= halfOpenCalls) {
+				reset();
+				transitionTo(State.CLOSED);
+			}
+		} else if (state == State.CLOSED) {
+			record(false);
+		}
+	}
+
+	public synchronized void onFailure() {
+		if (state == State.HALF_OPEN) {
+			open();
+		} else if (state == State.CLOSED) {
+			record(true);
+		}
+	}
+
+	// Permiso devuelto sin llamada (p. ej. el bulkhead la rechazó)
+	public synchronized void onIgnored() {
+		if (state == State.HALF_OPEN) {
+			halfOpenPermits++;
+		}
+	}
+
+	public synchronized State state() {
+		return state;
+	}
+
+	// Tiempo hasta que el circuito acepte llamadas de prueba; 0 si no está abierto
+	public synchronized long remainingOpenMillis() {
+		if (state != State.OPEN) {
+			return 0;
+		}
+		return TimeUnit.NANOSECONDS.toMillis(Math.max(openNanos - (nanoClock.getAsLong() - openedAt), 0));
+	}
+
+	public long rejected() {
+		return rejected.sum();
+	}
+
+	public synchronized long openings() {
+		return openings;
+	}
+
+	private void record(boolean failure) {
+		if (recorded == window.length) {
+			if (window[next]) {
+				failures--;
+			}
+		} else {
+			recorded++;
+		}
+		window[next] = failure;
+		if (failure) {
+			failures++;
+		}
+		next = (next + 1) % window.length;
+		if (failures > 0 && recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+			open();
+		}
+	}
+
+	private void open() {
+		reset();
+		openedAt = nanoClock.getAsLong();
+		openings++;
+		transitionTo(State.OPEN);
+	}
+
+	private void reset() {
+		next = 0;
+		recorded = 0;
+		failures = 0;
+	}
+
+	private void transitionTo(State target) {
+		if (state != target) {
+			log.info("Circuit breaker {} changed from {} to {}", name, state, target);
+			state = target;
+		}
+	}
+}
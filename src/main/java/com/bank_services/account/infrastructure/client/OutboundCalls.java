@@ -0,0 +1,220 @@
+package com.bank_services.account.infrastructure.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.bank_services.account.infrastructure.client.RemoteCallRejectedException.Reason;
+
+/**
+ * Ejecuta las llamadas salientes a un destino detrás de su circuit breaker y su bulkhead. Los fallos de I/O, los
+ * timeouts y los 5xx cuentan para el circuito; los 4xx son respuestas válidas del destino.
+ * <p>
+ * Las lecturas idempotentes ({@link #callIdempotent}) corren en {@code executor}: si el intento no respondió en
+ * {@code hedge.delay}, o falló, sale otro (hasta {@code hedge.maxAttempts}) siempre que el circuito y el bulkhead lo
+ * permitan, y gana la primera respuesta exitosa. El intento perdedor no se interrumpe: termina por su cuenta (a lo
+ * sumo en el timeout de respuesta) y recién entonces devuelve su permiso.
+ */
+public class OutboundCalls implements AutoCloseable {
+
+	private final String name;
+	private final Bulkhead bulkhead;
+	private final CircuitBreaker circuitBreaker;
+	private final OutboundClientProperties.HedgeSettings hedge;
+	private final ExecutorService executor;
+
+	private final LongAdder successes = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder hedges = new LongAdder();
+	private final LongAdder hedgeWins = new LongAdder();
+
+	public OutboundCalls(String name, OutboundClientProperties properties, ExecutorService executor) {
+		this(name, new Bulkhead(properties.getBulkhead().getMaxConcurrent(), properties.getBulkhead().getMaxWait()),
+				new CircuitBreaker(name, properties.getCircuitBreaker()), properties.getHedge(), executor);
+	}
+
+	OutboundCalls(String name, Bulkhead bulkhead, CircuitBreaker circuitBreaker,
+			OutboundClientProperties.HedgeSettings hedge, ExecutorService executor) {
+		this.name = name;
+		this.bulkhead = bulkhead;
+		this.circuitBreaker = circuitBreaker;
+		this.hedge = hedge;
+		this.executor = executor;
+	}
+
+	// Un único intento en el hilo que llama
+	public <T> T call(Supplier<T> call) {
+		acquire();
+		try {
+			return attempt(call);
+		} finally {
+			bulkhead.release();
+		}
+	}
+
+	public <T> T callIdempotent(Supplier<T> call) {
+		if (!hedge.isEnabled() || hedge.getMaxAttempts() < 2) {
+			return call(call);
+		}
+		acquire();
+
+		long delayNanos = hedge.getDelay().toNanos();
+		BlockingQueue<CompletableFuture<T>> completed = new LinkedBlockingQueue<>();
+		List<CompletableFuture<T>> attempts = new ArrayList<>(hedge.getMaxAttempts());
+		submit(call, attempts, completed);
+		boolean canHedge = true;
+		int finished = 0;
+		RuntimeException failure = null;
+		try {
+			while (finished < attempts.size()) {
+				boolean waitForHedge = canHedge && attempts.size() < hedge.getMaxAttempts();
+				CompletableFuture<T> done = waitForHedge ? completed.poll(delayNanos, TimeUnit.NANOSECONDS)
+						: completed.take();
+				if (done == null) {
+					// el intento en curso está lento
+					canHedge = tryHedge(call, attempts, completed);
+					continue;
+				}
+				finished++;
+				if (done.state() == Future.State.SUCCESS) {
+					if (done != attempts.get(0)) {
+						hedgeWins.increment();
+					}
+					return done.resultNow();
+				}
+				Throwable error = done.exceptionNow();
+				if (error instanceof Error fatal) {
+					throw fatal;
+				}
+				failure = (RuntimeException) error;
+				if (!isFailure(failure)) {
+					// un 4xx no cambia con otro intento
+					throw failure;
+				}
+				if (canHedge && attempts.size() < hedge.getMaxAttempts()) {
+					canHedge = tryHedge(call, attempts, completed);
+				}
+			}
+			throw failure;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ResourceAccessException("Interrupted while calling " + name);
+		}
+	}
+
+	public CircuitBreaker.State circuitState() {
+		return circuitBreaker.state();
+	}
+
+	public int activeCalls() {
+		return bulkhead.active();
+	}
+
+	public long successCount() {
+		return successes.sum();
+	}
+
+	public long failureCount() {
+		return failures.sum();
+	}
+
+	public long bulkheadRejectedCount() {
+		return bulkhead.rejected();
+	}
+
+	public long circuitRejectedCount() {
+		return circuitBreaker.rejected();
+	}
+
+	public long hedgeCount() {
+		return hedges.sum();
+	}
+
+	public long hedgeWinCount() {
+		return hedgeWins.sum();
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	// I/O, timeouts y 5xx: el destino no está respondiendo bien
+	static boolean isFailure(Throwable e) {
+		return e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+	}
+
+	private void acquire() {
+		if (!circuitBreaker.tryAcquirePermission()) {
+			throw new RemoteCallRejectedException(name, Reason.CIRCUIT_OPEN,
+					Math.max(TimeUnit.MILLISECONDS.toSeconds(circuitBreaker.remainingOpenMillis() + 999), 1));
+		}
+		if (!bulkhead.tryAcquire()) {
+			circuitBreaker.onIgnored();
+			throw new RemoteCallRejectedException(name, Reason.BULKHEAD_FULL, 1);
+		}
+	}
+
+	private <T> boolean tryHedge(Supplier<T> call, List<CompletableFuture<T>> attempts,
+			BlockingQueue<CompletableFuture<T>> completed) {
+		if (!circuitBreaker.tryAcquirePermission()) {
+			return false;
+		}
+		if (!bulkhead.tryAcquireNow()) {
+			circuitBreaker.onIgnored();
+			return false;
+		}
+		hedges.increment();
+		submit(call, attempts, completed);
+		return true;
+	}
+
+	// El permiso del bulkhead ya está tomado y se devuelve al terminar el intento
+	private <T> void submit(Supplier<T> call, List<CompletableFuture<T>> attempts,
+			BlockingQueue<CompletableFuture<T>> completed) {
+		CompletableFuture<T> attempt;
+		try {
+			attempt = CompletableFuture.supplyAsync(() -> {
+				try {
+					return attempt(call);
+				} finally {
+					bulkhead.release();
+				}
+			}, executor);
+		} catch (RuntimeException e) {
+			bulkhead.release();
+			circuitBreaker.onIgnored();
+			throw e;
+		}
+		attempts.add(attempt);
+		attempt.whenComplete((result, error) -> completed.add(attempt));
+	}
+
+	private <T> T attempt(Supplier<T> call) {
+		try {
+			T result = call.get();
+			circuitBreaker.onSuccess();
+			successes.increment();
+			return result;
+		} catch (RuntimeException e) {
+			if (isFailure(e)) {
+				circuitBreaker.onFailure();
+				failures.increment();
+			} else {
+				circuitBreaker.onSuccess();
+				successes.increment();
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.bank_services.account.infrastructure.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.summary.remote")
+public class OutboundClientProperties {
+
+	private String baseUrl = "http://localhost:8080";
+
+	private Duration connectTimeout = Duration.ofMillis(500);
+
+	// máximo entre paquetes de la respuesta; vencido, la llamada falla con ResourceAccessException (504)
+	private Duration responseTimeout = Duration.ofSeconds(2);
+
+	// espera máxima por una conexión libre del pool
+	private Duration connectionRequestTimeout = Duration.ofMillis(200);
+
+	private Pool pool = new Pool();
+
+	private BulkheadSettings bulkhead = new BulkheadSettings();
+
+	private CircuitBreakerSettings circuitBreaker = new CircuitBreakerSettings();
+
+	private HedgeSettings hedge = new HedgeSettings();
+
+	@Data
+	public static class Pool {
+
+		private int maxConnections = 100;
+
+		private int maxConnectionsPerRoute = 50;
+
+		// keep-alive cuando el servidor no informa uno (si lo informa, se usa el menor)
+		private Duration keepAlive = Duration.ofSeconds(30);
+
+		private Duration idleEviction = Duration.ofSeconds(30);
+
+		// las conexiones se renuevan a lo sumo cada timeToLive (p. ej. para seguir cambios de DNS)
+		private Duration timeToLive = Duration.ofMinutes(5);
+	}
+
+	@Data
+	public static class BulkheadSettings {
+
+		// llamadas salientes en curso como máximo; el resto espera maxWait y recibe 503
+		private int maxConcurrent = 50;
+
+		private Duration maxWait = Duration.ofMillis(50);
+	}
+
+	@Data
+	public static class CircuitBreakerSettings {
+
+		// últimas llamadas consideradas para la tasa de fallos
+		private int windowSize = 20;
+
+		private int minimumCalls = 10;
+
+		// porcentaje de fallos (I/O, timeout o 5xx) que abre el circuito
+		private int failureRateThreshold = 50;
+
+		// con el circuito abierto las llamadas fallan sin salir (503) durante openDuration
+		private Duration openDuration = Duration.ofSeconds(5);
+
+		// llamadas de prueba en semiabierto: todas exitosas cierran el circuito, un fallo lo vuelve a abrir
+		private int halfOpenCalls = 3;
+	}
+
+	@Data
+	public static class HedgeSettings {
+
+		// sólo lecturas idempotentes (GET)
+		private boolean enabled = true;
+
+		// sin respuesta en delay se lanza otro intento y gana la primera respuesta exitosa
+		private Duration delay = Duration.ofMillis(150);
+
+		private int maxAttempts = 2;
+	}
+}
@@ -0,0 +1,56 @@
+package com.bank_services.account.infrastructure.client;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+// Cliente HTTP saliente: pool de conexiones persistentes con timeouts en cada etapa y sin reintentos propios
+public final class OutboundHttpClients {
+
+	private OutboundHttpClients() {
+	}
+
+	public static PoolingHttpClientConnectionManager connectionManager(OutboundClientProperties properties) {
+		OutboundClientProperties.Pool pool = properties.getPool();
+		return PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(pool.getMaxConnections())
+				.setMaxConnPerRoute(pool.getMaxConnectionsPerRoute())
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+						.setSocketTimeout(Timeout.of(properties.getResponseTimeout()))
+						.setTimeToLive(TimeValue.of(pool.getTimeToLive()))
+						// una conexión ociosa se valida antes de reusarla por si el servidor ya la cerró
+						.setValidateAfterInactivity(TimeValue.ofSeconds(2))
+						.build())
+				.build();
+	}
+
+	// El pool lo cierra su propio bean: el cliente sólo lo usa
+	public static CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+			OutboundClientProperties properties) {
+		TimeValue keepAlive = TimeValue.of(properties.getPool().getKeepAlive());
+		return HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setConnectionManagerShared(true)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+						.setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+						.build())
+				.setKeepAliveStrategy((response, context) -> {
+					TimeValue advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response,
+							context);
+					return advertised.compareTo(keepAlive) < 0 ? advertised : keepAlive;
+				})
+				.evictExpiredConnections()
+				.evictIdleConnections(TimeValue.of(properties.getPool().getIdleEviction()))
+				// los reintentos los decide OutboundCalls (sólo lecturas idempotentes)
+				.disableAutomaticRetries()
+				.build();
+	}
+}
@@ -0,0 +1,24 @@
+package com.bank_services.account.infrastructure.client;
+
+import lombok.Getter;
+
+// 503 - la llamada saliente no se hizo: el bulkhead estaba lleno o el circuito abierto
+@Getter
+public class RemoteCallRejectedException extends RuntimeException {
+
+	public enum Reason {
+		BULKHEAD_FULL, CIRCUIT_OPEN
+	}
+
+	private final Reason reason;
+
+	// sugerencia para el header Retry-After
+	private final long retryAfterSeconds;
+
+	public RemoteCallRejectedException(String client, Reason reason, long retryAfterSeconds) {
+		super("Call to %s rejected: %s".formatted(client, reason == Reason.CIRCUIT_OPEN ? "circuit open"
+				: "too many concurrent calls"));
+		this.reason = reason;
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+}
@@ -0,0 +1,18 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bank_services.account.domain.model.BatchSettings;
+import com.bank_services.account.infrastructure.importer.AccountImportProperties;
+
+@Configuration
+@EnableConfigurationProperties({ AccountBatchProperties.class, AccountImportProperties.class })
+public class AccountBatchConfig {
+
+	@Bean
+	public BatchSettings batchSettings(AccountBatchProperties properties) {
+		return new BatchSettings(properties.getChunkSize(), properties.getMaxItems());
+	}
+}
@@ -0,0 +1,14 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.batch")
+public class AccountBatchProperties {
+
+	private int chunkSize = 500;
+
+	private int maxItems = 10_000;
+}
@@ -0,0 +1,35 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.bank_services.account.infrastructure.idempotency.IdempotencyProperties;
+import com.bank_services.account.infrastructure.idempotency.IdempotencyStore;
+import com.bank_services.account.infrastructure.idempotency.IdempotentRequests;
+import com.bank_services.account.infrastructure.idempotency.InMemoryIdempotencyStore;
+import com.bank_services.account.infrastructure.idempotency.JdbcIdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class AccountIdempotencyConfig {
+
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public IdempotencyStore idempotencyStore(IdempotencyProperties properties, ObjectProvider<JdbcTemplate> jdbcTemplate,
+			ObjectMapper objectMapper) {
+		InMemoryIdempotencyStore memory = new InMemoryIdempotencyStore(properties);
+		return switch (properties.getStore()) {
+		case MEMORY -> memory;
+		case JDBC -> new JdbcIdempotencyStore(jdbcTemplate.getObject(), memory, properties, objectMapper);
+		};
+	}
+
+	@Bean
+	public IdempotentRequests idempotentRequests(IdempotencyStore store, IdempotencyProperties properties,
+			ObjectMapper objectMapper) {
+		return new IdempotentRequests(store, properties, objectMapper);
+	}
+}
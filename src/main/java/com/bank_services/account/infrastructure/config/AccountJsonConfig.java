@@ -0,0 +1,37 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bank_services.account.infrastructure.json.AccountJsonModule;
+import com.bank_services.account.infrastructure.json.AccountJsonProperties;
+import com.bank_services.account.infrastructure.json.AccountJsonProperties.BufferPool;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+
+@Configuration
+@EnableConfigurationProperties(AccountJsonProperties.class)
+public class AccountJsonConfig {
+
+	@Bean
+	@ConditionalOnProperty(name = "account.json.fast-serializers", havingValue = "true", matchIfMissing = true)
+	public AccountJsonModule accountJsonModule() {
+		return new AccountJsonModule();
+	}
+
+	// El pool por defecto de Jackson guarda los buffers en un ThreadLocal: con virtual threads cada request crearía
+	// los suyos, así que se comparten en un pool acotado
+	@Bean
+	public Jackson2ObjectMapperBuilderCustomizer accountJsonBufferPool(AccountJsonProperties properties,
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		BufferPool pool = properties.getBufferPool() != BufferPool.AUTO ? properties.getBufferPool()
+				: virtualThreads ? BufferPool.BOUNDED : BufferPool.THREAD_LOCAL;
+		return builder -> builder.postConfigurer(objectMapper -> objectMapper.getFactory()
+				.setRecyclerPool(pool == BufferPool.BOUNDED
+						? JsonRecyclerPools.newBoundedPool(properties.getBufferPoolSize())
+						: JsonRecyclerPools.threadLocalPool()));
+	}
+}
@@ -0,0 +1,19 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bank_services.account.infrastructure.ledger.AccountLedgerProperties;
+import com.bank_services.account.infrastructure.ledger.JdbcAccountLedger;
+import com.bank_services.account.infrastructure.ledger.LedgerSnapshotter;
+
+@Configuration
+@EnableConfigurationProperties(AccountLedgerProperties.class)
+public class AccountLedgerConfig {
+
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public LedgerSnapshotter ledgerSnapshotter(JdbcAccountLedger ledger, AccountLedgerProperties properties) {
+		return new LedgerSnapshotter(ledger, properties);
+	}
+}
@@ -0,0 +1,40 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bank_services.account.infrastructure.outbox.AccountChangeStream;
+import com.bank_services.account.infrastructure.outbox.AccountEventSink;
+import com.bank_services.account.infrastructure.outbox.AccountOutboxProperties;
+import com.bank_services.account.infrastructure.outbox.FileAccountEventSink;
+import com.bank_services.account.infrastructure.outbox.InMemoryAccountEventSink;
+import com.bank_services.account.infrastructure.outbox.JdbcAccountOutbox;
+import com.bank_services.account.infrastructure.outbox.OutboxRelay;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@EnableConfigurationProperties(AccountOutboxProperties.class)
+public class AccountOutboxConfig {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public AccountEventSink accountEventSink(AccountOutboxProperties properties, ObjectMapper objectMapper) {
+		return switch (properties.getSink()) {
+		case MEMORY -> new InMemoryAccountEventSink(properties.getMemoryCapacity());
+		case FILE -> new FileAccountEventSink(properties.getFilePath(), objectMapper);
+		};
+	}
+
+	@Bean(destroyMethod = "close")
+	public AccountChangeStream accountChangeStream(JdbcAccountOutbox outbox, AccountOutboxProperties properties) {
+		return new AccountChangeStream(outbox, properties);
+	}
+
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public OutboxRelay outboxRelay(JdbcAccountOutbox outbox, AccountEventSink sink, AccountChangeStream stream,
+			AccountOutboxProperties properties) {
+		return new OutboxRelay(outbox, sink, stream, properties);
+	}
+}
@@ -0,0 +1,25 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.bank_services.account.infrastructure.cache.AccountCacheProperties;
+import com.bank_services.account.infrastructure.cache.CachingAccountRepository;
+import com.bank_services.account.infrastructure.persistence.AccountRepositoryAdapter;
+
+@Configuration
+@EnableConfigurationProperties(AccountCacheProperties.class)
+public class AccountRepositoryConfig {
+
+	// Con la cache deshabilitada el servicio usa directamente AccountRepositoryAdapter
+	@Bean
+	@Primary
+	@ConditionalOnProperty(name = "account.cache.enabled", havingValue = "true", matchIfMissing = true)
+	public CachingAccountRepository cachingAccountRepository(AccountRepositoryAdapter adapter,
+			AccountCacheProperties properties) {
+		return new CachingAccountRepository(adapter, properties);
+	}
+}
@@ -0,0 +1,29 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bank_services.account.domain.service.AccountService;
+import com.bank_services.account.infrastructure.risk.AccountRiskScanner;
+import com.bank_services.account.infrastructure.risk.RiskRuleProperties;
+import com.bank_services.account.infrastructure.risk.RiskRules;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@EnableConfigurationProperties(RiskRuleProperties.class)
+public class AccountRiskConfig {
+
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public RiskRules riskRules(RiskRuleProperties properties, ObjectMapper objectMapper) {
+		return new RiskRules(properties, objectMapper);
+	}
+
+	// con virtual threads el tamaño del pool sigue acotando los chunks evaluados a la vez
+	@Bean(destroyMethod = "close")
+	public AccountRiskScanner accountRiskScanner(AccountService accountService, RiskRules riskRules,
+			RiskRuleProperties properties, @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		return new AccountRiskScanner(accountService, riskRules, properties, virtualThreads);
+	}
+}
@@ -0,0 +1,21 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.bank_services.account.infrastructure.rollup.AccountRollup;
+import com.bank_services.account.infrastructure.rollup.AccountRollupProperties;
+
+@Configuration
+@EnableConfigurationProperties(AccountRollupProperties.class)
+public class AccountRollupConfig {
+
+	// AccountService y AccountBatchService lo notifican como AccountMutationListener; las consultas lo usan como
+	// AccountAggregatePort
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public AccountRollup accountRollup(JdbcTemplate jdbcTemplate, AccountRollupProperties properties) {
+		return new AccountRollup(jdbcTemplate, properties);
+	}
+}
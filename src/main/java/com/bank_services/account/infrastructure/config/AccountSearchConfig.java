@@ -0,0 +1,26 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.bank_services.account.infrastructure.search.AccountSearchPlanner;
+import com.bank_services.account.infrastructure.search.AccountSearchProperties;
+import com.bank_services.account.infrastructure.search.AccountStatisticsCollector;
+
+@Configuration
+@EnableConfigurationProperties(AccountSearchProperties.class)
+public class AccountSearchConfig {
+
+	@Bean(initMethod = "start", destroyMethod = "close")
+	public AccountStatisticsCollector accountStatisticsCollector(JdbcTemplate jdbcTemplate,
+			AccountSearchProperties properties) {
+		return new AccountStatisticsCollector(jdbcTemplate, properties);
+	}
+
+	@Bean
+	public AccountSearchPlanner accountSearchPlanner(AccountSearchProperties properties) {
+		return new AccountSearchPlanner(properties);
+	}
+}
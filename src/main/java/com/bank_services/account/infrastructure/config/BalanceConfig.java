@@ -0,0 +1,24 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bank_services.account.domain.model.BalanceSettings;
+import com.bank_services.account.domain.service.AccountLockManager;
+
+@Configuration
+@EnableConfigurationProperties(BalanceProperties.class)
+public class BalanceConfig {
+
+	@Bean
+	public BalanceSettings balanceSettings(BalanceProperties properties) {
+		return new BalanceSettings(properties.getWriteMode(), properties.getMaxRetries());
+	}
+
+	@Bean
+	public AccountLockManager accountLockManager(BalanceProperties properties) {
+		BalanceProperties.Lock lock = properties.getLock();
+		return new AccountLockManager(lock.getStripes(), lock.isFair(), lock.getTimeout());
+	}
+}
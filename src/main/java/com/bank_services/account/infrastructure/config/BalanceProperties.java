@@ -0,0 +1,31 @@
+package com.bank_services.account.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.bank_services.account.domain.model.BalanceWriteMode;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.balance")
+public class BalanceProperties {
+
+	private BalanceWriteMode writeMode = BalanceWriteMode.CONDITIONAL;
+
+	private int maxRetries = 5;
+
+	private Lock lock = new Lock();
+
+	@Data
+	public static class Lock {
+
+		private int stripes = 256;
+
+		// lock justo: los escritores de una misma cuenta se atienden en orden de llegada
+		private boolean fair = true;
+
+		private Duration timeout = Duration.ofSeconds(2);
+	}
+}
@@ -0,0 +1,20 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.bank_services.account.infrastructure.cbu.CbuBloomFilter;
+import com.bank_services.account.infrastructure.cbu.CbuFilterProperties;
+
+@Configuration
+@EnableConfigurationProperties(CbuFilterProperties.class)
+public class CbuFilterConfig {
+
+	// Deshabilitado sigue existiendo como bean inactivo: AccountService y AccountBatchService no lo consultan
+	@Bean(initMethod = "start")
+	public CbuBloomFilter cbuBloomFilter(CbuFilterProperties properties, JdbcTemplate jdbcTemplate) {
+		return new CbuBloomFilter(properties, jdbcTemplate);
+	}
+}
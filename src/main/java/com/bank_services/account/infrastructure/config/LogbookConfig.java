@@ -1,14 +1,58 @@
 package com.bank_services.account.infrastructure.config;
 
+import java.util.function.Predicate;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.zalando.logbook.HttpRequest;
 import org.zalando.logbook.Logbook;
+import org.zalando.logbook.core.Conditions;
+
+import com.bank_services.account.infrastructure.logging.AsyncHttpLogSink;
+import com.bank_services.account.infrastructure.logging.CappedLogbookFilter;
+import com.bank_services.account.infrastructure.logging.HttpLoggingProperties;
+import com.bank_services.account.infrastructure.logging.SamplingStrategy;
+
+import jakarta.servlet.DispatcherType;
 
 @Configuration
+@EnableConfigurationProperties(HttpLoggingProperties.class)
 public class LogbookConfig {
 
+	@Bean(destroyMethod = "close")
+	public AsyncHttpLogSink asyncHttpLogSink(HttpLoggingProperties properties) {
+		return new AsyncHttpLogSink(properties);
+	}
+
 	@Bean
-	public Logbook logbook() {
-		return Logbook.builder().build();
+	public Logbook logbook(HttpLoggingProperties properties, AsyncHttpLogSink sink) {
+		SamplingStrategy strategy = new SamplingStrategy(properties);
+		// CappedLogbookFilter limita la copia de la respuesta y el sink trunca la del request (que sólo se copia si el
+		// request sale en la muestra); sin body filters no se parsea JSON en el hilo del request
+		return Logbook.builder().condition(condition(properties)).strategy(strategy).attributeExtractor(strategy)
+				.clearBodyFilters().sink(sink).build();
+	}
+
+	// reemplaza al filtro de la autoconfiguración (mismo nombre, orden y dispatchers)
+	@Bean
+	public FilterRegistrationBean<CappedLogbookFilter> logbookFilter(Logbook logbook,
+			HttpLoggingProperties properties) {
+		FilterRegistrationBean<CappedLogbookFilter> registration = new FilterRegistrationBean<>(
+				new CappedLogbookFilter(logbook, properties.getMaxBodySize()));
+		registration.setName("logbookFilter");
+		registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+		registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+		return registration;
+	}
+
+	// los scrapes de métricas, health checks y endpoints de alto volumen no se loguean
+	private static Predicate<HttpRequest> condition(HttpLoggingProperties properties) {
+		if (!properties.isEnabled()) {
+			return request -> false;
+		}
+		return Conditions.exclude(properties.getExcludePaths().stream().map(Conditions::<HttpRequest>requestTo));
 	}
 }
@@ -0,0 +1,44 @@
+package com.bank_services.account.infrastructure.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bank_services.account.infrastructure.client.OutboundCalls;
+import com.bank_services.account.infrastructure.client.OutboundClientProperties;
+import com.bank_services.account.infrastructure.client.OutboundHttpClients;
+
+// Cliente saliente de SelfAccountClient: sólo con account.summary.mode=remote
+@Configuration
+@ConditionalOnProperty(name = "account.summary.mode", havingValue = "remote")
+@EnableConfigurationProperties(OutboundClientProperties.class)
+public class OutboundClientConfig {
+
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager outboundConnectionManager(OutboundClientProperties properties) {
+		return OutboundHttpClients.connectionManager(properties);
+	}
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient outboundHttpClient(PoolingHttpClientConnectionManager outboundConnectionManager,
+			OutboundClientProperties properties) {
+		return OutboundHttpClients.httpClient(outboundConnectionManager, properties);
+	}
+
+	// Los intentos (y los hedges) corren en virtual threads o en un pool sin tope: el bulkhead ya acota cuántos hay
+	@Bean(destroyMethod = "close")
+	public OutboundCalls selfAccountCalls(OutboundClientProperties properties,
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		ExecutorService executor = virtualThreads
+				? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("self-account-call-", 0).factory())
+				: Executors.newCachedThreadPool(Thread.ofPlatform().daemon().name("self-account-call-", 0).factory());
+		return new OutboundCalls("self-account", properties, executor);
+	}
+}
@@ -0,0 +1,46 @@
+package com.bank_services.account.infrastructure.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bank_services.account.infrastructure.sql.DiagnosticDataSource;
+import com.bank_services.account.infrastructure.sql.SqlDiagnostics;
+import com.bank_services.account.infrastructure.sql.SqlDiagnosticsFilter;
+import com.bank_services.account.infrastructure.sql.SqlDiagnosticsProperties;
+
+// Reemplaza show-sql / BasicBinder=trace: las sentencias se miden a demanda y se agregan en memoria
+@Configuration
+@EnableConfigurationProperties(SqlDiagnosticsProperties.class)
+@ConditionalOnProperty(name = "account.sql-diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlDiagnosticsConfig {
+
+	@Bean
+	public SqlDiagnostics sqlDiagnostics(SqlDiagnosticsProperties properties) {
+		return new SqlDiagnostics(properties);
+	}
+
+	@Bean
+	public SqlDiagnosticsFilter sqlDiagnosticsFilter(SqlDiagnostics diagnostics, SqlDiagnosticsProperties properties) {
+		return new SqlDiagnosticsFilter(diagnostics, properties.getHeader());
+	}
+
+	// static para no forzar la creación temprana de esta configuración al registrar post processors
+	@Bean
+	public static BeanPostProcessor diagnosticDataSourcePostProcessor(ObjectProvider<SqlDiagnostics> diagnostics) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof DiagnosticDataSource)) {
+					return new DiagnosticDataSource(dataSource, diagnostics.getObject());
+				}
+				return bean;
+			}
+		};
+	}
+}
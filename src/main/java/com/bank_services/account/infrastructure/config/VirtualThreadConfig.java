@@ -0,0 +1,25 @@
+package com.bank_services.account.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bank_services.account.infrastructure.metrics.PinningMonitorProperties;
+import com.bank_services.account.infrastructure.metrics.VirtualThreadPinningMonitor;
+
+// spring.threads.virtual.enabled pasa Tomcat, el executor de tareas y el cliente saliente a virtual threads
+@Configuration
+@EnableConfigurationProperties(PinningMonitorProperties.class)
+public class VirtualThreadConfig {
+
+	// El monitor de pinning sólo tiene sentido cuando hay virtual threads en juego
+	@Bean(initMethod = "start", destroyMethod = "close")
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	@ConditionalOnProperty(name = "account.virtual-threads.pinning.enabled", havingValue = "true", matchIfMissing = true)
+	public VirtualThreadPinningMonitor virtualThreadPinningMonitor(PinningMonitorProperties properties) {
+		return new VirtualThreadPinningMonitor(properties);
+	}
+}
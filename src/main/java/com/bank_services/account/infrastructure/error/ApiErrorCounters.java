@@ -0,0 +1,39 @@
+package com.bank_services.account.infrastructure.error;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Respuestas de error emitidas por {@link GlobalExceptionHandler}, por tipo. Los contadores existen desde el arranque
+ * (uno por tipo, indexados por ordinal): contar no busca en un mapa ni asigna memoria.
+ */
+public class ApiErrorCounters {
+
+	public enum Type {
+		NOT_FOUND, DUPLICATE, CONCURRENT_UPDATE, PRECONDITION_FAILED, INSUFFICIENT_FUNDS, INVALID_OPERATION,
+		INVALID_RISK_RULE, IDEMPOTENCY_KEY, REMOTE_RESPONSE, REMOTE_REJECTED, REMOTE_UNREACHABLE, VALIDATION_FAILED,
+		MALFORMED_REQUEST, CONSTRAINT_VIOLATION, MVC, UNEXPECTED;
+
+		private final String tag = name().toLowerCase(Locale.ROOT);
+
+		public String tag() {
+			return tag;
+		}
+	}
+
+	private final LongAdder[] counts = new LongAdder[Type.values().length];
+
+	public ApiErrorCounters() {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = new LongAdder();
+		}
+	}
+
+	void increment(Type type) {
+		counts[type.ordinal()].increment();
+	}
+
+	public long count(Type type) {
+		return counts[type.ordinal()].sum();
+	}
+}
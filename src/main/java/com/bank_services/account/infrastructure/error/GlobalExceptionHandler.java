@@ -1,7 +1,9 @@
 package com.bank_services.account.infrastructure.error;
 
+import java.io.InterruptedIOException;
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.util.stream.Collectors;
+import java.util.List;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -12,33 +14,93 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import com.bank_services.account.domain.exception.ConcurrentUpdateException;
 import com.bank_services.account.domain.exception.DuplicateResourceException;
+import com.bank_services.account.domain.exception.InsufficientFundsException;
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
+import com.bank_services.account.domain.exception.InvalidRiskRuleException;
+import com.bank_services.account.domain.exception.PreconditionFailedException;
 import com.bank_services.account.domain.exception.ResourceNotFoundException;
+import com.bank_services.account.infrastructure.client.RemoteCallRejectedException;
+import com.bank_services.account.infrastructure.idempotency.IdempotencyKeyException;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 
+/**
+ * Traduce las excepciones a {@link ApiError}. Los 404/409/422 son flujo normal (un id inexistente, un CBU repetido)
+ * y pueden llegar en ráfagas: el camino es corto a propósito. Las excepciones de dominio no traen stack trace, los
+ * mensajes se arman al lanzarlas, el reloj y la zona horaria se resuelven una vez y cada respuesta suma en
+ * {@link ApiErrorCounters} (métrica {@code account.http.errors}).
+ */
 @ControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+	private final ApiErrorCounters counters;
+	private final Clock clock;
+
+	public GlobalExceptionHandler() {
+		this(new ApiErrorCounters(), Clock.systemDefaultZone());
+	}
+
+	// El reloj se inyecta en los tests
+	GlobalExceptionHandler(ApiErrorCounters counters, Clock clock) {
+		this.counters = counters;
+		this.clock = clock;
+	}
+
+	public ApiErrorCounters counters() {
+		return counters;
+	}
+
 	// 404 - cuando el servicio de dominio no encuentra el recurso
 	@ExceptionHandler(ResourceNotFoundException.class)
 	public ResponseEntity<ApiError> handleResourceNotFound(ResourceNotFoundException ex, HttpServletRequest request) {
-		ApiError error = new ApiError(LocalDateTime.now(), HttpStatus.NOT_FOUND.value(), "Not Found", ex.getMessage(),
-				request.getRequestURI());
-		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+		return respond(ApiErrorCounters.Type.NOT_FOUND, HttpStatus.NOT_FOUND, ex.getMessage(), request.getRequestURI());
 	}
 
 	// 409 - duplicados al crear/actualizar
 	@ExceptionHandler(DuplicateResourceException.class)
 	public ResponseEntity<ApiError> handleDuplicateResource(DuplicateResourceException ex, HttpServletRequest request) {
-		ApiError error = new ApiError(LocalDateTime.now(), HttpStatus.CONFLICT.value(), "Conflict", ex.getMessage(),
+		return respond(ApiErrorCounters.Type.DUPLICATE, HttpStatus.CONFLICT, ex.getMessage(), request.getRequestURI());
+	}
+
+	// 409 - otra escritura modificó la cuenta (conflicto de versión)
+	@ExceptionHandler(ConcurrentUpdateException.class)
+	public ResponseEntity<ApiError> handleConcurrentUpdate(ConcurrentUpdateException ex, HttpServletRequest request) {
+		return respond(ApiErrorCounters.Type.CONCURRENT_UPDATE, HttpStatus.CONFLICT, ex.getMessage(),
 				request.getRequestURI());
-		return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+	}
+
+	// 412 - If-Match no coincide con la versión actual de la cuenta
+	@ExceptionHandler(PreconditionFailedException.class)
+	public ResponseEntity<ApiError> handlePreconditionFailed(PreconditionFailedException ex,
+			HttpServletRequest request) {
+		return respond(ApiErrorCounters.Type.PRECONDITION_FAILED, HttpStatus.PRECONDITION_FAILED, ex.getMessage(),
+				request.getRequestURI());
+	}
+
+	// 422 - reglas de negocio sobre el saldo (fondos insuficientes, cuenta no activa, monto inválido) y reglas de riesgo
+	// inválidas
+	@ExceptionHandler({ InsufficientFundsException.class, InvalidAccountOperationException.class,
+			InvalidRiskRuleException.class })
+	public ResponseEntity<ApiError> handleBalanceRule(RuntimeException ex, HttpServletRequest request) {
+		ApiErrorCounters.Type type = ex instanceof InsufficientFundsException ? ApiErrorCounters.Type.INSUFFICIENT_FUNDS
+				: ex instanceof InvalidRiskRuleException ? ApiErrorCounters.Type.INVALID_RISK_RULE
+						: ApiErrorCounters.Type.INVALID_OPERATION;
+		return respond(type, HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage(), request.getRequestURI());
+	}
+
+	// 400/409/422 - Idempotency-Key inválida, en curso o reutilizada con otro request
+	@ExceptionHandler(IdempotencyKeyException.class)
+	public ResponseEntity<ApiError> handleIdempotencyKey(IdempotencyKeyException ex, HttpServletRequest request) {
+		return respond(ApiErrorCounters.Type.IDEMPOTENCY_KEY, ex.getStatus(), ex.getMessage(), request.getRequestURI());
 	}
 
 	// 4xx - cuando nuestro RestClient recibe errores de otros endpoints y sube la excepción
@@ -49,54 +111,97 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 		if (status == null) {
 			status = HttpStatus.INTERNAL_SERVER_ERROR;
 		}
+		return respond(ApiErrorCounters.Type.REMOTE_RESPONSE, status, ex.getMessage(), request.getRequestURI());
+	}
 
-		ApiError error = new ApiError(LocalDateTime.now(), status.value(), status.getReasonPhrase(), ex.getMessage(),
-				request.getRequestURI());
-		return ResponseEntity.status(status).body(error);
+	// 503 - la llamada saliente no se hizo (bulkhead lleno o circuito abierto)
+	@ExceptionHandler(RemoteCallRejectedException.class)
+	public ResponseEntity<ApiError> handleRemoteCallRejected(RemoteCallRejectedException ex,
+			HttpServletRequest request) {
+		ApiError error = error(ApiErrorCounters.Type.REMOTE_REJECTED, HttpStatus.SERVICE_UNAVAILABLE,
+				HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(), ex.getMessage(), request.getRequestURI());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds())).body(error);
+	}
+
+	// 504 - el destino no respondió a tiempo | 502 - no se pudo conectar o cortó la conexión
+	@ExceptionHandler(ResourceAccessException.class)
+	public ResponseEntity<ApiError> handleResourceAccess(ResourceAccessException ex, HttpServletRequest request) {
+		HttpStatus status = ex.getCause() instanceof InterruptedIOException ? HttpStatus.GATEWAY_TIMEOUT
+				: HttpStatus.BAD_GATEWAY;
+		return respond(ApiErrorCounters.Type.REMOTE_UNREACHABLE, status, ex.getMessage(), request.getRequestURI());
 	}
 
 	// 400 - errores de validación @Valid en @RequestBody
 	@Override
 	protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex,
 			HttpHeaders headers, HttpStatusCode status, WebRequest request) {
-		String path = request.getDescription(false).replace("uri=", "");
-
-		String validationErrors = ex.getBindingResult().getFieldErrors().stream().map(this::formatFieldError)
-				.collect(Collectors.joining("; "));
-
-		ApiError error = new ApiError(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), "Validation Failed",
-				validationErrors, path);
-		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+		ApiError error = error(ApiErrorCounters.Type.VALIDATION_FAILED, HttpStatus.BAD_REQUEST, "Validation Failed",
+				validationErrors(ex.getBindingResult().getFieldErrors()), path(request));
+		return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
 	}
 
-	private String formatFieldError(FieldError fieldError) {
-		return "%s: %s".formatted(fieldError.getField(), fieldError.getDefaultMessage());
+	// "campo: mensaje; campo: mensaje"
+	private static String validationErrors(List<FieldError> fieldErrors) {
+		StringBuilder errors = new StringBuilder();
+		for (FieldError fieldError : fieldErrors) {
+			if (!errors.isEmpty()) {
+				errors.append("; ");
+			}
+			errors.append(fieldError.getField()).append(": ").append(fieldError.getDefaultMessage());
+		}
+		return errors.toString();
 	}
 
 	// 400 - JSON mal formado, tipos incorrectos, etc.
 	@Override
 	protected ResponseEntity<Object> handleHttpMessageNotReadable(HttpMessageNotReadableException ex,
 			HttpHeaders headers, HttpStatusCode status, WebRequest request) {
-		String path = request.getDescription(false).replace("uri=", "");
-		ApiError error = new ApiError(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), "Malformed JSON request",
-				ex.getMostSpecificCause() != null ? ex.getMostSpecificCause().getMessage() : ex.getMessage(), path);
-		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+		String message = ex.getMostSpecificCause() != null ? ex.getMostSpecificCause().getMessage() : ex.getMessage();
+		ApiError error = error(ApiErrorCounters.Type.MALFORMED_REQUEST, HttpStatus.BAD_REQUEST,
+				"Malformed JSON request", message, path(request));
+		return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
 	}
 
 	// 400 - validaciones tipo @NotNull en parámetros, etc.
 	@ExceptionHandler(ConstraintViolationException.class)
 	public ResponseEntity<ApiError> handleConstraintViolation(ConstraintViolationException ex,
 			HttpServletRequest request) {
-		ApiError error = new ApiError(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), "Constraint Violation",
-				ex.getMessage(), request.getRequestURI());
-		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+		ApiError error = error(ApiErrorCounters.Type.CONSTRAINT_VIOLATION, HttpStatus.BAD_REQUEST,
+				"Constraint Violation", ex.getMessage(), request.getRequestURI());
+		return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
 	}
 
 	// 500 - catch-all para cualquier otra excepción no manejada
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<ApiError> handleGenericException(Exception ex, HttpServletRequest request) {
-		ApiError error = new ApiError(LocalDateTime.now(), HttpStatus.INTERNAL_SERVER_ERROR.value(),
-				"Internal Server Error", ex.getMessage(), request.getRequestURI());
-		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+		return respond(ApiErrorCounters.Type.UNEXPECTED, HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(),
+				request.getRequestURI());
+	}
+
+	// Resto de las excepciones de Spring MVC (ruta inexistente, método no soportado, ...): respuesta por defecto
+	@Override
+	protected ResponseEntity<Object> handleExceptionInternal(Exception ex, Object body, HttpHeaders headers,
+			HttpStatusCode statusCode, WebRequest request) {
+		counters.increment(ApiErrorCounters.Type.MVC);
+		return super.handleExceptionInternal(ex, body, headers, statusCode, request);
+	}
+
+	// Sin builder ni headers: la respuesta de error más común es sólo status y cuerpo
+	private ResponseEntity<ApiError> respond(ApiErrorCounters.Type type, HttpStatus status, String message,
+			String path) {
+		return new ResponseEntity<>(error(type, status, status.getReasonPhrase(), message, path), status);
+	}
+
+	private ApiError error(ApiErrorCounters.Type type, HttpStatus status, String reason, String message, String path) {
+		counters.increment(type);
+		return new ApiError(LocalDateTime.now(clock), status.value(), reason, message, path);
+	}
+
+	private static String path(WebRequest request) {
+		if (request instanceof ServletWebRequest servletRequest) {
+			return servletRequest.getRequest().getRequestURI();
+		}
+		return request.getDescription(false).replace("uri=", "");
 	}
 }
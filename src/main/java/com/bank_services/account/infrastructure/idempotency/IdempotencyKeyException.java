@@ -0,0 +1,17 @@
+package com.bank_services.account.infrastructure.idempotency;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+// 400 clave inválida | 409 la misma clave está en curso | 422 la clave ya se usó con otro request
+@Getter
+public class IdempotencyKeyException extends RuntimeException {
+
+	private final HttpStatus status;
+
+	public IdempotencyKeyException(HttpStatus status, String message) {
+		super(message);
+		this.status = status;
+	}
+}
@@ -0,0 +1,38 @@
+package com.bank_services.account.infrastructure.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.idempotency")
+public class IdempotencyProperties {
+
+	// false: el header Idempotency-Key se ignora
+	private boolean enabled = true;
+
+	// MEMORY: sólo en memoria | JDBC: memoria delante de la tabla idempotency_keys (sobrevive reinicios e instancias)
+	private StoreType store = StoreType.MEMORY;
+
+	// tiempo durante el cual un reintento con la misma clave recibe la respuesta guardada
+	private Duration ttl = Duration.ofHours(24);
+
+	private int maxEntries = 100_000;
+
+	private int concurrency = 16;
+
+	private int maxKeyLength = 255;
+
+	// una reserva en idempotency_keys más vieja que esto se considera abandonada (la instancia cayó a mitad de la
+	// mutación) y otra instancia puede tomar la clave (sólo JDBC)
+	private Duration inFlightTimeout = Duration.ofMinutes(1);
+
+	// cada cuánto se borran de la tabla las claves vencidas (sólo JDBC)
+	private Duration purgeInterval = Duration.ofMinutes(10);
+
+	public enum StoreType {
+		MEMORY, JDBC
+	}
+}
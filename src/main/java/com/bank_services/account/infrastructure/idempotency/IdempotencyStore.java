@@ -0,0 +1,26 @@
+package com.bank_services.account.infrastructure.idempotency;
+
+public interface IdempotencyStore extends AutoCloseable {
+
+	// null si la clave no existe o ya venció
+	StoredResponse find(String key);
+
+	void save(String key, StoredResponse response);
+
+	// Reserva la clave antes de ejecutar la mutación; false si otra instancia la tiene (en curso o ya completa). En
+	// memoria alcanza con la reserva por instancia de IdempotentRequests
+	default boolean reserve(String key, String fingerprint) {
+		return true;
+	}
+
+	// Libera una reserva cuya mutación falló o no se guarda, así el reintento vuelve a ejecutar
+	default void release(String key) {
+	}
+
+	default void start() {
+	}
+
+	@Override
+	default void close() {
+	}
+}
@@ -0,0 +1,142 @@
+package com.bank_services.account.infrastructure.idempotency;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Ejecuta una mutación a lo sumo una vez por {@code Idempotency-Key}. La respuesta exitosa se guarda con el hash del
+ * request; un reintento con la misma clave la recibe tal cual (más {@code Idempotent-Replayed: true}) sin volver a
+ * llamar al servicio. Las respuestas de error no se guardan: el reintento vuelve a ejecutar. Mientras una clave está en
+ * curso, otro request con la misma clave recibe 409: en esta instancia lo decide un mapa en memoria y entre instancias
+ * la reserva del store ({@link IdempotencyStore#reserve}), que se toma antes de llamar al servicio.
+ */
+public class IdempotentRequests {
+
+	public static final String KEY_HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	private final IdempotencyStore store;
+	private final IdempotencyProperties properties;
+	private final ObjectMapper objectMapper;
+	private final Map<String, String> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder stored = new LongAdder();
+	private final LongAdder replayed = new LongAdder();
+
+	public IdempotentRequests(IdempotencyStore store, IdempotencyProperties properties, ObjectMapper objectMapper) {
+		this.store = store;
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+	}
+
+	public <T> ResponseEntity<T> execute(String key, String fingerprint, Class<T> bodyType,
+			Supplier<ResponseEntity<T>> call) {
+		if (key == null || !properties.isEnabled()) {
+			return call.get();
+		}
+		if (key.isBlank() || key.length() > properties.getMaxKeyLength()) {
+			throw new IdempotencyKeyException(HttpStatus.BAD_REQUEST, "%s must have between 1 and %d characters"
+					.formatted(KEY_HEADER, properties.getMaxKeyLength()));
+		}
+
+		StoredResponse previous = store.find(key);
+		if (previous != null) {
+			return replay(key, previous, fingerprint, bodyType);
+		}
+		if (inFlight.putIfAbsent(key, fingerprint) != null) {
+			throw inProgress(key);
+		}
+		boolean reserved = false;
+		boolean saved = false;
+		try {
+			// pudo completarse entre la primera lectura y la reserva
+			previous = store.find(key);
+			if (previous != null) {
+				return replay(key, previous, fingerprint, bodyType);
+			}
+			reserved = store.reserve(key, fingerprint);
+			if (!reserved) {
+				// otra instancia tomó la clave: si ya terminó se reproduce su respuesta, si no sigue en curso
+				previous = store.find(key);
+				if (previous != null) {
+					return replay(key, previous, fingerprint, bodyType);
+				}
+				throw inProgress(key);
+			}
+			ResponseEntity<T> response = call.get();
+			if (response.getStatusCode().is2xxSuccessful()) {
+				store.save(key, new StoredResponse(fingerprint, response.getStatusCode().value(),
+						Map.copyOf(response.getHeaders()), json(response.getBody()), LocalDateTime.now()));
+				saved = true;
+				stored.increment();
+			}
+			return response;
+		} finally {
+			if (reserved && !saved) {
+				store.release(key);
+			}
+			inFlight.remove(key);
+		}
+	}
+
+	// Hash del request: operación, parámetros y body en JSON
+	public String fingerprint(Object... parts) {
+		try {
+			return HexFormat.of()
+					.formatHex(MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(parts)));
+		} catch (JsonProcessingException | NoSuchAlgorithmException e) {
+			throw new IllegalStateException("Could not fingerprint request", e);
+		}
+	}
+
+	public long storedCount() {
+		return stored.sum();
+	}
+
+	public long replayedCount() {
+		return replayed.sum();
+	}
+
+	private <T> ResponseEntity<T> replay(String key, StoredResponse previous, String fingerprint, Class<T> bodyType) {
+		if (!previous.getFingerprint().equals(fingerprint)) {
+			throw new IdempotencyKeyException(HttpStatus.UNPROCESSABLE_ENTITY,
+					"%s %s was already used with a different request".formatted(KEY_HEADER, key));
+		}
+		HttpHeaders headers = new HttpHeaders();
+		previous.getHeaders().forEach(headers::addAll);
+		headers.set(REPLAYED_HEADER, "true");
+		replayed.increment();
+		try {
+			T body = previous.getBody() == null ? null : objectMapper.readValue(previous.getBody(), bodyType);
+			return ResponseEntity.status(previous.getStatus()).headers(headers).body(body);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Stored response for %s %s is not valid JSON".formatted(KEY_HEADER, key),
+					e);
+		}
+	}
+
+	private static IdempotencyKeyException inProgress(String key) {
+		return new IdempotencyKeyException(HttpStatus.CONFLICT,
+				"A request with %s %s is still in progress".formatted(KEY_HEADER, key));
+	}
+
+	private String json(Object body) {
+		try {
+			return body == null ? null : objectMapper.writeValueAsString(body);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not serialize response body", e);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.bank_services.account.infrastructure.idempotency;
+
+import com.bank_services.account.infrastructure.cache.BoundedLruCache;
+
+// Acotado a max-entries (LRU) y con vencimiento por ttl
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+	private final BoundedLruCache<String, StoredResponse> responses;
+
+	public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+		this.responses = new BoundedLruCache<>(properties.getMaxEntries(), properties.getTtl().toNanos(),
+				properties.getConcurrency());
+	}
+
+	@Override
+	public StoredResponse find(String key) {
+		return responses.get(key);
+	}
+
+	@Override
+	public void save(String key, StoredResponse response) {
+		responses.put(key, response);
+	}
+
+	public int size() {
+		return responses.size();
+	}
+}
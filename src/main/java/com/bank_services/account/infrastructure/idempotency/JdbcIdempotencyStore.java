@@ -0,0 +1,168 @@
+package com.bank_services.account.infrastructure.idempotency;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tabla {@code idempotency_keys} con {@link InMemoryIdempotencyStore} delante: los reintentos que llegan a la misma
+ * instancia no tocan la base, y los que llegan a otra (o después de un reinicio) leen una fila por clave primaria.
+ * Antes de ejecutar la mutación se inserta una fila pendiente (status 0): la clave primaria serializa a las instancias
+ * y sólo la que la insertó ejecuta; al terminar la fila se completa con la respuesta o se borra.
+ */
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+	private static final Logger log = LoggerFactory.getLogger(JdbcIdempotencyStore.class);
+	private static final TypeReference<Map<String, List<String>>> HEADERS = new TypeReference<>() {
+	};
+	private static final int PENDING = 0;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final InMemoryIdempotencyStore memory;
+	private final IdempotencyProperties properties;
+	private final ObjectMapper objectMapper;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "idempotency-key-purger");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, InMemoryIdempotencyStore memory,
+			IdempotencyProperties properties, ObjectMapper objectMapper) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.memory = memory;
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void start() {
+		long period = properties.getPurgeInterval().toMillis();
+		scheduler.scheduleWithFixedDelay(this::purgeQuietly, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public StoredResponse find(String key) {
+		StoredResponse cached = memory.find(key);
+		if (cached != null) {
+			return cached;
+		}
+		List<StoredResponse> rows = jdbcTemplate.query("""
+				select fingerprint, status, headers, body, created_at
+				  from idempotency_keys
+				 where idempotency_key = ? and status <> ? and created_at > ?
+				""", (rs, rowNum) -> new StoredResponse(rs.getString(1), rs.getInt(2), headers(rs.getString(3)),
+				rs.getString(4), rs.getTimestamp(5).toLocalDateTime()), key, PENDING,
+				Timestamp.valueOf(expiredBefore()));
+		if (rows.isEmpty()) {
+			return null;
+		}
+		memory.save(key, rows.get(0));
+		return rows.get(0);
+	}
+
+	@Override
+	public boolean reserve(String key, String fingerprint) {
+		if (insertPending(key, fingerprint)) {
+			return true;
+		}
+		// una fila vencida sin purgar o una reserva abandonada no bloquean la clave
+		int stale = jdbcTemplate.update("""
+				delete from idempotency_keys
+				 where idempotency_key = ? and (created_at <= ? or (status = ? and created_at <= ?))
+				""", key, Timestamp.valueOf(expiredBefore()), PENDING,
+				Timestamp.valueOf(LocalDateTime.now().minus(properties.getInFlightTimeout())));
+		return stale > 0 && insertPending(key, fingerprint);
+	}
+
+	@Override
+	public void release(String key) {
+		jdbcTemplate.update("delete from idempotency_keys where idempotency_key = ? and status = ?", key, PENDING);
+	}
+
+	// Completa la reserva; sin reserva previa (o si otra instancia la tomó por vencida) inserta la fila
+	@Override
+	public void save(String key, StoredResponse response) {
+		try {
+			String headers = objectMapper.writeValueAsString(response.getHeaders());
+			int completed = jdbcTemplate.update("""
+					update idempotency_keys
+					   set status = ?, headers = ?, body = ?, created_at = ?
+					 where idempotency_key = ? and fingerprint = ? and status = ?
+					""", response.getStatus(), headers, response.getBody(), Timestamp.valueOf(response.getCreatedAt()),
+					key, response.getFingerprint(), PENDING);
+			if (completed == 0) {
+				jdbcTemplate.update("""
+						insert into idempotency_keys (idempotency_key, fingerprint, status, headers, body, created_at)
+						values (?, ?, ?, ?, ?, ?)
+						""", key, response.getFingerprint(), response.getStatus(), headers, response.getBody(),
+						Timestamp.valueOf(response.getCreatedAt()));
+			}
+		} catch (DuplicateKeyException e) {
+			// la reserva se dio por abandonada y otra instancia completó la misma clave: se conserva la primera
+			log.warn("Idempotency key {} was completed by another instance; keeping its response", key);
+			return;
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not serialize headers for idempotency key " + key, e);
+		}
+		memory.save(key, response);
+	}
+
+	public int purgeExpired() {
+		return jdbcTemplate.update("delete from idempotency_keys where created_at <= ?",
+				Timestamp.valueOf(expiredBefore()));
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	private boolean insertPending(String key, String fingerprint) {
+		try {
+			jdbcTemplate.update("""
+					insert into idempotency_keys (idempotency_key, fingerprint, status, headers, body, created_at)
+					values (?, ?, ?, '{}', null, ?)
+					""", key, fingerprint, PENDING, Timestamp.valueOf(LocalDateTime.now()));
+			return true;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+
+	private LocalDateTime expiredBefore() {
+		return LocalDateTime.now().minus(properties.getTtl());
+	}
+
+	private Map<String, List<String>> headers(String json) {
+		try {
+			return objectMapper.readValue(json, HEADERS);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Stored idempotency headers are not valid JSON", e);
+		}
+	}
+
+	private void purgeQuietly() {
+		try {
+			int purged = purgeExpired();
+			if (purged > 0) {
+				log.debug("Purged {} expired idempotency keys", purged);
+			}
+		} catch (RuntimeException e) {
+			log.warn("Idempotency key purge failed: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.bank_services.account.infrastructure.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Respuesta exitosa de una mutación, tal como se devuelve en un reintento con la misma Idempotency-Key
+@Getter
+@AllArgsConstructor
+public class StoredResponse {
+
+	// hash del request original: la misma clave con otro request se rechaza
+	private final String fingerprint;
+	private final int status;
+	private final Map<String, List<String>> headers;
+	// JSON; null si la respuesta no tenía body
+	private final String body;
+	private final LocalDateTime createdAt;
+}
@@ -0,0 +1,28 @@
+package com.bank_services.account.infrastructure.importer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.import")
+public class AccountImportProperties {
+
+	// hilos que escriben chunks en la base
+	private int workers = 4;
+
+	// chunks listos esperando worker; con la cola llena el lector se bloquea
+	private int queueCapacity = 4;
+
+	private int chunkSize = 500;
+
+	// importaciones de archivo que se leen en paralelo
+	private int fileReaders = 2;
+
+	private int maxErrors = 100;
+
+	private int maxJobs = 50;
+
+	// sólo se importan archivos dentro de este directorio
+	private String baseDir = "imports";
+}
@@ -0,0 +1,240 @@
+package com.bank_services.account.infrastructure.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
+import com.bank_services.account.domain.exception.ResourceNotFoundException;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.BatchItemResult;
+import com.bank_services.account.domain.model.BatchItemStatus;
+import com.bank_services.account.domain.service.AccountBatchService;
+import com.bank_services.account.infrastructure.web.AccountRequestMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Importación masiva en streaming: un lector parsea el archivo línea a línea, arma chunks y los entrega a un pool
+ * acotado de workers que los escriben vía {@link AccountBatchService}. Los chunks en vuelo están limitados por un
+ * semáforo, así que la memoria usada no depende del tamaño del archivo.
+ */
+@Service
+public class AccountImportService {
+
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	private final AccountBatchService batchService;
+	private final AccountRequestMapper requestMapper;
+	private final ObjectReader objectReader;
+	private final AccountImportProperties properties;
+
+	private final ExecutorService workers;
+	private final ExecutorService fileReaders;
+	private final Semaphore chunkPermits;
+	private final Map<UUID, ImportJob> jobs;
+
+	public AccountImportService(AccountBatchService batchService, AccountRequestMapper requestMapper,
+			ObjectMapper objectMapper, AccountImportProperties properties,
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		this.batchService = batchService;
+		this.requestMapper = requestMapper;
+		this.objectReader = objectMapper.reader();
+		this.properties = properties;
+		// con virtual threads el tamaño del pool sigue acotando la concurrencia contra la base
+		this.workers = Executors.newFixedThreadPool(properties.getWorkers(),
+				threadFactory("account-import-worker-", virtualThreads));
+		this.fileReaders = Executors.newFixedThreadPool(properties.getFileReaders(),
+				threadFactory("account-import-reader-", virtualThreads));
+		this.chunkPermits = new Semaphore(properties.getWorkers() + properties.getQueueCapacity());
+		this.jobs = new LinkedHashMap<>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<UUID, ImportJob> eldest) {
+				return size() > properties.getMaxJobs();
+			}
+		};
+	}
+
+	// Importa el stream en el hilo que llama; devuelve el job ya terminado
+	public ImportJob importStream(ImportFormat format, InputStream in, String source) {
+		ImportJob job = register(format, source);
+		run(job, format, in);
+		return job;
+	}
+
+	// Importa un archivo local en segundo plano; el progreso se consulta por el id del job
+	public ImportJob importFile(String path, ImportFormat format) {
+		Path file = resolveFile(path);
+		ImportFormat effectiveFormat = format != null ? format
+				: file.getFileName().toString().toLowerCase().endsWith(".csv") ? ImportFormat.CSV : ImportFormat.NDJSON;
+		ImportJob job = register(effectiveFormat, file.toString());
+		fileReaders.execute(() -> {
+			try (InputStream in = Files.newInputStream(file)) {
+				run(job, effectiveFormat, in);
+			} catch (IOException e) {
+				job.fail(e.getMessage());
+			}
+		});
+		return job;
+	}
+
+	public Optional<ImportJob> findJob(UUID id) {
+		synchronized (jobs) {
+			return Optional.ofNullable(jobs.get(id));
+		}
+	}
+
+	public List<ImportJob> recentJobs() {
+		synchronized (jobs) {
+			return new ArrayList<>(jobs.values());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		fileReaders.shutdownNow();
+		workers.shutdownNow();
+	}
+
+	private static ThreadFactory threadFactory(String prefix, boolean virtual) {
+		return virtual ? Thread.ofVirtual().name(prefix, 0).factory() : Thread.ofPlatform().name(prefix, 0).factory();
+	}
+
+	private ImportJob register(ImportFormat format, String source) {
+		ImportJob job = new ImportJob(format, source, properties.getMaxErrors());
+		synchronized (jobs) {
+			jobs.put(job.getId(), job);
+		}
+		return job;
+	}
+
+	private Path resolveFile(String path) {
+		Path baseDir = Path.of(properties.getBaseDir()).toAbsolutePath().normalize();
+		Path file = baseDir.resolve(path).normalize();
+		if (!file.startsWith(baseDir)) {
+			throw new InvalidAccountOperationException("Import files must be inside the import directory");
+		}
+		if (!Files.isRegularFile(file) || !Files.isReadable(file)) {
+			throw new ResourceNotFoundException("Import file %s not found".formatted(path));
+		}
+		try {
+			// los symlinks se resuelven para que no apunten fuera del directorio permitido
+			if (!file.toRealPath().startsWith(baseDir.toRealPath())) {
+				throw new InvalidAccountOperationException("Import files must be inside the import directory");
+			}
+			return file;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void run(ImportJob job, ImportFormat format, InputStream in) {
+		job.start();
+		int chunkSize = Math.max(1, properties.getChunkSize());
+		List<BankAccount> chunk = new ArrayList<>(chunkSize);
+		long[] lines = new long[chunkSize];
+		try (RecordReader reader = open(format, in)) {
+			ParsedRecord record;
+			while ((record = reader.next()) != null) {
+				job.recordRead();
+				String error = record.getError() != null ? record.getError()
+						: requestMapper.describeViolations(record.getRequest());
+				if (error != null) {
+					String cbu = record.getRequest() != null ? record.getRequest().getCbu() : null;
+					job.recordRejected(record.getLine(), cbu, BatchItemStatus.INVALID, error);
+					continue;
+				}
+				lines[chunk.size()] = record.getLine();
+				chunk.add(requestMapper.toDomainForCreate(record.getRequest()));
+				if (chunk.size() == chunkSize) {
+					submit(job, chunk, lines);
+					chunk = new ArrayList<>(chunkSize);
+					lines = new long[chunkSize];
+				}
+			}
+			if (!chunk.isEmpty()) {
+				submit(job, chunk, lines);
+			}
+			job.awaitChunks();
+			job.complete();
+		} catch (IOException | UncheckedIOException | RejectedExecutionException e) {
+			job.awaitChunks();
+			job.fail(e.getMessage());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			job.awaitChunks();
+			job.fail("Import interrupted");
+		}
+	}
+
+	private RecordReader open(ImportFormat format, InputStream in) {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8),
+				READ_BUFFER_SIZE);
+		return format == ImportFormat.CSV ? new CsvRecordReader(reader) : new NdjsonRecordReader(reader, objectReader);
+	}
+
+	private void submit(ImportJob job, List<BankAccount> chunk, long[] lines) throws InterruptedException {
+		// backpressure: sin permisos libres el lector se bloquea hasta que un worker termine un chunk
+		if (!chunkPermits.tryAcquire()) {
+			long start = System.nanoTime();
+			chunkPermits.acquire();
+			job.recordBackpressure(System.nanoTime() - start);
+		}
+		job.chunkSubmitted();
+		try {
+			workers.execute(() -> {
+				try {
+					write(job, chunk, lines);
+				} finally {
+					chunkPermits.release();
+					job.chunkDone();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			chunkPermits.release();
+			job.chunkDone();
+			throw e;
+		}
+	}
+
+	private void write(ImportJob job, List<BankAccount> chunk, long[] lines) {
+		List<BatchItemResult> results;
+		try {
+			results = batchService.createAll(chunk);
+		} catch (RuntimeException e) {
+			for (int i = 0; i < chunk.size(); i++) {
+				job.recordRejected(lines[i], chunk.get(i).getCbu(), BatchItemStatus.FAILED, e.getMessage());
+			}
+			return;
+		}
+		for (int i = 0; i < results.size(); i++) {
+			BatchItemResult result = results.get(i);
+			if (result.getStatus() == BatchItemStatus.CREATED) {
+				job.recordCreated();
+			} else {
+				job.recordRejected(lines[i], chunk.get(i).getCbu(), result.getStatus(), result.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package com.bank_services.account.infrastructure.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.bank_services.account.application.dto.BankAccountRequest;
+import com.bank_services.account.domain.model.Currency;
+
+/**
+ * CSV con encabezado (en cualquier orden): accountNumber, cbu, ownerName, ownerDocument, currency, balance,
+ * branchCode. Admite campos entre comillas dobles con {@code ""} como escape; no admite saltos de línea dentro de un
+ * campo.
+ */
+public class CsvRecordReader implements RecordReader {
+
+	private static final char SEPARATOR = ',';
+	private static final char QUOTE = '"';
+
+	private final BufferedReader in;
+	private Map<String, Integer> columns;
+	private long line;
+
+	public CsvRecordReader(BufferedReader in) {
+		this.in = in;
+	}
+
+	@Override
+	public ParsedRecord next() throws IOException {
+		if (columns == null && !readHeader()) {
+			return null;
+		}
+		String text;
+		while ((text = in.readLine()) != null) {
+			line++;
+			if (text.isBlank()) {
+				continue;
+			}
+			List<String> fields = split(text);
+			if (fields == null) {
+				return ParsedRecord.malformed(line, "Malformed CSV record: unterminated quoted field");
+			}
+			return toRecord(fields);
+		}
+		return null;
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+	private boolean readHeader() throws IOException {
+		String header = in.readLine();
+		if (header == null) {
+			return false;
+		}
+		line++;
+		List<String> names = split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+		if (names == null) {
+			throw new IOException("Malformed CSV header");
+		}
+		columns = new HashMap<>();
+		for (int i = 0; i < names.size(); i++) {
+			columns.put(names.get(i).trim(), i);
+		}
+		return true;
+	}
+
+	private ParsedRecord toRecord(List<String> fields) {
+		BankAccountRequest request = new BankAccountRequest();
+		request.setAccountNumber(field(fields, "accountNumber"));
+		request.setCbu(field(fields, "cbu"));
+		request.setOwnerName(field(fields, "ownerName"));
+		request.setOwnerDocument(field(fields, "ownerDocument"));
+		request.setBranchCode(field(fields, "branchCode"));
+
+		String currency = field(fields, "currency");
+		String balance = field(fields, "balance");
+		try {
+			request.setCurrency(currency == null ? null : Currency.valueOf(currency));
+			request.setBalance(balance == null ? null : new BigDecimal(balance));
+		} catch (IllegalArgumentException e) {
+			return ParsedRecord.malformed(line, "Malformed CSV record: invalid currency or balance");
+		}
+		return ParsedRecord.of(line, request);
+	}
+
+	// Campo vacío o ausente se interpreta como null, igual que una propiedad faltante en JSON
+	private String field(List<String> fields, String name) {
+		Integer index = columns.get(name);
+		if (index == null || index >= fields.size()) {
+			return null;
+		}
+		String value = fields.get(index).trim();
+		return value.isEmpty() ? null : value;
+	}
+
+	// null si hay una comilla sin cerrar
+	static List<String> split(String text) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (quoted) {
+				if (c == QUOTE) {
+					if (i + 1 < text.length() && text.charAt(i + 1) == QUOTE) {
+						current.append(QUOTE);
+						i++;
+					} else {
+						quoted = false;
+					}
+				} else {
+					current.append(c);
+				}
+			} else if (c == QUOTE) {
+				quoted = true;
+			} else if (c == SEPARATOR) {
+				fields.add(current.toString());
+				current.setLength(0);
+			} else {
+				current.append(c);
+			}
+		}
+		if (quoted) {
+			return null;
+		}
+		fields.add(current.toString());
+		return fields;
+	}
+}
@@ -0,0 +1,16 @@
+package com.bank_services.account.infrastructure.importer;
+
+import com.bank_services.account.domain.model.BatchItemStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportError {
+
+	private final long line;
+	private final String cbu;
+	private final BatchItemStatus status;
+	private final String message;
+}
@@ -0,0 +1,5 @@
+package com.bank_services.account.infrastructure.importer;
+
+public enum ImportFormat {
+	NDJSON, CSV
+}
@@ -0,0 +1,143 @@
+package com.bank_services.account.infrastructure.importer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.bank_services.account.domain.model.BatchItemStatus;
+
+import lombok.Getter;
+
+/**
+ * Estado y progreso de una importación. Los contadores se actualizan desde el hilo lector y los workers; sólo se
+ * conservan los primeros {@code maxErrors} errores para que la memoria no dependa del tamaño del archivo.
+ */
+public class ImportJob {
+
+	@Getter
+	private final UUID id = UUID.randomUUID();
+	@Getter
+	private final ImportFormat format;
+	@Getter
+	private final String source;
+	@Getter
+	private final LocalDateTime createdAt = LocalDateTime.now();
+
+	@Getter
+	private volatile ImportJobStatus status = ImportJobStatus.PENDING;
+	@Getter
+	private volatile LocalDateTime startedAt;
+	@Getter
+	private volatile LocalDateTime finishedAt;
+	@Getter
+	private volatile String failureReason;
+
+	private final LongAdder read = new LongAdder();
+	private final LongAdder created = new LongAdder();
+	private final LongAdder duplicates = new LongAdder();
+	private final LongAdder invalid = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	// tiempo que el lector estuvo frenado esperando que los workers liberen lugar
+	private final LongAdder backpressureNanos = new LongAdder();
+
+	private final int maxErrors;
+	private final AtomicInteger errorCount = new AtomicInteger();
+	private final ConcurrentLinkedQueue<ImportError> errors = new ConcurrentLinkedQueue<>();
+
+	// el lector es la parte inicial; cada chunk en vuelo se registra hasta terminar
+	private final Phaser inFlight = new Phaser(1);
+
+	public ImportJob(ImportFormat format, String source, int maxErrors) {
+		this.format = format;
+		this.source = source;
+		this.maxErrors = maxErrors;
+	}
+
+	public long getRead() {
+		return read.sum();
+	}
+
+	public long getCreated() {
+		return created.sum();
+	}
+
+	public long getDuplicates() {
+		return duplicates.sum();
+	}
+
+	public long getInvalid() {
+		return invalid.sum();
+	}
+
+	public long getFailed() {
+		return failed.sum();
+	}
+
+	public long getBackpressureMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(backpressureNanos.sum());
+	}
+
+	public List<ImportError> getErrors() {
+		return List.copyOf(errors);
+	}
+
+	public boolean isFinished() {
+		return status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED;
+	}
+
+	void start() {
+		startedAt = LocalDateTime.now();
+		status = ImportJobStatus.RUNNING;
+	}
+
+	void complete() {
+		finishedAt = LocalDateTime.now();
+		status = ImportJobStatus.COMPLETED;
+	}
+
+	void fail(String reason) {
+		failureReason = reason;
+		finishedAt = LocalDateTime.now();
+		status = ImportJobStatus.FAILED;
+	}
+
+	void recordRead() {
+		read.increment();
+	}
+
+	void recordCreated() {
+		created.increment();
+	}
+
+	void recordRejected(long line, String cbu, BatchItemStatus itemStatus, String message) {
+		switch (itemStatus) {
+		case DUPLICATE -> duplicates.increment();
+		case INVALID -> invalid.increment();
+		default -> failed.increment();
+		}
+		if (errorCount.getAndIncrement() < maxErrors) {
+			errors.add(new ImportError(line, cbu, itemStatus, message));
+		}
+	}
+
+	void recordBackpressure(long nanos) {
+		backpressureNanos.add(nanos);
+	}
+
+	void chunkSubmitted() {
+		inFlight.register();
+	}
+
+	void chunkDone() {
+		inFlight.arriveAndDeregister();
+	}
+
+	void awaitChunks() {
+		inFlight.arriveAndAwaitAdvance();
+	}
+}
@@ -0,0 +1,5 @@
+package com.bank_services.account.infrastructure.importer;
+
+public enum ImportJobStatus {
+	PENDING, RUNNING, COMPLETED, FAILED
+}
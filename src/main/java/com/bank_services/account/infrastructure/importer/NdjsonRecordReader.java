@@ -0,0 +1,42 @@
+package com.bank_services.account.infrastructure.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.bank_services.account.application.dto.BankAccountRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+public class NdjsonRecordReader implements RecordReader {
+
+	private final BufferedReader in;
+	private final ObjectReader objectReader;
+	private long line;
+
+	public NdjsonRecordReader(BufferedReader in, ObjectReader objectReader) {
+		this.in = in;
+		this.objectReader = objectReader.forType(BankAccountRequest.class);
+	}
+
+	@Override
+	public ParsedRecord next() throws IOException {
+		String text;
+		while ((text = in.readLine()) != null) {
+			line++;
+			if (text.isBlank()) {
+				continue;
+			}
+			try {
+				return ParsedRecord.of(line, objectReader.readValue(text));
+			} catch (JsonProcessingException e) {
+				return ParsedRecord.malformed(line, "Malformed JSON record: " + e.getOriginalMessage());
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+}
@@ -0,0 +1,26 @@
+package com.bank_services.account.infrastructure.importer;
+
+import com.bank_services.account.application.dto.BankAccountRequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Registro leído de un archivo de importación: o bien un request, o bien el error de parseo de la línea.
+ */
+@Getter
+@AllArgsConstructor
+public class ParsedRecord {
+
+	private final long line;
+	private final BankAccountRequest request;
+	private final String error;
+
+	public static ParsedRecord of(long line, BankAccountRequest request) {
+		return new ParsedRecord(line, request, null);
+	}
+
+	public static ParsedRecord malformed(long line, String error) {
+		return new ParsedRecord(line, null, error);
+	}
+}
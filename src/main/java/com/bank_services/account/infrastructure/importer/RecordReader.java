@@ -0,0 +1,13 @@
+package com.bank_services.account.infrastructure.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Lee registros de a uno desde un stream; nunca materializa el archivo completo.
+ */
+public interface RecordReader extends Closeable {
+
+	// null al llegar al final del stream
+	ParsedRecord next() throws IOException;
+}
@@ -0,0 +1,15 @@
+package com.bank_services.account.infrastructure.json;
+
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.infrastructure.error.ApiError;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+// Registrado como bean, Spring Boot lo agrega al ObjectMapper de la aplicación (MVC, exportación, SSE)
+public class AccountJsonModule extends SimpleModule {
+
+	public AccountJsonModule() {
+		super("account-json");
+		addSerializer(BankAccountResponse.class, new BankAccountResponseSerializer());
+		addSerializer(ApiError.class, new ApiErrorSerializer());
+	}
+}
@@ -0,0 +1,23 @@
+package com.bank_services.account.infrastructure.json;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.json")
+public class AccountJsonProperties {
+
+	public enum BufferPool {
+		// BOUNDED con virtual threads, THREAD_LOCAL (el default de Jackson) con hilos de plataforma
+		AUTO, THREAD_LOCAL, BOUNDED
+	}
+
+	// serializadores escritos a mano para BankAccountResponse y ApiError; false vuelve al BeanSerializer de Jackson
+	private boolean fastSerializers = true;
+
+	private BufferPool bufferPool = BufferPool.AUTO;
+
+	// buffers de lectura/escritura que conserva el pool BOUNDED
+	private int bufferPoolSize = 256;
+}
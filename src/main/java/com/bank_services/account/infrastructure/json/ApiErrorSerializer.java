@@ -0,0 +1,36 @@
+package com.bank_services.account.infrastructure.json;
+
+import java.io.IOException;
+
+import com.bank_services.account.infrastructure.error.ApiError;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+// Cuerpo de todas las respuestas de error; mismo JSON que el BeanSerializer, comparado en AccountJsonModuleTest
+public class ApiErrorSerializer extends StdSerializer<ApiError> {
+
+	private static final SerializedString TIMESTAMP = JsonWrites.name("timestamp");
+	private static final SerializedString STATUS = JsonWrites.name("status");
+	private static final SerializedString ERROR = JsonWrites.name("error");
+	private static final SerializedString MESSAGE = JsonWrites.name("message");
+	private static final SerializedString PATH = JsonWrites.name("path");
+
+	public ApiErrorSerializer() {
+		super(ApiError.class);
+	}
+
+	@Override
+	public void serialize(ApiError error, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		char[] scratch = JsonWrites.scratch();
+		gen.writeStartObject(error);
+		JsonWrites.writeDateTime(gen, provider, TIMESTAMP, error.getTimestamp(), scratch);
+		gen.writeFieldName(STATUS);
+		gen.writeNumber(error.getStatus());
+		JsonWrites.writeString(gen, ERROR, error.getError());
+		JsonWrites.writeString(gen, MESSAGE, error.getMessage());
+		JsonWrites.writeString(gen, PATH, error.getPath());
+		gen.writeEndObject();
+	}
+}
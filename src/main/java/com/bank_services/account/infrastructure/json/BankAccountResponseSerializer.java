@@ -0,0 +1,63 @@
+package com.bank_services.account.infrastructure.json;
+
+import java.io.IOException;
+
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Mismo JSON que el BeanSerializer de Jackson (propiedades en el orden de declaración, nulos incluidos) sin reflexión
+ * ni búsqueda de serializadores por propiedad. Si se agrega un campo a {@link BankAccountResponse} hay que agregarlo
+ * acá: {@code AccountJsonModuleTest} compara las dos salidas.
+ */
+public class BankAccountResponseSerializer extends StdSerializer<BankAccountResponse> {
+
+	private static final SerializedString ID = JsonWrites.name("id");
+	private static final SerializedString ACCOUNT_NUMBER = JsonWrites.name("accountNumber");
+	private static final SerializedString CBU = JsonWrites.name("cbu");
+	private static final SerializedString OWNER_NAME = JsonWrites.name("ownerName");
+	private static final SerializedString OWNER_DOCUMENT = JsonWrites.name("ownerDocument");
+	private static final SerializedString CURRENCY = JsonWrites.name("currency");
+	private static final SerializedString BALANCE = JsonWrites.name("balance");
+	private static final SerializedString STATUS = JsonWrites.name("status");
+	private static final SerializedString BRANCH_CODE = JsonWrites.name("branchCode");
+	private static final SerializedString CREATED_AT = JsonWrites.name("createdAt");
+	private static final SerializedString UPDATED_AT = JsonWrites.name("updatedAt");
+
+	private static final SerializedString[] CURRENCIES = JsonWrites.enumNames(Currency.class);
+	private static final SerializedString[] STATUSES = JsonWrites.enumNames(AccountStatus.class);
+
+	public BankAccountResponseSerializer() {
+		super(BankAccountResponse.class);
+	}
+
+	@Override
+	public void serialize(BankAccountResponse account, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+		char[] scratch = JsonWrites.scratch();
+		gen.writeStartObject(account);
+		JsonWrites.writeUuid(gen, ID, account.getId(), scratch);
+		JsonWrites.writeString(gen, ACCOUNT_NUMBER, account.getAccountNumber());
+		JsonWrites.writeString(gen, CBU, account.getCbu());
+		JsonWrites.writeString(gen, OWNER_NAME, account.getOwnerName());
+		JsonWrites.writeString(gen, OWNER_DOCUMENT, account.getOwnerDocument());
+		JsonWrites.writeEnum(gen, CURRENCY, account.getCurrency(), CURRENCIES);
+		gen.writeFieldName(BALANCE);
+		if (account.getBalance() == null) {
+			gen.writeNull();
+		} else {
+			// respeta WRITE_BIGDECIMAL_AS_PLAIN; BigDecimal guarda su toString
+			gen.writeNumber(account.getBalance());
+		}
+		JsonWrites.writeEnum(gen, STATUS, account.getStatus(), STATUSES);
+		JsonWrites.writeString(gen, BRANCH_CODE, account.getBranchCode());
+		JsonWrites.writeDateTime(gen, provider, CREATED_AT, account.getCreatedAt(), scratch);
+		JsonWrites.writeDateTime(gen, provider, UPDATED_AT, account.getUpdatedAt(), scratch);
+		gen.writeEndObject();
+	}
+}
@@ -0,0 +1,147 @@
+package com.bank_services.account.infrastructure.json;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Escrituras compartidas por los serializadores de la API. Producen exactamente lo mismo que los serializadores
+ * estándar de Jackson (UUID en minúsculas, fechas ISO-8601 de {@code JavaTimeModule}) pero sin crear un
+ * {@code String} intermedio: cada valor se arma en un {@code char[]} de trabajo por hilo, que se reutiliza entre
+ * objetos y respuestas (el generador copia los caracteres antes de volver, así que nada queda apuntando al arreglo).
+ */
+final class JsonWrites {
+
+	// lo más largo que se arma: un UUID (la fecha más larga, con nanos, ocupa 29)
+	private static final int SCRATCH_SIZE = 36;
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[SCRATCH_SIZE]);
+
+	private JsonWrites() {
+	}
+
+	static char[] scratch() {
+		return SCRATCH.get();
+	}
+
+	// Nombres de propiedad y valores de enum ya codificados en UTF-8 (SerializedString guarda los bytes)
+	static SerializedString name(String name) {
+		return new SerializedString(name);
+	}
+
+	static <E extends Enum<E>> SerializedString[] enumNames(Class<E> type) {
+		E[] constants = type.getEnumConstants();
+		SerializedString[] names = new SerializedString[constants.length];
+		for (E constant : constants) {
+			names[constant.ordinal()] = new SerializedString(constant.name());
+		}
+		return names;
+	}
+
+	static void writeEnum(JsonGenerator gen, SerializableString field, Enum<?> value, SerializedString[] names)
+			throws IOException {
+		gen.writeFieldName(field);
+		if (value == null) {
+			gen.writeNull();
+		} else {
+			gen.writeString(names[value.ordinal()]);
+		}
+	}
+
+	static void writeString(JsonGenerator gen, SerializableString field, String value) throws IOException {
+		gen.writeFieldName(field);
+		if (value == null) {
+			gen.writeNull();
+		} else {
+			gen.writeString(value);
+		}
+	}
+
+	static void writeUuid(JsonGenerator gen, SerializableString field, UUID value, char[] scratch)
+			throws IOException {
+		gen.writeFieldName(field);
+		if (value == null) {
+			gen.writeNull();
+			return;
+		}
+		long msb = value.getMostSignificantBits();
+		long lsb = value.getLeastSignificantBits();
+		hex(scratch, 0, msb >>> 32, 8);
+		scratch[8] = '-';
+		hex(scratch, 9, msb >>> 16, 4);
+		scratch[13] = '-';
+		hex(scratch, 14, msb, 4);
+		scratch[18] = '-';
+		hex(scratch, 19, lsb >>> 48, 4);
+		scratch[23] = '-';
+		hex(scratch, 24, lsb, 12);
+		gen.writeString(scratch, 0, 36);
+	}
+
+	// Con WRITE_DATES_AS_TIMESTAMPS o años fuera de 0..9999 delega en el serializador de JavaTimeModule
+	static void writeDateTime(JsonGenerator gen, SerializerProvider provider, SerializableString field,
+			LocalDateTime value, char[] scratch) throws IOException {
+		gen.writeFieldName(field);
+		if (value == null) {
+			gen.writeNull();
+			return;
+		}
+		if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+			provider.defaultSerializeValue(value, gen);
+			return;
+		}
+		int year = value.getYear();
+		if (year < 0 || year > 9999) {
+			gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+			return;
+		}
+		digits(scratch, 0, year, 4);
+		scratch[4] = '-';
+		digits(scratch, 5, value.getMonthValue(), 2);
+		scratch[7] = '-';
+		digits(scratch, 8, value.getDayOfMonth(), 2);
+		scratch[10] = 'T';
+		digits(scratch, 11, value.getHour(), 2);
+		scratch[13] = ':';
+		digits(scratch, 14, value.getMinute(), 2);
+		scratch[16] = ':';
+		digits(scratch, 17, value.getSecond(), 2);
+		int length = 19;
+		int nano = value.getNano();
+		if (nano != 0) {
+			// ISO_LOCAL_TIME: fracción sin ceros a la derecha
+			int width = 9;
+			while (nano % 10 == 0) {
+				nano /= 10;
+				width--;
+			}
+			scratch[length] = '.';
+			digits(scratch, length + 1, nano, width);
+			length += width + 1;
+		}
+		gen.writeString(scratch, 0, length);
+	}
+
+	private static void hex(char[] out, int offset, long value, int width) {
+		for (int i = offset + width - 1; i >= offset; i--) {
+			out[i] = HEX[(int) (value & 0xF)];
+			value >>>= 4;
+		}
+	}
+
+	private static void digits(char[] out, int offset, int value, int width) {
+		for (int i = offset + width - 1; i >= offset; i--) {
+			out[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.bank_services.account.infrastructure.ledger;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.ledger")
+public class AccountLedgerProperties {
+
+	// cada cuánto se revisan las cuentas con movimientos nuevos
+	private Duration snapshotInterval = Duration.ofSeconds(30);
+
+	// movimientos desde la última foto a partir de los cuales se guarda una nueva
+	private int snapshotMinEntries = 50;
+}
@@ -0,0 +1,144 @@
+package com.bank_services.account.infrastructure.ledger;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.bank_services.account.application.dto.AccountBalanceResponse;
+import com.bank_services.account.application.dto.LedgerEntryPage;
+import com.bank_services.account.application.dto.LedgerEntryResponse;
+import com.bank_services.account.application.port.AccountLedgerQueryPort;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.LedgerEntryType;
+import com.bank_services.account.domain.port.AccountLedgerPort;
+
+/**
+ * Tablas {@code account_ledger} y {@code account_balance_snapshot}. El seq de cada movimiento es la versión de la
+ * cuenta después de la escritura que lo originó, leída en el mismo {@code INSERT ... SELECT} con la fila todavía
+ * bloqueada: crece por cuenta en orden de confirmación, con huecos donde hubo cambios sin movimiento de saldo. Un saldo
+ * es la última foto con seq menor o igual más la suma de los movimientos posteriores hasta ese seq, dos lecturas por
+ * rango sobre la clave primaria.
+ */
+@Repository
+public class JdbcAccountLedger implements AccountLedgerPort, AccountLedgerQueryPort {
+
+	private static final String INSERT_OPENING = "insert into account_ledger (account_id, seq, entry_type, amount,"
+			+ " counterparty_id, created_at) values (?, ?, ?, ?, null, ?)";
+	private static final String INSERT_ENTRY = "insert into account_ledger (account_id, seq, entry_type, amount,"
+			+ " counterparty_id, created_at) select id, version, ?, ?, ?, ? from bank_accounts where id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	// cuentas con movimientos desde la última pasada de LedgerSnapshotter
+	private final Set<UUID> touched = ConcurrentHashMap.newKeySet();
+
+	public JdbcAccountLedger(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public void record(UUID accountId, LedgerEntryType type, BigDecimal amount, UUID counterpartyId) {
+		if (jdbcTemplate.update(INSERT_ENTRY, type.name(), amount, counterpartyId,
+				Timestamp.valueOf(LocalDateTime.now()), accountId) != 1) {
+			throw new IllegalStateException("BankAccount %s not found for ledger entry".formatted(accountId));
+		}
+		touched.add(accountId);
+	}
+
+	@Override
+	public void recordOpenings(List<BankAccount> accounts) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_OPENING, accounts.stream()
+				.map(account -> new Object[] { account.getId(), account.getVersion() == null ? 0L : account.getVersion(),
+						LedgerEntryType.OPENING.name(),
+						account.getBalance() == null ? BigDecimal.ZERO : account.getBalance(), now })
+				.toList());
+	}
+
+	@Override
+	public LedgerEntryPage findEntries(UUID accountId, Long after, int limit) {
+		BigDecimal balance = after == null ? BigDecimal.ZERO : balanceAt(accountId, after);
+		// una fila de más para saber si hay página siguiente
+		List<LedgerEntryResponse> items = new ArrayList<>(limit + 1);
+		List<Object[]> rows = jdbcTemplate.query("""
+				select seq, entry_type, amount, counterparty_id, created_at
+				  from account_ledger
+				 where account_id = ? and seq > ?
+				 order by seq
+				 fetch first ? rows only
+				""", (rs, rowNum) -> new Object[] { rs.getLong(1), rs.getString(2), rs.getBigDecimal(3),
+				rs.getObject(4, UUID.class), rs.getTimestamp(5).toLocalDateTime() },
+				accountId, after == null ? -1L : after, limit + 1);
+		for (int i = 0; i < Math.min(rows.size(), limit); i++) {
+			Object[] row = rows.get(i);
+			balance = balance.add((BigDecimal) row[2]);
+			items.add(new LedgerEntryResponse((Long) row[0], LedgerEntryType.valueOf((String) row[1]),
+					(BigDecimal) row[2], balance, (UUID) row[3], (LocalDateTime) row[4]));
+		}
+		Long nextCursor = rows.size() > limit ? items.get(limit - 1).getSeq() : null;
+		return new LedgerEntryPage(items, nextCursor);
+	}
+
+	@Override
+	public AccountBalanceResponse findBalance(UUID accountId, LocalDateTime at) {
+		Long seq = at == null
+				? jdbcTemplate.queryForObject("select max(seq) from account_ledger where account_id = ?", Long.class,
+						accountId)
+				: jdbcTemplate.queryForObject(
+						"select max(seq) from account_ledger where account_id = ? and created_at <= ?", Long.class,
+						accountId, Timestamp.valueOf(at));
+		return new AccountBalanceResponse(accountId, at, seq, seq == null ? BigDecimal.ZERO : balanceAt(accountId, seq));
+	}
+
+	// Saldo después del movimiento seq
+	public BigDecimal balanceAt(UUID accountId, long seq) {
+		List<Object[]> snapshot = jdbcTemplate.query("""
+				select seq, balance
+				  from account_balance_snapshot
+				 where account_id = ? and seq <= ?
+				 order by seq desc
+				 fetch first 1 rows only
+				""", (rs, rowNum) -> new Object[] { rs.getLong(1), rs.getBigDecimal(2) }, accountId, seq);
+		long from = snapshot.isEmpty() ? -1L : (Long) snapshot.get(0)[0];
+		BigDecimal base = snapshot.isEmpty() ? BigDecimal.ZERO : (BigDecimal) snapshot.get(0)[1];
+		BigDecimal tail = jdbcTemplate.queryForObject(
+				"select sum(amount) from account_ledger where account_id = ? and seq > ? and seq <= ?",
+				BigDecimal.class, accountId, from, seq);
+		return tail == null ? base : base.add(tail);
+	}
+
+	/**
+	 * Guarda una foto del saldo en el último movimiento confirmado si desde la foto anterior hay al menos
+	 * {@code minEntries} movimientos. Los movimientos de una cuenta se confirman en orden de seq, así que ninguno
+	 * posterior puede quedar por debajo de la foto.
+	 */
+	public boolean snapshot(UUID accountId, int minEntries) {
+		Long last = jdbcTemplate.queryForObject(
+				"select max(seq) from account_balance_snapshot where account_id = ?", Long.class, accountId);
+		long from = last == null ? -1L : last;
+		Object[] tail = jdbcTemplate.queryForObject(
+				"select count(*), max(seq) from account_ledger where account_id = ? and seq > ?",
+				(rs, rowNum) -> new Object[] { rs.getLong(1), rs.getObject(2, Long.class) }, accountId, from);
+		if ((Long) tail[0] < Math.max(1, minEntries)) {
+			return false;
+		}
+		long seq = (Long) tail[1];
+		jdbcTemplate.update("""
+				insert into account_balance_snapshot (account_id, seq, balance, created_at)
+				select account_id, seq, ?, created_at from account_ledger where account_id = ? and seq = ?
+				""", balanceAt(accountId, seq), accountId, seq);
+		return true;
+	}
+
+	// Vista viva: LedgerSnapshotter quita las cuentas que ya fotografió
+	Set<UUID> touchedAccounts() {
+		return touched;
+	}
+}
@@ -0,0 +1,66 @@
+package com.bank_services.account.infrastructure.ledger;
+
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Guarda fotos del saldo de las cuentas con movimientos recientes, para que las consultas de saldo sumen a lo sumo
+ * {@code account.ledger.snapshot-min-entries} movimientos desde la última foto.
+ */
+public class LedgerSnapshotter implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(LedgerSnapshotter.class);
+
+	private final JdbcAccountLedger ledger;
+	private final AccountLedgerProperties properties;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "account-ledger-snapshotter");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public LedgerSnapshotter(JdbcAccountLedger ledger, AccountLedgerProperties properties) {
+		this.ledger = ledger;
+		this.properties = properties;
+	}
+
+	public void start() {
+		long period = properties.getSnapshotInterval().toMillis();
+		scheduler.scheduleWithFixedDelay(this::snapshotQuietly, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	// Cantidad de fotos guardadas; las cuentas con pocos movimientos quedan para la próxima pasada
+	public int snapshotTouched() {
+		int written = 0;
+		for (Iterator<UUID> it = ledger.touchedAccounts().iterator(); it.hasNext();) {
+			if (ledger.snapshot(it.next(), properties.getSnapshotMinEntries())) {
+				it.remove();
+				written++;
+			}
+		}
+		return written;
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	private void snapshotQuietly() {
+		try {
+			int written = snapshotTouched();
+			if (written > 0) {
+				log.debug("Wrote {} ledger balance snapshots", written);
+			}
+		} catch (RuntimeException e) {
+			// las cuentas siguen marcadas; la próxima pasada lo vuelve a intentar
+			log.warn("Ledger snapshot pass failed: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.bank_services.account.infrastructure.logging;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+import static net.logstash.logback.argument.StructuredArguments.v;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Sink;
+
+/**
+ * Sink de Logbook que no formatea ni escribe en el hilo del request: copia el intercambio a una cola acotada y un
+ * hilo dedicado lo loguea. Si la cola está llena la entrada se descarta y se cuenta, nunca se bloquea el request.
+ */
+public class AsyncHttpLogSink implements Sink, AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger("http.access");
+
+	private final int maxBodySize;
+	private final BlockingQueue<HttpLogEntry> queue;
+	private final Consumer<HttpLogEntry> writer;
+	private final Thread worker;
+
+	private final LongAdder written = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private volatile boolean running = true;
+
+	public AsyncHttpLogSink(HttpLoggingProperties properties) {
+		this(properties, AsyncHttpLogSink::log);
+	}
+
+	AsyncHttpLogSink(HttpLoggingProperties properties, Consumer<HttpLogEntry> writer) {
+		this.maxBodySize = properties.getMaxBodySize();
+		this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+		this.writer = writer;
+		this.worker = Thread.ofPlatform().daemon().name("http-log-writer").start(this::drain);
+	}
+
+	@Override
+	public boolean isActive() {
+		return running;
+	}
+
+	// SamplingStrategy no escribe requests sueltos; la entrada se arma con la respuesta
+	@Override
+	public void write(Precorrelation precorrelation, HttpRequest request) {
+	}
+
+	@Override
+	public void write(Correlation correlation, HttpRequest request, HttpResponse response) throws IOException {
+		if (!queue.offer(HttpLogEntry.capture(correlation, request, response, maxBodySize))) {
+			dropped.increment();
+		}
+	}
+
+	public int getQueueSize() {
+		return queue.size();
+	}
+
+	public long getWritten() {
+		return written.sum();
+	}
+
+	public long getDropped() {
+		return dropped.sum();
+	}
+
+	public long getFailed() {
+		return failed.sum();
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+		running = false;
+		worker.join(TimeUnit.SECONDS.toMillis(5));
+	}
+
+	private void drain() {
+		try {
+			while (running || !queue.isEmpty()) {
+				HttpLogEntry entry = queue.poll(100, TimeUnit.MILLISECONDS);
+				if (entry == null) {
+					continue;
+				}
+				try {
+					writer.accept(entry);
+					written.increment();
+				} catch (RuntimeException e) {
+					failed.increment();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// Los valores van como campos JSON vía LogstashEncoder; el mensaje queda legible en consola
+	private static void log(HttpLogEntry entry) {
+		log.info("{} {} -> {} in {}ms", v("method", entry.getMethod()), v("path", entry.getPath()),
+				v("status", entry.getStatus()), v("duration_ms", entry.getDurationMillis()),
+				kv("correlation", entry.getCorrelationId()), kv("query", entry.getQuery()),
+				kv("request_body", entry.getRequestBody()), kv("response_body", entry.getResponseBody()));
+	}
+}
@@ -0,0 +1,147 @@
+package com.bank_services.account.infrastructure.logging;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+import org.zalando.logbook.Logbook;
+import org.zalando.logbook.servlet.LogbookFilter;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * LogbookFilter copia en memoria todo lo que se escribe en la respuesta cuando el body se loguea (en modo errors-only,
+ * todas las respuestas). Este filtro lo envuelve para que la copia no pase de max-body-size mientras se escribe: los
+ * primeros bytes van por el stream de Logbook (cliente + copia) y el resto directo al stream del contenedor.
+ */
+public class CappedLogbookFilter implements Filter {
+
+	private final LogbookFilter delegate;
+	// un byte más que el límite para que HttpLogEntry sepa que el body se cortó
+	private final int captureLimit;
+
+	public CappedLogbookFilter(Logbook logbook, int maxBodySize) {
+		this.delegate = new LogbookFilter(logbook);
+		this.captureLimit = maxBodySize + 1;
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		delegate.doFilter(request, response, (logbookRequest, logbookResponse) -> {
+			CappedResponse capped = new CappedResponse((HttpServletResponseWrapper) logbookResponse, captureLimit);
+			chain.doFilter(logbookRequest, capped);
+			// Logbook toma la copia al volver de la cadena; lo que quede en el writer tiene que estar escrito antes
+			capped.flushWriter();
+		});
+	}
+
+	static class CappedResponse extends HttpServletResponseWrapper {
+
+		private final HttpServletResponse original;
+		private final int limit;
+		private CappedOutputStream output;
+		private PrintWriter writer;
+
+		// logbookResponse es la LocalResponse de Logbook; su getResponse() es la respuesta del contenedor
+		CappedResponse(HttpServletResponseWrapper logbookResponse, int limit) {
+			super(logbookResponse);
+			this.original = (HttpServletResponse) logbookResponse.getResponse();
+			this.limit = limit;
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			if (output == null) {
+				output = new CappedOutputStream(super.getOutputStream(), original.getOutputStream(), limit);
+			}
+			return output;
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			if (writer == null) {
+				writer = new PrintWriter(new OutputStreamWriter(getOutputStream(),
+						Charset.forName(getCharacterEncoding())));
+			}
+			return writer;
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			flushWriter();
+			super.flushBuffer();
+		}
+
+		void flushWriter() {
+			if (writer != null) {
+				writer.flush();
+			}
+		}
+	}
+
+	static class CappedOutputStream extends ServletOutputStream {
+
+		private final ServletOutputStream tee;
+		private final ServletOutputStream original;
+		private final int limit;
+		private long written;
+
+		CappedOutputStream(ServletOutputStream tee, ServletOutputStream original, int limit) {
+			this.tee = tee;
+			this.original = original;
+			this.limit = limit;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (written < limit) {
+				tee.write(b);
+			} else {
+				original.write(b);
+			}
+			written++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			int teed = (int) Math.min(len, Math.max(0, limit - written));
+			if (teed > 0) {
+				tee.write(b, off, teed);
+			}
+			if (len > teed) {
+				original.write(b, off + teed, len - teed);
+			}
+			written += len;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			tee.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			tee.close();
+		}
+
+		@Override
+		public boolean isReady() {
+			return original.isReady();
+		}
+
+		@Override
+		public void setWriteListener(WriteListener listener) {
+			original.setWriteListener(listener);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.bank_services.account.infrastructure.logging;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpMessage;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Copia inmutable de un intercambio HTTP. Se arma en el hilo del request (los objetos de Logbook quedan atados al
+ * request del servlet) y se formatea después en el hilo de escritura.
+ */
+@Getter
+@AllArgsConstructor
+public class HttpLogEntry {
+
+	private final String correlationId;
+	private final String method;
+	private final String path;
+	private final String query;
+	private final int status;
+	private final long durationMillis;
+	private final String requestBody;
+	private final String responseBody;
+
+	static HttpLogEntry capture(Correlation correlation, HttpRequest request, HttpResponse response, int maxBodySize)
+			throws IOException {
+		return new HttpLogEntry(correlation.getId(), request.getMethod(), request.getPath(), request.getQuery(),
+				response.getStatus(), correlation.getDuration().toMillis(), body(request, maxBodySize),
+				body(response, maxBodySize));
+	}
+
+	// Corta en bytes antes de decodificar para no materializar bodies grandes como String. La copia de la respuesta ya
+	// viene cortada por CappedLogbookFilter en max-body-size + 1, así que no se conoce el tamaño real
+	static String body(HttpMessage message, int maxBodySize) throws IOException {
+		byte[] body = message.getBody();
+		if (body.length == 0) {
+			return null;
+		}
+		Charset charset = message.getCharset();
+		if (body.length <= maxBodySize) {
+			return new String(body, charset);
+		}
+		return new String(body, 0, maxBodySize, charset) + "...(truncated)";
+	}
+}
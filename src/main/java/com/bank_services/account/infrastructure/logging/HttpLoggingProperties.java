@@ -0,0 +1,38 @@
+package com.bank_services.account.infrastructure.logging;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.http-logging")
+public class HttpLoggingProperties {
+
+	private boolean enabled = true;
+
+	// fracción de requests que se loguean con body (0.0 - 1.0)
+	private double sampleRate = 0.1;
+
+	// tasa por patrón de path; el primer patrón que coincide reemplaza a sample-rate
+	private Map<String, Double> pathSampleRates = new LinkedHashMap<>();
+
+	// sólo se loguean las respuestas con status >= error-status
+	private boolean errorsOnly = false;
+
+	// las respuestas de error se loguean aunque el request no haya salido en la muestra
+	private boolean alwaysLogErrors = true;
+
+	private int errorStatus = 400;
+
+	private int maxBodySize = 2048;
+
+	private List<String> excludePaths = new ArrayList<>(List.of("/actuator/**", "/h2-console/**", "/api/v1/ops/**",
+			"/api/v1/accounts/imports/**", "/api/v1/accounts/batch", "/api/v1/accounts/changes"));
+
+	private int queueCapacity = 1024;
+}
@@ -0,0 +1,92 @@
+package com.bank_services.account.infrastructure.logging;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.util.AntPathMatcher;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.Sink;
+import org.zalando.logbook.Strategy;
+import org.zalando.logbook.attributes.AttributeExtractor;
+import org.zalando.logbook.attributes.HttpAttributes;
+
+/**
+ * Decide al inicio de cada request si entra en la muestra: sólo los muestreados bufferean bodies. Al final se escribe
+ * una única entrada si el request fue muestreado o si la respuesta es un error; los errores fuera de la muestra se
+ * loguean sin bodies, salvo en modo errors-only donde se guarda el body de la respuesta (CappedLogbookFilter limita esa
+ * copia a max-body-size mientras se escribe).
+ */
+public class SamplingStrategy implements Strategy, AttributeExtractor {
+
+	static final String SAMPLED = "sampled";
+
+	private final HttpLoggingProperties properties;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	// DefaultLogbook llama a process(request) e inmediatamente a extract(request) en el mismo hilo; la decisión
+	// viaja desde ahí como atributo del request
+	private final ThreadLocal<Boolean> decision = new ThreadLocal<>();
+
+	public SamplingStrategy(HttpLoggingProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public HttpRequest process(HttpRequest request) throws IOException {
+		boolean sampled = !properties.isErrorsOnly()
+				&& ThreadLocalRandom.current().nextDouble() < sampleRate(request.getPath());
+		decision.set(sampled);
+		return sampled ? request.withBody() : request.withoutBody();
+	}
+
+	@Override
+	public HttpAttributes extract(HttpRequest request) {
+		boolean sampled = Boolean.TRUE.equals(decision.get());
+		decision.remove();
+		return HttpAttributes.of(SAMPLED, sampled);
+	}
+
+	// Una sola entrada por intercambio, al terminar la respuesta
+	@Override
+	public void write(Precorrelation precorrelation, HttpRequest request, Sink sink) {
+	}
+
+	// LogbookFilter llama a este método antes de ejecutar la cadena: el status todavía no se conoce
+	@Override
+	public HttpResponse process(HttpRequest request, HttpResponse response) throws IOException {
+		return properties.isErrorsOnly() || isSampled(request) ? response.withBody() : response.withoutBody();
+	}
+
+	@Override
+	public void write(Correlation correlation, HttpRequest request, HttpResponse response, Sink sink)
+			throws IOException {
+		if (shouldWrite(request, response)) {
+			sink.write(correlation, request, response);
+		}
+	}
+
+	double sampleRate(String path) {
+		for (Map.Entry<String, Double> entry : properties.getPathSampleRates().entrySet()) {
+			if (pathMatcher.match(entry.getKey(), path)) {
+				return entry.getValue();
+			}
+		}
+		return properties.getSampleRate();
+	}
+
+	private boolean shouldWrite(HttpRequest request, HttpResponse response) {
+		boolean error = response.getStatus() >= properties.getErrorStatus();
+		if (properties.isErrorsOnly()) {
+			return error;
+		}
+		return isSampled(request) || (error && properties.isAlwaysLogErrors());
+	}
+
+	private static boolean isSampled(HttpRequest request) {
+		return Boolean.TRUE.equals(request.getAttributes().get(SAMPLED));
+	}
+}
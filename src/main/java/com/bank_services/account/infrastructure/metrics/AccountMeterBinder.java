@@ -0,0 +1,168 @@
+package com.bank_services.account.infrastructure.metrics;
+
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.bank_services.account.domain.model.LockStats;
+import com.bank_services.account.domain.service.AccountLockManager;
+import com.bank_services.account.infrastructure.cache.AccountCacheStats;
+import com.bank_services.account.infrastructure.cache.CachingAccountRepository;
+import com.bank_services.account.infrastructure.cbu.CbuBloomFilter;
+import com.bank_services.account.infrastructure.client.OutboundCalls;
+import com.bank_services.account.infrastructure.error.ApiErrorCounters;
+import com.bank_services.account.infrastructure.error.GlobalExceptionHandler;
+import com.bank_services.account.infrastructure.idempotency.IdempotentRequests;
+import com.bank_services.account.infrastructure.logging.AsyncHttpLogSink;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publica como métricas las estadísticas que ya exponen los endpoints de /api/v1/ops (cache de cuentas y locks) y
+ * las del log HTTP asíncrono, del cliente saliente y de las respuestas de error.
+ */
+@Component
+public class AccountMeterBinder implements MeterBinder {
+
+	private final AccountLockManager lockManager;
+	private final ObjectProvider<CachingAccountRepository> cache;
+	private final ObjectProvider<AsyncHttpLogSink> httpLog;
+	private final ObjectProvider<IdempotentRequests> idempotentRequests;
+	private final ObjectProvider<CbuBloomFilter> cbuFilter;
+	private final ObjectProvider<OutboundCalls> outboundCalls;
+	private final ObjectProvider<PoolingHttpClientConnectionManager> outboundPool;
+	private final ObjectProvider<GlobalExceptionHandler> exceptionHandler;
+
+	public AccountMeterBinder(AccountLockManager lockManager, ObjectProvider<CachingAccountRepository> cache,
+			ObjectProvider<AsyncHttpLogSink> httpLog, ObjectProvider<IdempotentRequests> idempotentRequests,
+			ObjectProvider<CbuBloomFilter> cbuFilter, ObjectProvider<OutboundCalls> outboundCalls,
+			ObjectProvider<PoolingHttpClientConnectionManager> outboundPool,
+			ObjectProvider<GlobalExceptionHandler> exceptionHandler) {
+		this.lockManager = lockManager;
+		this.cache = cache;
+		this.httpLog = httpLog;
+		this.idempotentRequests = idempotentRequests;
+		this.cbuFilter = cbuFilter;
+		this.outboundCalls = outboundCalls;
+		this.outboundPool = outboundPool;
+		this.exceptionHandler = exceptionHandler;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("account.locks.queue.depth", lockManager, m -> m.stats().getQueueDepth())
+				.description("Threads waiting for an account lock").register(registry);
+		FunctionCounter.builder("account.locks.acquisitions", lockManager, m -> m.stats().getAcquisitions())
+				.register(registry);
+		FunctionCounter.builder("account.locks.contended", lockManager, m -> m.stats().getContendedAcquisitions())
+				.description("Acquisitions that had to wait").register(registry);
+		FunctionCounter.builder("account.locks.timeouts", lockManager, m -> m.stats().getTimeouts())
+				.register(registry);
+		Gauge.builder("account.locks.wait.max", lockManager, m -> microsToSeconds(m.stats()))
+				.baseUnit("seconds").register(registry);
+
+		httpLog.ifAvailable(sink -> bindHttpLog(registry, sink));
+		idempotentRequests.ifAvailable(requests -> {
+			FunctionCounter.builder("account.idempotency.responses", requests, IdempotentRequests::storedCount)
+					.tag("outcome", "stored").register(registry);
+			FunctionCounter.builder("account.idempotency.responses", requests, IdempotentRequests::replayedCount)
+					.tag("outcome", "replayed").register(registry);
+		});
+		cbuFilter.ifAvailable(filter -> {
+			if (!filter.isActive()) {
+				return;
+			}
+			Gauge.builder("account.cbu.filter.size", filter, CbuBloomFilter::insertions).register(registry);
+			FunctionCounter.builder("account.cbu.filter.checks", filter, CbuBloomFilter::negatives)
+					.tag("result", "absent").register(registry);
+			FunctionCounter.builder("account.cbu.filter.checks", filter, CbuBloomFilter::positives)
+					.tag("result", "maybe").register(registry);
+		});
+		outboundCalls.ifAvailable(calls -> bindOutboundCalls(registry, calls));
+		outboundPool.ifAvailable(pool -> {
+			poolGauge(registry, pool, "leased", PoolStats::getLeased);
+			poolGauge(registry, pool, "available", PoolStats::getAvailable);
+			poolGauge(registry, pool, "pending", PoolStats::getPending);
+		});
+		exceptionHandler.ifAvailable(handler -> bindErrors(registry, handler.counters()));
+
+		CachingAccountRepository accounts = cache.getIfAvailable();
+		if (accounts == null) {
+			return;
+		}
+		Gauge.builder("account.cache.size", accounts, c -> c.stats().getSize()).tag("cache", "accounts")
+				.register(registry);
+		Gauge.builder("account.cache.size", accounts, c -> c.stats().getCbuIndexSize()).tag("cache", "cbu")
+				.register(registry);
+		counter(registry, accounts, "accounts", "hit", AccountCacheStats::getHits);
+		counter(registry, accounts, "accounts", "miss", AccountCacheStats::getMisses);
+		counter(registry, accounts, "cbu", "hit", AccountCacheStats::getCbuIndexHits);
+		counter(registry, accounts, "cbu", "miss", AccountCacheStats::getCbuIndexMisses);
+		FunctionCounter.builder("account.cache.evictions", accounts, c -> c.stats().getEvictions())
+				.tag("cache", "accounts").register(registry);
+		FunctionCounter.builder("account.cache.evictions", accounts, c -> c.stats().getCbuIndexEvictions())
+				.tag("cache", "cbu").register(registry);
+		FunctionCounter.builder("account.cache.expirations", accounts, c -> c.stats().getExpirations())
+				.tag("cache", "accounts").register(registry);
+	}
+
+	private static void bindHttpLog(MeterRegistry registry, AsyncHttpLogSink sink) {
+		Gauge.builder("account.http.log.queue", sink, AsyncHttpLogSink::getQueueSize)
+				.description("HTTP log entries waiting to be written").register(registry);
+		FunctionCounter.builder("account.http.log.entries", sink, AsyncHttpLogSink::getWritten)
+				.tag("outcome", "written").register(registry);
+		FunctionCounter.builder("account.http.log.entries", sink, AsyncHttpLogSink::getDropped)
+				.tag("outcome", "dropped").register(registry);
+		FunctionCounter.builder("account.http.log.entries", sink, AsyncHttpLogSink::getFailed)
+				.tag("outcome", "failed").register(registry);
+	}
+
+	private static void bindOutboundCalls(MeterRegistry registry, OutboundCalls calls) {
+		Gauge.builder("account.outbound.active", calls, OutboundCalls::activeCalls)
+				.description("Outbound calls holding a bulkhead permit").register(registry);
+		Gauge.builder("account.outbound.circuit.state", calls, c -> c.circuitState().ordinal())
+				.description("0 closed, 1 open, 2 half-open").register(registry);
+		FunctionCounter.builder("account.outbound.calls", calls, OutboundCalls::successCount)
+				.tag("outcome", "success").register(registry);
+		FunctionCounter.builder("account.outbound.calls", calls, OutboundCalls::failureCount)
+				.tag("outcome", "failure").register(registry);
+		FunctionCounter.builder("account.outbound.calls", calls, OutboundCalls::bulkheadRejectedCount)
+				.tag("outcome", "bulkhead_rejected").register(registry);
+		FunctionCounter.builder("account.outbound.calls", calls, OutboundCalls::circuitRejectedCount)
+				.tag("outcome", "circuit_rejected").register(registry);
+		FunctionCounter.builder("account.outbound.hedges", calls, OutboundCalls::hedgeCount).tag("result", "sent")
+				.register(registry);
+		FunctionCounter.builder("account.outbound.hedges", calls, OutboundCalls::hedgeWinCount).tag("result", "won")
+				.register(registry);
+	}
+
+	private static void bindErrors(MeterRegistry registry, ApiErrorCounters counters) {
+		for (ApiErrorCounters.Type type : ApiErrorCounters.Type.values()) {
+			FunctionCounter.builder("account.http.errors", counters, c -> c.count(type)).tag("type", type.tag())
+					.description("Error responses by type").register(registry);
+		}
+	}
+
+	private static void poolGauge(MeterRegistry registry, PoolingHttpClientConnectionManager pool, String state,
+			ToIntFunction<PoolStats> value) {
+		Gauge.builder("account.outbound.pool.connections", pool, p -> value.applyAsInt(p.getTotalStats()))
+				.tag("state", state).register(registry);
+	}
+
+	private static void counter(MeterRegistry registry, CachingAccountRepository accounts, String cacheName,
+			String result, ToLongFunction<AccountCacheStats> value) {
+		FunctionCounter.builder("account.cache.requests", accounts, c -> value.applyAsLong(c.stats()))
+				.tag("cache", cacheName).tag("result", result).register(registry);
+	}
+
+	private static double microsToSeconds(LockStats stats) {
+		return stats.getMaxWaitMicros() / 1_000_000.0;
+	}
+}
@@ -0,0 +1,113 @@
+package com.bank_services.account.infrastructure.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import com.bank_services.account.domain.exception.ConcurrentUpdateException;
+import com.bank_services.account.domain.exception.DuplicateResourceException;
+import com.bank_services.account.domain.exception.InsufficientFundsException;
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
+import com.bank_services.account.domain.exception.PreconditionFailedException;
+import com.bank_services.account.domain.exception.ResourceNotFoundException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Timers por capa (controller, servicios y puertos de repositorio y de lectura) etiquetados por clase, método y
+ * resultado. El tag {@code class} distingue la cache ({@code CachingAccountRepository}) del acceso a la base
+ * ({@code AccountRepositoryAdapter}).
+ */
+@Aspect
+@Component
+public class AccountMetricsAspect {
+
+	public static final String CONTROLLER_TIMER = "account.controller";
+	public static final String SERVICE_TIMER = "account.service";
+	public static final String REPOSITORY_TIMER = "account.repository";
+
+	public static final String OK = "ok";
+	public static final String NOT_FOUND = "not-found";
+	public static final String CONFLICT = "conflict";
+	// reglas de negocio (fondos insuficientes, cuenta no activa): no son errores del servicio
+	public static final String REJECTED = "rejected";
+	public static final String ERROR = "error";
+
+	private final MeterRegistry registry;
+	// el Timer se resuelve una vez por combinación de tags: evita armar el id del meter en cada llamada
+	private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+	public AccountMetricsAspect(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Around("execution(public * com.bank_services.account.infrastructure.web.AccountController.*(..))")
+	public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+		return time(CONTROLLER_TIMER, joinPoint);
+	}
+
+	@Around("execution(public * com.bank_services.account.domain.service.*Service.*(..))"
+			+ " || execution(public * com.bank_services.account.application.query.*Service.*(..))")
+	public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+		return time(SERVICE_TIMER, joinPoint);
+	}
+
+	@Around("execution(* com.bank_services.account.domain.port.AccountRepositoryPort.*(..))"
+			+ " || execution(* com.bank_services.account.application.port.AccountQueryPort.*(..))")
+	public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+		return time(REPOSITORY_TIMER, joinPoint);
+	}
+
+	public static String outcomeOf(Throwable error) {
+		if (error instanceof ResourceNotFoundException) {
+			return NOT_FOUND;
+		}
+		if (error instanceof DuplicateResourceException || error instanceof ConcurrentUpdateException
+				|| error instanceof PreconditionFailedException) {
+			return CONFLICT;
+		}
+		if (error instanceof InsufficientFundsException || error instanceof InvalidAccountOperationException) {
+			return REJECTED;
+		}
+		return ERROR;
+	}
+
+	private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+		long start = System.nanoTime();
+		String outcome = OK;
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable e) {
+			outcome = outcomeOf(e);
+			throw e;
+		} finally {
+			Class<?> type = AopUtils.getTargetClass(joinPoint.getTarget());
+			String method = joinPoint.getSignature().getName();
+			timers.computeIfAbsent(new TimerKey(name, type, method, outcome), this::register)
+					.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private Timer register(TimerKey key) {
+		return Timer.builder(key.name).tag("class", key.type.getSimpleName()).tag("method", key.method)
+				.tag("outcome", key.outcome).register(registry);
+	}
+
+	@EqualsAndHashCode
+	@AllArgsConstructor
+	private static final class TimerKey {
+		private final String name;
+		private final Class<?> type;
+		private final String method;
+		private final String outcome;
+	}
+}
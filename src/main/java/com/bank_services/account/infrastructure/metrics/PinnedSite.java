@@ -0,0 +1,18 @@
+package com.bank_services.account.infrastructure.metrics;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PinnedSite {
+
+	// primer frame fuera del JDK: normalmente el synchronized del driver o de la librería
+	private final String frame;
+	private final long events;
+	private final double totalMillis;
+	private final double maxMillis;
+	private final List<String> sampleStack;
+}
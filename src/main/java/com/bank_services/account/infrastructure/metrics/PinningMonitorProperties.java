@@ -0,0 +1,21 @@
+package com.bank_services.account.infrastructure.metrics;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.virtual-threads.pinning")
+public class PinningMonitorProperties {
+
+	private boolean enabled = true;
+
+	// duración mínima de un pinning para que JFR emita el evento
+	private Duration threshold = Duration.ofMillis(20);
+
+	private int stackDepth = 12;
+
+	private int maxSites = 50;
+}
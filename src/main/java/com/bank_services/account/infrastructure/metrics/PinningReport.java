@@ -0,0 +1,18 @@
+package com.bank_services.account.infrastructure.metrics;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PinningReport {
+
+	private final long thresholdMillis;
+	private final long events;
+	private final double totalMillis;
+	private final double maxMillis;
+	private final long droppedSites;
+	private final List<PinnedSite> sites;
+}
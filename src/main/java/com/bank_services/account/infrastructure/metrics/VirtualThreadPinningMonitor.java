@@ -0,0 +1,141 @@
+package com.bank_services.account.infrastructure.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Escucha los eventos JFR {@code jdk.VirtualThreadPinned} y los agrupa por el primer frame fuera del JDK. En Java 21
+ * un virtual thread que bloquea dentro de un {@code synchronized} (típico en drivers JDBC) no libera su carrier; este
+ * reporte muestra dónde ocurre y cuánto dura. El timer {@code jvm.threads.virtual.pinned} de micrometer-java21 cubre
+ * el lado de métricas.
+ */
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+	static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+	static final String OTHER_SITE = "<other>";
+
+	private final PinningMonitorProperties properties;
+	private final Map<String, SiteStats> sites = new ConcurrentHashMap<>();
+	private final LongAdder events = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+	private final LongAdder droppedSites = new LongAdder();
+
+	private RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(PinningMonitorProperties properties) {
+		this.properties = properties;
+	}
+
+	public synchronized void start() {
+		if (stream != null) {
+			return;
+		}
+		stream = new RecordingStream();
+		stream.enable(EVENT_NAME).withThreshold(properties.getThreshold()).withStackTrace();
+		stream.onEvent(EVENT_NAME, this::onEvent);
+		stream.startAsync();
+	}
+
+	@Override
+	public synchronized void close() {
+		if (stream != null) {
+			stream.close();
+			stream = null;
+		}
+	}
+
+	public PinningReport report() {
+		List<PinnedSite> snapshot = new ArrayList<>(sites.size());
+		sites.forEach((frame, stats) -> snapshot.add(stats.toSite(frame)));
+		snapshot.sort(Comparator.comparingLong(PinnedSite::getEvents).reversed());
+		return new PinningReport(properties.getThreshold().toMillis(), events.sum(), toMillis(totalNanos.sum()),
+				toMillis(maxNanos.get()), droppedSites.sum(), snapshot);
+	}
+
+	void record(Duration duration, List<String> stack) {
+		long nanos = duration.toNanos();
+		events.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulateAndGet(nanos, Math::max);
+
+		String frame = culprit(stack);
+		SiteStats stats = sites.get(frame);
+		if (stats == null) {
+			// los sitios distintos se acotan para que un stack muy variable no haga crecer el mapa sin límite
+			if (sites.size() >= properties.getMaxSites()) {
+				droppedSites.increment();
+				frame = OTHER_SITE;
+			}
+			stats = sites.computeIfAbsent(frame, k -> new SiteStats(stack));
+		}
+		stats.add(nanos);
+	}
+
+	private void onEvent(RecordedEvent event) {
+		List<String> stack = new ArrayList<>();
+		RecordedStackTrace trace = event.getStackTrace();
+		if (trace != null) {
+			for (RecordedFrame frame : trace.getFrames()) {
+				if (stack.size() >= properties.getStackDepth()) {
+					break;
+				}
+				if (frame.isJavaFrame()) {
+					stack.add(format(frame));
+				}
+			}
+		}
+		record(event.getDuration(), stack);
+	}
+
+	static String culprit(List<String> stack) {
+		for (String frame : stack) {
+			if (!frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun.")) {
+				return frame;
+			}
+		}
+		return stack.isEmpty() ? OTHER_SITE : stack.get(0);
+	}
+
+	private static String format(RecordedFrame frame) {
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	private static final class SiteStats {
+
+		private final List<String> sampleStack;
+		private final LongAdder events = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		SiteStats(List<String> sampleStack) {
+			this.sampleStack = List.copyOf(sampleStack);
+		}
+
+		void add(long nanos) {
+			events.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulateAndGet(nanos, Math::max);
+		}
+
+		PinnedSite toSite(String frame) {
+			return new PinnedSite(frame, events.sum(), toMillis(totalNanos.sum()), toMillis(maxNanos.get()),
+					sampleStack);
+		}
+	}
+}
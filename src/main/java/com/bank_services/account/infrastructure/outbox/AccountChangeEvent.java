@@ -0,0 +1,27 @@
+package com.bank_services.account.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.bank_services.account.domain.model.AccountChangeType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Fila del outbox. {@code offset} es creciente y es la posición desde la que retoma un consumidor; {@code account} es
+ * la cuenta tal como quedó ({@code BankAccountResponse} en JSON).
+ */
+@Getter
+@AllArgsConstructor
+public class AccountChangeEvent {
+
+	private final long offset;
+	private final AccountChangeType type;
+	private final UUID accountId;
+	private final long version;
+	private final LocalDateTime occurredAt;
+	@JsonRawValue
+	private final String account;
+}
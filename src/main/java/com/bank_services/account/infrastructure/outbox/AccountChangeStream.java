@@ -0,0 +1,141 @@
+package com.bank_services.account.infrastructure.outbox;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Suscripciones SSE al outbox. Cada suscriptor tiene su propio offset y lee de la tabla hasta la posición ya publicada
+ * por {@link OutboxRelay}, así que retomar desde un offset viejo y seguir en vivo es el mismo camino. Cuando el relay
+ * avanza se despierta a cada suscriptor; si ya estaba enviando, el aviso se acumula en una sola pasada más.
+ */
+public class AccountChangeStream implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(AccountChangeStream.class);
+
+	private final JdbcAccountOutbox outbox;
+	private final AccountOutboxProperties properties;
+	private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+	private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "account-change-stream");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile long published;
+
+	public AccountChangeStream(JdbcAccountOutbox outbox, AccountOutboxProperties properties) {
+		this.outbox = outbox;
+		this.properties = properties;
+	}
+
+	public boolean acceptsSubscribers() {
+		return subscribers.size() < properties.getMaxSubscribers();
+	}
+
+	public int subscribers() {
+		return subscribers.size();
+	}
+
+	public long published() {
+		return published;
+	}
+
+	// Envía los eventos con offset mayor a from y después los nuevos a medida que se publican
+	public SseEmitter subscribe(long from) {
+		SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+		Subscriber subscriber = new Subscriber(emitter, from);
+		subscribers.add(subscriber);
+		emitter.onCompletion(() -> subscribers.remove(subscriber));
+		emitter.onTimeout(() -> subscribers.remove(subscriber));
+		emitter.onError(e -> subscribers.remove(subscriber));
+		signal(subscriber);
+		return emitter;
+	}
+
+	void published(long position) {
+		published = position;
+		for (Subscriber subscriber : subscribers) {
+			signal(subscriber);
+		}
+	}
+
+	@Override
+	public void close() {
+		for (Subscriber subscriber : subscribers) {
+			subscriber.emitter.complete();
+		}
+		executor.shutdownNow();
+	}
+
+	private void signal(Subscriber subscriber) {
+		subscriber.dirty.set(true);
+		if (subscriber.running.compareAndSet(false, true)) {
+			executor.execute(() -> drain(subscriber));
+		}
+	}
+
+	private void drain(Subscriber subscriber) {
+		try {
+			while (subscriber.dirty.getAndSet(false)) {
+				if (!deliver(subscriber)) {
+					return;
+				}
+			}
+		} finally {
+			subscriber.running.set(false);
+		}
+		// un aviso que llegó entre el último getAndSet y la liberación
+		if (subscriber.dirty.get() && subscribers.contains(subscriber)) {
+			signal(subscriber);
+		}
+	}
+
+	private boolean deliver(Subscriber subscriber) {
+		long upTo = published;
+		while (subscriber.position < upTo) {
+			List<AccountChangeEvent> events = outbox.read(subscriber.position, upTo, properties.getBatchSize());
+			if (events.isEmpty()) {
+				// offsets salteados por el relay: no hay nada más hasta upTo
+				subscriber.position = upTo;
+				break;
+			}
+			try {
+				for (AccountChangeEvent event : events) {
+					subscriber.emitter.send(SseEmitter.event().id(Long.toString(event.getOffset()))
+							.name(event.getType().name()).data(event, MediaType.APPLICATION_JSON));
+					subscriber.position = event.getOffset();
+				}
+			} catch (IOException | IllegalStateException e) {
+				// el cliente se desconectó; retoma con Last-Event-ID
+				log.debug("Account change subscriber dropped at offset {}: {}", subscriber.position, e.getMessage());
+				subscribers.remove(subscriber);
+				subscriber.emitter.completeWithError(e);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static final class Subscriber {
+		private final SseEmitter emitter;
+		private final AtomicBoolean dirty = new AtomicBoolean();
+		private final AtomicBoolean running = new AtomicBoolean();
+		// sólo lo toca el hilo que tiene running
+		private long position;
+
+		private Subscriber(SseEmitter emitter, long from) {
+			this.emitter = emitter;
+			this.position = from;
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.bank_services.account.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destino de los eventos que publica {@link OutboxRelay}, en orden de offset. Si lanza una excepción el lote se
+ * reintenta en el siguiente ciclo (entrega al menos una vez). Definir un bean de este tipo reemplaza al configurado
+ * en {@code account.outbox.sink}.
+ */
+public interface AccountEventSink {
+
+	void publish(List<AccountChangeEvent> events);
+}
@@ -0,0 +1,39 @@
+package com.bank_services.account.infrastructure.outbox;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.outbox")
+public class AccountOutboxProperties {
+
+	// MEMORY: últimos eventos en memoria | FILE: NDJSON en file-path
+	private SinkType sink = SinkType.MEMORY;
+
+	private Path filePath = Path.of("outbox", "account-changes.ndjson");
+
+	private int memoryCapacity = 10_000;
+
+	private Duration pollInterval = Duration.ofMillis(200);
+
+	// eventos por lectura del relay y por envío al sink
+	private int batchSize = 500;
+
+	// un offset salteado (transacción en curso o revertida) se espera este tiempo antes de darlo por perdido
+	private Duration gapTimeout = Duration.ofSeconds(5);
+
+	// los eventos ya publicados más viejos que esto se borran de la tabla
+	private Duration retention = Duration.ofHours(24);
+
+	private int maxSubscribers = 50;
+
+	private Duration streamTimeout = Duration.ofMinutes(30);
+
+	public enum SinkType {
+		MEMORY, FILE
+	}
+}
@@ -0,0 +1,51 @@
+package com.bank_services.account.infrastructure.outbox;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+// Un evento por línea (NDJSON) al final del archivo; cada lote se escribe y se vuelca a disco junto
+public class FileAccountEventSink implements AccountEventSink, AutoCloseable {
+
+	private final ObjectWriter writer;
+	private final BufferedWriter out;
+
+	public FileAccountEventSink(Path file, ObjectMapper objectMapper) {
+		this.writer = objectMapper.writerFor(AccountChangeEvent.class);
+		try {
+			if (file.getParent() != null) {
+				Files.createDirectories(file.getParent());
+			}
+			this.out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not open outbox file " + file, e);
+		}
+	}
+
+	@Override
+	public synchronized void publish(List<AccountChangeEvent> events) {
+		try {
+			for (AccountChangeEvent event : events) {
+				out.write(writer.writeValueAsString(event));
+				out.newLine();
+			}
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		out.close();
+	}
+}
@@ -0,0 +1,31 @@
+package com.bank_services.account.infrastructure.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+// Conserva los últimos memory-capacity eventos; pensado para desarrollo local y tests
+public class InMemoryAccountEventSink implements AccountEventSink {
+
+	private final int capacity;
+	private final Deque<AccountChangeEvent> events = new ArrayDeque<>();
+
+	public InMemoryAccountEventSink(int capacity) {
+		this.capacity = Math.max(1, capacity);
+	}
+
+	@Override
+	public synchronized void publish(List<AccountChangeEvent> batch) {
+		for (AccountChangeEvent event : batch) {
+			if (events.size() == capacity) {
+				events.removeFirst();
+			}
+			events.addLast(event);
+		}
+	}
+
+	public synchronized List<AccountChangeEvent> recent() {
+		return new ArrayList<>(events);
+	}
+}
@@ -0,0 +1,102 @@
+package com.bank_services.account.infrastructure.outbox;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.bank_services.account.application.mapper.AccountResponseMapper;
+import com.bank_services.account.domain.model.AccountChangeType;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.port.AccountOutboxPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tabla {@code account_outbox}: el id autoincremental es el offset. Las escrituras usan la conexión de la transacción
+ * en curso (la de JPA), así que se confirman o se revierten junto con la cuenta.
+ */
+@Repository
+public class JdbcAccountOutbox implements AccountOutboxPort {
+
+	private static final String INSERT = "insert into account_outbox (account_id, event_type, account_version,"
+			+ " payload, created_at) values (?, ?, ?, ?, ?)";
+	private static final String SELECT = "select id, event_type, account_id, account_version, created_at, payload"
+			+ " from account_outbox";
+
+	private static final RowMapper<AccountChangeEvent> ROW_MAPPER = JdbcAccountOutbox::toEvent;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final AccountResponseMapper responseMapper;
+	private final ObjectMapper objectMapper;
+
+	public JdbcAccountOutbox(JdbcTemplate jdbcTemplate, AccountResponseMapper responseMapper,
+			ObjectMapper objectMapper) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.responseMapper = responseMapper;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void append(AccountChangeType type, BankAccount account) {
+		jdbcTemplate.update(INSERT, row(type, account, LocalDateTime.now()));
+	}
+
+	@Override
+	public void appendAll(AccountChangeType type, List<BankAccount> accounts) {
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.batchUpdate(INSERT, accounts.stream().map(account -> row(type, account, now)).toList());
+	}
+
+	// Eventos con offset en (after, upTo], en orden
+	public List<AccountChangeEvent> read(long after, long upTo, int limit) {
+		return jdbcTemplate.query(SELECT + " where id > ? and id <= ? order by id fetch first ? rows only", ROW_MAPPER,
+				after, upTo, limit);
+	}
+
+	public long lastOffset() {
+		Long last = jdbcTemplate.queryForObject("select max(id) from account_outbox", Long.class);
+		return last == null ? 0 : last;
+	}
+
+	public long position(String relay) {
+		List<Long> position = jdbcTemplate.queryForList(
+				"select position from account_outbox_relay where relay_name = ?", Long.class, relay);
+		return position.isEmpty() ? 0 : position.get(0);
+	}
+
+	public void savePosition(String relay, long position) {
+		if (jdbcTemplate.update("update account_outbox_relay set position = ? where relay_name = ?", position,
+				relay) == 0) {
+			jdbcTemplate.update("insert into account_outbox_relay (relay_name, position) values (?, ?)", relay,
+					position);
+		}
+	}
+
+	// Sólo se borra lo que el relay ya publicó
+	public int deletePublished(long position, LocalDateTime olderThan) {
+		return jdbcTemplate.update("delete from account_outbox where id <= ? and created_at < ?", position,
+				Timestamp.valueOf(olderThan));
+	}
+
+	private Object[] row(AccountChangeType type, BankAccount account, LocalDateTime now) {
+		try {
+			return new Object[] { account.getId(), type.name(),
+					account.getVersion() == null ? 0L : account.getVersion(),
+					objectMapper.writeValueAsString(responseMapper.toResponse(account)), Timestamp.valueOf(now) };
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not serialize BankAccount " + account.getId(), e);
+		}
+	}
+
+	private static AccountChangeEvent toEvent(ResultSet rs, int rowNum) throws SQLException {
+		return new AccountChangeEvent(rs.getLong(1), AccountChangeType.valueOf(rs.getString(2)),
+				rs.getObject(3, UUID.class), rs.getLong(4), rs.getTimestamp(5).toLocalDateTime(), rs.getString(6));
+	}
+}
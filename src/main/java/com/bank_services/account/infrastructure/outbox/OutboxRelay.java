@@ -0,0 +1,129 @@
+package com.bank_services.account.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lee el outbox por offset en lotes de {@code account.outbox.batch-size} y los entrega al {@link AccountEventSink}; la
+ * posición publicada se guarda en {@code account_outbox_relay}. Los offsets se asignan al insertar y no al confirmar,
+ * así que un hueco puede ser una transacción todavía abierta: el relay se detiene ahí hasta que aparezca o hasta que
+ * pase {@code gap-timeout} (transacción revertida).
+ */
+public class OutboxRelay implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+	static final String NAME = "default";
+	private static final long CLEANUP_EVERY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private final JdbcAccountOutbox outbox;
+	private final AccountEventSink sink;
+	private final AccountChangeStream stream;
+	private final AccountOutboxProperties properties;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "account-outbox-relay");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile long position;
+	private long gapOffset = -1;
+	private long gapSeenAt;
+	private long lastCleanup = System.nanoTime();
+
+	public OutboxRelay(JdbcAccountOutbox outbox, AccountEventSink sink, AccountChangeStream stream,
+			AccountOutboxProperties properties) {
+		this.outbox = outbox;
+		this.sink = sink;
+		this.stream = stream;
+		this.properties = properties;
+	}
+
+	public void start() {
+		position = outbox.position(NAME);
+		stream.published(position);
+		long period = properties.getPollInterval().toMillis();
+		scheduler.scheduleWithFixedDelay(this::relayQuietly, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	public long position() {
+		return position;
+	}
+
+	// Publica todo lo disponible; devuelve la cantidad de eventos entregados
+	public synchronized int relay() {
+		int total = 0;
+		int published;
+		do {
+			published = relayBatch();
+			total += published;
+		} while (published == properties.getBatchSize());
+		if (System.nanoTime() - lastCleanup > CLEANUP_EVERY_NANOS) {
+			lastCleanup = System.nanoTime();
+			int deleted = outbox.deletePublished(position, LocalDateTime.now().minus(properties.getRetention()));
+			if (deleted > 0) {
+				log.info("Account outbox cleanup: {} published events deleted", deleted);
+			}
+		}
+		return total;
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	private int relayBatch() {
+		List<AccountChangeEvent> rows = outbox.read(position, Long.MAX_VALUE, properties.getBatchSize());
+		List<AccountChangeEvent> ready = new ArrayList<>(rows.size());
+		long expected = position + 1;
+		for (AccountChangeEvent event : rows) {
+			if (event.getOffset() != expected && !gapExpired(expected, event.getOffset())) {
+				break;
+			}
+			ready.add(event);
+			expected = event.getOffset() + 1;
+		}
+		if (ready.isEmpty()) {
+			return 0;
+		}
+
+		sink.publish(ready);
+		long last = ready.get(ready.size() - 1).getOffset();
+		outbox.savePosition(NAME, last);
+		position = last;
+		stream.published(last);
+		return ready.size();
+	}
+
+	private boolean gapExpired(long missing, long next) {
+		if (gapOffset != missing) {
+			gapOffset = missing;
+			gapSeenAt = System.nanoTime();
+			return false;
+		}
+		if (System.nanoTime() - gapSeenAt < properties.getGapTimeout().toNanos()) {
+			return false;
+		}
+		log.warn("Account outbox relay skipped offsets {}..{} after {}", missing, next - 1,
+				properties.getGapTimeout());
+		gapOffset = -1;
+		return true;
+	}
+
+	private void relayQuietly() {
+		try {
+			relay();
+		} catch (RuntimeException e) {
+			// la posición no avanzó: el mismo lote se vuelve a entregar en el próximo ciclo
+			log.warn("Account outbox relay failed at offset {}: {}", position, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.bank_services.account.infrastructure.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OutboxStatus {
+
+	// último offset escrito y último entregado al sink
+	private final long lastOffset;
+	private final long publishedOffset;
+	private final long lag;
+	private final int subscribers;
+}
@@ -0,0 +1,88 @@
+package com.bank_services.account.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import com.bank_services.account.application.dto.AccountResponsePage;
+import com.bank_services.account.application.dto.AccountSearchCriteria;
+import com.bank_services.account.application.dto.AccountVersion;
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.application.dto.VersionedAccountResponse;
+import com.bank_services.account.application.mapper.AccountResponseMapper;
+import com.bank_services.account.application.port.AccountQueryPort;
+import com.bank_services.account.infrastructure.cache.CachingAccountRepository;
+import com.bank_services.account.infrastructure.search.AccountSearchRepository;
+
+/**
+ * Adaptador del modelo de lectura. Sin cache, las consultas proyectan directamente a {@link BankAccountResponse} (no
+ * se crea la entidad administrada ni el {@code BankAccount}). Con cache, las lecturas por id se sirven desde la
+ * instancia cacheada sin la copia defensiva que hace {@code findById}.
+ */
+@Repository
+public class AccountQueryAdapter implements AccountQueryPort {
+
+	private final SpringDataAccountRepository repository;
+	private final CachingAccountRepository cache;
+	private final AccountResponseMapper mapper;
+	private final AccountSearchRepository searchRepository;
+
+	public AccountQueryAdapter(SpringDataAccountRepository repository, ObjectProvider<CachingAccountRepository> cache,
+			AccountResponseMapper mapper, AccountSearchRepository searchRepository) {
+		this.repository = repository;
+		this.cache = cache.getIfAvailable();
+		this.mapper = mapper;
+		this.searchRepository = searchRepository;
+	}
+
+	@Override
+	public Optional<BankAccountResponse> findById(UUID id) {
+		if (cache != null) {
+			return cache.read(id, mapper::toResponse);
+		}
+		return repository.findResponseById(id);
+	}
+
+	@Override
+	public Optional<VersionedAccountResponse> findVersionedById(UUID id) {
+		if (cache != null) {
+			return cache.read(id, account -> new VersionedAccountResponse(mapper.toResponse(account),
+					account.getVersion()));
+		}
+		return repository.findVersionedResponseById(id);
+	}
+
+	@Override
+	public Optional<AccountVersion> findVersion(UUID id) {
+		if (cache != null) {
+			return cache.read(id, account -> new AccountVersion(account.getVersion(), account.getUpdatedAt()));
+		}
+		return repository.findVersionById(id);
+	}
+
+	@Override
+	public AccountResponsePage findPage(UUID after, int limit) {
+		// Se pide un registro extra para saber si existe una página siguiente
+		Limit fetchLimit = Limit.of(limit + 1);
+		List<BankAccountResponse> rows = after == null ? repository.findResponses(fetchLimit)
+				: repository.findResponsesAfter(after, fetchLimit);
+		return toPage(rows, limit);
+	}
+
+	@Override
+	public AccountResponsePage search(AccountSearchCriteria criteria, UUID after, int limit) {
+		return toPage(searchRepository.search(criteria, after, limit + 1), limit);
+	}
+
+	private static AccountResponsePage toPage(List<BankAccountResponse> rows, int limit) {
+		if (rows.size() <= limit) {
+			return new AccountResponsePage(rows, null);
+		}
+		List<BankAccountResponse> items = rows.subList(0, limit);
+		return new AccountResponsePage(items, items.get(limit - 1).getId());
+	}
+}
@@ -1,29 +1,75 @@
 package com.bank_services.account.infrastructure.persistence;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.bank_services.account.domain.exception.ConcurrentUpdateException;
+import com.bank_services.account.domain.exception.DuplicateResourceException;
+import com.bank_services.account.domain.model.AccountPage;
+import com.bank_services.account.domain.model.AccountStatus;
 import com.bank_services.account.domain.model.BankAccount;
 import com.bank_services.account.domain.port.AccountRepositoryPort;
 
+import jakarta.persistence.EntityManager;
+
 @Repository
 public class AccountRepositoryAdapter implements AccountRepositoryPort {
 
+	private static final String CBU_CONSTRAINT = "uk_bank_account_cbu";
+
 	private final SpringDataAccountRepository repository;
+	private final EntityManager entityManager;
 
-	public AccountRepositoryAdapter(SpringDataAccountRepository repository) {
+	public AccountRepositoryAdapter(SpringDataAccountRepository repository, EntityManager entityManager) {
 		this.repository = repository;
+		this.entityManager = entityManager;
 	}
 
 	@Override
 	public BankAccount save(BankAccount account) {
 		BankAccountEntity entity = toEntity(account);
-		BankAccountEntity saved = repository.save(entity);
-		return toDomain(saved);
+		try {
+			// flush dentro de la transacción del llamador: la versión devuelta (ETag, outbox) ya es la nueva
+			BankAccountEntity saved = repository.saveAndFlush(entity);
+			return toDomain(saved);
+		} catch (ConcurrencyFailureException e) {
+			throw new ConcurrentUpdateException(
+					"BankAccount " + account.getId() + " was modified concurrently");
+		} catch (DataIntegrityViolationException e) {
+			// la unicidad del CBU la decide la restricción, sin consultar antes
+			if (isCbuConflict(e)) {
+				throw new DuplicateResourceException(
+						"BankAccount with CBU " + account.getCbu() + " already exists");
+			}
+			throw e;
+		}
+	}
+
+	// H2 y los demás motores incluyen el nombre de la restricción en el mensaje del error
+	private static boolean isCbuConflict(DataIntegrityViolationException e) {
+		String message = e.getMostSpecificCause().getMessage();
+		return message != null && message.toLowerCase(Locale.ROOT).contains(CBU_CONSTRAINT);
+	}
+
+	@Override
+	public List<BankAccount> saveAll(List<BankAccount> accounts) {
+		List<BankAccountEntity> entities = accounts.stream().map(this::toEntity).collect(Collectors.toList());
+		return repository.saveAll(entities).stream().map(this::toDomain).collect(Collectors.toList());
 	}
 
 	@Override
@@ -31,6 +77,14 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
 		return repository.findById(id).map(this::toDomain);
 	}
 
+	@Override
+	public List<BankAccount> findAllById(Collection<UUID> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		return repository.findAllById(ids).stream().map(this::toDomain).collect(Collectors.toList());
+	}
+
 	@Override
 	public Optional<BankAccount> findByCbu(String cbu) {
 		return repository.findByCbu(cbu).map(this::toDomain);
@@ -41,6 +95,36 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
 		return repository.findAll().stream().map(this::toDomain).collect(Collectors.toList());
 	}
 
+	@Override
+	public AccountPage findPage(UUID after, int limit) {
+		// Se pide un registro extra para saber si existe una página siguiente
+		Limit fetchLimit = Limit.of(limit + 1);
+		List<BankAccountEntity> entities = after == null ? repository.findAllByOrderByIdAsc(fetchLimit)
+				: repository.findByIdGreaterThanOrderByIdAsc(after, fetchLimit);
+
+		boolean hasNext = entities.size() > limit;
+		List<BankAccount> items = entities.stream().limit(limit).map(this::toDomain).collect(Collectors.toList());
+		UUID nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+		return new AccountPage(items, nextCursor);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(Consumer<BankAccount> consumer) {
+		try (Stream<BankAccountEntity> entities = repository.streamAllOrderById()) {
+			entities.forEach(entity -> {
+				consumer.accept(toDomain(entity));
+				// se desacopla del contexto de persistencia para que la memoria no crezca con la tabla
+				entityManager.detach(entity);
+			});
+		}
+	}
+
+	@Override
+	public boolean applyBalanceDelta(UUID id, BigDecimal delta, LocalDateTime at) {
+		return repository.applyBalanceDelta(id, delta, at, AccountStatus.ACTIVE) == 1;
+	}
+
 	@Override
 	public void deleteById(UUID id) {
 		repository.deleteById(id);
@@ -56,8 +140,16 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
 		return repository.existsByCbu(cbu);
 	}
 
+	@Override
+	public Set<String> findExistingCbus(Collection<String> cbus) {
+		if (cbus.isEmpty()) {
+			return Set.of();
+		}
+		return repository.findExistingCbus(cbus);
+	}
 
-	private BankAccount toDomain(BankAccountEntity entity) {
+	// visibilidad de paquete para los benchmarks de mapeo
+	BankAccount toDomain(BankAccountEntity entity) {
 		if (entity == null) {
 			return null;
 		}
@@ -74,10 +166,11 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
 		account.setBranchCode(entity.getBranchCode());
 		account.setCreatedAt(entity.getCreatedAt());
 		account.setUpdatedAt(entity.getUpdatedAt());
+		account.setVersion(entity.getVersion());
 		return account;
 	}
 
-	private BankAccountEntity toEntity(BankAccount account) {
+	BankAccountEntity toEntity(BankAccount account) {
 		if (account == null) {
 			return null;
 		}
@@ -94,6 +187,7 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
 		entity.setBranchCode(account.getBranchCode());
 		entity.setCreatedAt(account.getCreatedAt());
 		entity.setUpdatedAt(account.getUpdatedAt());
+		entity.setVersion(account.getVersion());
 		return entity;
 	}
 }
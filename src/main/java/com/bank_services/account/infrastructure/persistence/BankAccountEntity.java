@@ -14,8 +14,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,7 +25,11 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "bank_accounts", uniqueConstraints = {
-		@UniqueConstraint(name = "uk_bank_account_cbu", columnNames = "cbu") })
+		@UniqueConstraint(name = "uk_bank_account_cbu", columnNames = "cbu") }, indexes = {
+				@Index(name = "idx_bank_account_owner_document", columnList = "owner_document"),
+				@Index(name = "idx_bank_account_branch_status", columnList = "branch_code, status"),
+				@Index(name = "idx_bank_account_currency_status", columnList = "currency, status"),
+				@Index(name = "idx_bank_account_balance", columnList = "balance") })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -66,4 +72,8 @@ public class BankAccountEntity {
 
 	@Column(name = "updated_at", nullable = false)
 	private LocalDateTime updatedAt;
+
+	@Version
+	@Column(name = "version", nullable = false)
+	private Long version;
 }
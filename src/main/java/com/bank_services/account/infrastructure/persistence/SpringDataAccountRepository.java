@@ -1,13 +1,87 @@
 package com.bank_services.account.infrastructure.persistence;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.bank_services.account.application.dto.AccountVersion;
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.application.dto.VersionedAccountResponse;
+import com.bank_services.account.domain.model.AccountStatus;
+
+import jakarta.persistence.QueryHint;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface SpringDataAccountRepository extends JpaRepository<BankAccountEntity, UUID> {
 
+	String STREAM_FETCH_SIZE = "500";
+
+	// Proyección de lectura: arma la respuesta sin instanciar la entidad ni el modelo de dominio
+	String RESPONSE_PROJECTION = """
+			select new com.bank_services.account.application.dto.BankAccountResponse(a.id, a.accountNumber, a.cbu,
+			       a.ownerName, a.ownerDocument, a.currency, a.balance, a.status, a.branchCode, a.createdAt,
+			       a.updatedAt)
+			  from BankAccountEntity a
+			""";
+
 	Optional<BankAccountEntity> findByCbu(String cbu);
 
 	boolean existsByCbu(String cbu);
+
+	@Query("select a.cbu from BankAccountEntity a where a.cbu in :cbus")
+	Set<String> findExistingCbus(@Param("cbus") Collection<String> cbus);
+
+	List<BankAccountEntity> findAllByOrderByIdAsc(Limit limit);
+
+	List<BankAccountEntity> findByIdGreaterThanOrderByIdAsc(UUID after, Limit limit);
+
+	@Query(RESPONSE_PROJECTION + " where a.id = :id")
+	Optional<BankAccountResponse> findResponseById(@Param("id") UUID id);
+
+	@Query("""
+			select new com.bank_services.account.application.dto.VersionedAccountResponse(a.id, a.accountNumber,
+			       a.cbu, a.ownerName, a.ownerDocument, a.currency, a.balance, a.status, a.branchCode, a.createdAt,
+			       a.updatedAt, a.version)
+			  from BankAccountEntity a where a.id = :id
+			""")
+	Optional<VersionedAccountResponse> findVersionedResponseById(@Param("id") UUID id);
+
+	@Query("select new com.bank_services.account.application.dto.AccountVersion(a.version, a.updatedAt)"
+			+ " from BankAccountEntity a where a.id = :id")
+	Optional<AccountVersion> findVersionById(@Param("id") UUID id);
+
+	@Query(RESPONSE_PROJECTION + " order by a.id")
+	List<BankAccountResponse> findResponses(Limit limit);
+
+	@Query(RESPONSE_PROJECTION + " where a.id > :after order by a.id")
+	List<BankAccountResponse> findResponsesAfter(@Param("after") UUID after, Limit limit);
+
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			update BankAccountEntity a
+			   set a.balance = a.balance + :delta, a.version = a.version + 1, a.updatedAt = :at
+			 where a.id = :id and a.status = :status and a.balance + :delta >= 0
+			""")
+	int applyBalanceDelta(@Param("id") UUID id, @Param("delta") BigDecimal delta, @Param("at") LocalDateTime at,
+			@Param("status") AccountStatus status);
+
+	@QueryHints({ @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+			@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+			@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "false") })
+	@Query("select a from BankAccountEntity a order by a.id")
+	Stream<BankAccountEntity> streamAllOrderById();
 }
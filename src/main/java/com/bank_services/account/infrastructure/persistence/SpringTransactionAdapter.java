@@ -0,0 +1,31 @@
+package com.bank_services.account.infrastructure.persistence;
+
+import java.util.function.Supplier;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bank_services.account.domain.exception.ConcurrentUpdateException;
+import com.bank_services.account.domain.port.TransactionPort;
+
+@Component
+public class SpringTransactionAdapter implements TransactionPort {
+
+	private final TransactionTemplate transactionTemplate;
+
+	public SpringTransactionAdapter(PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Override
+	public <T> T execute(Supplier<T> work) {
+		try {
+			return transactionTemplate.execute(status -> work.get());
+		} catch (ConcurrencyFailureException e) {
+			// conflicto de versión o de locks; puede aparecer recién en el flush del commit
+			throw new ConcurrentUpdateException(e.getMessage());
+		}
+	}
+}
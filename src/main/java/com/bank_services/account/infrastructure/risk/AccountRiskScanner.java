@@ -0,0 +1,219 @@
+package com.bank_services.account.infrastructure.risk;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.RiskRuleType;
+import com.bank_services.account.domain.service.AccountService;
+import com.bank_services.account.domain.service.RiskRuleTable;
+
+/**
+ * Evalúa las reglas de riesgo sobre todas las cuentas. La lectura es un único stream de la base en el hilo que llama;
+ * las cuentas se agrupan en chunks que un pool acotado de workers evalúa y entrega al {@link FlaggedSink} en paralelo.
+ * Los chunks en vuelo están limitados por un semáforo, así que con workers ocupados la lectura se frena en lugar de
+ * acumular cuentas en memoria. Toda la pasada usa la misma versión de las reglas.
+ */
+public class AccountRiskScanner implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(AccountRiskScanner.class);
+
+	/**
+	 * Recibe las cuentas marcadas de cada chunk, desde los workers y en el orden en que terminan: puede llamarse
+	 * concurrentemente.
+	 */
+	@FunctionalInterface
+	public interface FlaggedSink {
+
+		void accept(RiskRuleTable table, List<BankAccount> flagged) throws IOException;
+	}
+
+	private final AccountService accountService;
+	private final RiskRules riskRules;
+	private final RiskRuleProperties.Scan settings;
+	private final ExecutorService workers;
+
+	public AccountRiskScanner(AccountService accountService, RiskRules riskRules, RiskRuleProperties properties,
+			boolean virtualThreads) {
+		this.accountService = accountService;
+		this.riskRules = riskRules;
+		this.settings = properties.getScan();
+		this.workers = Executors.newFixedThreadPool(settings.getWorkers(),
+				threadFactory("account-risk-worker-", virtualThreads));
+	}
+
+	public RiskScanReport scan(Collection<RiskRuleType> types, FlaggedSink sink) {
+		long started = System.nanoTime();
+		RiskRuleSnapshot rules = riskRules.snapshot();
+		Pass pass = new Pass(rules.getTable(), mask(types), sink, settings.getChunkSize(),
+				new Semaphore(settings.getWorkers() + settings.getQueueCapacity()));
+
+		try {
+			accountService.streamAll(account -> {
+				if (pass.add(account)) {
+					submit(pass, pass.takeChunk());
+				}
+			});
+			if (pass.hasChunk()) {
+				submit(pass, pass.takeChunk());
+			}
+		} finally {
+			// aunque la lectura falle, no se devuelve con workers escribiendo todavía en el sink
+			pass.awaitWorkers();
+		}
+		pass.throwIfFailed();
+
+		RiskScanReport report = pass.report(rules.getVersion(), types, (System.nanoTime() - started) / 1_000_000);
+		log.info("Risk scan with rules version {}: {} accounts, {} flagged {} in {} ms", report.getRulesVersion(),
+				report.getScanned(), report.getFlagged(), report.getByType(), report.getDurationMillis());
+		return report;
+	}
+
+	@Override
+	public void close() {
+		workers.shutdownNow();
+	}
+
+	private void submit(Pass pass, List<BankAccount> chunk) {
+		pass.throwIfFailed();
+		try {
+			pass.permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Risk scan interrupted", e);
+		}
+		try {
+			workers.execute(() -> {
+				try {
+					pass.evaluate(chunk);
+				} catch (IOException e) {
+					pass.failure.compareAndSet(null, new UncheckedIOException(e));
+				} catch (RuntimeException e) {
+					pass.failure.compareAndSet(null, e);
+				} finally {
+					pass.permits.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			pass.permits.release();
+			throw e;
+		}
+	}
+
+	private static int mask(Collection<RiskRuleType> types) {
+		int mask = 0;
+		for (RiskRuleType type : types) {
+			mask |= type.bit();
+		}
+		return mask;
+	}
+
+	private static ThreadFactory threadFactory(String prefix, boolean virtual) {
+		return virtual ? Thread.ofVirtual().name(prefix, 0).factory() : Thread.ofPlatform().name(prefix, 0).factory();
+	}
+
+	private static final class Pass {
+
+		private final RiskRuleTable table;
+		private final int typeMask;
+		private final FlaggedSink sink;
+		private final int chunkSize;
+		private final Semaphore permits;
+		private final int totalPermits;
+		private final LongAdder scanned = new LongAdder();
+		private final LongAdder flagged = new LongAdder();
+		private final LongAdder[] byType = new LongAdder[RiskRuleType.values().length];
+		// el primer error de un worker corta la lectura en el próximo chunk
+		private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		// chunk que se está llenando; sólo lo toca el hilo que lee
+		private List<BankAccount> chunk;
+
+		Pass(RiskRuleTable table, int typeMask, FlaggedSink sink, int chunkSize, Semaphore permits) {
+			this.table = table;
+			this.typeMask = typeMask;
+			this.sink = sink;
+			this.chunkSize = chunkSize;
+			this.chunk = new ArrayList<>(chunkSize);
+			this.permits = permits;
+			this.totalPermits = permits.availablePermits();
+			for (int i = 0; i < byType.length; i++) {
+				byType[i] = new LongAdder();
+			}
+		}
+
+		// true: el chunk está lleno
+		boolean add(BankAccount account) {
+			chunk.add(account);
+			return chunk.size() >= chunkSize;
+		}
+
+		boolean hasChunk() {
+			return !chunk.isEmpty();
+		}
+
+		List<BankAccount> takeChunk() {
+			List<BankAccount> full = chunk;
+			chunk = new ArrayList<>(chunkSize);
+			return full;
+		}
+
+		void evaluate(List<BankAccount> chunk) throws IOException {
+			List<BankAccount> hits = new ArrayList<>();
+			int[] counts = new int[byType.length];
+			for (BankAccount account : chunk) {
+				int mask = table.evaluate(account.getCurrency(), account.getBranchCode(), account.getBalance(),
+						account.getStatus()) & typeMask;
+				if (mask != 0) {
+					hits.add(account);
+					for (int bits = mask; bits != 0; bits &= bits - 1) {
+						counts[Integer.numberOfTrailingZeros(bits)]++;
+					}
+				}
+			}
+			scanned.add(chunk.size());
+			flagged.add(hits.size());
+			for (int i = 0; i < counts.length; i++) {
+				byType[i].add(counts[i]);
+			}
+			if (!hits.isEmpty() && failure.get() == null) {
+				sink.accept(table, hits);
+			}
+		}
+
+		// todos los permisos libres: no queda ningún chunk en vuelo
+		void awaitWorkers() {
+			permits.acquireUninterruptibly(totalPermits);
+			permits.release(totalPermits);
+		}
+
+		void throwIfFailed() {
+			RuntimeException e = failure.get();
+			if (e != null) {
+				throw e;
+			}
+		}
+
+		RiskScanReport report(long rulesVersion, Collection<RiskRuleType> types, long durationMillis) {
+			Map<RiskRuleType, Long> counts = new EnumMap<>(RiskRuleType.class);
+			for (RiskRuleType type : types) {
+				counts.put(type, byType[type.ordinal()].sum());
+			}
+			return new RiskScanReport(rulesVersion, scanned.sum(), flagged.sum(), counts, durationMillis);
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.bank_services.account.infrastructure.risk;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.bank_services.account.domain.model.RiskRule;
+import com.bank_services.account.domain.model.RiskRuleType;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.risk")
+public class RiskRuleProperties {
+
+	// reglas iniciales; sin configurar, la regla histórica: saldo menor a 1000 en cualquier moneda
+	private List<RiskRule> rules = new ArrayList<>(
+			List.of(new RiskRule(RiskRuleType.LOW_BALANCE, null, null, new BigDecimal("1000"))));
+
+	// archivo JSON con la lista de reglas: si está, reemplaza a rules y se relee cuando cambia
+	private String rulesFile;
+
+	private Duration reloadInterval = Duration.ofSeconds(30);
+
+	private Scan scan = new Scan();
+
+	@Data
+	public static class Scan {
+
+		// cuentas por chunk evaluado en un worker
+		private int chunkSize = 1000;
+
+		private int workers = 4;
+
+		// chunks leídos a la espera de un worker; con la cola llena la lectura se frena
+		private int queueCapacity = 4;
+	}
+}
@@ -0,0 +1,28 @@
+package com.bank_services.account.infrastructure.risk;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.bank_services.account.domain.model.RiskRule;
+import com.bank_services.account.domain.service.RiskRuleTable;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RiskRuleSnapshot {
+
+	// sube con cada carga
+	private final long version;
+	private final Instant loadedAt;
+	// config, file o api
+	private final String source;
+	@JsonIgnore
+	private final RiskRuleTable table;
+
+	public List<RiskRule> getRules() {
+		return table.rules();
+	}
+}
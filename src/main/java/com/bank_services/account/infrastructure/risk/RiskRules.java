@@ -0,0 +1,127 @@
+package com.bank_services.account.infrastructure.risk;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bank_services.account.domain.exception.InvalidRiskRuleException;
+import com.bank_services.account.domain.model.RiskRule;
+import com.bank_services.account.domain.service.RiskRuleTable;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Reglas de riesgo vigentes. La tabla compilada se publica con una sola escritura volátil: quien evalúa toma
+ * {@link #table()} una vez y usa esa versión hasta terminar, aunque en el medio se recarguen las reglas. Con
+ * {@code account.risk.rules-file} el archivo se relee cuando cambia su fecha de modificación; una versión inválida se
+ * descarta y siguen las reglas anteriores.
+ */
+public class RiskRules implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(RiskRules.class);
+
+	private final RiskRuleProperties properties;
+	private final ObjectReader rulesReader;
+	private final Path rulesFile;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "account-risk-rules-reloader");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile RiskRuleSnapshot current;
+	// sólo se toca dentro de los métodos synchronized
+	private FileTime fileModified;
+
+	public RiskRules(RiskRuleProperties properties, ObjectMapper objectMapper) {
+		this.properties = properties;
+		this.rulesReader = objectMapper.readerFor(new TypeReference<List<RiskRule>>() {
+		});
+		this.rulesFile = properties.getRulesFile() == null ? null : Path.of(properties.getRulesFile());
+		// reglas inválidas al arrancar: falla el contexto en lugar de arrancar sin evaluar
+		reload();
+	}
+
+	public void start() {
+		if (rulesFile != null) {
+			long period = properties.getReloadInterval().toMillis();
+			scheduler.scheduleWithFixedDelay(this::reloadIfChangedQuietly, period, period, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	public RiskRuleTable table() {
+		return current.getTable();
+	}
+
+	// Versión y tabla de la misma carga
+	public RiskRuleSnapshot snapshot() {
+		return current;
+	}
+
+	// Reemplaza las reglas en memoria; la próxima modificación del archivo vuelve a pisarlas
+	public synchronized RiskRuleSnapshot replace(List<RiskRule> rules) {
+		if (rules == null) {
+			throw new InvalidRiskRuleException("Risk rules are required");
+		}
+		return publish(RiskRuleTable.compile(rules), "api");
+	}
+
+	// Vuelve a cargar el archivo si está configurado, o las reglas de configuración si no
+	public synchronized RiskRuleSnapshot reload() {
+		if (rulesFile == null) {
+			return publish(RiskRuleTable.compile(properties.getRules()), "config");
+		}
+		try {
+			// una versión inválida no se reintenta hasta que el archivo vuelva a cambiar
+			fileModified = Files.getLastModifiedTime(rulesFile);
+			List<RiskRule> rules = rulesReader.readValue(rulesFile.toFile());
+			return publish(RiskRuleTable.compile(rules == null ? List.of() : rules), "file");
+		} catch (NoSuchFileException e) {
+			throw new InvalidRiskRuleException("Risk rules file not found: " + rulesFile);
+		} catch (IOException e) {
+			throw new InvalidRiskRuleException("Risk rules file %s is not valid: %s".formatted(rulesFile,
+					e.getMessage()));
+		}
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	synchronized void reloadIfChanged() throws IOException {
+		FileTime modified = Files.getLastModifiedTime(rulesFile);
+		if (!modified.equals(fileModified)) {
+			reload();
+		}
+	}
+
+	private void reloadIfChangedQuietly() {
+		try {
+			reloadIfChanged();
+		} catch (IOException | RuntimeException e) {
+			// siguen las reglas anteriores; la próxima pasada lo vuelve a intentar
+			log.warn("Risk rules reload failed, keeping version {}: {}", current.getVersion(),
+					e.getMessage());
+		}
+	}
+
+	private RiskRuleSnapshot publish(RiskRuleTable table, String source) {
+		long version = current == null ? 1 : current.getVersion() + 1;
+		RiskRuleSnapshot snapshot = new RiskRuleSnapshot(version, Instant.now(), source, table);
+		current = snapshot;
+		log.info("Risk rules version {} loaded from {}: {} rules", version, source, table.rules().size());
+		return snapshot;
+	}
+}
@@ -0,0 +1,21 @@
+package com.bank_services.account.infrastructure.risk;
+
+import java.util.Map;
+
+import com.bank_services.account.domain.model.RiskRuleType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RiskScanReport {
+
+	// versión de las reglas con la que se evaluó toda la pasada
+	private final long rulesVersion;
+	private final long scanned;
+	private final long flagged;
+	// cuentas que cumplen cada tipo pedido; una cuenta puede sumar en varios
+	private final Map<RiskRuleType, Long> byType;
+	private final long durationMillis;
+}
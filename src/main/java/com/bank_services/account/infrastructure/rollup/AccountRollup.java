@@ -0,0 +1,229 @@
+package com.bank_services.account.infrastructure.rollup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.bank_services.account.application.dto.AccountAggregateResponse;
+import com.bank_services.account.application.port.AccountAggregatePort;
+import com.bank_services.account.domain.model.AccountPosition;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.port.AccountMutationListener;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Cantidad de cuentas y saldo total por sucursal, moneda y estado, mantenidos en memoria con {@link LongAdder} (saldo
+ * en centavos, exacto para {@code DECIMAL(19,2)}) a partir de cada mutación confirmada. Se carga y se contrasta con un
+ * {@code GROUP BY} cada {@code account.rollup.reconcile-interval}.
+ */
+public class AccountRollup implements AccountMutationListener, AccountAggregatePort, AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(AccountRollup.class);
+
+	private static final int SCALE = 2;
+	private static final Comparator<RollupKey> ORDER = Comparator.comparing((RollupKey key) -> key.branchCode)
+			.thenComparing(key -> key.currency).thenComparing(key -> key.status);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final AccountRollupProperties properties;
+	private final Map<RollupKey, Cell> cells = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "account-rollup-reconciler");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	// diferencias de la pasada anterior; sólo las toca reconcile(), que es synchronized
+	private Map<RollupKey, Drift> pendingDrift = Map.of();
+	private boolean loaded;
+	private volatile RollupReconciliation lastReconciliation;
+
+	public AccountRollup(JdbcTemplate jdbcTemplate, AccountRollupProperties properties) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.properties = properties;
+	}
+
+	public void start() {
+		long period = properties.getReconcileInterval().toMillis();
+		scheduler.scheduleWithFixedDelay(this::reconcileQuietly, 0, period, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void onMutation(AccountPosition before, AccountPosition after) {
+		RollupKey afterKey = key(after);
+		if (before == null) {
+			cell(afterKey).add(1, cents(after.getBalance()));
+			return;
+		}
+		RollupKey beforeKey = key(before);
+		if (beforeKey.equals(afterKey)) {
+			cell(afterKey).add(0, cents(after.getBalance()) - cents(before.getBalance()));
+			return;
+		}
+		cell(beforeKey).add(-1, -cents(before.getBalance()));
+		cell(afterKey).add(1, cents(after.getBalance()));
+	}
+
+	@Override
+	public List<AccountAggregateResponse> findAggregates(String branchCode, Currency currency, AccountStatus status) {
+		if (branchCode != null && currency != null && status != null) {
+			Cell cell = cells.get(new RollupKey(branchCode, currency, status));
+			return cell == null || cell.isEmpty() ? List.of()
+					: List.of(cell.toResponse(new RollupKey(branchCode, currency, status)));
+		}
+		List<RollupKey> keys = new ArrayList<>();
+		for (Map.Entry<RollupKey, Cell> entry : cells.entrySet()) {
+			RollupKey key = entry.getKey();
+			if ((branchCode == null || branchCode.equals(key.branchCode))
+					&& (currency == null || currency == key.currency) && (status == null || status == key.status)
+					&& !entry.getValue().isEmpty()) {
+				keys.add(key);
+			}
+		}
+		keys.sort(ORDER);
+		List<AccountAggregateResponse> aggregates = new ArrayList<>(keys.size());
+		for (RollupKey key : keys) {
+			aggregates.add(cells.get(key).toResponse(key));
+		}
+		return aggregates;
+	}
+
+	// null hasta la primera pasada
+	public RollupReconciliation lastReconciliation() {
+		return lastReconciliation;
+	}
+
+	/**
+	 * Compara cada combinación con la tabla y suma la diferencia. Una mutación ya confirmada pero todavía no notificada
+	 * aparece como diferencia en una sola pasada, así que después de la carga inicial sólo se corrige la diferencia que
+	 * se repite igual en dos pasadas seguidas.
+	 */
+	public synchronized RollupReconciliation reconcile() {
+		long started = System.nanoTime();
+		Map<RollupKey, Drift> actual = new HashMap<>();
+		jdbcTemplate.query("select branch_code, currency, status, count(*), sum(balance) from bank_accounts"
+				+ " group by branch_code, currency, status", rs -> {
+					actual.put(
+							new RollupKey(rs.getString(1), Currency.valueOf(rs.getString(2)),
+									AccountStatus.valueOf(rs.getString(3))),
+							new Drift(rs.getLong(4), cents(rs.getBigDecimal(5))));
+				});
+
+		Set<RollupKey> keys = new HashSet<>(actual.keySet());
+		keys.addAll(cells.keySet());
+		Map<RollupKey, Drift> drifts = new HashMap<>();
+		int corrected = 0;
+		for (RollupKey key : keys) {
+			Drift expected = actual.getOrDefault(key, Drift.NONE);
+			Cell cell = cell(key);
+			Drift drift = new Drift(expected.accounts - cell.accounts.sum(), expected.cents - cell.cents.sum());
+			if (drift.equals(Drift.NONE)) {
+				continue;
+			}
+			if (!loaded || drift.equals(pendingDrift.get(key))) {
+				cell.add(drift.accounts, drift.cents);
+				corrected++;
+			} else {
+				drifts.put(key, drift);
+			}
+		}
+		if (loaded && corrected > 0) {
+			log.warn("Account rollup corrected {} cells after reconciliation", corrected);
+		}
+		pendingDrift = drifts;
+		loaded = true;
+
+		RollupReconciliation reconciliation = new RollupReconciliation(Instant.now(),
+				(System.nanoTime() - started) / 1_000_000, actual.size(), drifts.size(), corrected);
+		lastReconciliation = reconciliation;
+		log.info("Account rollup reconciled: {} cells, {} pending, {} corrected in {} ms", actual.size(),
+				drifts.size(), corrected, reconciliation.getDurationMillis());
+		return reconciliation;
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	private void reconcileQuietly() {
+		try {
+			reconcile();
+		} catch (RuntimeException e) {
+			// los contadores siguen con las mutaciones; la próxima pasada lo vuelve a intentar
+			log.warn("Account rollup reconciliation failed: {}", e.getMessage());
+		}
+	}
+
+	private Cell cell(RollupKey key) {
+		return cells.computeIfAbsent(key, k -> new Cell());
+	}
+
+	private static RollupKey key(AccountPosition position) {
+		return new RollupKey(position.getBranchCode(), position.getCurrency(), position.getStatus());
+	}
+
+	// mismo redondeo que aplica la columna DECIMAL(19,2)
+	private static long cents(BigDecimal amount) {
+		return amount == null ? 0 : amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+	}
+
+	@EqualsAndHashCode
+	@AllArgsConstructor
+	private static final class RollupKey {
+		private final String branchCode;
+		private final Currency currency;
+		private final AccountStatus status;
+	}
+
+	@EqualsAndHashCode
+	@AllArgsConstructor
+	private static final class Drift {
+		private static final Drift NONE = new Drift(0, 0);
+
+		private final long accounts;
+		private final long cents;
+	}
+
+	private static final class Cell {
+		private final LongAdder accounts = new LongAdder();
+		private final LongAdder cents = new LongAdder();
+
+		void add(long accountsDelta, long centsDelta) {
+			if (accountsDelta != 0) {
+				accounts.add(accountsDelta);
+			}
+			if (centsDelta != 0) {
+				cents.add(centsDelta);
+			}
+		}
+
+		boolean isEmpty() {
+			return accounts.sum() == 0 && cents.sum() == 0;
+		}
+
+		AccountAggregateResponse toResponse(RollupKey key) {
+			return new AccountAggregateResponse(key.branchCode, key.currency, key.status, accounts.sum(),
+					BigDecimal.valueOf(cents.sum(), SCALE));
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.bank_services.account.infrastructure.rollup;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.rollup")
+public class AccountRollupProperties {
+
+	// cada cuánto se contrastan los contadores en memoria con un GROUP BY sobre la tabla
+	private Duration reconcileInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,19 @@
+package com.bank_services.account.infrastructure.rollup;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RollupReconciliation {
+
+	private final Instant reconciledAt;
+	private final long durationMillis;
+	// combinaciones sucursal/moneda/estado presentes en la tabla
+	private final int cells;
+	// diferencias vistas por primera vez: se corrigen si la próxima pasada encuentra la misma
+	private final int pendingCells;
+	private final int correctedCells;
+}
@@ -0,0 +1,74 @@
+package com.bank_services.account.infrastructure.search;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.bank_services.account.application.dto.AccountSearchCriteria;
+
+/**
+ * Elige el camino de acceso de la búsqueda con un modelo de costo en filas leídas:
+ * <ul>
+ * <li>PK: se recorre en orden de id hasta llenar la página, unas {@code (limit + 1) / selectividad} filas (acotado
+ * por el total).</li>
+ * <li>Índice secundario: se leen todas las filas que cumplen sus columnas y después se ordenan por id, así que cuesta
+ * {@code filas * selectividad * indexRowCost}.</li>
+ * </ul>
+ * Las selectividades salen de {@link AccountStatistics} asumiendo independencia entre columnas.
+ */
+public class AccountSearchPlanner {
+
+	private final AccountSearchProperties properties;
+
+	public AccountSearchPlanner(AccountSearchProperties properties) {
+		this.properties = properties;
+	}
+
+	public SearchPlan plan(AccountSearchCriteria criteria, int limit, AccountStatistics statistics) {
+		if (statistics == null) {
+			// todavía no hay estadísticas: decide la base
+			return new SearchPlan(SearchIndex.PRIMARY_KEY, null, -1, Map.of(), -1, null);
+		}
+
+		double rows = statistics.getRowCount();
+		double cost = properties.getIndexRowCost();
+		double branch = criteria.getBranchCode() == null ? 1.0
+				: statistics.branchSelectivity(criteria.getBranchCode());
+		double currency = criteria.getCurrency() == null ? 1.0 : statistics.currencySelectivity(criteria.getCurrency());
+		double status = criteria.getStatus() == null ? 1.0 : statistics.statusSelectivity(criteria.getStatus());
+		double document = criteria.getOwnerDocument() == null ? 1.0 : statistics.ownerDocumentSelectivity();
+		double balance = criteria.hasBalanceRange()
+				? statistics.balanceSelectivity(criteria.getMinBalance(), criteria.getMaxBalance())
+				: 1.0;
+
+		Map<SearchIndex, Long> candidates = new EnumMap<>(SearchIndex.class);
+		double all = branch * currency * status * document * balance;
+		candidates.put(SearchIndex.PRIMARY_KEY, estimate(Math.min(rows, (limit + 1) / all)));
+		if (criteria.getOwnerDocument() != null) {
+			candidates.put(SearchIndex.OWNER_DOCUMENT, estimate(rows * document * cost));
+		}
+		if (criteria.getBranchCode() != null) {
+			candidates.put(SearchIndex.BRANCH_STATUS, estimate(rows * branch * status * cost));
+		}
+		if (criteria.getCurrency() != null) {
+			candidates.put(SearchIndex.CURRENCY_STATUS, estimate(rows * currency * status * cost));
+		}
+		if (criteria.hasBalanceRange()) {
+			candidates.put(SearchIndex.BALANCE, estimate(rows * balance * cost));
+		}
+
+		// a igual costo gana la PK, que no necesita ordenar
+		SearchIndex best = SearchIndex.PRIMARY_KEY;
+		for (Map.Entry<SearchIndex, Long> candidate : candidates.entrySet()) {
+			if (candidate.getValue() < candidates.get(best)) {
+				best = candidate.getKey();
+			}
+		}
+		String hint = properties.isIndexHints() ? statistics.physicalIndex(best) : null;
+		return new SearchPlan(best, hint, candidates.get(best), candidates, statistics.getRowCount(),
+				statistics.getCollectedAt());
+	}
+
+	private static long estimate(double rows) {
+		return (long) Math.ceil(rows);
+	}
+}
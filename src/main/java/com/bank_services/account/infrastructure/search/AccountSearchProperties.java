@@ -0,0 +1,24 @@
+package com.bank_services.account.infrastructure.search;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.search")
+public class AccountSearchProperties {
+
+	// false: la búsqueda no fuerza índice y el plan queda en manos de la base
+	private boolean indexHints = true;
+
+	private Duration statisticsRefresh = Duration.ofMinutes(10);
+
+	// filas de muestra para estimar la selectividad de los rangos de saldo
+	private int balanceSampleSize = 2000;
+
+	// costo de una fila leída por un índice secundario (búsqueda + acceso a la fila + orden por id) frente a una fila
+	// recorrida en la PK
+	private double indexRowCost = 2.0;
+}
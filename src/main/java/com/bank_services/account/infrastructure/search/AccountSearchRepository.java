@@ -0,0 +1,102 @@
+package com.bank_services.account.infrastructure.search;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.bank_services.account.application.dto.AccountSearchCriteria;
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+
+/**
+ * Búsqueda con SQL nativo: los filtros son opcionales y el índice lo fija {@link AccountSearchPlanner} con
+ * {@code USE INDEX} (H2 elige siempre un índice secundario y ordena todas las coincidencias, aun cuando recorrer la
+ * PK llena la página mucho antes). Devuelve directamente {@link BankAccountResponse}, como el resto del modelo de
+ * lectura.
+ */
+@Repository
+public class AccountSearchRepository {
+
+	private static final String SELECT = "select id, account_number, cbu, owner_name, owner_document, currency,"
+			+ " balance, status, branch_code, created_at, updated_at from bank_accounts";
+
+	private static final RowMapper<BankAccountResponse> ROW_MAPPER = AccountSearchRepository::toResponse;
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final AccountSearchPlanner planner;
+	private final AccountStatisticsCollector statistics;
+
+	public AccountSearchRepository(NamedParameterJdbcTemplate jdbcTemplate, AccountSearchPlanner planner,
+			AccountStatisticsCollector statistics) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.planner = planner;
+		this.statistics = statistics;
+	}
+
+	public SearchPlan plan(AccountSearchCriteria criteria, int limit) {
+		return planner.plan(criteria, limit, statistics.current());
+	}
+
+	// Hasta limit filas con id > after (si viene), en orden de id
+	public List<BankAccountResponse> search(AccountSearchCriteria criteria, UUID after, int limit) {
+		SearchPlan plan = plan(criteria, limit);
+		StringBuilder sql = new StringBuilder(SELECT);
+		if (plan.getHint() != null) {
+			sql.append(" use index (").append(plan.getHint()).append(')');
+		}
+		MapSqlParameterSource params = new MapSqlParameterSource();
+		String glue = " where ";
+		if (criteria.getOwnerDocument() != null) {
+			sql.append(glue).append("owner_document = :ownerDocument");
+			params.addValue("ownerDocument", criteria.getOwnerDocument());
+			glue = " and ";
+		}
+		if (criteria.getBranchCode() != null) {
+			sql.append(glue).append("branch_code = :branchCode");
+			params.addValue("branchCode", criteria.getBranchCode());
+			glue = " and ";
+		}
+		if (criteria.getCurrency() != null) {
+			sql.append(glue).append("currency = :currency");
+			params.addValue("currency", criteria.getCurrency().name());
+			glue = " and ";
+		}
+		if (criteria.getStatus() != null) {
+			sql.append(glue).append("status = :status");
+			params.addValue("status", criteria.getStatus().name());
+			glue = " and ";
+		}
+		if (criteria.getMinBalance() != null) {
+			sql.append(glue).append("balance >= :minBalance");
+			params.addValue("minBalance", criteria.getMinBalance());
+			glue = " and ";
+		}
+		if (criteria.getMaxBalance() != null) {
+			sql.append(glue).append("balance <= :maxBalance");
+			params.addValue("maxBalance", criteria.getMaxBalance());
+			glue = " and ";
+		}
+		if (after != null) {
+			sql.append(glue).append("id > :after");
+			params.addValue("after", after);
+		}
+		sql.append(" order by id fetch first ").append(limit).append(" rows only");
+		return jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+	}
+
+	private static BankAccountResponse toResponse(ResultSet rs, int row) throws SQLException {
+		return new BankAccountResponse(rs.getObject("id", UUID.class), rs.getString("account_number"),
+				rs.getString("cbu"), rs.getString("owner_name"), rs.getString("owner_document"),
+				Currency.valueOf(rs.getString("currency")), rs.getBigDecimal("balance"),
+				AccountStatus.valueOf(rs.getString("status")), rs.getString("branch_code"),
+				rs.getObject("created_at", LocalDateTime.class), rs.getObject("updated_at", LocalDateTime.class));
+	}
+}
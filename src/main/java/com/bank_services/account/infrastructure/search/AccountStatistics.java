@@ -0,0 +1,127 @@
+package com.bank_services.account.infrastructure.search;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+
+import lombok.Getter;
+
+/**
+ * Foto de la distribución de {@code bank_accounts} para estimar selectividades: conteos exactos por sucursal, moneda
+ * y estado, cantidad de documentos distintos y una muestra ordenada de saldos. {@code physicalIndexes} trae el nombre
+ * real de cada índice cuando la base admite forzarlo (vacío si no).
+ */
+public class AccountStatistics {
+
+	@Getter
+	private final long rowCount;
+	private final Map<String, Long> branchCounts;
+	@Getter
+	private final Map<Currency, Long> currencyCounts;
+	@Getter
+	private final Map<AccountStatus, Long> statusCounts;
+	@Getter
+	private final long ownerDocuments;
+	private final BigDecimal[] balanceSample;
+	private final Map<SearchIndex, String> physicalIndexes;
+	@Getter
+	private final Instant collectedAt;
+
+	public AccountStatistics(long rowCount, Map<String, Long> branchCounts, Map<Currency, Long> currencyCounts,
+			Map<AccountStatus, Long> statusCounts, long ownerDocuments, BigDecimal[] balanceSample,
+			Map<SearchIndex, String> physicalIndexes, Instant collectedAt) {
+		this.rowCount = rowCount;
+		this.branchCounts = Map.copyOf(branchCounts);
+		this.currencyCounts = Map.copyOf(currencyCounts);
+		this.statusCounts = Map.copyOf(statusCounts);
+		this.ownerDocuments = ownerDocuments;
+		this.balanceSample = balanceSample.clone();
+		Arrays.sort(this.balanceSample);
+		this.physicalIndexes = Map.copyOf(physicalIndexes);
+		this.collectedAt = collectedAt;
+	}
+
+	public int getBranches() {
+		return branchCounts.size();
+	}
+
+	public int getBalanceSampleSize() {
+		return balanceSample.length;
+	}
+
+	String physicalIndex(SearchIndex index) {
+		return physicalIndexes.get(index);
+	}
+
+	double branchSelectivity(String branchCode) {
+		return frequency(branchCounts.get(branchCode));
+	}
+
+	double currencySelectivity(Currency currency) {
+		return frequency(currencyCounts.get(currency));
+	}
+
+	double statusSelectivity(AccountStatus status) {
+		return frequency(statusCounts.get(status));
+	}
+
+	double ownerDocumentSelectivity() {
+		return ownerDocuments == 0 ? 1.0 : Math.max(1.0 / ownerDocuments, minimum());
+	}
+
+	// Fracción de la muestra dentro del rango (extremos inclusivos); nunca menos que una fila
+	double balanceSelectivity(BigDecimal min, BigDecimal max) {
+		if (balanceSample.length == 0) {
+			return 1.0;
+		}
+		int from = min == null ? 0 : lowerBound(min);
+		int to = max == null ? balanceSample.length : upperBound(max);
+		return Math.max((double) Math.max(to - from, 0) / balanceSample.length, minimum());
+	}
+
+	private double frequency(Long count) {
+		if (rowCount == 0) {
+			return 1.0;
+		}
+		// un valor que no estaba al tomar la foto puede haber aparecido después: se estima una fila
+		return Math.max(count == null ? 0 : (double) count / rowCount, minimum());
+	}
+
+	private double minimum() {
+		return rowCount == 0 ? 1.0 : 1.0 / rowCount;
+	}
+
+	// primer índice con valor >= key
+	private int lowerBound(BigDecimal key) {
+		int low = 0;
+		int high = balanceSample.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (balanceSample[mid].compareTo(key) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	// primer índice con valor > key
+	private int upperBound(BigDecimal key) {
+		int low = 0;
+		int high = balanceSample.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (balanceSample[mid].compareTo(key) <= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
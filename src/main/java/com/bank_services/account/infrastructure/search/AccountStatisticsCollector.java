@@ -0,0 +1,142 @@
+package com.bank_services.account.infrastructure.search;
+
+import java.math.BigDecimal;
+import java.sql.DatabaseMetaData;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+
+/**
+ * Recalcula {@link AccountStatistics} en segundo plano cada {@code account.search.statistics-refresh}. Sucursal, moneda
+ * y estado salen de un único {@code GROUP BY}; los saldos se muestrean recorriendo la PK desde ids al azar.
+ */
+public class AccountStatisticsCollector implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(AccountStatisticsCollector.class);
+
+	private static final String TABLE = "BANK_ACCOUNTS";
+	// filas consecutivas por sondeo de la muestra: los ids son UUID aleatorios, así que el orden por id no sesga
+	private static final int SAMPLE_RUN = 50;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final AccountSearchProperties properties;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "account-search-statistics");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile AccountStatistics current;
+
+	public AccountStatisticsCollector(JdbcTemplate jdbcTemplate, AccountSearchProperties properties) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.properties = properties;
+	}
+
+	public void start() {
+		long period = properties.getStatisticsRefresh().toMillis();
+		scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, period, TimeUnit.MILLISECONDS);
+	}
+
+	// null hasta la primera recolección
+	public AccountStatistics current() {
+		return current;
+	}
+
+	public synchronized AccountStatistics refresh() {
+		long started = System.nanoTime();
+		Map<String, Long> branches = new HashMap<>();
+		Map<Currency, Long> currencies = new EnumMap<>(Currency.class);
+		Map<AccountStatus, Long> statuses = new EnumMap<>(AccountStatus.class);
+		long[] rows = { 0 };
+		jdbcTemplate.query("select branch_code, currency, status, count(*) from bank_accounts"
+				+ " group by branch_code, currency, status", rs -> {
+					long count = rs.getLong(4);
+					rows[0] += count;
+					branches.merge(rs.getString(1), count, Long::sum);
+					currencies.merge(Currency.valueOf(rs.getString(2)), count, Long::sum);
+					statuses.merge(AccountStatus.valueOf(rs.getString(3)), count, Long::sum);
+				});
+		Long documents = jdbcTemplate.queryForObject("select count(distinct owner_document) from bank_accounts",
+				Long.class);
+
+		AccountStatistics statistics = new AccountStatistics(rows[0], branches, currencies, statuses,
+				documents == null ? 0 : documents, sampleBalances(rows[0]), physicalIndexes(), Instant.now());
+		current = statistics;
+		log.info("Account search statistics: {} rows, {} branches, {} balance samples in {} ms", rows[0],
+				branches.size(), statistics.getBalanceSampleSize(), (System.nanoTime() - started) / 1_000_000);
+		return statistics;
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	private void refreshQuietly() {
+		try {
+			refresh();
+		} catch (RuntimeException e) {
+			// se conserva la foto anterior; la próxima ejecución lo vuelve a intentar
+			log.warn("Account search statistics refresh failed: {}", e.getMessage());
+		}
+	}
+
+	private BigDecimal[] sampleBalances(long rowCount) {
+		int size = properties.getBalanceSampleSize();
+		if (rowCount <= size) {
+			return jdbcTemplate.queryForList("select balance from bank_accounts", BigDecimal.class)
+					.toArray(BigDecimal[]::new);
+		}
+		List<BigDecimal> sample = new ArrayList<>(size);
+		for (int probe = 0; probe < size / SAMPLE_RUN && sample.size() < size; probe++) {
+			sample.addAll(jdbcTemplate.queryForList(
+					"select balance from bank_accounts where id >= ? order by id fetch first " + SAMPLE_RUN
+							+ " rows only",
+					BigDecimal.class, UUID.randomUUID()));
+		}
+		return sample.toArray(BigDecimal[]::new);
+	}
+
+	// Sólo H2 admite USE INDEX; en otra base la búsqueda no fuerza índices
+	private Map<SearchIndex, String> physicalIndexes() {
+		String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+			DatabaseMetaData metaData = connection.getMetaData();
+			return metaData.getDatabaseProductName();
+		});
+		Map<SearchIndex, String> indexes = new EnumMap<>(SearchIndex.class);
+		if (product == null || !product.toUpperCase(Locale.ROOT).contains("H2")) {
+			return indexes;
+		}
+		jdbcTemplate.query("select index_name, index_type_name from information_schema.indexes"
+				+ " where table_schema = current_schema and table_name = ?", rs -> {
+					String name = rs.getString(1);
+					if ("PRIMARY KEY".equals(rs.getString(2))) {
+						indexes.put(SearchIndex.PRIMARY_KEY, name);
+						return;
+					}
+					for (SearchIndex index : SearchIndex.values()) {
+						if (name.equalsIgnoreCase(index.getIndexName())) {
+							indexes.put(index, name);
+						}
+					}
+				}, TABLE);
+		return indexes;
+	}
+}
@@ -0,0 +1,19 @@
+package com.bank_services.account.infrastructure.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Caminos de acceso de la búsqueda; los nombres coinciden con BankAccountEntity y data.sql
+@Getter
+@AllArgsConstructor
+public enum SearchIndex {
+
+	// recorre la PK en orden de id y filtra: conviene cuando los filtros son poco selectivos
+	PRIMARY_KEY(null),
+	OWNER_DOCUMENT("idx_bank_account_owner_document"),
+	BRANCH_STATUS("idx_bank_account_branch_status"),
+	CURRENCY_STATUS("idx_bank_account_currency_status"),
+	BALANCE("idx_bank_account_balance");
+
+	private final String indexName;
+}
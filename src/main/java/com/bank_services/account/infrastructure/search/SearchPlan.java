@@ -0,0 +1,27 @@
+package com.bank_services.account.infrastructure.search;
+
+import java.time.Instant;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchPlan {
+
+	private final SearchIndex index;
+
+	// índice que se fuerza en la consulta; null deja la elección a la base
+	private final String hint;
+
+	// filas que se estima leer con el camino elegido (-1 sin estadísticas)
+	private final long estimatedRows;
+
+	// filas estimadas para cada camino aplicable a los filtros
+	private final Map<SearchIndex, Long> candidates;
+
+	private final long rowCount;
+
+	private final Instant statisticsCollectedAt;
+}
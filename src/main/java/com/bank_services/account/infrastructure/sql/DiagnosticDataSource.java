@@ -0,0 +1,126 @@
+package com.bank_services.account.infrastructure.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource que instrumenta los statements creados mientras {@link SqlDiagnostics} está activo. Se decide al tomar
+ * la conexión: con los diagnósticos apagados (sin ventana abierta ni header en el request actual) se devuelve la
+ * conexión del pool tal cual, sin proxy. Una conexión tomada antes de abrir la ventana no se mide.
+ */
+public class DiagnosticDataSource extends DelegatingDataSource {
+
+	private final SqlDiagnostics diagnostics;
+
+	public DiagnosticDataSource(DataSource target, SqlDiagnostics diagnostics) {
+		super(target);
+		this.diagnostics = diagnostics;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrap(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrap(super.getConnection(username, password));
+	}
+
+	private Connection wrap(Connection connection) {
+		if (!diagnostics.isActive()) {
+			return connection;
+		}
+		return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+				new ConnectionHandler(connection));
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	private final class ConnectionHandler implements InvocationHandler {
+
+		private final Connection target;
+
+		ConnectionHandler(Connection target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			default:
+				break;
+			}
+			Object result = DiagnosticDataSource.invoke(target, method, args);
+			if (result instanceof Statement statement && diagnostics.isActive()) {
+				String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+				return instrument(statement, sql);
+			}
+			return result;
+		}
+
+		private Statement instrument(Statement statement, String sql) {
+			Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+					: statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+			return (Statement) Proxy.newProxyInstance(DiagnosticDataSource.class.getClassLoader(),
+					new Class<?>[] { type }, new StatementHandler(statement, sql));
+		}
+	}
+
+	private final class StatementHandler implements InvocationHandler {
+
+		private final Statement target;
+		private final String preparedSql;
+
+		StatementHandler(Statement target, String preparedSql) {
+			this.target = target;
+			this.preparedSql = preparedSql;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if ("equals".equals(name)) {
+				return proxy == args[0];
+			}
+			if ("hashCode".equals(name)) {
+				return System.identityHashCode(proxy);
+			}
+			if (!name.startsWith("execute")) {
+				return DiagnosticDataSource.invoke(target, method, args);
+			}
+
+			String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+			long start = System.nanoTime();
+			boolean failed = true;
+			try {
+				Object result = DiagnosticDataSource.invoke(target, method, args);
+				failed = false;
+				return result;
+			} finally {
+				diagnostics.record(sql, System.nanoTime() - start, failed);
+			}
+		}
+	}
+}
@@ -0,0 +1,173 @@
+package com.bank_services.account.infrastructure.sql;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estado de los diagnósticos SQL. Las sentencias sólo se miden mientras hay una ventana abierta o el request actual
+ * pidió diagnóstico; fuera de eso {@link DiagnosticDataSource} devuelve los statements sin instrumentar. Las
+ * estadísticas se agregan por sentencia en memoria en lugar de loguear cada una.
+ */
+public class SqlDiagnostics {
+
+	static final String OTHER_STATEMENT = "<other>";
+
+	private final SqlDiagnosticsProperties properties;
+	private final long slowThresholdNanos;
+	private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+	private final ThreadLocal<RequestTrace> requestTrace = new ThreadLocal<>();
+	private final LongAdder dropped = new LongAdder();
+
+	// epoch millis de fin de la ventana; 0 = sin ventana
+	private volatile long windowEndsAt;
+
+	public SqlDiagnostics(SqlDiagnosticsProperties properties) {
+		this.properties = properties;
+		this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+	}
+
+	public boolean isActive() {
+		return requestTrace.get() != null || System.currentTimeMillis() < windowEndsAt;
+	}
+
+	public Instant openWindow(Duration duration) {
+		Duration effective = duration.compareTo(properties.getMaxWindow()) > 0 ? properties.getMaxWindow() : duration;
+		windowEndsAt = System.currentTimeMillis() + effective.toMillis();
+		return Instant.ofEpochMilli(windowEndsAt);
+	}
+
+	public void closeWindow() {
+		windowEndsAt = 0;
+	}
+
+	public void reset() {
+		statements.clear();
+		dropped.reset();
+	}
+
+	// Activa las mediciones para el hilo actual hasta endRequest()
+	public RequestTrace beginRequest() {
+		RequestTrace trace = new RequestTrace();
+		requestTrace.set(trace);
+		return trace;
+	}
+
+	public void endRequest() {
+		requestTrace.remove();
+	}
+
+	void record(String sql, long nanos, boolean failed) {
+		RequestTrace trace = requestTrace.get();
+		if (trace != null) {
+			trace.statements++;
+			trace.nanos += nanos;
+		}
+
+		String key = normalize(sql);
+		StatementStats stats = statements.get(key);
+		if (stats == null) {
+			// el mapa se acota para que SQL armado a mano con literales no lo haga crecer sin límite
+			if (statements.size() >= properties.getMaxStatements()) {
+				dropped.increment();
+				key = OTHER_STATEMENT;
+			}
+			stats = statements.computeIfAbsent(key, k -> new StatementStats());
+		}
+		stats.add(nanos, failed, nanos >= slowThresholdNanos);
+	}
+
+	public SqlDiagnosticsReport report() {
+		List<SqlStatementReport> top = new ArrayList<>(statements.size());
+		long executions = 0;
+		long slow = 0;
+		for (Map.Entry<String, StatementStats> entry : statements.entrySet()) {
+			SqlStatementReport statement = entry.getValue().toReport(entry.getKey());
+			executions += statement.getExecutions();
+			slow += statement.getSlow();
+			top.add(statement);
+		}
+		top.sort(Comparator.comparingDouble(SqlStatementReport::getTotalMillis).reversed());
+		long endsAt = windowEndsAt;
+		boolean windowActive = System.currentTimeMillis() < endsAt;
+		return new SqlDiagnosticsReport(windowActive, windowActive ? Instant.ofEpochMilli(endsAt) : null,
+				properties.getSlowThreshold().toMillis(), executions, slow, dropped.sum(),
+				top.subList(0, Math.min(top.size(), properties.getTopStatements())));
+	}
+
+	static String normalize(String sql) {
+		return sql == null ? OTHER_STATEMENT : sql.strip().replaceAll("\\s+", " ");
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	public static final class RequestTrace {
+
+		private int statements;
+		private long nanos;
+
+		public int getStatements() {
+			return statements;
+		}
+
+		public double getMillis() {
+			return toMillis(nanos);
+		}
+	}
+
+	private static final class StatementStats {
+
+		// bucket i: duraciones de hasta 2^i microsegundos
+		private static final int BUCKETS = 32;
+
+		private final LongAdder executions = new LongAdder();
+		private final LongAdder failures = new LongAdder();
+		private final LongAdder slow = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+		private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+		void add(long nanos, boolean failed, boolean isSlow) {
+			executions.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulateAndGet(nanos, Math::max);
+			if (failed) {
+				failures.increment();
+			}
+			if (isSlow) {
+				slow.increment();
+			}
+			long micros = Math.max(1, nanos / 1_000);
+			int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros - 1));
+			histogram.incrementAndGet(bucket);
+		}
+
+		SqlStatementReport toReport(String sql) {
+			long count = executions.sum();
+			long total = totalNanos.sum();
+			return new SqlStatementReport(sql, count, failures.sum(), slow.sum(), toMillis(total),
+					count == 0 ? 0.0 : toMillis(total / count), p99Millis(count), toMillis(maxNanos.get()));
+		}
+
+		private double p99Millis(long count) {
+			long target = (long) Math.ceil(count * 0.99);
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += histogram.get(i);
+				if (seen >= target && seen > 0) {
+					return (1L << i) / 1_000.0;
+				}
+			}
+			return toMillis(maxNanos.get());
+		}
+	}
+}
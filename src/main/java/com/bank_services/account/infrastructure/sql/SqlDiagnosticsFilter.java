@@ -0,0 +1,44 @@
+package com.bank_services.account.infrastructure.sql;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Un request con el header de diagnóstico mide sus sentencias y deja una sola línea de resumen
+public class SqlDiagnosticsFilter extends OncePerRequestFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(SqlDiagnosticsFilter.class);
+
+	private final SqlDiagnostics diagnostics;
+	private final String header;
+
+	public SqlDiagnosticsFilter(SqlDiagnostics diagnostics, String header) {
+		this.diagnostics = diagnostics;
+		this.header = header;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !Boolean.parseBoolean(request.getHeader(header));
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		SqlDiagnostics.RequestTrace trace = diagnostics.beginRequest();
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			diagnostics.endRequest();
+			log.info("SQL diagnostics {} {}: {} statements in {} ms", request.getMethod(), request.getRequestURI(),
+					trace.getStatements(), String.format("%.3f", trace.getMillis()));
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.bank_services.account.infrastructure.sql;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "account.sql-diagnostics")
+public class SqlDiagnosticsProperties {
+
+	// instala el proxy del DataSource; las mediciones sólo corren con una ventana o un request marcado
+	private boolean enabled = true;
+
+	// header que activa las mediciones para un request puntual
+	private String header = "X-Sql-Diagnostics";
+
+	private Duration slowThreshold = Duration.ofMillis(50);
+
+	private Duration maxWindow = Duration.ofMinutes(30);
+
+	private int maxStatements = 200;
+
+	private int topStatements = 20;
+}
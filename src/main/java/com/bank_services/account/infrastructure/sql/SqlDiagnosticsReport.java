@@ -0,0 +1,20 @@
+package com.bank_services.account.infrastructure.sql;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SqlDiagnosticsReport {
+
+	private final boolean windowActive;
+	private final Instant windowEndsAt;
+	private final long slowThresholdMillis;
+	private final long executions;
+	private final long slow;
+	private final long droppedStatements;
+	private final List<SqlStatementReport> topStatements;
+}
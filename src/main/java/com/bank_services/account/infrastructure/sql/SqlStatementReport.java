@@ -0,0 +1,19 @@
+package com.bank_services.account.infrastructure.sql;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SqlStatementReport {
+
+	private final String sql;
+	private final long executions;
+	private final long failures;
+	private final long slow;
+	private final double totalMillis;
+	private final double avgMillis;
+	// cota superior del bucket (potencias de 2 en microsegundos) que contiene al percentil 99
+	private final double p99Millis;
+	private final double maxMillis;
+}
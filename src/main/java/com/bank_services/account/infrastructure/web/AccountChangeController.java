@@ -0,0 +1,35 @@
+package com.bank_services.account.infrastructure.web;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.bank_services.account.infrastructure.outbox.AccountChangeStream;
+
+@RestController
+@RequestMapping("/api/v1/accounts/changes")
+public class AccountChangeController {
+
+	private final AccountChangeStream stream;
+
+	public AccountChangeController(AccountChangeStream stream) {
+		this.stream = stream;
+	}
+
+	// Eventos con offset mayor a from (o a Last-Event-ID al reconectar); sin ninguno, sólo los cambios nuevos
+	@GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> tail(@RequestParam(name = "from", required = false) Long from,
+			@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+		if (!stream.acceptsSubscribers()) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+		}
+		long offset = lastEventId != null ? lastEventId : from != null ? from : stream.published();
+		return ResponseEntity.ok(stream.subscribe(offset));
+	}
+}
@@ -1,12 +1,19 @@
 package com.bank_services.account.infrastructure.web;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,16 +21,49 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.bank_services.account.application.dto.AccountAggregateResponse;
+import com.bank_services.account.application.dto.AccountBalanceResponse;
+import com.bank_services.account.application.dto.AccountResponsePage;
+import com.bank_services.account.application.dto.AccountSearchCriteria;
+import com.bank_services.account.application.dto.AccountSummaryBatchResponse;
 import com.bank_services.account.application.dto.AccountSummaryResponse;
+import com.bank_services.account.application.dto.AccountVersion;
+import com.bank_services.account.application.dto.BalanceOperationRequest;
 import com.bank_services.account.application.dto.BankAccountRequest;
 import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.application.dto.BatchCreateResponse;
+import com.bank_services.account.application.dto.BatchItemResponse;
+import com.bank_services.account.application.dto.LedgerEntryPage;
+import com.bank_services.account.application.dto.LedgerEntryResponse;
+import com.bank_services.account.application.dto.TransferRequest;
+import com.bank_services.account.application.dto.TransferResponse;
+import com.bank_services.account.application.dto.VersionedAccountResponse;
+import com.bank_services.account.application.dto.VersionedAccountSummary;
+import com.bank_services.account.application.mapper.AccountResponseMapper;
+import com.bank_services.account.application.query.AccountQueryService;
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
 import com.bank_services.account.domain.model.AccountStatus;
 import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.BatchItemResult;
+import com.bank_services.account.domain.model.BatchItemStatus;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.model.TransferResult;
+import com.bank_services.account.domain.service.AccountBatchService;
 import com.bank_services.account.domain.service.AccountService;
+import com.bank_services.account.infrastructure.idempotency.IdempotentRequests;
+import com.bank_services.account.infrastructure.risk.RiskRuleSnapshot;
+import com.bank_services.account.infrastructure.risk.RiskRules;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 
 import jakarta.validation.Valid;
 
@@ -31,109 +71,302 @@ import jakarta.validation.Valid;
 @RequestMapping("/api/v1/accounts")
 public class AccountController {
 
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+	public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+	private static final int EXPORT_FLUSH_EVERY = 500;
+
 	private final AccountService accountService;
-	private final SelfAccountClient selfAccountClient;
+	private final AccountBatchService batchService;
+	private final AccountQueryService queryService;
+	private final AccountSummaryProvider summaryProvider;
+	private final AccountSummaryMapper summaryMapper;
+	private final AccountRequestMapper requestMapper;
+	private final AccountResponseMapper responseMapper;
+	private final ObjectMapper objectMapper;
+	private final IdempotentRequests idempotentRequests;
+	private final RiskRules riskRules;
 
-	public AccountController(AccountService accountService, SelfAccountClient selfAccountClient) {
+	public AccountController(AccountService accountService, AccountBatchService batchService,
+			AccountQueryService queryService, AccountSummaryProvider summaryProvider,
+			AccountSummaryMapper summaryMapper, AccountRequestMapper requestMapper, AccountResponseMapper responseMapper,
+			ObjectMapper objectMapper, IdempotentRequests idempotentRequests, RiskRules riskRules) {
 		this.accountService = accountService;
-		this.selfAccountClient = selfAccountClient;
+		this.batchService = batchService;
+		this.queryService = queryService;
+		this.summaryProvider = summaryProvider;
+		this.summaryMapper = summaryMapper;
+		this.requestMapper = requestMapper;
+		this.responseMapper = responseMapper;
+		this.objectMapper = objectMapper;
+		this.idempotentRequests = idempotentRequests;
+		this.riskRules = riskRules;
 	}
 
+	// Con Idempotency-Key, un reintento recibe la respuesta del primer intento sin volver a crear la cuenta
 	@PostMapping
-	public ResponseEntity<BankAccountResponse> createAccount(@Valid @RequestBody BankAccountRequest request) {
-		BankAccount toCreate = mapToDomainForCreate(request);
-		BankAccount created = accountService.create(toCreate);
-		BankAccountResponse response = mapToResponse(created);
+	public ResponseEntity<BankAccountResponse> createAccount(
+			@RequestHeader(name = IdempotentRequests.KEY_HEADER, required = false) String idempotencyKey,
+			@Valid @RequestBody BankAccountRequest request) {
+		return idempotentRequests.execute(idempotencyKey, idempotentRequests.fingerprint("create", request),
+				BankAccountResponse.class, () -> {
+					BankAccount toCreate = requestMapper.toDomainForCreate(request);
+					BankAccount created = accountService.create(toCreate);
+					BankAccountResponse response = responseMapper.toResponse(created);
 
-		URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(created.getId())
-				.toUri();
+					URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}")
+							.buildAndExpand(created.getId()).toUri();
 
-		return ResponseEntity.created(location).body(response);
+					return ResponseEntity.created(location).body(response);
+				});
 	}
 
+	// Alta masiva: cada ítem se valida por separado, así uno inválido no rechaza el lote completo
+	@PostMapping("/batch")
+	public ResponseEntity<BatchCreateResponse> createAccounts(@RequestBody List<BankAccountRequest> requests) {
+		batchService.checkSize(requests.size());
+		BatchItemResponse[] items = new BatchItemResponse[requests.size()];
+		List<Integer> validIndexes = new ArrayList<>(requests.size());
+		List<BankAccount> toCreate = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			BankAccountRequest request = requests.get(i);
+			String violations = request == null ? "Item must not be null" : requestMapper.describeViolations(request);
+			if (violations != null) {
+				items[i] = toBatchItem(i, request == null ? null : request.getCbu(), BatchItemStatus.INVALID, null,
+						violations);
+				continue;
+			}
+			validIndexes.add(i);
+			toCreate.add(requestMapper.toDomainForCreate(request));
+		}
+
+		List<BatchItemResult> results = batchService.createAll(toCreate);
+		for (int j = 0; j < results.size(); j++) {
+			int index = validIndexes.get(j);
+			BatchItemResult result = results.get(j);
+			UUID id = result.getAccount() != null ? result.getAccount().getId() : null;
+			items[index] = toBatchItem(index, requests.get(index).getCbu(), result.getStatus(), id,
+					result.getMessage());
+		}
+
+		BatchCreateResponse response = new BatchCreateResponse();
+		for (BatchItemResponse item : items) {
+			switch (item.getStatus()) {
+			case CREATED -> response.setCreated(response.getCreated() + 1);
+			case DUPLICATE -> response.setDuplicates(response.getDuplicates() + 1);
+			case INVALID -> response.setInvalid(response.getInvalid() + 1);
+			case FAILED -> response.setFailed(response.getFailed() + 1);
+			}
+		}
+		response.setResults(List.of(items));
+		return ResponseEntity.ok(response);
+	}
+
+	// Las lecturas van por el modelo de lectura: la respuesta se arma sin pasar por BankAccount. Con
+	// If-None-Match/If-Modified-Since se consulta primero sólo la versión, y si sigue vigente se responde 304 sin leer
+	// la fila ni serializar. Si no, cuerpo, ETag y Last-Modified salen de una única lectura
 	@GetMapping("/{id}")
-	public ResponseEntity<BankAccountResponse> getAccountById(@PathVariable("id") UUID id) {
-		BankAccount account = accountService.getById(id);
-		return ResponseEntity.ok(mapToResponse(account));
+	public ResponseEntity<BankAccountResponse> getAccountById(@PathVariable("id") UUID id, WebRequest webRequest) {
+		if (isConditional(webRequest)) {
+			AccountVersion version = queryService.getVersion(id);
+			if (notModifiedByVersion(webRequest, AccountETags.strong(version.getVersion()),
+					AccountETags.lastModified(version.getUpdatedAt()))) {
+				return null;
+			}
+		}
+		VersionedAccountResponse current = queryService.getVersionedById(id);
+		if (webRequest.checkNotModified(AccountETags.strong(current.getVersion()),
+				AccountETags.lastModified(current.getAccount().getUpdatedAt()))) {
+			return null;
+		}
+		return ResponseEntity.ok(current.getAccount());
 	}
 
+	// Página acotada por cursor; el cursor siguiente viaja en el header X-Next-Cursor
 	@GetMapping
-	public ResponseEntity<List<BankAccountResponse>> getAllAccounts() {
-		List<BankAccount> accounts = accountService.getAll();
-		List<BankAccountResponse> responses = accounts.stream().map(this::mapToResponse).collect(Collectors.toList());
-		return ResponseEntity.ok(responses);
+	public ResponseEntity<List<BankAccountResponse>> getAllAccounts(
+			@RequestParam(name = "after", required = false) UUID after,
+			@RequestParam(name = "limit", defaultValue = "" + AccountService.DEFAULT_PAGE_SIZE) int limit) {
+		return toPageResponse(queryService.getPage(after, limit));
+	}
+
+	// Filtros combinables (documento, sucursal, moneda, estado, rango de saldo) con el mismo cursor que el listado
+	@GetMapping("/search")
+	public ResponseEntity<List<BankAccountResponse>> searchAccounts(@Valid AccountSearchCriteria criteria,
+			@RequestParam(name = "after", required = false) UUID after,
+			@RequestParam(name = "limit", defaultValue = "" + AccountService.DEFAULT_PAGE_SIZE) int limit) {
+		return toPageResponse(queryService.search(criteria, after, limit));
 	}
 
+	// Cantidad de cuentas y saldo total por sucursal, moneda y estado, desde los contadores en memoria (sin recorrer
+	// la tabla)
+	@GetMapping("/aggregates")
+	public ResponseEntity<List<AccountAggregateResponse>> getAggregates(
+			@RequestParam(name = "branchCode", required = false) String branchCode,
+			@RequestParam(name = "currency", required = false) Currency currency,
+			@RequestParam(name = "status", required = false) AccountStatus status) {
+		return ResponseEntity.ok(queryService.getAggregates(branchCode, currency, status));
+	}
+
+	// Exportación completa en NDJSON: cada cuenta se escribe a medida que se lee de la base
+	@GetMapping(value = "/export", produces = "application/x-ndjson")
+	public ResponseEntity<StreamingResponseBody> exportAccounts() {
+		StreamingResponseBody body = out -> {
+			try (SequenceWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+					.withRootValueSeparator("\n").writeValues(out)) {
+				int[] written = { 0 };
+				accountService.streamAll(account -> {
+					try {
+						writer.write(responseMapper.toResponse(account));
+						if (++written[0] % EXPORT_FLUSH_EVERY == 0) {
+							writer.flush();
+						}
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				writer.flush();
+				if (written[0] > 0) {
+					out.write('\n');
+				}
+			}
+		};
+		return ResponseEntity.ok().contentType(NDJSON).body(body);
+	}
+
+	// Igual que GET /{id}: la versión sola sólo con validadores en el request; si no, una única lectura. Los
+	// indicadores de riesgo cambian también con las reglas: un mismo snapshot da la versión del ETag y la tabla evaluada
 	@GetMapping("/{id}/summary")
-	public ResponseEntity<AccountSummaryResponse> getAccountSummary(@PathVariable("id") UUID id) {
+	public ResponseEntity<AccountSummaryResponse> getAccountSummary(@PathVariable("id") UUID id,
+			WebRequest webRequest) {
+		RiskRuleSnapshot rules = riskRules.snapshot();
+		if (isConditional(webRequest)) {
+			AccountVersion version = queryService.getVersion(id);
+			if (notModifiedByVersion(webRequest, AccountETags.weak(version.getVersion(), rules.getVersion()),
+					summaryLastModified(version.getUpdatedAt(), rules))) {
+				return null;
+			}
+		}
+
+		VersionedAccountSummary current = summaryProvider.getAccountSummary(id, rules.getTable());
+		if (webRequest.checkNotModified(AccountETags.weak(current.getVersion(), rules.getVersion()),
+				summaryLastModified(current.getUpdatedAt(), rules))) {
+			return null;
+		}
+		return ResponseEntity.ok(current.getSummary());
+	}
 
-		AccountSummaryResponse summary = selfAccountClient.getAccountSummary(id);
+	// Resúmenes de varias cuentas con una sola consulta (IN), sin pasar por el proveedor de a una cuenta; los ids
+	// repetidos se resuelven una vez y los que no existen vuelven como NOT_FOUND. El límite cuenta la lista recibida,
+	// no los ids distintos: la respuesta tiene un resultado por cada elemento
+	@PostMapping("/summaries")
+	public ResponseEntity<AccountSummaryBatchResponse> getAccountSummaries(@RequestBody List<UUID> ids) {
+		if (ids == null || ids.size() > AccountService.MAX_LOOKUP_IDS) {
+			throw new InvalidAccountOperationException("Summaries need a list of at most %d ids, got %s"
+					.formatted(AccountService.MAX_LOOKUP_IDS, ids == null ? "none" : ids.size()));
+		}
+		Map<UUID, BankAccount> accounts = accountService.getByIds(new LinkedHashSet<>(ids));
+		return ResponseEntity.ok(summaryMapper.toBatch(ids, accounts));
+	}
+
+	// Movimientos de saldo en orden, con el saldo después de cada uno; el cursor es el seq del último devuelto
+	@GetMapping("/{id}/ledger")
+	public ResponseEntity<List<LedgerEntryResponse>> getLedger(@PathVariable("id") UUID id,
+			@RequestParam(name = "after", required = false) Long after,
+			@RequestParam(name = "limit", defaultValue = "" + AccountService.DEFAULT_PAGE_SIZE) int limit) {
+		LedgerEntryPage page = queryService.getLedger(id, after, limit);
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+		if (page.hasNext()) {
+			builder.header(NEXT_CURSOR_HEADER, page.getNextCursor().toString());
+		}
+		return builder.body(page.getItems());
+	}
 
-		return ResponseEntity.ok(summary);
+	// Saldo según el libro, actual o a una fecha (ISO-8601 local, p. ej. 2025-01-31T23:59:59)
+	@GetMapping("/{id}/balance")
+	public ResponseEntity<AccountBalanceResponse> getBalance(@PathVariable("id") UUID id,
+			@RequestParam(name = "at", required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+		return ResponseEntity.ok(queryService.getBalance(id, at));
 	}
 
 	@PutMapping("/{id}")
 	public ResponseEntity<BankAccountResponse> updateAccount(@PathVariable("id") UUID id,
+			@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+			@RequestHeader(name = IdempotentRequests.KEY_HEADER, required = false) String idempotencyKey,
 			@Valid @RequestBody BankAccountRequest request) {
-		BankAccount updatedDomain = mapToDomainForUpdate(request);
-		BankAccount updated = accountService.update(id, updatedDomain);
-		return ResponseEntity.ok(mapToResponse(updated));
+		return idempotentRequests.execute(idempotencyKey,
+				idempotentRequests.fingerprint("update", id, ifMatch, request), BankAccountResponse.class, () -> {
+					BankAccount updatedDomain = requestMapper.toDomainForUpdate(request);
+					BankAccount updated = accountService.update(id, updatedDomain,
+							AccountETags.expectedVersion(ifMatch));
+					return ResponseEntity.ok().eTag(AccountETags.strong(updated.getVersion()))
+							.lastModified(AccountETags.lastModified(updated.getUpdatedAt()))
+							.body(responseMapper.toResponse(updated));
+				});
+	}
+
+	@PostMapping("/{id}/debit")
+	public ResponseEntity<BankAccountResponse> debit(@PathVariable("id") UUID id,
+			@Valid @RequestBody BalanceOperationRequest request) {
+		return ResponseEntity.ok(responseMapper.toResponse(accountService.debit(id, request.getAmount())));
+	}
+
+	@PostMapping("/{id}/credit")
+	public ResponseEntity<BankAccountResponse> credit(@PathVariable("id") UUID id,
+			@Valid @RequestBody BalanceOperationRequest request) {
+		return ResponseEntity.ok(responseMapper.toResponse(accountService.credit(id, request.getAmount())));
+	}
+
+	@PostMapping("/transfers")
+	public ResponseEntity<TransferResponse> transfer(@Valid @RequestBody TransferRequest request) {
+		TransferResult result = accountService.transfer(request.getSourceAccountId(), request.getTargetAccountId(),
+				request.getAmount());
+		TransferResponse response = new TransferResponse();
+		response.setSource(responseMapper.toResponse(result.getSource()));
+		response.setTarget(responseMapper.toResponse(result.getTarget()));
+		return ResponseEntity.ok(response);
 	}
 
 	@DeleteMapping("/{id}")
-	public ResponseEntity<Void> deleteAccount(@PathVariable("id") UUID id) {
-		accountService.delete(id);
-		return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
-	}
-
-	private BankAccount mapToDomainForCreate(BankAccountRequest request) {
-		BankAccount account = new BankAccount();
-		account.setAccountNumber(request.getAccountNumber());
-		account.setCbu(request.getCbu());
-		account.setOwnerName(request.getOwnerName());
-		account.setOwnerDocument(request.getOwnerDocument());
-		account.setCurrency(request.getCurrency());
-		account.setBranchCode(request.getBranchCode());
-
-		BigDecimal balance = request.getBalance();
-		if (balance == null) {
-			balance = BigDecimal.ZERO;
-		}
-		account.setBalance(balance);
-		account.setStatus(AccountStatus.ACTIVE);
-		return account;
-	}
-
-	private BankAccount mapToDomainForUpdate(BankAccountRequest request) {
-		BankAccount account = new BankAccount();
-		account.setAccountNumber(request.getAccountNumber());
-		account.setCbu(request.getCbu());
-		account.setOwnerName(request.getOwnerName());
-		account.setOwnerDocument(request.getOwnerDocument());
-		account.setCurrency(request.getCurrency());
-		account.setBranchCode(request.getBranchCode());
-
-		BigDecimal balance = request.getBalance();
-		if (balance == null) {
-			balance = BigDecimal.ZERO;
+	public ResponseEntity<Void> deleteAccount(@PathVariable("id") UUID id,
+			@RequestHeader(name = IdempotentRequests.KEY_HEADER, required = false) String idempotencyKey) {
+		return idempotentRequests.execute(idempotencyKey, idempotentRequests.fingerprint("delete", id), Void.class,
+				() -> {
+					accountService.delete(id);
+					return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+				});
+	}
+
+	private ResponseEntity<List<BankAccountResponse>> toPageResponse(AccountResponsePage page) {
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+		if (page.hasNext()) {
+			builder.header(NEXT_CURSOR_HEADER, page.getNextCursor().toString());
 		}
-		account.setBalance(balance);
-		return account;
-	}
-
-	private BankAccountResponse mapToResponse(BankAccount account) {
-		BankAccountResponse response = new BankAccountResponse();
-		response.setId(account.getId());
-		response.setAccountNumber(account.getAccountNumber());
-		response.setCbu(account.getCbu());
-		response.setOwnerName(account.getOwnerName());
-		response.setOwnerDocument(account.getOwnerDocument());
-		response.setCurrency(account.getCurrency());
-		response.setBalance(account.getBalance());
-		response.setStatus(account.getStatus());
-		response.setBranchCode(account.getBranchCode());
-		response.setCreatedAt(account.getCreatedAt());
-		response.setUpdatedAt(account.getUpdatedAt());
-		return response;
+		return builder.body(page.getItems());
+	}
+
+	// Con 304 escribe los validadores de la versión; si no, deja la respuesta intacta para los de la lectura completa
+	private static boolean notModifiedByVersion(WebRequest webRequest, String eTag, long lastModified) {
+		return AccountETags.matches(webRequest, eTag, lastModified) && webRequest.checkNotModified(eTag, lastModified);
+	}
+
+	private static long summaryLastModified(LocalDateTime updatedAt, RiskRuleSnapshot rules) {
+		return Math.max(AccountETags.lastModified(updatedAt), rules.getLoadedAt().toEpochMilli());
+	}
+
+	private static boolean isConditional(WebRequest webRequest) {
+		return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+				|| webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+	}
+
+	private BatchItemResponse toBatchItem(int index, String cbu, BatchItemStatus status, UUID id, String message) {
+		BatchItemResponse item = new BatchItemResponse();
+		item.setIndex(index);
+		item.setStatus(status);
+		item.setId(id);
+		item.setCbu(cbu);
+		item.setMessage(message);
+		return item;
 	}
 }
@@ -0,0 +1,78 @@
+package com.bank_services.account.infrastructure.web;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import com.bank_services.account.domain.exception.PreconditionFailedException;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// Validadores HTTP de una cuenta: el ETag es la versión JPA, que cambia con cada escritura de la fila
+final class AccountETags {
+
+	private static final String ANY = "*";
+
+	private AccountETags() {
+	}
+
+	static String strong(Long version) {
+		return "\"" + version + "\"";
+	}
+
+	// El resumen es una vista derivada (el riesgo depende de las reglas, no sólo de la fila): ETag débil con las dos
+	// versiones
+	static String weak(Long version, long rulesVersion) {
+		return "W/\"" + version + "-" + rulesVersion + "\"";
+	}
+
+	// Last-Modified en milisegundos; -1 hace que Spring lo ignore
+	static long lastModified(LocalDateTime updatedAt) {
+		return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	/**
+	 * Evalúa If-None-Match/If-Modified-Since contra estos validadores sin tocar la respuesta: sin response,
+	 * {@link ServletWebRequest#checkNotModified} no escribe status ni headers. Sirve para probar la versión antes de
+	 * leer la fila sin que el ETag de esa consulta quede en una respuesta 200 armada con otra lectura.
+	 */
+	static boolean matches(WebRequest webRequest, String eTag, long lastModified) {
+		HttpServletRequest request = ((NativeWebRequest) webRequest).getNativeRequest(HttpServletRequest.class);
+		return new ServletWebRequest(request).checkNotModified(eTag, lastModified);
+	}
+
+	// Versión de un ETag fuerte de cuenta ("3"); null si falta, es débil o no es nuestro
+	static Long version(String eTag) {
+		if (eTag == null) {
+			return null;
+		}
+		String tag = eTag.trim();
+		if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+			try {
+				return Long.valueOf(tag.substring(1, tag.length() - 1));
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Versión esperada según {@code If-Match}: {@code null} si no hay condición o es {@code *}. If-Match usa
+	 * comparación fuerte, así que un ETag débil o que no sea nuestro nunca coincide.
+	 */
+	static Long expectedVersion(String ifMatch) {
+		if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+			return null;
+		}
+		Long version = version(ifMatch);
+		if (version != null) {
+			return version;
+		}
+		throw new PreconditionFailedException(
+				"If-Match %s does not match the current account version".formatted(ifMatch));
+	}
+}
@@ -0,0 +1,106 @@
+package com.bank_services.account.infrastructure.web;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.bank_services.account.application.dto.FileImportRequest;
+import com.bank_services.account.application.dto.ImportErrorResponse;
+import com.bank_services.account.application.dto.ImportJobResponse;
+import com.bank_services.account.domain.exception.ResourceNotFoundException;
+import com.bank_services.account.infrastructure.importer.AccountImportService;
+import com.bank_services.account.infrastructure.importer.ImportError;
+import com.bank_services.account.infrastructure.importer.ImportFormat;
+import com.bank_services.account.infrastructure.importer.ImportJob;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/v1/accounts/imports")
+public class AccountImportController {
+
+	private final AccountImportService importService;
+
+	public AccountImportController(AccountImportService importService) {
+		this.importService = importService;
+	}
+
+	// El body se procesa en streaming mientras llega; la respuesta sale cuando termina la importación
+	@PostMapping(consumes = "application/x-ndjson")
+	public ResponseEntity<ImportJobResponse> importNdjson(InputStream body) {
+		return created(importService.importStream(ImportFormat.NDJSON, body, "request"));
+	}
+
+	@PostMapping(consumes = "text/csv")
+	public ResponseEntity<ImportJobResponse> importCsv(InputStream body) {
+		return created(importService.importStream(ImportFormat.CSV, body, "request"));
+	}
+
+	// Archivo local: se importa en segundo plano y se responde 202 con la URL del job
+	@PostMapping("/files")
+	public ResponseEntity<ImportJobResponse> importFile(@Valid @RequestBody FileImportRequest request) {
+		ImportJob job = importService.importFile(request.getPath(), request.getFormat());
+		return ResponseEntity.accepted().location(jobLocation(job)).body(toResponse(job));
+	}
+
+	@GetMapping("/{jobId}")
+	public ResponseEntity<ImportJobResponse> getJob(@PathVariable("jobId") UUID jobId) {
+		ImportJob job = importService.findJob(jobId)
+				.orElseThrow(() -> new ResourceNotFoundException("Import job %s not found".formatted(jobId)));
+		return ResponseEntity.ok(toResponse(job));
+	}
+
+	@GetMapping
+	public ResponseEntity<List<ImportJobResponse>> getJobs() {
+		return ResponseEntity.ok(importService.recentJobs().stream().map(this::toResponse).collect(Collectors.toList()));
+	}
+
+	private ResponseEntity<ImportJobResponse> created(ImportJob job) {
+		return ResponseEntity.created(jobLocation(job)).body(toResponse(job));
+	}
+
+	private URI jobLocation(ImportJob job) {
+		return ServletUriComponentsBuilder.fromCurrentContextPath().path("/api/v1/accounts/imports/{id}")
+				.buildAndExpand(job.getId()).toUri();
+	}
+
+	private ImportJobResponse toResponse(ImportJob job) {
+		ImportJobResponse response = new ImportJobResponse();
+		response.setId(job.getId());
+		response.setFormat(job.getFormat());
+		response.setSource(job.getSource());
+		response.setStatus(job.getStatus());
+		response.setCreatedAt(job.getCreatedAt());
+		response.setStartedAt(job.getStartedAt());
+		response.setFinishedAt(job.getFinishedAt());
+		response.setFailureReason(job.getFailureReason());
+		response.setRead(job.getRead());
+		response.setCreated(job.getCreated());
+		response.setDuplicates(job.getDuplicates());
+		response.setInvalid(job.getInvalid());
+		response.setFailed(job.getFailed());
+		response.setBackpressureMillis(job.getBackpressureMillis());
+		response.setErrors(job.getErrors().stream().map(this::toErrorResponse).collect(Collectors.toList()));
+		return response;
+	}
+
+	private ImportErrorResponse toErrorResponse(ImportError error) {
+		ImportErrorResponse response = new ImportErrorResponse();
+		response.setLine(error.getLine());
+		response.setCbu(error.getCbu());
+		response.setStatus(error.getStatus());
+		response.setMessage(error.getMessage());
+		return response;
+	}
+}
@@ -0,0 +1,61 @@
+package com.bank_services.account.infrastructure.web;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.bank_services.account.application.dto.BankAccountRequest;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.BankAccount;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Validación y mapeo de {@link BankAccountRequest} compartidos por las altas individuales, masivas, las
+ * importaciones y las modificaciones.
+ */
+@Component
+public class AccountRequestMapper {
+
+	private final Validator validator;
+
+	public AccountRequestMapper(Validator validator) {
+		this.validator = validator;
+	}
+
+	// Devuelve null si el request es válido; si no, los errores con el formato de GlobalExceptionHandler
+	public String describeViolations(BankAccountRequest request) {
+		Set<ConstraintViolation<BankAccountRequest>> violations = validator.validate(request);
+		if (violations.isEmpty()) {
+			return null;
+		}
+		return violations.stream().map(v -> "%s: %s".formatted(v.getPropertyPath(), v.getMessage())).sorted()
+				.collect(Collectors.joining("; "));
+	}
+
+	public BankAccount toDomainForCreate(BankAccountRequest request) {
+		BankAccount account = toDomainForUpdate(request);
+		if (account.getBalance() == null) {
+			account.setBalance(BigDecimal.ZERO);
+		}
+		account.setStatus(AccountStatus.ACTIVE);
+		return account;
+	}
+
+	// Sin estado: lo conserva la cuenta existente. El saldo viaja tal cual (null si no vino) y sólo se compara con el
+	// actual: una modificación no mueve saldo
+	public BankAccount toDomainForUpdate(BankAccountRequest request) {
+		BankAccount account = new BankAccount();
+		account.setAccountNumber(request.getAccountNumber());
+		account.setCbu(request.getCbu());
+		account.setOwnerName(request.getOwnerName());
+		account.setOwnerDocument(request.getOwnerDocument());
+		account.setCurrency(request.getCurrency());
+		account.setBranchCode(request.getBranchCode());
+		account.setBalance(request.getBalance());
+		return account;
+	}
+}
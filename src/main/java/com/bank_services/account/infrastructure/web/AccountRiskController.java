@@ -0,0 +1,62 @@
+package com.bank_services.account.infrastructure.web;
+
+import java.io.ByteArrayOutputStream;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.RiskRuleType;
+import com.bank_services.account.infrastructure.risk.AccountRiskScanner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+@RestController
+@RequestMapping("/api/v1/accounts/risk")
+public class AccountRiskController {
+
+	// estimado por resumen para dimensionar el buffer de cada chunk
+	private static final int SUMMARY_BYTES = 320;
+
+	private final AccountRiskScanner scanner;
+	private final AccountSummaryMapper summaryMapper;
+	private final ObjectWriter writer;
+
+	public AccountRiskController(AccountRiskScanner scanner, AccountSummaryMapper summaryMapper,
+			ObjectMapper objectMapper) {
+		this.scanner = scanner;
+		this.summaryMapper = summaryMapper;
+		this.writer = objectMapper.writer().withRootValueSeparator("\n");
+	}
+
+	// Resúmenes en NDJSON de las cuentas que cumplen alguno de los tipos pedidos (todos si no se indica ninguno).
+	// Cada worker serializa su chunk en un buffer propio y lo escribe entero: el orden es el de los chunks terminados
+	@GetMapping(produces = "application/x-ndjson")
+	public ResponseEntity<StreamingResponseBody> scanRisks(
+			@RequestParam(name = "type", required = false) List<RiskRuleType> types) {
+		Set<RiskRuleType> selected = types == null || types.isEmpty() ? EnumSet.allOf(RiskRuleType.class)
+				: EnumSet.copyOf(types);
+		StreamingResponseBody body = out -> scanner.scan(selected, (table, flagged) -> {
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream(flagged.size() * SUMMARY_BYTES);
+			try (SequenceWriter chunk = writer.writeValues(buffer)) {
+				for (BankAccount account : flagged) {
+					chunk.write(summaryMapper.toSummary(account, table));
+				}
+			}
+			buffer.write('\n');
+			synchronized (out) {
+				buffer.writeTo(out);
+				out.flush();
+			}
+		});
+		return ResponseEntity.ok().contentType(AccountController.NDJSON).body(body);
+	}
+}
@@ -0,0 +1,91 @@
+package com.bank_services.account.infrastructure.web;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.bank_services.account.application.dto.AccountSummaryBatchResponse;
+import com.bank_services.account.application.dto.AccountSummaryItemResponse;
+import com.bank_services.account.application.dto.AccountSummaryResponse;
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.RiskRuleType;
+import com.bank_services.account.domain.service.RiskRuleTable;
+import com.bank_services.account.infrastructure.risk.RiskRules;
+
+// Los indicadores de riesgo salen de las reglas vigentes (account.risk); cada resumen usa una sola versión de la tabla
+@Component
+public class AccountSummaryMapper {
+
+	private final RiskRules riskRules;
+
+	public AccountSummaryMapper(RiskRules riskRules) {
+		this.riskRules = riskRules;
+	}
+
+	public AccountSummaryResponse toSummary(BankAccount account) {
+		return toSummary(account, riskRules.table());
+	}
+
+	public AccountSummaryResponse toSummary(BankAccount account, RiskRuleTable rules) {
+		AccountSummaryResponse summary = new AccountSummaryResponse();
+		summary.setId(account.getId());
+		summary.setOwnerName(account.getOwnerName());
+		summary.setAccountNumber(account.getAccountNumber());
+		summary.setBranchCode(account.getBranchCode());
+		summary.setCurrency(account.getCurrency());
+		summary.setBalance(account.getBalance());
+		summary.setStatus(account.getStatus());
+		applyRisks(summary, rules);
+		return summary;
+	}
+
+	public AccountSummaryResponse toSummary(BankAccountResponse account, RiskRuleTable rules) {
+		AccountSummaryResponse summary = new AccountSummaryResponse();
+		summary.setId(account.getId());
+		summary.setOwnerName(account.getOwnerName());
+		summary.setAccountNumber(account.getAccountNumber());
+		summary.setBranchCode(account.getBranchCode());
+		summary.setCurrency(account.getCurrency());
+		summary.setBalance(account.getBalance());
+		summary.setStatus(account.getStatus());
+		applyRisks(summary, rules);
+		return summary;
+	}
+
+	// Un ítem por id pedido, en el mismo orden; los ids sin cuenta quedan como NOT_FOUND
+	public AccountSummaryBatchResponse toBatch(Collection<UUID> ids, Map<UUID, BankAccount> accounts) {
+		RiskRuleTable rules = riskRules.table();
+		List<AccountSummaryItemResponse> results = new ArrayList<>(ids.size());
+		int found = 0;
+		for (UUID id : ids) {
+			AccountSummaryItemResponse item = new AccountSummaryItemResponse();
+			item.setId(id);
+			BankAccount account = accounts.get(id);
+			if (account != null) {
+				item.setStatus(AccountSummaryItemResponse.Status.FOUND);
+				item.setSummary(toSummary(account, rules));
+				found++;
+			} else {
+				item.setStatus(AccountSummaryItemResponse.Status.NOT_FOUND);
+			}
+			results.add(item);
+		}
+		AccountSummaryBatchResponse response = new AccountSummaryBatchResponse();
+		response.setFound(found);
+		response.setNotFound(results.size() - found);
+		response.setResults(results);
+		return response;
+	}
+
+	private static void applyRisks(AccountSummaryResponse summary, RiskRuleTable rules) {
+		int mask = rules.evaluate(summary.getCurrency(), summary.getBranchCode(), summary.getBalance(),
+				summary.getStatus());
+		summary.setLowBalanceRisk((mask & RiskRuleType.LOW_BALANCE.bit()) != 0);
+		summary.setRisks(RiskRuleType.fromMask(mask));
+	}
+}
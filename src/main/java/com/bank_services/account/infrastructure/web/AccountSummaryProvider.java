@@ -0,0 +1,12 @@
+package com.bank_services.account.infrastructure.web;
+
+import java.util.UUID;
+
+import com.bank_services.account.application.dto.VersionedAccountSummary;
+import com.bank_services.account.domain.service.RiskRuleTable;
+
+public interface AccountSummaryProvider {
+
+	// El resumen evaluado con las reglas recibidas, junto con la versión de la cuenta leída
+	VersionedAccountSummary getAccountSummary(UUID id, RiskRuleTable rules);
+}
@@ -0,0 +1,34 @@
+package com.bank_services.account.infrastructure.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bank_services.account.infrastructure.cache.AccountCacheStats;
+import com.bank_services.account.infrastructure.cache.CachingAccountRepository;
+
+@RestController
+@RequestMapping("/api/v1/ops/cache/accounts")
+@ConditionalOnProperty(name = "account.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheStatsController {
+
+	private final CachingAccountRepository cache;
+
+	public CacheStatsController(CachingAccountRepository cache) {
+		this.cache = cache;
+	}
+
+	@GetMapping
+	public ResponseEntity<AccountCacheStats> getStats() {
+		return ResponseEntity.ok(cache.stats());
+	}
+
+	@DeleteMapping
+	public ResponseEntity<Void> clear() {
+		cache.clear();
+		return ResponseEntity.noContent().build();
+	}
+}
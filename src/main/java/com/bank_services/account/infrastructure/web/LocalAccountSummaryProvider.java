@@ -0,0 +1,32 @@
+package com.bank_services.account.infrastructure.web;
+
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.bank_services.account.application.dto.VersionedAccountResponse;
+import com.bank_services.account.application.dto.VersionedAccountSummary;
+import com.bank_services.account.application.query.AccountQueryService;
+import com.bank_services.account.domain.service.RiskRuleTable;
+
+// Resuelve el resumen en el mismo proceso: sin loopback HTTP, sin segundo hilo de Tomcat. Lee del modelo de lectura
+@Component
+@ConditionalOnProperty(name = "account.summary.mode", havingValue = "local", matchIfMissing = true)
+public class LocalAccountSummaryProvider implements AccountSummaryProvider {
+
+	private final AccountQueryService queryService;
+	private final AccountSummaryMapper summaryMapper;
+
+	public LocalAccountSummaryProvider(AccountQueryService queryService, AccountSummaryMapper summaryMapper) {
+		this.queryService = queryService;
+		this.summaryMapper = summaryMapper;
+	}
+
+	@Override
+	public VersionedAccountSummary getAccountSummary(UUID id, RiskRuleTable rules) {
+		VersionedAccountResponse account = queryService.getVersionedById(id);
+		return new VersionedAccountSummary(summaryMapper.toSummary(account.getAccount(), rules), account.getVersion(),
+				account.getAccount().getUpdatedAt());
+	}
+}
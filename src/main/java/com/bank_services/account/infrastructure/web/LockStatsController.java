@@ -0,0 +1,25 @@
+package com.bank_services.account.infrastructure.web;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bank_services.account.domain.model.LockStats;
+import com.bank_services.account.domain.service.AccountLockManager;
+
+@RestController
+@RequestMapping("/api/v1/ops/locks/accounts")
+public class LockStatsController {
+
+	private final AccountLockManager lockManager;
+
+	public LockStatsController(AccountLockManager lockManager) {
+		this.lockManager = lockManager;
+	}
+
+	@GetMapping
+	public ResponseEntity<LockStats> getStats() {
+		return ResponseEntity.ok(lockManager.stats());
+	}
+}
@@ -0,0 +1,34 @@
+package com.bank_services.account.infrastructure.web;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bank_services.account.infrastructure.outbox.AccountChangeStream;
+import com.bank_services.account.infrastructure.outbox.JdbcAccountOutbox;
+import com.bank_services.account.infrastructure.outbox.OutboxRelay;
+import com.bank_services.account.infrastructure.outbox.OutboxStatus;
+
+@RestController
+@RequestMapping("/api/v1/ops/outbox")
+public class OutboxController {
+
+	private final JdbcAccountOutbox outbox;
+	private final OutboxRelay relay;
+	private final AccountChangeStream stream;
+
+	public OutboxController(JdbcAccountOutbox outbox, OutboxRelay relay, AccountChangeStream stream) {
+		this.outbox = outbox;
+		this.relay = relay;
+		this.stream = stream;
+	}
+
+	@GetMapping
+	public ResponseEntity<OutboxStatus> getStatus() {
+		long last = outbox.lastOffset();
+		long published = relay.position();
+		return ResponseEntity.ok(new OutboxStatus(last, published, Math.max(0, last - published),
+				stream.subscribers()));
+	}
+}
@@ -0,0 +1,30 @@
+package com.bank_services.account.infrastructure.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bank_services.account.infrastructure.metrics.PinningReport;
+import com.bank_services.account.infrastructure.metrics.VirtualThreadPinningMonitor;
+
+@RestController
+@RequestMapping("/api/v1/ops/threads/pinning")
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "account.virtual-threads.pinning.enabled", havingValue = "true", matchIfMissing = true)
+public class PinningStatsController {
+
+	private final VirtualThreadPinningMonitor monitor;
+
+	public PinningStatsController(VirtualThreadPinningMonitor monitor) {
+		this.monitor = monitor;
+	}
+
+	@GetMapping
+	public ResponseEntity<PinningReport> getReport() {
+		return ResponseEntity.ok(monitor.report());
+	}
+}
@@ -0,0 +1,43 @@
+package com.bank_services.account.infrastructure.web;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bank_services.account.domain.model.RiskRule;
+import com.bank_services.account.infrastructure.risk.RiskRuleSnapshot;
+import com.bank_services.account.infrastructure.risk.RiskRules;
+
+@RestController
+@RequestMapping("/api/v1/ops/risk/rules")
+public class RiskRulesController {
+
+	private final RiskRules riskRules;
+
+	public RiskRulesController(RiskRules riskRules) {
+		this.riskRules = riskRules;
+	}
+
+	@GetMapping
+	public ResponseEntity<RiskRuleSnapshot> getRules() {
+		return ResponseEntity.ok(riskRules.snapshot());
+	}
+
+	// Sólo en memoria: no sobrevive a un reinicio ni a la próxima modificación de account.risk.rules-file
+	@PutMapping
+	public ResponseEntity<RiskRuleSnapshot> replaceRules(@RequestBody List<RiskRule> rules) {
+		return ResponseEntity.ok(riskRules.replace(rules));
+	}
+
+	// Relee ya el archivo de reglas (o la configuración si no hay archivo)
+	@PostMapping("/reload")
+	public ResponseEntity<RiskRuleSnapshot> reload() {
+		return ResponseEntity.ok(riskRules.reload());
+	}
+}
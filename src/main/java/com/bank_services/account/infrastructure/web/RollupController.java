@@ -0,0 +1,33 @@
+package com.bank_services.account.infrastructure.web;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bank_services.account.infrastructure.rollup.AccountRollup;
+import com.bank_services.account.infrastructure.rollup.RollupReconciliation;
+
+@RestController
+@RequestMapping("/api/v1/ops/rollup")
+public class RollupController {
+
+	private final AccountRollup rollup;
+
+	public RollupController(AccountRollup rollup) {
+		this.rollup = rollup;
+	}
+
+	@GetMapping
+	public ResponseEntity<RollupReconciliation> getLastReconciliation() {
+		RollupReconciliation last = rollup.lastReconciliation();
+		return last == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(last);
+	}
+
+	// Contrasta ya con la tabla (por ejemplo después de tocar datos por fuera del servicio)
+	@PostMapping("/reconcile")
+	public ResponseEntity<RollupReconciliation> reconcile() {
+		return ResponseEntity.ok(rollup.reconcile());
+	}
+}
@@ -0,0 +1,49 @@
+package com.bank_services.account.infrastructure.web;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bank_services.account.application.dto.AccountSearchCriteria;
+import com.bank_services.account.domain.service.AccountService;
+import com.bank_services.account.infrastructure.search.AccountSearchRepository;
+import com.bank_services.account.infrastructure.search.AccountStatistics;
+import com.bank_services.account.infrastructure.search.AccountStatisticsCollector;
+import com.bank_services.account.infrastructure.search.SearchPlan;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/v1/ops/search")
+public class SearchPlanController {
+
+	private final AccountSearchRepository searchRepository;
+	private final AccountStatisticsCollector statistics;
+
+	public SearchPlanController(AccountSearchRepository searchRepository, AccountStatisticsCollector statistics) {
+		this.searchRepository = searchRepository;
+		this.statistics = statistics;
+	}
+
+	// Mismos parámetros que /api/v1/accounts/search: devuelve el plan sin ejecutar la búsqueda
+	@GetMapping("/plan")
+	public ResponseEntity<SearchPlan> getPlan(@Valid AccountSearchCriteria criteria,
+			@RequestParam(name = "limit", defaultValue = "" + AccountService.DEFAULT_PAGE_SIZE) int limit) {
+		return ResponseEntity.ok(searchRepository.plan(criteria, AccountService.pageSize(limit)));
+	}
+
+	@GetMapping("/statistics")
+	public ResponseEntity<AccountStatistics> getStatistics() {
+		AccountStatistics current = statistics.current();
+		return current == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(current);
+	}
+
+	// Recalcula ya (por ejemplo después de una importación grande)
+	@PostMapping("/statistics")
+	public ResponseEntity<AccountStatistics> refreshStatistics() {
+		return ResponseEntity.ok(statistics.refresh());
+	}
+}
@@ -1,59 +1,52 @@
 package com.bank_services.account.infrastructure.web;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
-import org.springframework.http.HttpStatus;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestClientException;
 
-import com.bank_services.account.application.dto.AccountSummaryResponse;
 import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.application.dto.VersionedAccountSummary;
+import com.bank_services.account.domain.service.RiskRuleTable;
+import com.bank_services.account.infrastructure.client.OutboundCalls;
+import com.bank_services.account.infrastructure.client.OutboundClientProperties;
 
+// Sólo se registra con account.summary.mode=remote. Pool, timeouts, bulkhead, circuito y hedge: account.summary.remote
 @Component
-public class SelfAccountClient {
+@ConditionalOnProperty(name = "account.summary.mode", havingValue = "remote")
+public class SelfAccountClient implements AccountSummaryProvider {
 
 	private final RestClient restClient;
-
-	public SelfAccountClient() {
-		this.restClient = RestClient.builder().baseUrl("http://localhost:8080").build();
-	}
-
-	public AccountSummaryResponse getAccountSummary(UUID id) {
-		try {
-			BankAccountResponse account = restClient.get().uri("/api/v1/accounts/{id}", id).retrieve()
-					.body(BankAccountResponse.class);
-
-			if (account == null) {
-				throw new IllegalStateException("Empty response when calling self endpoint");
-			}
-
-			return mapToSummary(account);
-		} catch (HttpStatusCodeException e) {
-			if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-				throw e;
-			}
-			throw e;
-		} catch (RestClientException e) {
-			throw e;
-		}
+	private final OutboundCalls calls;
+	private final AccountSummaryMapper summaryMapper;
+
+	public SelfAccountClient(OutboundClientProperties properties, HttpClient outboundHttpClient,
+			OutboundCalls selfAccountCalls, AccountSummaryMapper summaryMapper) {
+		this.restClient = RestClient.builder().baseUrl(properties.getBaseUrl())
+				.requestFactory(new HttpComponentsClientHttpRequestFactory(outboundHttpClient)).build();
+		this.calls = selfAccountCalls;
+		this.summaryMapper = summaryMapper;
 	}
 
-	private AccountSummaryResponse mapToSummary(BankAccountResponse account) {
-		AccountSummaryResponse summary = new AccountSummaryResponse();
-		summary.setId(account.getId());
-		summary.setOwnerName(account.getOwnerName());
-		summary.setAccountNumber(account.getAccountNumber());
-		summary.setBranchCode(account.getBranchCode());
-		summary.setCurrency(account.getCurrency());
-		summary.setBalance(account.getBalance());
-		summary.setStatus(account.getStatus());
+	// 404 y demás 4xx llegan como RestClientResponseException; I/O y timeouts como ResourceAccessException (502/504).
+	// La versión sale del ETag de la misma respuesta
+	@Override
+	public VersionedAccountSummary getAccountSummary(UUID id, RiskRuleTable rules) {
+		ResponseEntity<BankAccountResponse> response = calls.callIdempotent(() -> restClient.get()
+				.uri("/api/v1/accounts/{id}", id).retrieve().toEntity(BankAccountResponse.class));
 
-		BigDecimal balance = account.getBalance() != null ? account.getBalance() : BigDecimal.ZERO;
-		summary.setLowBalanceRisk(balance.compareTo(new BigDecimal("1000")) < 0);
-
-		return summary;
+		BankAccountResponse account = response.getBody();
+		if (account == null) {
+			throw new IllegalStateException("Empty response when calling self endpoint");
+		}
+		Long version = AccountETags.version(response.getHeaders().getETag());
+		if (version == null) {
+			throw new IllegalStateException("Self endpoint response has no account ETag");
+		}
+		return new VersionedAccountSummary(summaryMapper.toSummary(account, rules), version, account.getUpdatedAt());
 	}
 }
@@ -0,0 +1,51 @@
+package com.bank_services.account.infrastructure.web;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bank_services.account.infrastructure.sql.SqlDiagnostics;
+import com.bank_services.account.infrastructure.sql.SqlDiagnosticsReport;
+
+@RestController
+@RequestMapping("/api/v1/ops/sql")
+@ConditionalOnProperty(name = "account.sql-diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlDiagnosticsController {
+
+	private final SqlDiagnostics diagnostics;
+
+	public SqlDiagnosticsController(SqlDiagnostics diagnostics) {
+		this.diagnostics = diagnostics;
+	}
+
+	@GetMapping
+	public ResponseEntity<SqlDiagnosticsReport> getReport() {
+		return ResponseEntity.ok(diagnostics.report());
+	}
+
+	@DeleteMapping
+	public ResponseEntity<Void> reset() {
+		diagnostics.reset();
+		return ResponseEntity.noContent().build();
+	}
+
+	// Abre una ventana en la que se miden todas las sentencias; se acota a account.sql-diagnostics.max-window
+	@PostMapping("/window")
+	public ResponseEntity<SqlDiagnosticsReport> openWindow(@RequestParam(defaultValue = "300") long seconds) {
+		diagnostics.openWindow(Duration.ofSeconds(seconds));
+		return ResponseEntity.ok(diagnostics.report());
+	}
+
+	@DeleteMapping("/window")
+	public ResponseEntity<Void> closeWindow() {
+		diagnostics.closeWindow();
+		return ResponseEntity.noContent().build();
+	}
+}
@@ -18,9 +18,76 @@ CREATE TABLE bank_accounts (
     branch_code    VARCHAR(20)   NOT NULL,
     created_at     TIMESTAMP     NOT NULL,
     updated_at     TIMESTAMP     NOT NULL,
+    version        BIGINT        DEFAULT 0 NOT NULL,
     CONSTRAINT uk_bank_account_cbu UNIQUE (cbu)
 );
 
+-- Índices de la búsqueda (/api/v1/accounts/search); AccountSearchPlanner elige cuál usar
+CREATE INDEX idx_bank_account_owner_document ON bank_accounts (owner_document);
+CREATE INDEX idx_bank_account_branch_status ON bank_accounts (branch_code, status);
+CREATE INDEX idx_bank_account_currency_status ON bank_accounts (currency, status);
+CREATE INDEX idx_bank_account_balance ON bank_accounts (balance);
+
+-- Outbox de cambios de cuentas: se escribe en la misma transacción que la cuenta; id es el offset de los consumidores
+DROP TABLE IF EXISTS account_outbox;
+
+CREATE TABLE account_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id      UUID          NOT NULL,
+    event_type      VARCHAR(20)   NOT NULL,
+    account_version BIGINT        NOT NULL,
+    payload         VARCHAR(4000) NOT NULL,
+    created_at      TIMESTAMP     NOT NULL
+);
+
+-- Último offset entregado por OutboxRelay
+DROP TABLE IF EXISTS account_outbox_relay;
+
+CREATE TABLE account_outbox_relay (
+    relay_name VARCHAR(50) PRIMARY KEY,
+    position   BIGINT      NOT NULL
+);
+
+-- Libro de movimientos de saldo, sólo de inserción: seq es la versión de la cuenta que dejó el movimiento
+DROP TABLE IF EXISTS account_ledger;
+
+CREATE TABLE account_ledger (
+    account_id      UUID          NOT NULL,
+    seq             BIGINT        NOT NULL,
+    entry_type      VARCHAR(20)   NOT NULL,
+    amount          DECIMAL(19,2) NOT NULL,
+    counterparty_id UUID,
+    created_at      TIMESTAMP     NOT NULL,
+    PRIMARY KEY (account_id, seq)
+);
+
+-- Saldo a una fecha (GET /api/v1/accounts/{id}/balance?at=)
+CREATE INDEX idx_account_ledger_time ON account_ledger (account_id, created_at);
+
+-- Fotos del saldo después del movimiento seq; el saldo es la última foto más los movimientos posteriores
+DROP TABLE IF EXISTS account_balance_snapshot;
+
+CREATE TABLE account_balance_snapshot (
+    account_id UUID          NOT NULL,
+    seq        BIGINT        NOT NULL,
+    balance    DECIMAL(19,2) NOT NULL,
+    created_at TIMESTAMP     NOT NULL,
+    PRIMARY KEY (account_id, seq)
+);
+
+-- Respuestas guardadas por Idempotency-Key (account.idempotency.store=JDBC)
+DROP TABLE IF EXISTS idempotency_keys;
+
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(255)  PRIMARY KEY,
+    fingerprint     VARCHAR(64)   NOT NULL,
+    status          INT           NOT NULL,
+    headers         VARCHAR(2000) NOT NULL,
+    body            VARCHAR(8000),
+    created_at      TIMESTAMP     NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_created ON idempotency_keys (created_at);
 
 INSERT INTO bank_accounts (
     id, account_number, cbu, owner_name, owner_document,
@@ -65,3 +132,6 @@ INSERT INTO bank_accounts (
     CURRENT_TIMESTAMP(),
     CURRENT_TIMESTAMP()
   );
+
+INSERT INTO account_ledger (account_id, seq, entry_type, amount, created_at)
+SELECT id, version, 'OPENING', balance, created_at FROM bank_accounts;
@@ -2,10 +2,14 @@ package com.bank_services.account.domain.model;
 
 import org.junit.jupiter.api.Test;
 
+import com.bank_services.account.domain.exception.InsufficientFundsException;
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class BankAccountTest {
 
@@ -23,7 +27,7 @@ class BankAccountTest {
 	}
 
 	@Test
-	void updateFrom_shouldCopyFieldsFromSource() {
+	void updateFrom_shouldCopyFieldsFromSource_butKeepTheBalance() {
 		BankAccount target = BankAccount.builder().ownerName("Old Name").accountNumber("ACC-OLD").branchCode("001")
 				.currency(Currency.ARS).balance(new BigDecimal("100")).status(AccountStatus.ACTIVE).build();
 
@@ -36,6 +40,32 @@ class BankAccountTest {
 		assertThat(target.getAccountNumber()).isEqualTo("ACC-NEW");
 		assertThat(target.getBranchCode()).isEqualTo("002");
 		assertThat(target.getCurrency()).isEqualTo(Currency.USD);
-		assertThat(target.getBalance()).isEqualTo(new BigDecimal("999.99"));
+		assertThat(target.getBalance()).isEqualTo(new BigDecimal("100"));
+	}
+
+	@Test
+	void debit_shouldSubtractAmount() {
+		BankAccount account = BankAccount.builder().status(AccountStatus.ACTIVE).balance(new BigDecimal("100.00"))
+				.build();
+
+		account.debit(new BigDecimal("40.00"));
+
+		assertThat(account.getBalance()).isEqualByComparingTo("60.00");
+	}
+
+	@Test
+	void debit_shouldRejectOverdraft() {
+		BankAccount account = BankAccount.builder().status(AccountStatus.ACTIVE).balance(new BigDecimal("10.00"))
+				.build();
+
+		assertThrows(InsufficientFundsException.class, () -> account.debit(new BigDecimal("10.01")));
+		assertThat(account.getBalance()).isEqualByComparingTo("10.00");
+	}
+
+	@Test
+	void credit_shouldRejectInactiveAccount() {
+		BankAccount account = BankAccount.builder().status(AccountStatus.BLOCKED).balance(BigDecimal.ZERO).build();
+
+		assertThrows(InvalidAccountOperationException.class, () -> account.credit(BigDecimal.ONE));
 	}
 }
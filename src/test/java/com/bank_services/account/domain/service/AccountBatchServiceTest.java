@@ -0,0 +1,150 @@
+package com.bank_services.account.domain.service;
+
+import com.bank_services.account.domain.exception.DuplicateResourceException;
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.BatchItemResult;
+import com.bank_services.account.domain.model.BatchItemStatus;
+import com.bank_services.account.domain.model.BatchSettings;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.port.AccountLedgerPort;
+import com.bank_services.account.domain.port.AccountOutboxPort;
+import com.bank_services.account.domain.port.AccountRepositoryPort;
+import com.bank_services.account.domain.port.CbuFilter;
+import com.bank_services.account.domain.port.TransactionPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBatchServiceTest {
+
+	@Mock
+	private AccountRepositoryPort repositoryPort;
+
+	@Mock
+	private AccountOutboxPort outboxPort;
+
+	@Mock
+	private AccountLedgerPort ledgerPort;
+
+	@Mock
+	private CbuFilter cbuFilter;
+
+	private final TransactionPort transactionPort = Supplier::get;
+
+	@Test
+	void createAll_shouldInsertInChunks_andKeepInputOrder() {
+		AccountBatchService service = new AccountBatchService(repositoryPort, transactionPort, new BatchSettings(2, 100), outboxPort, ledgerPort,
+				cbuFilter, List.of());
+		when(repositoryPort.findExistingCbus(anyCollection())).thenReturn(Set.of());
+		when(repositoryPort.saveAll(anyList())).thenAnswer(inv -> withIds(inv.getArgument(0)));
+
+		List<BatchItemResult> results = service.createAll(List.of(account("A"), account("B"), account("C")));
+
+		assertThat(results).extracting(BatchItemResult::getStatus).containsOnly(BatchItemStatus.CREATED);
+		assertThat(results).extracting(r -> r.getAccount().getCbu()).containsExactly("A", "B", "C");
+		assertThat(results.get(0).getAccount().getStatus()).isEqualTo(AccountStatus.ACTIVE);
+		assertThat(results.get(0).getAccount().getCreatedAt()).isNotNull();
+		verify(repositoryPort, times(2)).findExistingCbus(anyCollection());
+		verify(repositoryPort, times(2)).saveAll(anyList());
+		verify(ledgerPort, times(2)).recordOpenings(anyList());
+		verify(repositoryPort, never()).existsByCbu(any());
+	}
+
+	@Test
+	void createAll_shouldReportDuplicates_fromDatabaseAndWithinRequest() {
+		AccountBatchService service = new AccountBatchService(repositoryPort, transactionPort, BatchSettings.defaults(), outboxPort, ledgerPort,
+				cbuFilter, List.of());
+		when(repositoryPort.findExistingCbus(anyCollection())).thenReturn(Set.of("EXISTING"));
+		when(repositoryPort.saveAll(anyList())).thenAnswer(inv -> withIds(inv.getArgument(0)));
+
+		List<BatchItemResult> results = service
+				.createAll(List.of(account("EXISTING"), account("NEW"), account("NEW")));
+
+		assertThat(results).extracting(BatchItemResult::getStatus).containsExactly(BatchItemStatus.DUPLICATE,
+				BatchItemStatus.CREATED, BatchItemStatus.DUPLICATE);
+		assertThat(results.get(0).getMessage()).contains("EXISTING");
+		verify(repositoryPort).saveAll(argThat(list -> list.size() == 1));
+	}
+
+	@Test
+	void createAll_shouldOnlyLookUpCbusTheFilterMightHave() {
+		AccountBatchService service = new AccountBatchService(repositoryPort, transactionPort, new BatchSettings(2, 100), outboxPort, ledgerPort,
+				cbuFilter, List.of());
+		when(cbuFilter.isActive()).thenReturn(true);
+		when(cbuFilter.mightExist(any())).thenAnswer(inv -> "MAYBE".equals(inv.getArgument(0)));
+		when(repositoryPort.findExistingCbus(anyCollection())).thenReturn(Set.of());
+		when(repositoryPort.saveAll(anyList())).thenAnswer(inv -> withIds(inv.getArgument(0)));
+
+		List<BatchItemResult> results = service.createAll(List.of(account("A"), account("B"), account("MAYBE")));
+
+		assertThat(results).extracting(BatchItemResult::getStatus).containsOnly(BatchItemStatus.CREATED);
+		// el primer chunk no tiene candidatos: no se consulta
+		verify(repositoryPort).findExistingCbus(List.of("MAYBE"));
+		verify(cbuFilter).add("A");
+		verify(cbuFilter).add("MAYBE");
+	}
+
+	@Test
+	void createAll_shouldFallBackToOneByOne_whenChunkFails() {
+		AccountBatchService service = new AccountBatchService(repositoryPort, transactionPort, BatchSettings.defaults(), outboxPort, ledgerPort,
+				cbuFilter, List.of());
+		when(repositoryPort.findExistingCbus(anyCollection())).thenReturn(Set.of());
+		when(repositoryPort.saveAll(anyList())).thenThrow(new IllegalStateException("unique constraint"));
+		when(repositoryPort.save(any(BankAccount.class))).thenAnswer(inv -> {
+			BankAccount account = inv.getArgument(0);
+			if (account.getCbu().equals("RACED")) {
+				throw new DuplicateResourceException("BankAccount with CBU RACED already exists");
+			}
+			if (account.getCbu().equals("BROKEN")) {
+				throw new IllegalStateException("insert failed");
+			}
+			return account.toBuilder().id(UUID.randomUUID()).build();
+		});
+		when(repositoryPort.existsByCbu("BROKEN")).thenReturn(false);
+
+		List<BatchItemResult> results = service.createAll(List.of(account("OK"), account("RACED"), account("BROKEN")));
+
+		assertThat(results).extracting(BatchItemResult::getStatus).containsExactly(BatchItemStatus.CREATED,
+				BatchItemStatus.DUPLICATE, BatchItemStatus.FAILED);
+		assertThat(results.get(2).getMessage()).isEqualTo("insert failed");
+	}
+
+	@Test
+	void createAll_shouldRejectBatchOverTheLimit() {
+		AccountBatchService service = new AccountBatchService(repositoryPort, transactionPort, new BatchSettings(10, 2), outboxPort, ledgerPort,
+				cbuFilter, List.of());
+
+		assertThrows(InvalidAccountOperationException.class,
+				() -> service.createAll(List.of(account("A"), account("B"), account("C"))));
+		verifyNoInteractions(repositoryPort);
+	}
+
+	private static BankAccount account(String cbu) {
+		return BankAccount.builder().accountNumber("ACC-" + cbu).cbu(cbu).ownerName("Owner").ownerDocument("1")
+				.currency(Currency.ARS).balance(BigDecimal.TEN).branchCode("001").build();
+	}
+
+	private static List<BankAccount> withIds(List<BankAccount> accounts) {
+		List<BankAccount> saved = new ArrayList<>();
+		accounts.forEach(a -> saved.add(a.toBuilder().id(UUID.randomUUID()).build()));
+		return saved;
+	}
+}
@@ -0,0 +1,163 @@
+package com.bank_services.account.domain.service;
+
+import com.bank_services.account.domain.exception.ConcurrentUpdateException;
+import com.bank_services.account.domain.model.LockStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AccountLockManagerTest {
+
+	@Test
+	void withLock_shouldSerializeMutationsOnTheSameAccount() throws Exception {
+		AccountLockManager manager = new AccountLockManager(8, true, Duration.ofSeconds(5));
+		UUID id = UUID.randomUUID();
+		int[] counter = { 0 };
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				futures.add(pool.submit(() -> {
+					for (int i = 0; i < 1_000; i++) {
+						manager.withLock(id, () -> counter[0]++);
+					}
+				}));
+			}
+			for (Future<?> f : futures) {
+				f.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertThat(counter[0]).isEqualTo(8_000);
+		assertThat(manager.stats().getAcquisitions()).isEqualTo(8_000);
+		assertThat(manager.stats().getQueueDepth()).isZero();
+	}
+
+	@Test
+	void withLock_shouldNotBlockAccountsOnOtherStripes() throws Exception {
+		AccountLockManager manager = new AccountLockManager(16, true, Duration.ofMillis(200));
+		UUID held = UUID.randomUUID();
+		UUID other = otherStripe(manager, held);
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Thread holder = new Thread(() -> manager.withLock(held, () -> {
+			locked.countDown();
+			awaitQuietly(release);
+			return null;
+		}));
+		holder.start();
+		try {
+			assertThat(locked.await(1, TimeUnit.SECONDS)).isTrue();
+
+			assertThat(manager.withLock(other, () -> "ok")).isEqualTo("ok");
+			assertThrows(ConcurrentUpdateException.class, () -> manager.withLock(held, () -> "blocked"));
+		} finally {
+			release.countDown();
+			holder.join();
+		}
+
+		LockStats stats = manager.stats();
+		assertThat(stats.getTimeouts()).isEqualTo(1);
+		assertThat(stats.getContendedAcquisitions()).isEqualTo(1);
+		assertThat(stats.getMaxQueueDepth()).isEqualTo(1);
+	}
+
+	@Test
+	void withLock_shouldNotBargeAheadOfQueuedThreads_whenFair() throws Exception {
+		AccountLockManager manager = new AccountLockManager(1, true, Duration.ofSeconds(5));
+		UUID id = UUID.randomUUID();
+		List<String> order = Collections.synchronizedList(new ArrayList<>());
+		Thread waiter = new Thread(() -> manager.withLock(id, () -> order.add("waiter")));
+
+		manager.withLock(id, () -> {
+			waiter.start();
+			awaitQueued(manager);
+			return null;
+		});
+		// al soltarlo el waiter sigue estacionado: un tryLock() sin timeout lo tomaría antes que él
+		manager.withLock(id, () -> order.add("holder"));
+		waiter.join(5_000);
+
+		assertThat(order).containsExactly("waiter", "holder");
+	}
+
+	@Test
+	void withLocks_shouldAcquireSharedStripeOnlyOnce() {
+		AccountLockManager manager = new AccountLockManager(1, false, Duration.ofMillis(100));
+
+		String result = manager.withLocks(UUID.randomUUID(), UUID.randomUUID(), () -> "done");
+
+		assertThat(result).isEqualTo("done");
+		assertThat(manager.stats().getStripes()).isEqualTo(1);
+		assertThat(manager.stats().getAcquisitions()).isEqualTo(1);
+	}
+
+	@Test
+	void withLocks_shouldNotDeadlockOnCrossedTransfers() throws Exception {
+		AccountLockManager manager = new AccountLockManager(64, true, Duration.ofSeconds(5));
+		UUID a = UUID.randomUUID();
+		UUID b = otherStripe(manager, a);
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		try {
+			Future<?> ab = pool.submit(() -> {
+				for (int i = 0; i < 2_000; i++) {
+					manager.withLocks(a, b, () -> null);
+				}
+			});
+			Future<?> ba = pool.submit(() -> {
+				for (int i = 0; i < 2_000; i++) {
+					manager.withLocks(b, a, () -> null);
+				}
+			});
+			ab.get(10, TimeUnit.SECONDS);
+			ba.get(10, TimeUnit.SECONDS);
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertThat(manager.stats().getTimeouts()).isZero();
+	}
+
+	private static UUID otherStripe(AccountLockManager manager, UUID id) {
+		UUID candidate = UUID.randomUUID();
+		while (manager.stripeIndex(candidate) == manager.stripeIndex(id)) {
+			candidate = UUID.randomUUID();
+		}
+		return candidate;
+	}
+
+	private static void awaitQueued(AccountLockManager manager) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (manager.stats().getQueueDepth() == 0 && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+		// la cola del lock se cuenta antes de estacionar: un margen para que llegue a hacerlo
+		try {
+			Thread.sleep(50);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.bank_services.account.domain.service;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bank_services.account.BankAccountServiceExampleApplication;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.Currency;
+
+/**
+ * {@link AccountService} contra H2 en memoria, con y sin la cache de cuentas. Se ejecuta con
+ * {@code mvn verify -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountServiceBenchmark {
+
+	@Param({ "true", "false" })
+	public boolean cacheEnabled;
+
+	private ConfigurableApplicationContext context;
+	private AccountService service;
+	private UUID existingId;
+	private final AtomicLong sequence = new AtomicLong();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(BankAccountServiceExampleApplication.class)
+				.web(WebApplicationType.NONE)
+				.run("--account.cache.enabled=" + cacheEnabled,
+						"--spring.datasource.url=jdbc:h2:mem:benchmark-" + cacheEnabled + ";DB_CLOSE_DELAY=-1",
+						"--logging.level.root=warn");
+		service = context.getBean(AccountService.class);
+		existingId = service.create(newAccount()).getId();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public BankAccount create() {
+		return service.create(newAccount());
+	}
+
+	@Benchmark
+	public BankAccount getById() {
+		return service.getById(existingId);
+	}
+
+	@Benchmark
+	public BankAccount update() {
+		BankAccount changes = newAccount();
+		changes.setCbu(null);
+		changes.setBalance(BigDecimal.valueOf(sequence.incrementAndGet() % 10_000, 2));
+		return service.update(existingId, changes);
+	}
+
+	private BankAccount newAccount() {
+		long n = sequence.incrementAndGet();
+		return BankAccount.builder().accountNumber("BENCH-" + n).cbu("BENCH%017d".formatted(n)).ownerName("Bench")
+				.ownerDocument("1").currency(Currency.ARS).balance(new BigDecimal("100.00"))
+				.status(AccountStatus.ACTIVE).branchCode("001").build();
+	}
+}
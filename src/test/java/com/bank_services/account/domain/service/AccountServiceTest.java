@@ -1,24 +1,42 @@
 package com.bank_services.account.domain.service;
 
+import com.bank_services.account.domain.exception.ConcurrentUpdateException;
 import com.bank_services.account.domain.exception.DuplicateResourceException;
+import com.bank_services.account.domain.exception.InsufficientFundsException;
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
+import com.bank_services.account.domain.exception.PreconditionFailedException;
 import com.bank_services.account.domain.exception.ResourceNotFoundException;
+import com.bank_services.account.domain.model.AccountChangeType;
+import com.bank_services.account.domain.model.AccountPage;
+import com.bank_services.account.domain.model.AccountPosition;
 import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.BalanceSettings;
+import com.bank_services.account.domain.model.BalanceWriteMode;
 import com.bank_services.account.domain.model.BankAccount;
 import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.model.LedgerEntryType;
+import com.bank_services.account.domain.port.AccountLedgerPort;
+import com.bank_services.account.domain.port.AccountMutationListener;
+import com.bank_services.account.domain.port.AccountOutboxPort;
 import com.bank_services.account.domain.port.AccountRepositoryPort;
+import com.bank_services.account.domain.port.CbuFilter;
+import com.bank_services.account.domain.port.TransactionPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,13 +48,30 @@ class AccountServiceTest {
 	@Mock
 	private AccountRepositoryPort repositoryPort;
 
-	@InjectMocks
+	@Mock
+	private AccountMutationListener listener;
+
+	@Mock
+	private AccountOutboxPort outboxPort;
+
+	@Mock
+	private AccountLedgerPort ledgerPort;
+
+	@Mock
+	private CbuFilter cbuFilter;
+
+	private final TransactionPort transactionPort = Supplier::get;
+
+	private final AccountLockManager lockManager = new AccountLockManager(16, true, Duration.ofSeconds(1));
+
 	private AccountService accountService;
 
 	private BankAccount sample;
 
 	@BeforeEach
 	void setUp() {
+		accountService = new AccountService(repositoryPort, transactionPort, BalanceSettings.defaults(), lockManager, outboxPort, ledgerPort, cbuFilter,
+				List.of(listener));
 		sample = BankAccount.builder().id(null).accountNumber("ACC-001").cbu("1230000100000000000011")
 				.ownerName("Test User").ownerDocument("30123456").currency(Currency.ARS)
 				.balance(new BigDecimal("1000.00")).status(AccountStatus.ACTIVE).branchCode("001").createdAt(null)
@@ -45,7 +80,6 @@ class AccountServiceTest {
 
 	@Test
 	void create_shouldPersist_whenCbuDoesNotExist() {
-		when(repositoryPort.existsByCbu(sample.getCbu())).thenReturn(false);
 		when(repositoryPort.save(any(BankAccount.class))).thenAnswer(inv -> inv.getArgument(0));
 
 		BankAccount created = accountService.create(sample);
@@ -58,16 +92,44 @@ class AccountServiceTest {
 		ArgumentCaptor<BankAccount> captor = ArgumentCaptor.forClass(BankAccount.class);
 		verify(repositoryPort).save(captor.capture());
 		assertThat(captor.getValue().getCbu()).isEqualTo(sample.getCbu());
+		verify(outboxPort).append(AccountChangeType.CREATED, created);
+		// sin consulta previa: la unicidad la decide la restricción al insertar
+		verify(repositoryPort, never()).existsByCbu(any());
+		verify(cbuFilter).add(sample.getCbu());
+	}
+
+	@Test
+	void create_shouldPropagateDuplicate_fromTheUniqueConstraint() {
+		when(repositoryPort.save(any(BankAccount.class)))
+				.thenThrow(new DuplicateResourceException("BankAccount with CBU already exists"));
+
+		assertThrows(DuplicateResourceException.class, () -> accountService.create(sample));
+		verifyNoInteractions(outboxPort, ledgerPort, listener);
+		verify(cbuFilter, never()).add(any());
 	}
 
 	@Test
-	void create_shouldThrowDuplicateResourceException_whenCbuExists() {
+	void create_shouldThrowDuplicateResourceException_withoutInserting_whenFilterAndDatabaseConfirmIt() {
+		when(cbuFilter.isActive()).thenReturn(true);
+		when(cbuFilter.mightExist(sample.getCbu())).thenReturn(true);
 		when(repositoryPort.existsByCbu(sample.getCbu())).thenReturn(true);
 
 		assertThrows(DuplicateResourceException.class, () -> accountService.create(sample));
 		verify(repositoryPort, never()).save(any());
 	}
 
+	@Test
+	void create_shouldSkipTheLookup_whenFilterSaysCbuIsNew() {
+		when(cbuFilter.isActive()).thenReturn(true);
+		when(cbuFilter.mightExist(sample.getCbu())).thenReturn(false);
+		when(repositoryPort.save(any(BankAccount.class))).thenAnswer(inv -> inv.getArgument(0));
+
+		accountService.create(sample);
+
+		verify(repositoryPort, never()).existsByCbu(any());
+		verify(repositoryPort).save(any(BankAccount.class));
+	}
+
 	@Test
 	void getById_shouldReturnAccount_whenExists() {
 		UUID id = UUID.randomUUID();
@@ -98,6 +160,38 @@ class AccountServiceTest {
 		assertThat(result).hasSize(1).extracting(BankAccount::getAccountNumber).containsExactly("ACC-001");
 	}
 
+	@Test
+	void getPage_shouldUseDefaultSize_whenLimitNotPositive() {
+		AccountPage page = new AccountPage(List.of(sample), null);
+		when(repositoryPort.findPage(null, AccountService.DEFAULT_PAGE_SIZE)).thenReturn(page);
+
+		assertThat(accountService.getPage(null, 0)).isSameAs(page);
+	}
+
+	@Test
+	void getPage_shouldCapLimitAtMaxPageSize() {
+		UUID after = UUID.randomUUID();
+		AccountPage page = new AccountPage(List.of(), null);
+		when(repositoryPort.findPage(after, AccountService.MAX_PAGE_SIZE)).thenReturn(page);
+
+		assertThat(accountService.getPage(after, 100_000)).isSameAs(page);
+	}
+
+	@Test
+	void getByIds_shouldIndexFoundAccounts_andRejectOversizedLookups() {
+		sample.setId(UUID.randomUUID());
+		UUID missing = UUID.randomUUID();
+		List<UUID> ids = List.of(sample.getId(), missing);
+		when(repositoryPort.findAllById(ids)).thenReturn(List.of(sample));
+
+		assertThat(accountService.getByIds(ids)).containsOnlyKeys(sample.getId());
+
+		List<UUID> tooMany = IntStream.rangeClosed(0, AccountService.MAX_LOOKUP_IDS).mapToObj(i -> UUID.randomUUID())
+				.toList();
+		assertThrows(InvalidAccountOperationException.class, () -> accountService.getByIds(tooMany));
+		verify(repositoryPort, times(1)).findAllById(any());
+	}
+
 	@Test
 	void update_shouldApplyChangesAndPersist() {
 	    UUID id = UUID.randomUUID();
@@ -119,13 +213,31 @@ class AccountServiceTest {
 	    when(repositoryPort.save(any(BankAccount.class))).thenAnswer(inv -> inv.getArgument(0));
 
 	    LocalDateTime oldUpdatedAt = existing.getUpdatedAt();
-	    BankAccount updated = accountService.update(id, sample);
+	    BankAccount updated = accountService.update(id, sample.toBuilder().balance(null).build());
 
 	    assertThat(updated.getOwnerName()).isEqualTo("Test User");
 	    assertThat(updated.getAccountNumber()).isEqualTo("ACC-001");
-	    assertThat(updated.getBalance()).isEqualTo(new BigDecimal("1000.00"));
+	    assertThat(updated.getBalance()).isEqualTo(new BigDecimal("500.00"));
 
 	    assertThat(updated.getUpdatedAt()).isAfter(oldUpdatedAt);
+	    verifyNoInteractions(ledgerPort);
+	}
+
+	@Test
+	void update_shouldRejectABalanceChange_withoutSaving() {
+		UUID id = UUID.randomUUID();
+		BankAccount existing = sample.toBuilder().id(id).balance(new BigDecimal("500.00")).build();
+		when(repositoryPort.findById(id)).thenReturn(Optional.of(existing));
+
+		assertThrows(InvalidAccountOperationException.class, () -> accountService.update(id, sample));
+		verify(repositoryPort, never()).save(any());
+		verifyNoInteractions(outboxPort, ledgerPort, listener);
+
+		// repetir el saldo actual no es un cambio
+		when(repositoryPort.save(any(BankAccount.class))).thenAnswer(inv -> inv.getArgument(0));
+		BankAccount updated = accountService.update(id, sample.toBuilder().balance(new BigDecimal("500.0")).build());
+		assertThat(updated.getBalance()).isEqualByComparingTo("500.00");
+		verifyNoInteractions(ledgerPort);
 	}
 
 	@Test
@@ -142,11 +254,37 @@ class AccountServiceTest {
 		BankAccount existing = BankAccount.builder().id(id).cbu("OLD-CBU").build();
 
 		sample.setCbu("NEW-CBU");
+		sample.setBalance(null);
 
 		when(repositoryPort.findById(id)).thenReturn(Optional.of(existing));
-		when(repositoryPort.existsByCbu("NEW-CBU")).thenReturn(true);
+		when(repositoryPort.save(any(BankAccount.class)))
+				.thenThrow(new DuplicateResourceException("BankAccount with CBU NEW-CBU already exists"));
 
 		assertThrows(DuplicateResourceException.class, () -> accountService.update(id, sample));
+		verify(repositoryPort, never()).existsByCbu(any());
+		verifyNoInteractions(outboxPort);
+	}
+
+	@Test
+	void update_shouldRejectStaleExpectedVersion_withoutSaving() {
+		UUID id = UUID.randomUUID();
+		BankAccount existing = BankAccount.builder().id(id).cbu("1230000100000000000011").version(4L).build();
+		when(repositoryPort.findById(id)).thenReturn(Optional.of(existing));
+
+		assertThrows(PreconditionFailedException.class, () -> accountService.update(id, sample, 3L));
+		verify(repositoryPort, never()).save(any(BankAccount.class));
+	}
+
+	@Test
+	void update_shouldReportPreconditionFailed_whenAnotherWriteWinsBeforeTheSave() {
+		UUID id = UUID.randomUUID();
+		when(repositoryPort.findById(id))
+				.thenAnswer(inv -> Optional.of(sample.toBuilder().id(id).version(3L).build()));
+		when(repositoryPort.save(any(BankAccount.class))).thenThrow(new ConcurrentUpdateException("conflict"));
+
+		assertThrows(PreconditionFailedException.class, () -> accountService.update(id, sample, 3L));
+		assertThrows(ConcurrentUpdateException.class, () -> accountService.update(id, sample, null));
+		verifyNoInteractions(outboxPort);
 	}
 
 	@Test
@@ -161,6 +299,7 @@ class AccountServiceTest {
 
 		assertThat(existing.getStatus()).isEqualTo(AccountStatus.CLOSED);
 		verify(repositoryPort).save(existing);
+		verify(outboxPort).append(AccountChangeType.CLOSED, existing);
 	}
 
 	@Test
@@ -170,5 +309,190 @@ class AccountServiceTest {
 
 		assertThrows(ResourceNotFoundException.class, () -> accountService.delete(id));
 		verify(repositoryPort, never()).save(any());
+		verifyNoInteractions(outboxPort);
+	}
+
+	@Test
+	void debit_shouldUseConditionalUpdate_andReturnFreshState() {
+		UUID id = UUID.randomUUID();
+		sample.setId(id);
+		when(repositoryPort.applyBalanceDelta(eq(id), eq(new BigDecimal("-100.00")), any(LocalDateTime.class)))
+				.thenReturn(true);
+		when(repositoryPort.findById(id)).thenReturn(Optional.of(sample));
+
+		BankAccount result = accountService.debit(id, new BigDecimal("100.00"));
+
+		assertThat(result).isSameAs(sample);
+		verify(repositoryPort, never()).save(any());
+		verify(ledgerPort).record(id, LedgerEntryType.DEBIT, new BigDecimal("-100.00"), null);
+		// la relectura posterior a la sentencia sirve para el evento y para la respuesta
+		verify(repositoryPort, times(1)).findById(id);
+		verify(outboxPort).append(AccountChangeType.BALANCE_CHANGED, sample);
+	}
+
+	@Test
+	void debit_shouldReadBackAndRecordTheEvent_insideTheTransaction() {
+		List<String> calls = new ArrayList<>();
+		accountService = new AccountService(repositoryPort, new TransactionPort() {
+			@Override
+			public <T> T execute(Supplier<T> work) {
+				calls.add("begin");
+				T result = work.get();
+				calls.add("commit");
+				return result;
+			}
+		}, BalanceSettings.defaults(), lockManager, outboxPort, ledgerPort, cbuFilter, List.of(listener));
+		UUID id = UUID.randomUUID();
+		sample.setId(id);
+		when(repositoryPort.applyBalanceDelta(eq(id), any(BigDecimal.class), any(LocalDateTime.class)))
+				.thenReturn(true);
+		when(repositoryPort.findById(id)).thenAnswer(inv -> {
+			calls.add("read");
+			return Optional.of(sample);
+		});
+		doAnswer(inv -> calls.add("event")).when(outboxPort).append(AccountChangeType.BALANCE_CHANGED, sample);
+
+		accountService.debit(id, BigDecimal.TEN);
+
+		assertThat(calls).containsExactly("begin", "read", "event", "commit");
+	}
+
+	@Test
+	void debit_shouldNotifyListenersWithAppliedDelta() {
+		UUID id = UUID.randomUUID();
+		sample.setId(id);
+		when(repositoryPort.applyBalanceDelta(eq(id), eq(new BigDecimal("-100.00")), any(LocalDateTime.class)))
+				.thenReturn(true);
+		when(repositoryPort.findById(id)).thenReturn(Optional.of(sample));
+
+		accountService.debit(id, new BigDecimal("100.00"));
+
+		ArgumentCaptor<AccountPosition> before = ArgumentCaptor.forClass(AccountPosition.class);
+		ArgumentCaptor<AccountPosition> after = ArgumentCaptor.forClass(AccountPosition.class);
+		verify(listener).onMutation(before.capture(), after.capture());
+		assertThat(before.getValue().getBalance()).isEqualByComparingTo("1100.00");
+		assertThat(after.getValue().getBalance()).isEqualByComparingTo("1000.00");
+		assertThat(before.getValue().getBranchCode()).isEqualTo(after.getValue().getBranchCode());
+	}
+
+	@Test
+	void update_shouldNotifyPreviousAndNewPosition() {
+		UUID id = UUID.randomUUID();
+		BankAccount existing = sample.toBuilder().id(id).balance(new BigDecimal("500.00")).build();
+		when(repositoryPort.findById(id)).thenReturn(Optional.of(existing));
+		when(repositoryPort.save(any(BankAccount.class))).thenAnswer(inv -> inv.getArgument(0));
+
+		accountService.update(id,
+				sample.toBuilder().branchCode("002").status(AccountStatus.BLOCKED).balance(null).build());
+
+		ArgumentCaptor<AccountPosition> before = ArgumentCaptor.forClass(AccountPosition.class);
+		ArgumentCaptor<AccountPosition> after = ArgumentCaptor.forClass(AccountPosition.class);
+		verify(listener).onMutation(before.capture(), after.capture());
+		assertThat(before.getValue().getBranchCode()).isEqualTo("001");
+		assertThat(before.getValue().getStatus()).isEqualTo(AccountStatus.ACTIVE);
+		assertThat(before.getValue().getBalance()).isEqualByComparingTo("500.00");
+		assertThat(after.getValue().getBranchCode()).isEqualTo("002");
+		assertThat(after.getValue().getStatus()).isEqualTo(AccountStatus.BLOCKED);
+		assertThat(after.getValue().getBalance()).isEqualByComparingTo("500.00");
+	}
+
+	@Test
+	void debit_shouldThrowInsufficientFunds_whenConditionalUpdateDoesNotApply() {
+		UUID id = UUID.randomUUID();
+		sample.setId(id);
+		when(repositoryPort.applyBalanceDelta(eq(id), any(BigDecimal.class), any(LocalDateTime.class)))
+				.thenReturn(false);
+		when(repositoryPort.findById(id)).thenReturn(Optional.of(sample));
+
+		assertThrows(InsufficientFundsException.class, () -> accountService.debit(id, new BigDecimal("5000.00")));
+	}
+
+	@Test
+	void credit_shouldRejectClosedAccount_whenConditionalUpdateDoesNotApply() {
+		UUID id = UUID.randomUUID();
+		sample.setId(id);
+		sample.setStatus(AccountStatus.CLOSED);
+		when(repositoryPort.applyBalanceDelta(eq(id), any(BigDecimal.class), any(LocalDateTime.class)))
+				.thenReturn(false);
+		when(repositoryPort.findById(id)).thenReturn(Optional.of(sample));
+
+		assertThrows(InvalidAccountOperationException.class, () -> accountService.credit(id, BigDecimal.TEN));
+	}
+
+	@Test
+	void debit_shouldRejectNonPositiveAmount() {
+		assertThrows(InvalidAccountOperationException.class,
+				() -> accountService.debit(UUID.randomUUID(), BigDecimal.ZERO));
+		verifyNoInteractions(repositoryPort);
+	}
+
+	@Test
+	void transfer_shouldRejectSameAccount() {
+		UUID id = UUID.randomUUID();
+		assertThrows(InvalidAccountOperationException.class, () -> accountService.transfer(id, id, BigDecimal.ONE));
+	}
+
+	@Test
+	void transfer_shouldApplyBothDeltas_inConditionalMode() {
+		UUID source = UUID.randomUUID();
+		UUID target = UUID.randomUUID();
+		when(repositoryPort.applyBalanceDelta(any(UUID.class), any(BigDecimal.class), any(LocalDateTime.class)))
+				.thenReturn(true);
+		when(repositoryPort.findById(any(UUID.class))).thenReturn(Optional.of(sample));
+
+		accountService.transfer(source, target, new BigDecimal("10.00"));
+
+		verify(repositoryPort).applyBalanceDelta(eq(source), eq(new BigDecimal("-10.00")), any(LocalDateTime.class));
+		verify(repositoryPort).applyBalanceDelta(eq(target), eq(new BigDecimal("10.00")), any(LocalDateTime.class));
+		verify(ledgerPort).record(source, LedgerEntryType.TRANSFER_OUT, new BigDecimal("-10.00"), target);
+		verify(ledgerPort).record(target, LedgerEntryType.TRANSFER_IN, new BigDecimal("10.00"), source);
+		verify(outboxPort, times(2)).append(AccountChangeType.BALANCE_CHANGED, sample);
+	}
+
+	@Test
+	void debit_shouldRetryOnConflict_inOptimisticMode() {
+		accountService = new AccountService(repositoryPort, transactionPort,
+				new BalanceSettings(BalanceWriteMode.OPTIMISTIC, 3), lockManager, outboxPort, ledgerPort, cbuFilter,
+				List.of(listener));
+		UUID id = UUID.randomUUID();
+		when(repositoryPort.findById(id)).thenAnswer(inv -> Optional.of(sample.toBuilder().id(id).build()));
+		when(repositoryPort.save(any(BankAccount.class))).thenThrow(new ConcurrentUpdateException("conflict"))
+				.thenAnswer(inv -> inv.getArgument(0));
+
+		BankAccount result = accountService.debit(id, new BigDecimal("100.00"));
+
+		assertThat(result.getBalance()).isEqualByComparingTo("900.00");
+		verify(repositoryPort, times(2)).save(any(BankAccount.class));
+		verify(outboxPort).append(AccountChangeType.BALANCE_CHANGED, result);
+	}
+
+	@Test
+	void debit_shouldGiveUpAfterMaxRetries_inOptimisticMode() {
+		accountService = new AccountService(repositoryPort, transactionPort,
+				new BalanceSettings(BalanceWriteMode.OPTIMISTIC, 2), lockManager, outboxPort, ledgerPort, cbuFilter,
+				List.of(listener));
+		UUID id = UUID.randomUUID();
+		when(repositoryPort.findById(id)).thenAnswer(inv -> Optional.of(sample.toBuilder().id(id).build()));
+		when(repositoryPort.save(any(BankAccount.class))).thenThrow(new ConcurrentUpdateException("conflict"));
+
+		assertThrows(ConcurrentUpdateException.class, () -> accountService.debit(id, BigDecimal.ONE));
+		verify(repositoryPort, times(3)).save(any(BankAccount.class));
+	}
+
+	@Test
+	void credit_shouldGoThroughLockManager_inStripedMode() {
+		accountService = new AccountService(repositoryPort, transactionPort,
+				new BalanceSettings(BalanceWriteMode.STRIPED, 0), lockManager, outboxPort, ledgerPort, cbuFilter,
+				List.of(listener));
+		UUID id = UUID.randomUUID();
+		when(repositoryPort.findById(id)).thenAnswer(inv -> Optional.of(sample.toBuilder().id(id).build()));
+		when(repositoryPort.save(any(BankAccount.class))).thenAnswer(inv -> inv.getArgument(0));
+
+		BankAccount result = accountService.credit(id, new BigDecimal("50.00"));
+
+		assertThat(result.getBalance()).isEqualByComparingTo("1050.00");
+		assertThat(lockManager.stats().getAcquisitions()).isEqualTo(1);
+		verify(repositoryPort, never()).applyBalanceDelta(any(), any(), any());
+		verify(outboxPort).append(AccountChangeType.BALANCE_CHANGED, result);
 	}
 }
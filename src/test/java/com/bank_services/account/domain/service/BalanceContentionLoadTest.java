@@ -0,0 +1,90 @@
+package com.bank_services.account.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bank_services.account.BankAccountServiceExampleApplication;
+import com.bank_services.account.domain.exception.ConcurrentUpdateException;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.BalanceWriteMode;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.support.LoadRunner;
+
+/**
+ * Muchos hilos contra pocas cuentas: verifica que no se pierdan actualizaciones y mide throughput por modo de
+ * escritura. Se ejecuta con {@code mvn test -Pload-tests}.
+ */
+@Tag("load")
+class BalanceContentionLoadTest {
+
+	private static final int THREADS = 32;
+	private static final int OPERATIONS = 4_000;
+	private static final int HOT_ACCOUNTS = 4;
+	private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000.00");
+
+	@ParameterizedTest
+	@EnumSource(BalanceWriteMode.class)
+	void concurrentMutations_shouldNotLoseUpdates(BalanceWriteMode mode) throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+				BankAccountServiceExampleApplication.class).web(WebApplicationType.NONE)
+				.run("--account.balance.write-mode=" + mode, "--account.balance.max-retries=50",
+						"--spring.datasource.url=jdbc:h2:mem:contention-" + mode + ";DB_CLOSE_DELAY=-1",
+						"--logging.level.com.bank_services.account=info")) {
+
+			AccountService service = context.getBean(AccountService.class);
+			List<UUID> ids = new ArrayList<>();
+			for (int i = 0; i < HOT_ACCOUNTS; i++) {
+				BankAccount account = BankAccount.builder().accountNumber("HOT-" + i)
+						.cbu("99900001000000000000%02d".formatted(i)).ownerName("Hot " + i).ownerDocument("1")
+						.currency(Currency.ARS).balance(INITIAL_BALANCE).status(AccountStatus.ACTIVE).branchCode("001")
+						.build();
+				ids.add(service.create(account).getId());
+			}
+
+			AtomicLong creditedCents = new AtomicLong();
+			AtomicLong conflicts = new AtomicLong();
+
+			LoadRunner.Result result = LoadRunner.run("contention-" + mode, THREADS, OPERATIONS, i -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				UUID source = ids.get(random.nextInt(HOT_ACCOUNTS));
+				UUID target = ids.get(random.nextInt(HOT_ACCOUNTS));
+				long cents = 100 + random.nextInt(900);
+				BigDecimal amount = BigDecimal.valueOf(cents, 2);
+				try {
+					if (source.equals(target)) {
+						service.credit(target, amount);
+						creditedCents.addAndGet(cents);
+					} else {
+						service.transfer(source, target, amount);
+					}
+				} catch (ConcurrentUpdateException e) {
+					conflicts.incrementAndGet();
+					throw e;
+				}
+			});
+
+			System.out.println(result + " retriesExhausted=" + conflicts.get());
+
+			BigDecimal total = ids.stream().map(service::getById).map(BankAccount::getBalance)
+					.reduce(BigDecimal.ZERO, BigDecimal::add);
+			BigDecimal expected = INITIAL_BALANCE.multiply(BigDecimal.valueOf(HOT_ACCOUNTS))
+					.add(BigDecimal.valueOf(creditedCents.get(), 2));
+
+			assertThat(total).isEqualByComparingTo(expected);
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package com.bank_services.account.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.bank_services.account.domain.exception.InvalidRiskRuleException;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.model.RiskRule;
+import com.bank_services.account.domain.model.RiskRuleType;
+
+class RiskRuleTableTest {
+
+	private static final int LOW = RiskRuleType.LOW_BALANCE.bit();
+	private static final int HIGH = RiskRuleType.HIGH_BALANCE.bit();
+	private static final int NOT_ACTIVE = RiskRuleType.NOT_ACTIVE.bit();
+
+	private final RiskRuleTable table = RiskRuleTable.compile(List.of(
+			rule(RiskRuleType.LOW_BALANCE, null, null, "1000"),
+			rule(RiskRuleType.LOW_BALANCE, Currency.USD, null, "100"),
+			rule(RiskRuleType.LOW_BALANCE, null, "002", "5000"),
+			rule(RiskRuleType.LOW_BALANCE, Currency.USD, "002", "10"),
+			rule(RiskRuleType.HIGH_BALANCE, Currency.ARS, null, "1000000"),
+			rule(RiskRuleType.NOT_ACTIVE, null, null, null)));
+
+	@Test
+	void evaluate_shouldApplyTheMostSpecificThreshold() {
+		// general
+		assertThat(evaluate(Currency.ARS, "001", "999.99")).isEqualTo(LOW);
+		assertThat(evaluate(Currency.ARS, "001", "1000.00")).isZero();
+		// moneda
+		assertThat(evaluate(Currency.USD, "001", "500.00")).isZero();
+		assertThat(evaluate(Currency.USD, "001", "99.99")).isEqualTo(LOW);
+		// sucursal
+		assertThat(evaluate(Currency.ARS, "002", "4000.00")).isEqualTo(LOW);
+		// moneda y sucursal ganan a sólo moneda y a sólo sucursal
+		assertThat(evaluate(Currency.USD, "002", "50.00")).isZero();
+		assertThat(evaluate(Currency.USD, "002", "9.99")).isEqualTo(LOW);
+	}
+
+	@Test
+	void evaluate_shouldCombineRuleTypes() {
+		assertThat(evaluate(Currency.ARS, "001", "2000000.00")).isEqualTo(HIGH);
+		assertThat(evaluate(Currency.EUR, "001", "2000000.00")).isZero();
+		assertThat(table.evaluate(Currency.ARS, "001", new BigDecimal("10.00"), AccountStatus.BLOCKED))
+				.isEqualTo(LOW | NOT_ACTIVE);
+		assertThat(RiskRuleType.fromMask(LOW | NOT_ACTIVE))
+				.containsExactly(RiskRuleType.LOW_BALANCE, RiskRuleType.NOT_ACTIVE);
+	}
+
+	@Test
+	void evaluate_shouldTreatMissingBalanceAsZero_andUnknownBranchAsGeneral() {
+		assertThat(table.evaluate(Currency.ARS, null, null, AccountStatus.ACTIVE)).isEqualTo(LOW);
+		assertThat(evaluate(Currency.ARS, "999", "999.99")).isEqualTo(LOW);
+		assertThat(table.evaluate(null, "001", BigDecimal.ZERO, AccountStatus.ACTIVE)).isZero();
+	}
+
+	@Test
+	void compile_shouldRejectInvalidOrDuplicateRules() {
+		assertThrows(InvalidRiskRuleException.class,
+				() -> RiskRuleTable.compile(List.of(rule(RiskRuleType.LOW_BALANCE, null, null, null))));
+		assertThrows(InvalidRiskRuleException.class,
+				() -> RiskRuleTable.compile(List.of(rule(RiskRuleType.HIGH_BALANCE, null, null, "-1"))));
+		assertThrows(InvalidRiskRuleException.class,
+				() -> RiskRuleTable.compile(List.of(rule(RiskRuleType.LOW_BALANCE, null, " ", "1"))));
+		assertThrows(InvalidRiskRuleException.class,
+				() -> RiskRuleTable.compile(List.of(rule(RiskRuleType.LOW_BALANCE, Currency.USD, null, "1"),
+						rule(RiskRuleType.LOW_BALANCE, Currency.USD, null, "2"))));
+	}
+
+	@Test
+	void compile_shouldNotBeAffectedByLaterChangesToTheRules() {
+		RiskRule rule = rule(RiskRuleType.LOW_BALANCE, null, null, "1000");
+		RiskRuleTable compiled = RiskRuleTable.compile(List.of(rule));
+
+		rule.setThreshold(BigDecimal.ONE);
+
+		assertThat(compiled.evaluate(Currency.ARS, "001", new BigDecimal("500.00"), AccountStatus.ACTIVE))
+				.isEqualTo(LOW);
+	}
+
+	@Test
+	void evaluate_shouldNotAllocate() {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		BigDecimal[] balances = { new BigDecimal("50.00"), new BigDecimal("5000.00"), new BigDecimal("2000000.00") };
+		Currency[] currencies = Currency.values();
+		String[] branches = { "001", "002", "003" };
+		long threadId = Thread.currentThread().threadId();
+		int sink = 0;
+		for (int i = 0; i < 200_000; i++) {
+			sink += evaluateAt(i, balances, currencies, branches);
+		}
+
+		long before = threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < 1_000_000; i++) {
+			sink += evaluateAt(i, balances, currencies, branches);
+		}
+		long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+		assertThat(sink).isPositive();
+		// margen para lo que asigne la propia medición; una asignación por evaluación serían megas
+		assertThat(allocated).isLessThan(64 * 1024);
+	}
+
+	private int evaluateAt(int i, BigDecimal[] balances, Currency[] currencies, String[] branches) {
+		return table.evaluate(currencies[i % currencies.length], branches[i % branches.length],
+				balances[i % balances.length], i % 7 == 0 ? AccountStatus.BLOCKED : AccountStatus.ACTIVE);
+	}
+
+	private int evaluate(Currency currency, String branchCode, String balance) {
+		return table.evaluate(currency, branchCode, new BigDecimal(balance), AccountStatus.ACTIVE);
+	}
+
+	private static RiskRule rule(RiskRuleType type, Currency currency, String branchCode, String threshold) {
+		return new RiskRule(type, currency, branchCode, threshold == null ? null : new BigDecimal(threshold));
+	}
+}
@@ -0,0 +1,243 @@
+package com.bank_services.account.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.BalanceSettings;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.port.AccountLedgerPort;
+import com.bank_services.account.domain.port.AccountOutboxPort;
+import com.bank_services.account.domain.port.AccountRepositoryPort;
+import com.bank_services.account.domain.port.CbuFilter;
+import com.bank_services.account.domain.service.AccountLockManager;
+import com.bank_services.account.domain.service.AccountService;
+import com.bank_services.account.infrastructure.persistence.SpringTransactionAdapter;
+
+class CachingAccountRepositoryTest {
+
+	private AccountRepositoryPort delegate;
+	private CachingAccountRepository cache;
+	private BankAccount account;
+
+	@BeforeEach
+	void setUp() {
+		delegate = mock(AccountRepositoryPort.class);
+		AccountCacheProperties properties = new AccountCacheProperties();
+		properties.setMaxSize(100);
+		properties.setConcurrency(4);
+		cache = new CachingAccountRepository(delegate, properties);
+
+		account = BankAccount.builder().id(UUID.randomUUID()).accountNumber("ACC-001").cbu("1230000100000000000011")
+				.ownerName("Juan Perez").currency(Currency.ARS).balance(new BigDecimal("500.00"))
+				.status(AccountStatus.ACTIVE).build();
+	}
+
+	@Test
+	void findById_shouldHitDelegateOnlyOnce() {
+		when(delegate.findById(account.getId())).thenReturn(Optional.of(account));
+
+		cache.findById(account.getId());
+		cache.findById(account.getId());
+
+		verify(delegate, times(1)).findById(account.getId());
+		assertThat(cache.stats().getHits()).isEqualTo(1);
+		assertThat(cache.stats().getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	void findById_shouldReturnCopies_soCallersCannotCorruptTheCache() {
+		when(delegate.findById(account.getId())).thenReturn(Optional.of(account));
+
+		cache.findById(account.getId()).orElseThrow().setBalance(BigDecimal.ZERO);
+
+		assertThat(cache.findById(account.getId()).orElseThrow().getBalance()).isEqualTo(new BigDecimal("500.00"));
+	}
+
+	@Test
+	void findAllById_shouldServeHitsFromCache_andLoadMissesInOneCall() {
+		BankAccount other = account.toBuilder().id(UUID.randomUUID()).cbu("1230000100000000000022").build();
+		UUID missing = UUID.randomUUID();
+		when(delegate.findById(account.getId())).thenReturn(Optional.of(account));
+		cache.findById(account.getId());
+		when(delegate.findAllById(Set.of(other.getId(), missing))).thenReturn(List.of(other));
+
+		List<BankAccount> found = cache.findAllById(List.of(account.getId(), other.getId(), missing));
+
+		assertThat(found).extracting(BankAccount::getId).containsExactlyInAnyOrder(account.getId(), other.getId());
+		verify(delegate, times(1)).findAllById(any());
+		// el cargado queda en cache
+		assertThat(cache.findAllById(List.of(other.getId()))).hasSize(1);
+		verify(delegate, times(1)).findAllById(any());
+	}
+
+	@Test
+	void read_shouldMapCachedInstanceWithoutReloading() {
+		when(delegate.findById(account.getId())).thenReturn(Optional.of(account));
+
+		assertThat(cache.read(account.getId(), BankAccount::getBalance)).contains(new BigDecimal("500.00"));
+		assertThat(cache.read(account.getId(), BankAccount::getOwnerName)).contains("Juan Perez");
+
+		verify(delegate, times(1)).findById(account.getId());
+		assertThat(cache.stats().getHits()).isEqualTo(1);
+		assertThat(cache.read(UUID.randomUUID(), BankAccount::getBalance)).isEmpty();
+	}
+
+	@Test
+	void existsByCbu_shouldBeServedFromIndex_afterFirstLookup() {
+		when(delegate.findByCbu(account.getCbu())).thenReturn(Optional.of(account));
+
+		assertThat(cache.existsByCbu(account.getCbu())).isTrue();
+		assertThat(cache.existsByCbu(account.getCbu())).isTrue();
+
+		verify(delegate, times(1)).findByCbu(account.getCbu());
+		assertThat(cache.stats().getCbuIndexHits()).isEqualTo(1);
+	}
+
+	@Test
+	void existsByCbu_shouldAlwaysAskDelegate_forUnknownCbu() {
+		when(delegate.findByCbu("NEW")).thenReturn(Optional.empty());
+
+		assertThat(cache.existsByCbu("NEW")).isFalse();
+		assertThat(cache.existsByCbu("NEW")).isFalse();
+
+		verify(delegate, times(2)).findByCbu("NEW");
+	}
+
+	@Test
+	void save_shouldInvalidateIdAndPreviousCbu() {
+		when(delegate.findById(account.getId())).thenReturn(Optional.of(account));
+		cache.findById(account.getId());
+
+		BankAccount changed = account.toBuilder().cbu("9990000100000000000099").build();
+		when(delegate.save(any(BankAccount.class))).thenAnswer(inv -> inv.getArgument(0));
+		when(delegate.findByCbu(account.getCbu())).thenReturn(Optional.empty());
+
+		cache.save(changed);
+
+		assertThat(cache.peek(account.getId())).isNull();
+		assertThat(cache.existsByCbu(account.getCbu())).isFalse();
+		verify(delegate).findByCbu(account.getCbu());
+	}
+
+	@Test
+	void findById_shouldNotCacheLoad_whenInvalidatedWhileLoading() {
+		when(delegate.findById(account.getId())).thenAnswer(inv -> {
+			// una escritura concurrente invalida la cuenta mientras la lectura todavía está en curso
+			cache.applyBalanceDelta(account.getId(), BigDecimal.ONE, LocalDateTime.now());
+			return Optional.of(account);
+		});
+
+		cache.findById(account.getId());
+
+		assertThat(cache.peek(account.getId())).isNull();
+	}
+
+	@Test
+	void transfer_shouldNeverExposeARolledBackLeg_toAConcurrentRead() {
+		BankAccount source = account.toBuilder().id(new UUID(0, 1)).build();
+		BankAccount target = account.toBuilder().id(new UUID(0, 2)).cbu("1230000100000000000029")
+				.status(AccountStatus.CLOSED).build();
+		// la fila con el débito sin confirmar sólo la ve la transacción que lo escribió
+		when(delegate.findById(source.getId())).thenAnswer(inv -> Optional
+				.of(TransactionSynchronizationManager.isActualTransactionActive()
+						? source.toBuilder().balance(new BigDecimal("490.00")).version(1L).build()
+						: source));
+		when(delegate.findById(target.getId())).thenReturn(Optional.of(target));
+		when(delegate.applyBalanceDelta(eq(source.getId()), any(), any())).thenReturn(true);
+		AtomicReference<BankAccount> concurrentRead = new AtomicReference<>();
+		when(delegate.applyBalanceDelta(eq(target.getId()), any(), any())).thenAnswer(inv -> {
+			// el segundo tramo espera el lock de la fila destino: mientras tanto otro request lee la cuenta origen
+			concurrentRead.set(CompletableFuture.supplyAsync(() -> cache.findById(source.getId()).orElseThrow())
+					.join());
+			return false;
+		});
+		AccountService service = new AccountService(cache, new SpringTransactionAdapter(new NoOpTransactionManager()),
+				BalanceSettings.defaults(), new AccountLockManager(16, true, Duration.ofSeconds(1)),
+				mock(AccountOutboxPort.class), mock(AccountLedgerPort.class), mock(CbuFilter.class), List.of());
+
+		assertThrows(InvalidAccountOperationException.class,
+				() -> service.transfer(source.getId(), target.getId(), BigDecimal.TEN));
+
+		assertThat(concurrentRead.get().getBalance()).isEqualByComparingTo("500.00");
+		assertThat(cache.findById(source.getId()).orElseThrow().getBalance()).isEqualByComparingTo("500.00");
+	}
+
+	@Test
+	void deleteById_shouldInvalidateEntry() {
+		when(delegate.findById(account.getId())).thenReturn(Optional.of(account));
+		cache.findById(account.getId());
+
+		cache.deleteById(account.getId());
+		cache.findById(account.getId());
+
+		verify(delegate, times(2)).findById(account.getId());
+	}
+
+	@Test
+	void boundedCache_shouldEvictLeastRecentlyUsed_andExpireByTtl() {
+		AtomicLong now = new AtomicLong();
+		BoundedLruCache<String, String> lru = new BoundedLruCache<>(2, Duration.ofSeconds(10).toNanos(), 1, now::get);
+
+		lru.put("a", "A");
+		lru.put("b", "B");
+		lru.get("a");
+		lru.put("c", "C");
+
+		assertThat(lru.peek("b")).isNull();
+		assertThat(lru.peek("a")).isEqualTo("A");
+		assertThat(lru.evictions()).isEqualTo(1);
+
+		now.addAndGet(Duration.ofSeconds(11).toNanos());
+
+		assertThat(lru.get("a")).isNull();
+		assertThat(lru.expirations()).isEqualTo(1);
+	}
+
+	// Sin recurso real: sólo activa la sincronización de transacciones como lo hace el transaction manager de JPA
+	private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
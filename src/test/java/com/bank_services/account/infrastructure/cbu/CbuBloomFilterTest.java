@@ -0,0 +1,58 @@
+package com.bank_services.account.infrastructure.cbu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class CbuBloomFilterTest {
+
+	@Test
+	void mightExist_shouldNeverMissAddedCbus_andKeepFalsePositivesNearTheTarget() {
+		CbuFilterProperties properties = new CbuFilterProperties();
+		properties.setExpectedInsertions(10_000);
+		CbuBloomFilter filter = new CbuBloomFilter(properties, jdbcTemplate());
+		filter.start();
+
+		IntStream.range(0, 10_000).forEach(i -> filter.add(cbu(i)));
+
+		assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightExist(cbu(i)))).isTrue();
+		long falsePositives = IntStream.range(10_000, 110_000).filter(i -> filter.mightExist(cbu(i))).count();
+		// objetivo 1%: con 100k consultas ausentes, holgura hasta 2%
+		assertThat(falsePositives).isLessThan(2_000);
+		assertThat(filter.mightExist("1230000100000000000011")).isTrue();
+	}
+
+	@Test
+	void mightExist_shouldAnswerMaybe_untilLoaded_andStayInactiveWhenDisabled() {
+		CbuFilterProperties properties = new CbuFilterProperties();
+		CbuBloomFilter notLoaded = new CbuBloomFilter(properties, jdbcTemplate());
+		assertThat(notLoaded.mightExist("cualquiera")).isTrue();
+
+		properties.setEnabled(false);
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		CbuBloomFilter disabled = new CbuBloomFilter(properties, jdbcTemplate);
+		disabled.start();
+		disabled.add("x");
+		assertThat(disabled.isActive()).isFalse();
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	private static String cbu(int i) {
+		return "%022d".formatted(1_000_000_000L + i);
+	}
+
+	// tabla mínima con los CBU de data.sql
+	private static JdbcTemplate jdbcTemplate() {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(
+				new DriverManagerDataSource("jdbc:h2:mem:cbu-filter-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1"));
+		jdbcTemplate.execute("create table bank_accounts (cbu varchar(50) primary key)");
+		jdbcTemplate.update("insert into bank_accounts values ('1230000100000000000011')");
+		return jdbcTemplate;
+	}
+}
@@ -0,0 +1,105 @@
+package com.bank_services.account.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+	private final AtomicLong now = new AtomicLong();
+	private final CircuitBreaker breaker = new CircuitBreaker("test", settings(), now::get);
+
+	@Test
+	void breaker_shouldOpenOnFailureRate_onlyAfterMinimumCalls() {
+		fail(3);
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+		// 4 llamadas, 3 fallos: 75% >= 50%
+		succeed(1);
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquirePermission()).isFalse();
+		assertThat(breaker.rejected()).isEqualTo(1);
+		assertThat(breaker.remainingOpenMillis()).isEqualTo(1_000);
+	}
+
+	@Test
+	void breaker_shouldForgetOutcomesThatLeftTheWindow() {
+		fail(1);
+		succeed(5);
+		fail(2);
+
+		// la ventana de 6 tiene 2 fallos: el primero ya salió
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+		fail(1);
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	void breaker_shouldProbeAfterOpenDuration_andCloseWhenProbesSucceed() {
+		fail(4);
+		now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+		// sólo dos llamadas de prueba a la vez
+		assertThat(breaker.tryAcquirePermission()).isFalse();
+
+		breaker.onSuccess();
+		breaker.onSuccess();
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(breaker.openings()).isEqualTo(1);
+	}
+
+	@Test
+	void breaker_shouldReopen_whenAProbeFails() {
+		fail(4);
+		now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+		breaker.onFailure();
+
+		assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquirePermission()).isFalse();
+		assertThat(breaker.openings()).isEqualTo(2);
+	}
+
+	@Test
+	void breaker_shouldReturnProbePermit_whenCallIsIgnored() {
+		fail(4);
+		now.addAndGet(Duration.ofSeconds(1).toNanos());
+		breaker.tryAcquirePermission();
+		breaker.tryAcquirePermission();
+
+		breaker.onIgnored();
+
+		assertThat(breaker.tryAcquirePermission()).isTrue();
+	}
+
+	private void fail(int calls) {
+		for (int i = 0; i < calls; i++) {
+			breaker.tryAcquirePermission();
+			breaker.onFailure();
+		}
+	}
+
+	private void succeed(int calls) {
+		for (int i = 0; i < calls; i++) {
+			breaker.tryAcquirePermission();
+			breaker.onSuccess();
+		}
+	}
+
+	private static OutboundClientProperties.CircuitBreakerSettings settings() {
+		OutboundClientProperties.CircuitBreakerSettings settings = new OutboundClientProperties.CircuitBreakerSettings();
+		settings.setWindowSize(6);
+		settings.setMinimumCalls(4);
+		settings.setFailureRateThreshold(50);
+		settings.setOpenDuration(Duration.ofSeconds(1));
+		settings.setHalfOpenCalls(2);
+		return settings;
+	}
+}
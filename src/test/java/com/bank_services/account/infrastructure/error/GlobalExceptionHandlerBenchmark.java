@@ -0,0 +1,157 @@
+package com.bank_services.account.infrastructure.error;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.bank_services.account.application.dto.BankAccountRequest;
+import com.bank_services.account.domain.exception.DuplicateResourceException;
+import com.bank_services.account.domain.exception.InsufficientFundsException;
+import com.bank_services.account.domain.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Caminos de error: creación de la excepción de dominio + handler + serialización del {@link ApiError}. Los
+ * {@code notFoundThrown*} reproducen un barrido de ids inexistentes: la excepción se lanza a {@code depth} marcos de
+ * donde se atrapa, como bajo Spring MVC, y se compara contra la misma excepción con stack trace. Se ejecuta con
+ * {@code mvn verify -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+	// marcos entre el controller y el DispatcherServlet/filtros en un request real
+	@Param({ "120" })
+	public int depth;
+
+	private GlobalExceptionHandler handler;
+	private MockHttpServletRequest request;
+	private ServletWebRequest webRequest;
+	private ObjectWriter writer;
+	private MethodParameter parameter;
+	private UUID[] missingIds;
+	private int next;
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		handler = new GlobalExceptionHandler();
+		request = new MockHttpServletRequest("GET", "/api/v1/accounts/11111111-1111-1111-1111-111111111111");
+		webRequest = new ServletWebRequest(request);
+		writer = Jackson2ObjectMapperBuilder.json().build().writer();
+		Method method = GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("create", BankAccountRequest.class);
+		parameter = new MethodParameter(method, 0);
+		missingIds = new UUID[1024];
+		for (int i = 0; i < missingIds.length; i++) {
+			missingIds[i] = UUID.randomUUID();
+		}
+	}
+
+	@Benchmark
+	public ResponseEntity<ApiError> notFound() {
+		return handler.handleResourceNotFound(new ResourceNotFoundException("BankAccount with id 1 not found"),
+				request);
+	}
+
+	@Benchmark
+	public byte[] notFoundSerialized() throws JsonProcessingException {
+		return writer.writeValueAsBytes(notFound().getBody());
+	}
+
+	@Benchmark
+	public byte[] notFoundThrown() throws JsonProcessingException {
+		try {
+			throwAt(depth, nextMissingId(), false);
+			throw new IllegalStateException("unreachable");
+		} catch (ResourceNotFoundException ex) {
+			return writer.writeValueAsBytes(handler.handleResourceNotFound(ex, request).getBody());
+		}
+	}
+
+	// Referencia: el mismo 404 con una excepción que llena su stack trace (volver a envolverla es despreciable)
+	@Benchmark
+	public byte[] notFoundThrownWithStackTrace() throws JsonProcessingException {
+		try {
+			throwAt(depth, nextMissingId(), true);
+			throw new IllegalStateException("unreachable");
+		} catch (StackTraceNotFound ex) {
+			ResourceNotFoundException notFound = new ResourceNotFoundException(ex.getMessage());
+			return writer.writeValueAsBytes(handler.handleResourceNotFound(notFound, request).getBody());
+		}
+	}
+
+	@Benchmark
+	public ResponseEntity<ApiError> duplicate() {
+		return handler.handleDuplicateResource(new DuplicateResourceException("BankAccount with CBU 1 already exists"),
+				request);
+	}
+
+	@Benchmark
+	public ResponseEntity<ApiError> insufficientFunds() {
+		return handler.handleBalanceRule(new InsufficientFundsException("BankAccount 1 has insufficient funds"),
+				request);
+	}
+
+	@Benchmark
+	public ResponseEntity<Object> validationFailed() {
+		BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new BankAccountRequest(), "request");
+		bindingResult.rejectValue("cbu", "NotBlank", "must not be blank");
+		bindingResult.rejectValue("ownerName", "NotBlank", "must not be blank");
+		return handler.handleMethodArgumentNotValid(new MethodArgumentNotValidException(parameter, bindingResult),
+				new HttpHeaders(), HttpStatus.BAD_REQUEST, webRequest);
+	}
+
+	@Benchmark
+	public ResponseEntity<ApiError> unexpected() {
+		return handler.handleGenericException(new IllegalStateException("boom"), request);
+	}
+
+	@SuppressWarnings("unused")
+	private void create(BankAccountRequest request) {
+	}
+
+	private UUID nextMissingId() {
+		return missingIds[next++ & (missingIds.length - 1)];
+	}
+
+	private static void throwAt(int depth, UUID id, boolean withStackTrace) {
+		if (depth > 0) {
+			throwAt(depth - 1, id, withStackTrace);
+			return;
+		}
+		String message = "BankAccount with id " + id + " not found";
+		throw withStackTrace ? new StackTraceNotFound(message) : new ResourceNotFoundException(message);
+	}
+
+	private static final class StackTraceNotFound extends RuntimeException {
+
+		StackTraceNotFound(String message) {
+			super(message);
+		}
+	}
+}
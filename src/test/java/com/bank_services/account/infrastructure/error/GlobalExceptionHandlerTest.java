@@ -1,7 +1,11 @@
 package com.bank_services.account.infrastructure.error;
 
+import com.bank_services.account.domain.exception.ConcurrentUpdateException;
 import com.bank_services.account.domain.exception.DuplicateResourceException;
+import com.bank_services.account.domain.exception.InsufficientFundsException;
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
 import com.bank_services.account.domain.exception.ResourceNotFoundException;
+import com.bank_services.account.infrastructure.client.RemoteCallRejectedException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
@@ -9,6 +13,7 @@ import org.springframework.http.*;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.core.MethodParameter;
 import org.springframework.validation.BeanPropertyBindingResult;
@@ -16,7 +21,13 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 
 import java.lang.reflect.Method;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -56,6 +67,41 @@ class GlobalExceptionHandlerTest {
 		assertThat(response.getBody().getMessage()).contains("not found");
 	}
 
+	@Test
+	void handleResourceNotFound_shouldCountByType_andStampInjectedClock() {
+		ApiErrorCounters counters = new ApiErrorCounters();
+		Clock clock = Clock.fixed(Instant.parse("2025-03-01T12:30:00Z"), ZoneOffset.UTC);
+		GlobalExceptionHandler countingHandler = new GlobalExceptionHandler(counters, clock);
+
+		ResponseEntity<ApiError> response = null;
+		for (int i = 0; i < 3; i++) {
+			response = countingHandler.handleResourceNotFound(new ResourceNotFoundException("not found"),
+					mockRequest("/api/test"));
+		}
+		countingHandler.handleBalanceRule(new InsufficientFundsException("insufficient funds"), mockRequest("/api/test"));
+		countingHandler.handleBalanceRule(new InvalidAccountOperationException("not active"), mockRequest("/api/test"));
+
+		assertThat(response.getBody().getError()).isEqualTo("Not Found");
+		assertThat(response.getBody().getTimestamp()).isEqualTo(LocalDateTime.of(2025, 3, 1, 12, 30));
+		assertThat(counters.count(ApiErrorCounters.Type.NOT_FOUND)).isEqualTo(3);
+		assertThat(counters.count(ApiErrorCounters.Type.INSUFFICIENT_FUNDS)).isEqualTo(1);
+		assertThat(counters.count(ApiErrorCounters.Type.INVALID_OPERATION)).isEqualTo(1);
+		assertThat(counters.count(ApiErrorCounters.Type.DUPLICATE)).isZero();
+	}
+
+	@Test
+	void domainExceptions_shouldNotCaptureStackTrace() {
+		RuntimeException[] exceptions = { new ResourceNotFoundException("not found"),
+				new DuplicateResourceException("duplicate"), new ConcurrentUpdateException("modified concurrently"),
+				new InsufficientFundsException("insufficient funds") };
+
+		for (RuntimeException ex : exceptions) {
+			assertThat(ex.getStackTrace()).isEmpty();
+			ex.addSuppressed(new IllegalStateException("ignored"));
+			assertThat(ex.getSuppressed()).isEmpty();
+		}
+	}
+
 	@Test
 	void handleDuplicateResource_shouldReturn409() {
 		DuplicateResourceException ex = new DuplicateResourceException("duplicate");
@@ -69,6 +115,29 @@ class GlobalExceptionHandlerTest {
 		assertThat(response.getBody().getMessage()).contains("duplicate");
 	}
 
+	@Test
+	void handleConcurrentUpdate_shouldReturn409() {
+		ConcurrentUpdateException ex = new ConcurrentUpdateException("modified concurrently");
+		HttpServletRequest request = mockRequest("/api/test");
+
+		ResponseEntity<ApiError> response = handler.handleConcurrentUpdate(ex, request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+		assertThat(response.getBody().getMessage()).contains("modified concurrently");
+	}
+
+	@Test
+	void handleBalanceRule_shouldReturn422() {
+		InsufficientFundsException ex = new InsufficientFundsException("insufficient funds");
+		HttpServletRequest request = mockRequest("/api/test");
+
+		ResponseEntity<ApiError> response = handler.handleBalanceRule(ex, request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+		assertThat(response.getBody().getStatus()).isEqualTo(422);
+		assertThat(response.getBody().getMessage()).contains("insufficient funds");
+	}
+
 	@Test
 	void handleConstraintViolation_shouldReturn400() {
 		ConstraintViolationException ex = new ConstraintViolationException("constraint failed", Collections.emptySet());
@@ -109,6 +178,31 @@ class GlobalExceptionHandlerTest {
 		assertThat(response.getBody().getMessage()).contains("Upstream error");
 	}
 
+	@Test
+	void handleRemoteCallRejected_shouldReturn503WithRetryAfter() {
+		RemoteCallRejectedException ex = new RemoteCallRejectedException("self-account",
+				RemoteCallRejectedException.Reason.CIRCUIT_OPEN, 4);
+
+		ResponseEntity<ApiError> response = handler.handleRemoteCallRejected(ex, mockRequest("/api/test"));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("4");
+		assertThat(response.getBody().getMessage()).contains("circuit open");
+	}
+
+	@Test
+	void handleResourceAccess_shouldReturn504OnTimeout_and502Otherwise() {
+		ResourceAccessException timeout = new ResourceAccessException("I/O error",
+				new SocketTimeoutException("Read timed out"));
+		ResourceAccessException refused = new ResourceAccessException("I/O error",
+				new ConnectException("Connection refused"));
+
+		assertThat(handler.handleResourceAccess(timeout, mockRequest("/api/test")).getStatusCode())
+				.isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+		assertThat(handler.handleResourceAccess(refused, mockRequest("/api/test")).getStatusCode())
+				.isEqualTo(HttpStatus.BAD_GATEWAY);
+	}
+
 	@Test
 	void handleRestClientResponse_shouldFallbackTo500_whenStatusUnknown() {
 		RestClientResponseException ex = new RestClientResponseException("Unknown status", 999, "???",
@@ -144,7 +238,7 @@ class GlobalExceptionHandlerTest {
 		ApiError body = (ApiError) response.getBody();
 		assertThat(body.getStatus()).isEqualTo(400);
 		assertThat(body.getPath()).isEqualTo("/api/accounts");
-		assertThat(body.getMessage()).contains("ownerName").contains("must not be blank");
+		assertThat(body.getMessage()).isEqualTo("ownerName: must not be blank");
 	}
 
 	@Test
@@ -0,0 +1,87 @@
+package com.bank_services.account.infrastructure.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class IdempotentRequestsTest {
+
+	private final IdempotencyProperties properties = new IdempotencyProperties();
+	private final IdempotentRequests requests = new IdempotentRequests(new InMemoryIdempotencyStore(properties),
+			properties, new ObjectMapper().findAndRegisterModules());
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@Test
+	void execute_shouldReplayStoredResponse_withoutCallingAgain() {
+		String fingerprint = requests.fingerprint("create", "ACC-1");
+
+		ResponseEntity<BankAccountResponse> first = requests.execute("k1", fingerprint, BankAccountResponse.class,
+				this::created);
+		ResponseEntity<BankAccountResponse> replay = requests.execute("k1", fingerprint, BankAccountResponse.class,
+				this::created);
+
+		assertThat(calls).hasValue(1);
+		assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(replay.getHeaders().getLocation()).isEqualTo(first.getHeaders().getLocation());
+		assertThat(replay.getHeaders().getFirst(IdempotentRequests.REPLAYED_HEADER)).isEqualTo("true");
+		assertThat(replay.getBody().getAccountNumber()).isEqualTo("ACC-1");
+		assertThat(requests.replayedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void execute_shouldRejectSameKeyWithDifferentRequest_andKeyInProgress() {
+		requests.execute("k2", requests.fingerprint("create", "ACC-1"), BankAccountResponse.class, this::created);
+
+		IdempotencyKeyException mismatch = assertThrows(IdempotencyKeyException.class, () -> requests.execute("k2",
+				requests.fingerprint("create", "ACC-2"), BankAccountResponse.class, this::created));
+		assertThat(mismatch.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+
+		IdempotencyKeyException inProgress = assertThrows(IdempotencyKeyException.class,
+				() -> requests.execute("k3", "a", Void.class,
+						() -> requests.execute("k3", "a", Void.class, () -> ResponseEntity.noContent().build())));
+		assertThat(inProgress.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+		assertThat(requests.execute("k3", "a", Void.class, () -> ResponseEntity.noContent().build())
+				.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+	}
+
+	@Test
+	void execute_shouldNotStoreFailures_soTheRetryRunsAgain() {
+		assertThrows(IllegalStateException.class, () -> requests.execute("k4", "a", BankAccountResponse.class, () -> {
+			calls.incrementAndGet();
+			throw new IllegalStateException("boom");
+		}));
+		requests.execute("k4", "a", BankAccountResponse.class, this::created);
+
+		assertThat(calls).hasValue(2);
+		assertThat(requests.storedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void execute_shouldRejectKeysOverMaxLength_andIgnoreMissingKey() {
+		IdempotencyKeyException tooLong = assertThrows(IdempotencyKeyException.class,
+				() -> requests.execute("x".repeat(256), "a", BankAccountResponse.class, this::created));
+		assertThat(tooLong.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+		requests.execute(null, "a", BankAccountResponse.class, this::created);
+		requests.execute(null, "a", BankAccountResponse.class, this::created);
+		assertThat(calls).hasValue(2);
+	}
+
+	private ResponseEntity<BankAccountResponse> created() {
+		BankAccountResponse response = new BankAccountResponse();
+		response.setAccountNumber("ACC-" + calls.incrementAndGet());
+		HttpHeaders headers = new HttpHeaders();
+		headers.setLocation(URI.create("/api/v1/accounts/" + calls.get()));
+		return ResponseEntity.status(HttpStatus.CREATED).headers(headers).body(response);
+	}
+}
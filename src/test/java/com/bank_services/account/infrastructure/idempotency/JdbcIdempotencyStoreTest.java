@@ -0,0 +1,112 @@
+package com.bank_services.account.infrastructure.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DataJpaTest
+class JdbcIdempotencyStoreTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final IdempotencyProperties properties = new IdempotencyProperties();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void find_shouldReadTheTable_whenAnotherInstanceStoredTheKey() {
+		JdbcIdempotencyStore first = store();
+		first.save("k1", new StoredResponse("f", 201, Map.of("Location", List.of("/api/v1/accounts/1")), "{\"a\":1}",
+				LocalDateTime.now()));
+		// un duplicado de otra instancia no pisa la primera respuesta
+		first.save("k1", new StoredResponse("g", 200, Map.of(), null, LocalDateTime.now()));
+
+		StoredResponse found = store().find("k1");
+
+		assertThat(found.getFingerprint()).isEqualTo("f");
+		assertThat(found.getStatus()).isEqualTo(201);
+		assertThat(found.getHeaders()).containsEntry("Location", List.of("/api/v1/accounts/1"));
+		assertThat(found.getBody()).isEqualTo("{\"a\":1}");
+	}
+
+	@Test
+	void purgeExpired_shouldDropKeysOlderThanTtl() {
+		JdbcIdempotencyStore store = store();
+		store.save("old", new StoredResponse("f", 204, Map.of(), null,
+				LocalDateTime.now().minus(properties.getTtl()).minusMinutes(1)));
+		store.save("new", new StoredResponse("f", 204, Map.of(), null, LocalDateTime.now()));
+
+		assertThat(store().find("old")).isNull();
+		assertThat(store.purgeExpired()).isEqualTo(1);
+		assertThat(store().find("new")).isNotNull();
+	}
+
+	@Test
+	void reserve_shouldLetOneInstanceRunTheKey_andShowTheResponseOnlyOnceCompleted() {
+		JdbcIdempotencyStore first = store();
+		JdbcIdempotencyStore second = store();
+
+		assertThat(first.reserve("k2", "f")).isTrue();
+		assertThat(second.reserve("k2", "f")).isFalse();
+		assertThat(second.find("k2")).isNull();
+
+		first.save("k2", new StoredResponse("f", 204, Map.of(), null, LocalDateTime.now()));
+
+		assertThat(second.find("k2").getStatus()).isEqualTo(204);
+		assertThat(second.reserve("k2", "f")).isFalse();
+	}
+
+	@Test
+	void reserve_shouldFreeTheKey_whenReleasedOrAbandoned() {
+		JdbcIdempotencyStore first = store();
+		assertThat(first.reserve("k3", "f")).isTrue();
+		first.release("k3");
+		assertThat(store().reserve("k3", "f")).isTrue();
+
+		// la reserva de una instancia caída deja de bloquear la clave pasado in-flight-timeout
+		properties.setInFlightTimeout(Duration.ZERO);
+		assertThat(store().reserve("k3", "f")).isTrue();
+	}
+
+	@Test
+	void execute_shouldRejectAKeyInProgressOnAnotherInstance_withoutRunningIt() {
+		ObjectMapper mapper = new ObjectMapper();
+		IdempotentRequests first = new IdempotentRequests(store(), properties, mapper);
+		IdempotentRequests second = new IdempotentRequests(store(), properties, mapper);
+		int[] calls = new int[1];
+
+		ResponseEntity<Void> response = first.execute("k4", "f", Void.class, () -> {
+			IdempotencyKeyException inProgress = assertThrows(IdempotencyKeyException.class,
+					() -> second.execute("k4", "f", Void.class, () -> {
+						calls[0]++;
+						return ResponseEntity.noContent().build();
+					}));
+			assertThat(inProgress.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+			return ResponseEntity.noContent().build();
+		});
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		assertThat(calls[0]).isZero();
+		assertThat(second.execute("k4", "f", Void.class, () -> ResponseEntity.ok().build()).getHeaders()
+				.getFirst(IdempotentRequests.REPLAYED_HEADER)).isEqualTo("true");
+	}
+
+	// cada instancia con su propia memoria, como dos nodos sobre la misma tabla
+	private JdbcIdempotencyStore store() {
+		return new JdbcIdempotencyStore(jdbcTemplate, new InMemoryIdempotencyStore(properties), properties,
+				objectMapper);
+	}
+}
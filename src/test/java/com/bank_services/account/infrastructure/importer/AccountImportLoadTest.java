@@ -0,0 +1,118 @@
+package com.bank_services.account.infrastructure.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bank_services.account.BankAccountServiceExampleApplication;
+import com.bank_services.account.support.LoadRunner;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Importa archivos NDJSON de distinto tamaño y compara el pico de heap: debe mantenerse acotado aunque el archivo
+ * crezca. La base es H2 en disco para que las filas importadas no ocupen heap. Se ejecuta con
+ * {@code mvn test -Pload-tests}.
+ */
+@Tag("load")
+class AccountImportLoadTest {
+
+	private static final int SMALL = 50_000;
+	private static final int LARGE = 200_000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@TempDir
+	Path workDir;
+
+	@Test
+	void fileImport_shouldKeepHeapBounded_regardlessOfFileSize() throws Exception {
+		Path imports = Files.createDirectories(workDir.resolve("imports"));
+		writeFile(imports.resolve("small.ndjson"), "S", SMALL);
+		writeFile(imports.resolve("large.ndjson"), "L", LARGE);
+
+		int port = LoadRunner.freePort();
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+				BankAccountServiceExampleApplication.class).run("--server.port=" + port,
+						"--account.import.base-dir=" + imports,
+						"--spring.datasource.url=jdbc:h2:file:" + workDir.resolve("db") + ";DB_CLOSE_DELAY=-1",
+						"--logging.level.com.bank_services.account=info")) {
+
+			HttpClient client = HttpClient.newHttpClient();
+			Measurement small = importFile(client, port, "small.ndjson", imports);
+			Measurement large = importFile(client, port, "large.ndjson", imports);
+
+			System.out.println(small);
+			System.out.println(large);
+
+			assertThat(small.job.path("created").asLong()).isEqualTo(SMALL);
+			assertThat(large.job.path("created").asLong()).isEqualTo(LARGE);
+			// 4x registros no debería traducirse en 4x heap
+			assertThat(large.peakHeapBytes).isLessThan(small.peakHeapBytes * 2);
+		}
+	}
+
+	private Measurement importFile(HttpClient client, int port, String name, Path imports) throws Exception {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		System.gc();
+		AtomicLong peak = new AtomicLong(memory.getHeapMemoryUsage().getUsed());
+
+		HttpRequest start = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/accounts/imports/files"))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString("{\"path\":\"" + name + "\"}")).build();
+		long begin = System.nanoTime();
+		HttpResponse<String> accepted = client.send(start, HttpResponse.BodyHandlers.ofString());
+		assertThat(accepted.statusCode()).isEqualTo(202);
+		URI location = accepted.headers().firstValue("Location").map(URI::create).orElseThrow();
+
+		JsonNode job;
+		do {
+			Thread.sleep(50);
+			peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+			job = objectMapper.readTree(client.send(HttpRequest.newBuilder(location).GET().build(),
+					HttpResponse.BodyHandlers.ofString()).body());
+		} while (!job.path("finishedAt").isTextual());
+		double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+
+		return new Measurement(name, Files.size(imports.resolve(name)), job, peak.get(), seconds);
+	}
+
+	private static void writeFile(Path file, String prefix, int records) throws Exception {
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			for (int i = 0; i < records; i++) {
+				String cbu = prefix + "%021d".formatted(i);
+				writer.write("""
+						{"accountNumber":"%s","cbu":"%s","ownerName":"Owner %d","ownerDocument":"%d",\
+						"currency":"ARS","balance":100.00,"branchCode":"001"}
+						""".formatted(cbu, cbu, i, i));
+			}
+		}
+	}
+
+	private record Measurement(String name, long fileBytes, JsonNode job, long peakHeapBytes, double seconds) {
+
+		@Override
+		public String toString() {
+			return "%-14s file=%dMB records=%d created=%d throughput=%.0f rec/s backpressure=%dms peakHeap=%dMB"
+					.formatted(name, fileBytes >> 20, job.path("read").asLong(), job.path("created").asLong(),
+							job.path("read").asLong() / seconds, job.path("backpressureMillis").asLong(),
+							peakHeapBytes >> 20);
+		}
+	}
+}
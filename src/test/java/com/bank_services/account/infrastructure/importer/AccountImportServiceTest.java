@@ -0,0 +1,119 @@
+package com.bank_services.account.infrastructure.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.BatchItemResult;
+import com.bank_services.account.domain.model.BatchItemStatus;
+import com.bank_services.account.domain.service.AccountBatchService;
+import com.bank_services.account.infrastructure.web.AccountRequestMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+class AccountImportServiceTest {
+
+	private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+	private final AccountRequestMapper requestMapper = new AccountRequestMapper(validatorFactory.getValidator());
+	private final AccountBatchService batchService = mock(AccountBatchService.class);
+
+	private AccountImportService service;
+
+	@AfterEach
+	void tearDown() {
+		if (service != null) {
+			service.shutdown();
+		}
+		validatorFactory.close();
+	}
+
+	@Test
+	void importStream_shouldChunkValidRecords_andCountRejections() {
+		service = newService(2, 1, 2);
+		when(batchService.createAll(anyList())).thenAnswer(inv -> {
+			List<BankAccount> chunk = inv.getArgument(0);
+			return chunk.stream().map(a -> a.getCbu().equals("DUP") ? BatchItemResult.duplicate(a.getCbu())
+					: BatchItemResult.created(a)).collect(Collectors.toList());
+		});
+
+		String ndjson = String.join("\n", record("A"), "{not json", record("B"), record("DUP"),
+				"{\"cbu\":\"NO-OWNER\"}", record("C"));
+		ImportJob job = service.importStream(ImportFormat.NDJSON, stream(ndjson), "test");
+
+		assertThat(job.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+		assertThat(job.getRead()).isEqualTo(6);
+		assertThat(job.getCreated()).isEqualTo(3);
+		assertThat(job.getDuplicates()).isEqualTo(1);
+		assertThat(job.getInvalid()).isEqualTo(2);
+		assertThat(job.getErrors()).extracting(ImportError::getLine).containsExactlyInAnyOrder(2L, 4L, 5L);
+		assertThat(job.getErrors()).filteredOn(e -> e.getStatus() == BatchItemStatus.DUPLICATE)
+				.extracting(ImportError::getCbu).containsExactly("DUP");
+	}
+
+	@Test
+	void importStream_shouldBoundChunksInFlight() throws Exception {
+		int workers = 2;
+		int queueCapacity = 1;
+		service = newService(workers, queueCapacity, 10);
+		AtomicInteger concurrent = new AtomicInteger();
+		AtomicInteger maxConcurrent = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		when(batchService.createAll(anyList())).thenAnswer(inv -> {
+			maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+			release.await(5, TimeUnit.SECONDS);
+			concurrent.decrementAndGet();
+			List<BankAccount> chunk = inv.getArgument(0);
+			return chunk.stream().map(BatchItemResult::created).collect(Collectors.toList());
+		});
+
+		String ndjson = IntStream.range(0, 200).mapToObj(i -> record("CBU-" + i)).collect(Collectors.joining("\n"));
+		Thread importer = new Thread(() -> service.importStream(ImportFormat.NDJSON, stream(ndjson), "test"));
+		importer.start();
+		Thread.sleep(300);
+
+		// con los workers bloqueados el lector se frena: a lo sumo workers + cola + el chunk que está armando
+		ImportJob job = service.recentJobs().get(0);
+		assertThat(job.getRead()).isLessThanOrEqualTo((workers + queueCapacity + 1) * 10L + 1);
+
+		release.countDown();
+		importer.join(5_000);
+		assertThat(maxConcurrent.get()).isLessThanOrEqualTo(workers);
+		assertThat(job.getCreated()).isEqualTo(200);
+		assertThat(job.getBackpressureMillis()).isPositive();
+	}
+
+	private AccountImportService newService(int workers, int queueCapacity, int chunkSize) {
+		AccountImportProperties properties = new AccountImportProperties();
+		properties.setWorkers(workers);
+		properties.setQueueCapacity(queueCapacity);
+		properties.setChunkSize(chunkSize);
+		return new AccountImportService(batchService, requestMapper, new ObjectMapper(), properties, false);
+	}
+
+	private static InputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String record(String cbu) {
+		return """
+				{"accountNumber":"ACC","cbu":"%s","ownerName":"Owner","ownerDocument":"1","currency":"ARS",\
+				"branchCode":"001"}""".formatted(cbu);
+	}
+}
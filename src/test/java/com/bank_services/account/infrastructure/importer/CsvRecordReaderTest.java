@@ -0,0 +1,51 @@
+package com.bank_services.account.infrastructure.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import com.bank_services.account.domain.model.Currency;
+
+class CsvRecordReaderTest {
+
+	@Test
+	void next_shouldMapColumnsByHeader_andHandleQuotedFields() throws Exception {
+		String csv = """
+				cbu,ownerName,accountNumber,currency,balance,ownerDocument,branchCode
+				CBU1,"Perez, \"\"Juan\"\"",ACC-1,USD,12.50,30123456,001
+
+				CBU2,Ana,ACC-2,ARS,,1,002
+				""";
+		try (CsvRecordReader reader = new CsvRecordReader(new BufferedReader(new StringReader(csv)))) {
+			ParsedRecord first = reader.next();
+			assertThat(first.getLine()).isEqualTo(2);
+			assertThat(first.getRequest().getOwnerName()).isEqualTo("Perez, \"Juan\"");
+			assertThat(first.getRequest().getCurrency()).isEqualTo(Currency.USD);
+			assertThat(first.getRequest().getBalance()).isEqualByComparingTo("12.50");
+
+			ParsedRecord second = reader.next();
+			assertThat(second.getLine()).isEqualTo(4);
+			assertThat(second.getRequest().getBalance()).isNull();
+
+			assertThat(reader.next()).isNull();
+		}
+	}
+
+	@Test
+	void next_shouldReportMalformedRecords_withoutStopping() throws Exception {
+		String csv = """
+				accountNumber,cbu,ownerName,ownerDocument,currency,balance,branchCode
+				ACC-1,CBU1,"unterminated,1,ARS,1,001
+				ACC-2,CBU2,Ana,1,JPY,1,001
+				ACC-3,CBU3,Ana,1,ARS,1,001
+				""";
+		try (CsvRecordReader reader = new CsvRecordReader(new BufferedReader(new StringReader(csv)))) {
+			assertThat(reader.next().getError()).contains("unterminated");
+			assertThat(reader.next().getError()).contains("invalid currency");
+			assertThat(reader.next().getRequest().getCbu()).isEqualTo("CBU3");
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.bank_services.account.infrastructure.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.infrastructure.error.ApiError;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * BeanSerializer de Jackson ({@code standard}) contra los serializadores de {@link AccountJsonModule}
+ * ({@code fast}) para una cuenta, una página de 50 y un error, escribiendo a un stream como el conversor de MVC. Se
+ * ejecuta con {@code mvn verify -Pbenchmark -Djmh.args="AccountJson -prof gc"} para ver también los bytes por
+ * operación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountJsonBenchmark {
+
+	private static final int PAGE_SIZE = 50;
+
+	@Param({ "standard", "fast" })
+	public String serializers;
+
+	private ObjectWriter accountWriter;
+	private ObjectWriter pageWriter;
+	private ObjectWriter errorWriter;
+	private BankAccountResponse account;
+	private List<BankAccountResponse> page;
+	private ApiError error;
+	private final OutputStream sink = new DiscardingOutputStream();
+
+	@Setup
+	public void setUp() {
+		Jackson2ObjectMapperBuilder builder = AccountJsonModuleTest.bootMapper();
+		if ("fast".equals(serializers)) {
+			builder.modulesToInstall(new AccountJsonModule());
+		}
+		ObjectMapper mapper = builder.build();
+		accountWriter = mapper.writerFor(BankAccountResponse.class);
+		pageWriter = mapper.writerFor(new TypeReference<List<BankAccountResponse>>() {
+		});
+		errorWriter = mapper.writerFor(ApiError.class);
+
+		LocalDateTime now = LocalDateTime.of(2025, 6, 1, 10, 30, 15, 123_456_000);
+		page = new ArrayList<>(PAGE_SIZE);
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			page.add(new BankAccountResponse(UUID.randomUUID(), "ACC-" + i, "%022d".formatted(i), "Owner " + i,
+					"30" + (100_000 + i), Currency.ARS, new BigDecimal("1500.00").add(BigDecimal.valueOf(i)),
+					AccountStatus.ACTIVE, "001", now, now.plusMinutes(i)));
+		}
+		account = page.get(0);
+		error = new ApiError(now, 404, "Not Found", "Account not found with id: " + account.getId(),
+				"/api/v1/accounts/" + account.getId());
+	}
+
+	@Benchmark
+	public void writeAccount() throws IOException {
+		accountWriter.writeValue(sink, account);
+	}
+
+	@Benchmark
+	public void writePage() throws IOException {
+		pageWriter.writeValue(sink, page);
+	}
+
+	@Benchmark
+	public void writeError() throws IOException {
+		errorWriter.writeValue(sink, error);
+	}
+
+	// writeValue cierra el destino: OutputStream.nullOutputStream() fallaría desde la segunda escritura
+	private static final class DiscardingOutputStream extends OutputStream {
+
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	}
+}
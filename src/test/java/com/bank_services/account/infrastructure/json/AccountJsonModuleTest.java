@@ -0,0 +1,85 @@
+package com.bank_services.account.infrastructure.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.infrastructure.error.ApiError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Los serializadores escritos a mano tienen que producir byte a byte lo mismo que el BeanSerializer con la
+ * configuración de Spring Boot.
+ */
+class AccountJsonModuleTest {
+
+	private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 31, 23, 59, 59);
+
+	private final ObjectMapper standard = bootMapper().build();
+	private final ObjectMapper fast = bootMapper().modulesToInstall(new AccountJsonModule()).build();
+
+	@Test
+	void bankAccountResponse_shouldMatchStandardSerialization() throws Exception {
+		assertSameJson(account(CREATED, CREATED.plusNanos(123_000_000)));
+		assertSameJson(account(CREATED.withSecond(0), CREATED.plusNanos(1)));
+		assertSameJson(account(CREATED.plusNanos(120_450_000), LocalDateTime.of(12_025, 1, 1, 0, 0)));
+		assertSameJson(new BankAccountResponse());
+		assertSameJson(List.of(account(CREATED, null), account(CREATED, CREATED)));
+	}
+
+	@Test
+	void bankAccountResponse_shouldEscapeStringsLikeStandardSerialization() throws Exception {
+		BankAccountResponse account = account(CREATED, null);
+		account.setOwnerName("José \"Pepe\" Núñez\n\\ \u0001 🏦");
+		account.setId(new UUID(-1L, 0x00000000000000FFL));
+		account.setBalance(new BigDecimal("-1E+3"));
+
+		assertSameJson(account);
+	}
+
+	@Test
+	void bankAccountResponse_shouldFollowTimestampsFeature() throws Exception {
+		BankAccountResponse account = account(CREATED, CREATED.plusNanos(5));
+
+		String json = standard.writer(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).writeValueAsString(account);
+
+		assertThat(json).contains("\"createdAt\":[2025,1,31,23,59,59]");
+		assertThat(fast.writer(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).writeValueAsString(account))
+				.isEqualTo(json);
+	}
+
+	@Test
+	void apiError_shouldMatchStandardSerialization() throws Exception {
+		assertSameJson(new ApiError(CREATED.plusNanos(987_654_321), 404, "Not Found",
+				"Account not found with id: " + UUID.randomUUID(), "/api/v1/accounts/x"));
+		assertSameJson(new ApiError(null, 500, null, null, null));
+	}
+
+	// Spring Boot desactiva WRITE_DATES_AS_TIMESTAMPS (spring.jackson.serialization): fechas ISO-8601
+	static Jackson2ObjectMapperBuilder bootMapper() {
+		return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+				SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+	}
+
+	private void assertSameJson(Object value) throws Exception {
+		String json = standard.writeValueAsString(value);
+		assertThat(json).doesNotContain(":[");
+		assertThat(fast.writeValueAsString(value)).isEqualTo(json);
+	}
+
+	private static BankAccountResponse account(LocalDateTime createdAt, LocalDateTime updatedAt) {
+		return new BankAccountResponse(UUID.randomUUID(), "ACC-001", "1230000100000000000011", "Juan Perez",
+				"30123456", Currency.USD, new BigDecimal("1500.00"), AccountStatus.BLOCKED, "001", createdAt,
+				updatedAt);
+	}
+}
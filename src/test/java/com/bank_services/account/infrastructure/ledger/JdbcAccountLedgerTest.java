@@ -0,0 +1,112 @@
+package com.bank_services.account.infrastructure.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.bank_services.account.application.dto.AccountBalanceResponse;
+import com.bank_services.account.application.dto.LedgerEntryPage;
+import com.bank_services.account.application.dto.LedgerEntryResponse;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.model.LedgerEntryType;
+
+@DataJpaTest
+class JdbcAccountLedgerTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private JdbcAccountLedger ledger;
+	private UUID id;
+
+	@BeforeEach
+	void setUp() {
+		ledger = new JdbcAccountLedger(jdbcTemplate);
+		id = UUID.randomUUID();
+		BankAccount account = BankAccount.builder().id(id).accountNumber("ACC-L").cbu("LEDGER-" + id)
+				.ownerName("Ledger").ownerDocument("30111222").currency(Currency.ARS).balance(new BigDecimal("100.00"))
+				.branchCode("001").version(0L).build();
+		account.prepareForCreate(LocalDateTime.now());
+		jdbcTemplate.update("""
+				insert into bank_accounts (id, account_number, cbu, owner_name, owner_document, currency, balance,
+				                           status, branch_code, created_at, updated_at, version)
+				values (?, 'ACC-L', ?, 'Ledger', '30111222', 'ARS', 100.00, 'ACTIVE', '001', ?, ?, 0)
+				""", id, account.getCbu(), Timestamp.valueOf(account.getCreatedAt()),
+				Timestamp.valueOf(account.getUpdatedAt()));
+		ledger.recordOpenings(List.of(account));
+	}
+
+	@Test
+	void record_shouldUseAccountVersionAsSeq_andRunTheBalance() {
+		move(LedgerEntryType.CREDIT, "50.00");
+		move(LedgerEntryType.DEBIT, "-30.00");
+		// cambio sin movimiento de saldo: deja un hueco en seq
+		jdbcTemplate.update("update bank_accounts set version = version + 1 where id = ?", id);
+		move(LedgerEntryType.TRANSFER_OUT, "-20.00");
+
+		LedgerEntryPage first = ledger.findEntries(id, null, 2);
+		assertThat(first.getItems()).extracting(LedgerEntryResponse::getSeq).containsExactly(0L, 1L);
+		assertThat(first.getItems().get(1).getBalanceAfter()).isEqualByComparingTo("150.00");
+		assertThat(first.getNextCursor()).isEqualTo(1L);
+
+		LedgerEntryPage second = ledger.findEntries(id, first.getNextCursor(), 2);
+		assertThat(second.getItems()).extracting(LedgerEntryResponse::getSeq).containsExactly(2L, 4L);
+		assertThat(second.getItems()).extracting(LedgerEntryResponse::getBalanceAfter)
+				.usingElementComparator(BigDecimal::compareTo)
+				.containsExactly(new BigDecimal("120.00"), new BigDecimal("100.00"));
+		assertThat(second.hasNext()).isFalse();
+		assertThat(ledger.findBalance(id, null).getBalance()).isEqualByComparingTo("100.00");
+	}
+
+	@Test
+	void snapshot_shouldOnlyBeWrittenOverMinEntries_andKeepBalancesExact() {
+		for (int i = 0; i < 5; i++) {
+			move(LedgerEntryType.CREDIT, "10.00");
+		}
+		assertThat(ledger.snapshot(id, 10)).isFalse();
+		assertThat(ledger.snapshot(id, 5)).isTrue();
+		assertThat(ledger.snapshot(id, 1)).isFalse();
+		move(LedgerEntryType.DEBIT, "-25.00");
+
+		assertThat(jdbcTemplate.queryForObject("select seq from account_balance_snapshot where account_id = ?",
+				Long.class, id)).isEqualTo(5L);
+		assertThat(ledger.balanceAt(id, 5)).isEqualByComparingTo("150.00");
+		assertThat(ledger.balanceAt(id, 3)).isEqualByComparingTo("130.00");
+		AccountBalanceResponse current = ledger.findBalance(id, null);
+		assertThat(current.getSeq()).isEqualTo(6L);
+		assertThat(current.getBalance()).isEqualByComparingTo("125.00");
+		assertThat(ledger.findEntries(id, 5L, 10).getItems().get(0).getBalanceAfter()).isEqualByComparingTo("125.00");
+	}
+
+	@Test
+	void findBalance_shouldUseEntriesUpToTheGivenTime() {
+		jdbcTemplate.update("update account_ledger set created_at = ? where account_id = ?",
+				Timestamp.valueOf(LocalDateTime.now().minusDays(2)), id);
+		move(LedgerEntryType.CREDIT, "40.00");
+
+		AccountBalanceResponse yesterday = ledger.findBalance(id, LocalDateTime.now().minusDays(1));
+		assertThat(yesterday.getSeq()).isZero();
+		assertThat(yesterday.getBalance()).isEqualByComparingTo("100.00");
+		assertThat(ledger.findBalance(id, LocalDateTime.now().minusDays(3)).getSeq()).isNull();
+		assertThat(ledger.findBalance(id, LocalDateTime.now().plusSeconds(1)).getBalance())
+				.isEqualByComparingTo("140.00");
+	}
+
+	// Lo que hace AccountService en la transacción: escribir la cuenta (nueva versión) y después el movimiento
+	private void move(LedgerEntryType type, String amount) {
+		jdbcTemplate.update("update bank_accounts set balance = balance + ?, version = version + 1 where id = ?",
+				new BigDecimal(amount), id);
+		ledger.record(id, type, new BigDecimal(amount), null);
+	}
+}
@@ -0,0 +1,111 @@
+package com.bank_services.account.infrastructure.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+
+class AsyncHttpLogSinkTest {
+
+	@Test
+	void write_shouldTruncateBodiesAndWriteOffTheCallingThread() throws Exception {
+		HttpLoggingProperties properties = new HttpLoggingProperties();
+		properties.setMaxBodySize(8);
+		List<String> threads = new CopyOnWriteArrayList<>();
+		List<HttpLogEntry> entries = new CopyOnWriteArrayList<>();
+
+		try (AsyncHttpLogSink sink = new AsyncHttpLogSink(properties, entry -> {
+			threads.add(Thread.currentThread().getName());
+			entries.add(entry);
+		})) {
+			sink.write(correlation(), request("{\"holderName\":\"Ana\"}"), response(201, "{\"id\":1}"));
+
+			waitFor(() -> sink.getWritten() == 1);
+		}
+
+		assertThat(threads).containsExactly("http-log-writer");
+		HttpLogEntry entry = entries.get(0);
+		assertThat(entry.getRequestBody()).isEqualTo("{\"holder...(truncated)");
+		assertThat(entry.getResponseBody()).isEqualTo("{\"id\":1}");
+		assertThat(entry.getStatus()).isEqualTo(201);
+	}
+
+	@Test
+	void write_shouldDropAndCountWhenQueueIsFull() throws Exception {
+		HttpLoggingProperties properties = new HttpLoggingProperties();
+		properties.setQueueCapacity(2);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch writing = new CountDownLatch(1);
+
+		try (AsyncHttpLogSink sink = new AsyncHttpLogSink(properties, entry -> {
+			writing.countDown();
+			awaitQuietly(release);
+		})) {
+			sink.write(correlation(), request(""), response(200, ""));
+			assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+			// el writer está bloqueado: dos entradas llenan la cola y el resto se descarta sin bloquear
+			for (int i = 0; i < 5; i++) {
+				sink.write(correlation(), request(""), response(200, ""));
+			}
+
+			assertThat(sink.getQueueSize()).isEqualTo(2);
+			assertThat(sink.getDropped()).isEqualTo(3);
+			release.countDown();
+			waitFor(() -> sink.getWritten() == 3);
+		}
+	}
+
+	private static Correlation correlation() {
+		Correlation correlation = mock(Correlation.class);
+		when(correlation.getId()).thenReturn("abc");
+		when(correlation.getDuration()).thenReturn(Duration.ofMillis(3));
+		return correlation;
+	}
+
+	private static HttpRequest request(String body) throws IOException {
+		HttpRequest request = mock(HttpRequest.class);
+		when(request.getMethod()).thenReturn("POST");
+		when(request.getPath()).thenReturn("/api/v1/accounts");
+		when(request.getBody()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+		when(request.getCharset()).thenReturn(StandardCharsets.UTF_8);
+		return request;
+	}
+
+	private static HttpResponse response(int status, String body) throws IOException {
+		HttpResponse response = mock(HttpResponse.class);
+		when(response.getStatus()).thenReturn(status);
+		when(response.getBody()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+		when(response.getCharset()).thenReturn(StandardCharsets.UTF_8);
+		return response;
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.bank_services.account.infrastructure.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Logbook;
+import org.zalando.logbook.Sink;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class CappedLogbookFilterTest {
+
+	private static final String BODY = "{\"code\":\"ACCOUNT_NOT_FOUND\",\"message\":\"" + "x".repeat(200) + "\"}";
+
+	private final List<Integer> capturedSizes = new CopyOnWriteArrayList<>();
+	private final List<String> loggedBodies = new CopyOnWriteArrayList<>();
+
+	@Test
+	void errorsOnly_shouldCapTheResponseCopyWhileWritingAndSendTheFullBody() throws Exception {
+		MockHttpServletResponse response = filter(errorsOnly(), false);
+
+		assertThat(response.getContentAsString()).isEqualTo(BODY);
+		assertThat(capturedSizes).containsExactly(17);
+		assertThat(loggedBodies).containsExactly("{\"code\":\"ACCOUNT...(truncated)");
+	}
+
+	@Test
+	void writer_shouldBeCappedAndFlushedBeforeLogbookTakesTheCopy() throws Exception {
+		MockHttpServletResponse response = filter(errorsOnly(), true);
+
+		assertThat(response.getContentAsString()).isEqualTo(BODY);
+		assertThat(capturedSizes).containsExactly(17);
+	}
+
+	@Test
+	void smallBody_shouldBeLoggedWhole() throws Exception {
+		HttpLoggingProperties properties = errorsOnly();
+		properties.setMaxBodySize(BODY.length());
+
+		filter(properties, false);
+
+		assertThat(loggedBodies).containsExactly(BODY);
+	}
+
+	private static HttpLoggingProperties errorsOnly() {
+		HttpLoggingProperties properties = new HttpLoggingProperties();
+		properties.setErrorsOnly(true);
+		properties.setMaxBodySize(16);
+		return properties;
+	}
+
+	private MockHttpServletResponse filter(HttpLoggingProperties properties, boolean useWriter) throws Exception {
+		SamplingStrategy strategy = new SamplingStrategy(properties);
+		Sink sink = mock(Sink.class);
+		when(sink.isActive()).thenReturn(true);
+		doAnswer(invocation -> {
+			HttpResponse logged = invocation.getArgument(2);
+			capturedSizes.add(logged.getBody().length);
+			loggedBodies.add(HttpLogEntry.body(logged, properties.getMaxBodySize()));
+			return null;
+		}).when(sink).write(any(), any(), any());
+		Logbook logbook = Logbook.builder().strategy(strategy).attributeExtractor(strategy).clearBodyFilters()
+				.sink(sink).build();
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/accounts/42");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		HttpServlet servlet = new HttpServlet() {
+			@Override
+			protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+				resp.setStatus(404);
+				resp.setCharacterEncoding("UTF-8");
+				byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+				if (useWriter) {
+					resp.getWriter().write(BODY);
+				} else {
+					// dos escrituras: la primera queda dentro del límite y la segunda lo cruza
+					resp.getOutputStream().write(bytes, 0, 5);
+					resp.getOutputStream().write(bytes, 5, bytes.length - 5);
+				}
+			}
+		};
+
+		new CappedLogbookFilter(logbook, properties.getMaxBodySize()).doFilter(request, response,
+				new MockFilterChain(servlet));
+		return response;
+	}
+}
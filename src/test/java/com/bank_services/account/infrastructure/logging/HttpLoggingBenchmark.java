@@ -0,0 +1,125 @@
+package com.bank_services.account.infrastructure.logging;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpLogWriter;
+import org.zalando.logbook.Logbook;
+import org.zalando.logbook.Precorrelation;
+import org.zalando.logbook.core.DefaultSink;
+import org.zalando.logbook.json.JsonHttpLogFormatter;
+import org.zalando.logbook.servlet.LogbookFilter;
+
+import jakarta.servlet.FilterChain;
+
+/**
+ * Overhead de Logbook en el hilo del request para un POST con body JSON: sin logging, el esquema anterior (formatear
+ * y escribir cada intercambio en el request) y el sink asíncrono con muestreo. La escritura real del log queda fuera
+ * de la medición en todos los casos. Se ejecuta con {@code mvn verify -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpLoggingBenchmark {
+
+	private static final byte[] REQUEST_BODY = """
+			{"accountNumber":"ACC-100","cbu":"1230000100000000000100","ownerName":"Juan Pérez",\
+			"ownerDocument":"30123456","currency":"ARS","balance":1500.50}""".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] RESPONSE_BODY = """
+			{"id":"11111111-1111-1111-1111-111111111111","accountNumber":"ACC-100","cbu":"1230000100000000000100",\
+			"ownerName":"Juan Pérez","ownerDocument":"30123456","currency":"ARS","balance":1500.50,"status":"ACTIVE",\
+			"createdAt":"2025-01-01T10:00:00","updatedAt":"2025-01-01T10:00:00"}""".getBytes(StandardCharsets.UTF_8);
+
+	@Param({ "NONE", "SYNC_ALL", "ASYNC_SAMPLED", "ASYNC_ALL" })
+	public String mode;
+
+	private LogbookFilter filter;
+	private AsyncHttpLogSink asyncSink;
+	private final FilterChain chain = (request, response) -> {
+		request.getInputStream().readAllBytes();
+		response.setContentType("application/json");
+		response.getOutputStream().write(RESPONSE_BODY);
+	};
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		HttpLoggingProperties properties = new HttpLoggingProperties();
+		switch (mode) {
+		case "SYNC_ALL" -> filter = new LogbookFilter(Logbook.builder()
+				.sink(new DefaultSink(new JsonHttpLogFormatter(), new DiscardingWriter())).build());
+		case "ASYNC_SAMPLED", "ASYNC_ALL" -> {
+			properties.setSampleRate("ASYNC_ALL".equals(mode) ? 1.0 : 0.1);
+			asyncSink = new AsyncHttpLogSink(properties, entry -> {
+			});
+			SamplingStrategy strategy = new SamplingStrategy(properties);
+			filter = new LogbookFilter(Logbook.builder().strategy(strategy).attributeExtractor(strategy)
+					.clearBodyFilters().sink(asyncSink).build());
+		}
+		default -> filter = null;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws InterruptedException {
+		if (asyncSink != null) {
+			System.out.println(" written=" + asyncSink.getWritten() + " dropped=" + asyncSink.getDropped());
+			asyncSink.close();
+		}
+	}
+
+	@Benchmark
+	public void postAccount(Blackhole blackhole) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/accounts");
+		request.setContentType("application/json");
+		request.setContent(REQUEST_BODY);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		if (filter == null) {
+			chain.doFilter(request, response);
+		} else {
+			filter.doFilter(request, response, chain);
+		}
+		blackhole.consume(response.getContentAsByteArray());
+	}
+
+	// Equivale a un appender sincrónico sin costo de I/O: sólo se mide armar y formatear la entrada
+	private static final class DiscardingWriter implements HttpLogWriter {
+
+		private volatile int lastLength;
+
+		@Override
+		public boolean isActive() {
+			return true;
+		}
+
+		@Override
+		public void write(Precorrelation precorrelation, String request) throws IOException {
+			lastLength = request.length();
+		}
+
+		@Override
+		public void write(Correlation correlation, String response) throws IOException {
+			lastLength = response.length();
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.bank_services.account.infrastructure.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.zalando.logbook.Correlation;
+import org.zalando.logbook.HttpRequest;
+import org.zalando.logbook.HttpResponse;
+import org.zalando.logbook.Sink;
+import org.zalando.logbook.attributes.HttpAttributes;
+
+class SamplingStrategyTest {
+
+	private final Correlation correlation = mock(Correlation.class);
+	private final Sink sink = mock(Sink.class);
+
+	@Test
+	void unsampledRequest_shouldSkipBodyAndOnlyWriteErrors() throws IOException {
+		HttpLoggingProperties properties = new HttpLoggingProperties();
+		properties.setSampleRate(0.0);
+		SamplingStrategy strategy = new SamplingStrategy(properties);
+
+		HttpRequest request = request("/api/v1/accounts");
+		strategy.process(request);
+		verify(request).withoutBody();
+		HttpRequest processed = withAttributes(request, strategy.extract(request));
+
+		HttpResponse ok = response(200);
+		strategy.write(correlation, processed, ok, sink);
+		verify(sink, never()).write(correlation, processed, ok);
+
+		HttpResponse notFound = response(404);
+		strategy.write(correlation, processed, notFound, sink);
+		verify(sink).write(correlation, processed, notFound);
+	}
+
+	@Test
+	void pathRateAndErrorsOnly_shouldOverrideDefaultSampling() throws IOException {
+		HttpLoggingProperties properties = new HttpLoggingProperties();
+		properties.setSampleRate(0.0);
+		properties.setPathSampleRates(Map.of("/api/v1/accounts/transfers", 1.0));
+		SamplingStrategy strategy = new SamplingStrategy(properties);
+
+		HttpRequest transfer = request("/api/v1/accounts/transfers");
+		strategy.process(transfer);
+		verify(transfer).withBody();
+		assertThat(strategy.extract(transfer).get(SamplingStrategy.SAMPLED)).isEqualTo(true);
+
+		properties.setErrorsOnly(true);
+		HttpRequest errorsOnly = request("/api/v1/accounts/transfers");
+		strategy.process(errorsOnly);
+		HttpRequest processed = withAttributes(errorsOnly, strategy.extract(errorsOnly));
+		HttpResponse ok = response(200);
+		strategy.write(correlation, processed, ok, sink);
+		verify(sink, never()).write(correlation, processed, ok);
+	}
+
+	private static HttpRequest request(String path) throws IOException {
+		HttpRequest request = mock(HttpRequest.class);
+		when(request.getPath()).thenReturn(path);
+		when(request.withBody()).thenReturn(request);
+		when(request.withoutBody()).thenReturn(request);
+		return request;
+	}
+
+	private static HttpRequest withAttributes(HttpRequest request, HttpAttributes attributes) {
+		when(request.getAttributes()).thenReturn(attributes);
+		return request;
+	}
+
+	private static HttpResponse response(int status) {
+		HttpResponse response = mock(HttpResponse.class);
+		when(response.getStatus()).thenReturn(status);
+		return response;
+	}
+}
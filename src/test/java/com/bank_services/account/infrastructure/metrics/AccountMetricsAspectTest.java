@@ -0,0 +1,76 @@
+package com.bank_services.account.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.bank_services.account.domain.exception.ConcurrentUpdateException;
+import com.bank_services.account.domain.exception.DuplicateResourceException;
+import com.bank_services.account.domain.exception.InsufficientFundsException;
+import com.bank_services.account.domain.exception.ResourceNotFoundException;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.port.AccountRepositoryPort;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AccountMetricsAspectTest {
+
+	private SimpleMeterRegistry registry;
+	private AccountRepositoryPort target;
+	private AccountRepositoryPort proxy;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		target = mock(AccountRepositoryPort.class);
+		AspectJProxyFactory factory = new AspectJProxyFactory(target);
+		factory.addAspect(new AccountMetricsAspect(registry));
+		proxy = factory.getProxy();
+	}
+
+	@Test
+	void repositoryCalls_shouldBeTimedByMethodAndOutcome() {
+		UUID found = UUID.randomUUID();
+		UUID missing = UUID.randomUUID();
+		when(target.findById(found)).thenReturn(Optional.of(new BankAccount()));
+		when(target.findById(missing)).thenThrow(new ResourceNotFoundException("missing"));
+
+		proxy.findById(found);
+		proxy.findById(found);
+		assertThrows(ResourceNotFoundException.class, () -> proxy.findById(missing));
+
+		assertThat(timer("findById", AccountMetricsAspect.OK).count()).isEqualTo(2);
+		assertThat(timer("findById", AccountMetricsAspect.NOT_FOUND).count()).isEqualTo(1);
+		assertThat(timer("findById", AccountMetricsAspect.OK).totalTime(TimeUnit.NANOSECONDS))
+				.isPositive();
+	}
+
+	@Test
+	void outcomeOf_shouldClassifyDomainExceptions() {
+		assertThat(AccountMetricsAspect.outcomeOf(new ResourceNotFoundException("x")))
+				.isEqualTo(AccountMetricsAspect.NOT_FOUND);
+		assertThat(AccountMetricsAspect.outcomeOf(new DuplicateResourceException("x")))
+				.isEqualTo(AccountMetricsAspect.CONFLICT);
+		assertThat(AccountMetricsAspect.outcomeOf(new ConcurrentUpdateException("x")))
+				.isEqualTo(AccountMetricsAspect.CONFLICT);
+		assertThat(AccountMetricsAspect.outcomeOf(new InsufficientFundsException("x")))
+				.isEqualTo(AccountMetricsAspect.REJECTED);
+		assertThat(AccountMetricsAspect.outcomeOf(new IllegalStateException("x")))
+				.isEqualTo(AccountMetricsAspect.ERROR);
+	}
+
+	private Timer timer(String method, String outcome) {
+		return registry.get(AccountMetricsAspect.REPOSITORY_TIMER).tag("method", method).tag("outcome", outcome)
+				.timer();
+	}
+}
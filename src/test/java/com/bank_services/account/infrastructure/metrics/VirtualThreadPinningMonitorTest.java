@@ -0,0 +1,66 @@
+package com.bank_services.account.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+	private final Object monitorLock = new Object();
+
+	@Test
+	void record_shouldGroupBySiteOutsideJdkAndCapDistinctSites() {
+		PinningMonitorProperties properties = new PinningMonitorProperties();
+		properties.setMaxSites(2);
+		VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(properties);
+
+		List<String> h2Stack = List.of("java.lang.VirtualThread.parkOnCarrierThread:1", "org.h2.engine.SessionLocal.lock:10");
+		monitor.record(Duration.ofMillis(30), h2Stack);
+		monitor.record(Duration.ofMillis(50), h2Stack);
+		monitor.record(Duration.ofMillis(25), List.of("com.example.Legacy.sync:5"));
+		monitor.record(Duration.ofMillis(40), List.of("com.example.Other.sync:7"));
+
+		PinningReport report = monitor.report();
+		assertThat(report.getEvents()).isEqualTo(4);
+		assertThat(report.getMaxMillis()).isEqualTo(50.0);
+		assertThat(report.getDroppedSites()).isEqualTo(1);
+		assertThat(report.getSites()).extracting(PinnedSite::getFrame).containsExactly(
+				"org.h2.engine.SessionLocal.lock:10", "com.example.Legacy.sync:5", VirtualThreadPinningMonitor.OTHER_SITE);
+		assertThat(report.getSites().get(0).getTotalMillis()).isEqualTo(80.0);
+	}
+
+	@Test
+	void start_shouldReportPinningFromSynchronizedBlockInVirtualThread() throws Exception {
+		PinningMonitorProperties properties = new PinningMonitorProperties();
+		properties.setThreshold(Duration.ofMillis(5));
+		try (VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(properties)) {
+			monitor.start();
+
+			Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+			// JFR entrega los eventos al stream en lotes, aprox. una vez por segundo
+			long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+			while (monitor.report().getEvents() == 0 && System.nanoTime() < deadline) {
+				Thread.sleep(100);
+			}
+
+			PinningReport report = monitor.report();
+			assertThat(report.getEvents()).isPositive();
+			assertThat(report.getSites()).extracting(PinnedSite::getFrame)
+					.anyMatch(frame -> frame.contains(VirtualThreadPinningMonitorTest.class.getName()));
+		}
+	}
+
+	private void sleepWhileHoldingMonitor() {
+		synchronized (monitorLock) {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.bank_services.account.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bank_services.account.application.mapper.AccountResponseMapper;
+import com.bank_services.account.domain.model.AccountChangeType;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.Currency;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DataJpaTest
+class JdbcAccountOutboxTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private JdbcAccountOutbox outbox;
+
+	@BeforeEach
+	void setUp() {
+		outbox = new JdbcAccountOutbox(jdbcTemplate, new AccountResponseMapper(),
+				new ObjectMapper().findAndRegisterModules());
+	}
+
+	@Test
+	void append_shouldStoreEventsInOffsetOrder_withAccountPayload() {
+		long start = outbox.lastOffset();
+		BankAccount first = account("ACC-1");
+		outbox.append(AccountChangeType.CREATED, first);
+		outbox.appendAll(AccountChangeType.UPDATED, List.of(account("ACC-2"), account("ACC-3")));
+
+		List<AccountChangeEvent> events = outbox.read(start, Long.MAX_VALUE, 10);
+
+		assertThat(events).extracting(AccountChangeEvent::getType).containsExactly(AccountChangeType.CREATED,
+				AccountChangeType.UPDATED, AccountChangeType.UPDATED);
+		assertThat(events.get(0).getAccountId()).isEqualTo(first.getId());
+		assertThat(events.get(0).getVersion()).isEqualTo(3);
+		assertThat(events.get(0).getAccount()).contains("\"accountNumber\":\"ACC-1\"");
+		assertThat(outbox.read(start, events.get(1).getOffset(), 10)).hasSize(2);
+		assertThat(outbox.lastOffset()).isEqualTo(events.get(2).getOffset());
+	}
+
+	@Test
+	void append_shouldRollBackWithTheSurroundingTransaction() {
+		long start = outbox.lastOffset();
+		TransactionTemplate nested = new TransactionTemplate(transactionManager);
+		nested.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		nested.executeWithoutResult(status -> {
+			outbox.append(AccountChangeType.CLOSED, account("ACC-9"));
+			status.setRollbackOnly();
+		});
+
+		assertThat(outbox.read(start, Long.MAX_VALUE, 10)).isEmpty();
+	}
+
+	@Test
+	void savePosition_shouldInsertThenUpdate() {
+		assertThat(outbox.position("test")).isZero();
+		outbox.savePosition("test", 7);
+		outbox.savePosition("test", 9);
+		assertThat(outbox.position("test")).isEqualTo(9);
+	}
+
+	private static BankAccount account(String accountNumber) {
+		BankAccount account = BankAccount.createNew(accountNumber, "9990000000000000000001", "Owner", "30111222",
+				Currency.ARS, "001");
+		account.setId(UUID.randomUUID());
+		account.setBalance(new BigDecimal("10.00"));
+		account.setVersion(3L);
+		return account;
+	}
+}
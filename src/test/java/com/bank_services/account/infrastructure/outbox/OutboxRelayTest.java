@@ -0,0 +1,73 @@
+package com.bank_services.account.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.bank_services.account.domain.model.AccountChangeType;
+
+class OutboxRelayTest {
+
+	private final JdbcAccountOutbox outbox = mock(JdbcAccountOutbox.class);
+	private final InMemoryAccountEventSink sink = new InMemoryAccountEventSink(100);
+	private final AccountOutboxProperties properties = new AccountOutboxProperties();
+	private OutboxRelay relay;
+
+	@BeforeEach
+	void setUp() {
+		properties.setGapTimeout(Duration.ofMillis(200));
+		relay = new OutboxRelay(outbox, sink, new AccountChangeStream(outbox, properties), properties);
+	}
+
+	@Test
+	void relay_shouldStopAtGap_untilItIsFilledOrTimesOut() throws Exception {
+		// el offset 3 es una transacción todavía abierta
+		when(outbox.read(eq(0L), anyLong(), anyInt())).thenReturn(events(1, 2, 4, 5));
+		when(outbox.read(eq(2L), anyLong(), anyInt())).thenReturn(events(4, 5));
+
+		assertThat(relay.relay()).isEqualTo(2);
+		assertThat(relay.relay()).isZero();
+		assertThat(relay.position()).isEqualTo(2);
+		verify(outbox).savePosition(OutboxRelay.NAME, 2);
+
+		Thread.sleep(250);
+		assertThat(relay.relay()).isEqualTo(2);
+		assertThat(relay.position()).isEqualTo(5);
+		assertThat(sink.recent()).extracting(AccountChangeEvent::getOffset).containsExactly(1L, 2L, 4L, 5L);
+	}
+
+	@Test
+	void relay_shouldNotAdvance_whenSinkFails() {
+		AccountEventSink failing = mock(AccountEventSink.class);
+		doThrow(new IllegalStateException("down")).when(failing).publish(anyList());
+		relay = new OutboxRelay(outbox, failing, new AccountChangeStream(outbox, properties), properties);
+		when(outbox.read(eq(0L), anyLong(), anyInt())).thenReturn(events(1, 2));
+
+		assertThatThrownBy(relay::relay).isInstanceOf(IllegalStateException.class);
+
+		assertThat(relay.position()).isZero();
+		verify(outbox, never()).savePosition(eq(OutboxRelay.NAME), anyLong());
+	}
+
+	private static List<AccountChangeEvent> events(long... offsets) {
+		return LongStream.of(offsets).mapToObj(offset -> new AccountChangeEvent(offset, AccountChangeType.UPDATED,
+				UUID.randomUUID(), offset, LocalDateTime.now(), "{}")).toList();
+	}
+}
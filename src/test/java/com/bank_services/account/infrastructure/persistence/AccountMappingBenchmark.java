@@ -0,0 +1,59 @@
+package com.bank_services.account.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.Currency;
+
+/**
+ * Mapeo entidad ↔ dominio de {@link AccountRepositoryAdapter}. Se ejecuta con {@code mvn verify -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountMappingBenchmark {
+
+	private AccountRepositoryAdapter adapter;
+	private BankAccountEntity entity;
+	private BankAccount account;
+
+	@Setup
+	public void setUp() {
+		// el mapeo no usa el repositorio ni el EntityManager
+		adapter = new AccountRepositoryAdapter(null, null);
+		LocalDateTime now = LocalDateTime.now();
+		entity = BankAccountEntity.builder().id(UUID.randomUUID()).accountNumber("ACC-001")
+				.cbu("1230000100000000000011").ownerName("Juan Perez").ownerDocument("30123456").currency(Currency.ARS)
+				.balance(new BigDecimal("1500.00")).status(AccountStatus.ACTIVE).branchCode("001").createdAt(now)
+				.updatedAt(now).version(3L).build();
+		account = adapter.toDomain(entity);
+	}
+
+	@Benchmark
+	public BankAccount toDomain() {
+		return adapter.toDomain(entity);
+	}
+
+	@Benchmark
+	public BankAccountEntity toEntity() {
+		return adapter.toEntity(account);
+	}
+}
@@ -0,0 +1,133 @@
+package com.bank_services.account.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import com.bank_services.account.application.dto.AccountResponsePage;
+import com.bank_services.account.application.dto.AccountSearchCriteria;
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.application.dto.VersionedAccountResponse;
+import com.bank_services.account.application.mapper.AccountResponseMapper;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.infrastructure.config.AccountSearchConfig;
+import com.bank_services.account.infrastructure.search.AccountSearchRepository;
+import com.bank_services.account.infrastructure.search.AccountStatisticsCollector;
+import com.bank_services.account.infrastructure.search.SearchIndex;
+
+// Sin CachingAccountRepository en el contexto: ejercita las proyecciones JPQL
+@DataJpaTest
+@Import({ AccountQueryAdapter.class, AccountResponseMapper.class, AccountSearchRepository.class,
+		AccountSearchConfig.class })
+class AccountQueryAdapterTest {
+
+	@Autowired
+	private SpringDataAccountRepository repository;
+
+	@Autowired
+	private AccountQueryAdapter queryAdapter;
+
+	@Autowired
+	private AccountSearchRepository searchRepository;
+
+	@Autowired
+	private AccountStatisticsCollector statisticsCollector;
+
+	private List<UUID> ids;
+
+	@BeforeEach
+	void setUp() {
+		// H2 guarda microsegundos: se trunca para comparar contra la entidad del contexto de persistencia
+		LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+		for (int i = 0; i < 5; i++) {
+			repository.save(BankAccountEntity.builder().accountNumber("ACC-00" + i).cbu("999000010000000000001" + i)
+					.ownerName("Owner " + i).ownerDocument("3012345" + i).currency(Currency.ARS)
+					.balance(new BigDecimal("100.00")).status(AccountStatus.ACTIVE).branchCode("001").createdAt(now)
+					.updatedAt(now).build());
+		}
+		// incluye los datos iniciales; el orden de UUID en la base no coincide con UUID.compareTo
+		ids = repository.findAllByOrderByIdAsc(Limit.unlimited()).stream().map(BankAccountEntity::getId).toList();
+	}
+
+	@Test
+	void findById_shouldProjectEveryField() {
+		BankAccountEntity entity = repository.findById(ids.get(0)).orElseThrow();
+
+		BankAccountResponse response = queryAdapter.findById(entity.getId()).orElseThrow();
+
+		BankAccountResponse mapped = new AccountResponseMapper()
+				.toResponse(new AccountRepositoryAdapter(repository, null).toDomain(entity));
+		assertThat(response).isEqualTo(mapped);
+		assertThat(queryAdapter.findById(UUID.randomUUID())).isEmpty();
+	}
+
+	@Test
+	void findVersionedById_shouldProjectTheResponseWithItsVersion() {
+		BankAccountEntity entity = repository.findById(ids.get(0)).orElseThrow();
+
+		VersionedAccountResponse versioned = queryAdapter.findVersionedById(entity.getId()).orElseThrow();
+
+		assertThat(versioned.getAccount()).isEqualTo(queryAdapter.findById(entity.getId()).orElseThrow());
+		assertThat(versioned.getVersion()).isEqualTo(entity.getVersion());
+		assertThat(queryAdapter.findVersionedById(UUID.randomUUID())).isEmpty();
+	}
+
+	@Test
+	void findPage_shouldWalkAllRowsByCursor() {
+		List<UUID> walked = new ArrayList<>();
+		AccountResponsePage page = queryAdapter.findPage(null, 3);
+		walked.addAll(page.getItems().stream().map(BankAccountResponse::getId).toList());
+		while (page.hasNext()) {
+			assertThat(page.getItems()).hasSize(3);
+			assertThat(page.getNextCursor()).isEqualTo(walked.get(walked.size() - 1));
+			page = queryAdapter.findPage(page.getNextCursor(), 3);
+			walked.addAll(page.getItems().stream().map(BankAccountResponse::getId).toList());
+		}
+
+		assertThat(walked).containsExactlyElementsOf(ids);
+	}
+
+	@Test
+	void search_shouldFilterAndPageWithThePlannedIndex() {
+		statisticsCollector.refresh();
+		AccountSearchCriteria criteria = new AccountSearchCriteria();
+		criteria.setBranchCode("001");
+		criteria.setCurrency(Currency.ARS);
+		criteria.setMinBalance(new BigDecimal("100.00"));
+		criteria.setMaxBalance(new BigDecimal("100.00"));
+		List<UUID> expected = ids.stream().map(id -> repository.findById(id).orElseThrow())
+				.filter(a -> "001".equals(a.getBranchCode()) && a.getCurrency() == Currency.ARS
+						&& a.getBalance().compareTo(new BigDecimal("100.00")) == 0)
+				.map(BankAccountEntity::getId).toList();
+
+		List<UUID> walked = new ArrayList<>();
+		AccountResponsePage page = queryAdapter.search(criteria, null, 2);
+		walked.addAll(page.getItems().stream().map(BankAccountResponse::getId).toList());
+		while (page.hasNext()) {
+			page = queryAdapter.search(criteria, page.getNextCursor(), 2);
+			walked.addAll(page.getItems().stream().map(BankAccountResponse::getId).toList());
+		}
+
+		assertThat(walked).hasSizeGreaterThanOrEqualTo(5).containsExactlyElementsOf(expected);
+		assertThat(searchRepository.plan(criteria, 2).getHint()).isNotNull();
+
+		criteria = new AccountSearchCriteria();
+		criteria.setOwnerDocument("30123452");
+		assertThat(searchRepository.plan(criteria, 2).getIndex()).isEqualTo(SearchIndex.OWNER_DOCUMENT);
+		assertThat(queryAdapter.search(criteria, null, 2).getItems()).singleElement()
+				.extracting(BankAccountResponse::getCbu).isEqualTo("9990000100000000000012");
+	}
+}
@@ -0,0 +1,60 @@
+package com.bank_services.account.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.bank_services.account.domain.exception.DuplicateResourceException;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.Currency;
+
+@DataJpaTest
+@Import(AccountRepositoryAdapter.class)
+class AccountRepositoryAdapterTest {
+
+	@Autowired
+	private AccountRepositoryAdapter adapter;
+
+	@Test
+	void save_shouldTranslateCbuUniqueViolation_intoDuplicateResource() {
+		BankAccount saved = adapter.save(account("ACC-1"));
+		assertThat(saved.getId()).isNotNull();
+
+		DuplicateResourceException duplicate = assertThrows(DuplicateResourceException.class,
+				() -> adapter.save(account("ACC-2")));
+		assertThat(duplicate.getMessage()).contains("7770000100000000000077");
+	}
+
+	@Test
+	void findAllById_shouldReturnOnlyExistingAccounts() {
+		BankAccount first = adapter.save(account("ACC-1", "7770000100000000000001"));
+		BankAccount second = adapter.save(account("ACC-2", "7770000100000000000002"));
+
+		List<BankAccount> found = adapter.findAllById(List.of(first.getId(), UUID.randomUUID(), second.getId()));
+
+		assertThat(found).extracting(BankAccount::getAccountNumber).containsExactlyInAnyOrder("ACC-1", "ACC-2");
+		assertThat(adapter.findAllById(List.of())).isEmpty();
+	}
+
+	private static BankAccount account(String accountNumber) {
+		return account(accountNumber, "7770000100000000000077");
+	}
+
+	private static BankAccount account(String accountNumber, String cbu) {
+		BankAccount account = BankAccount.builder().accountNumber(accountNumber).cbu(cbu)
+				.ownerName("Owner").ownerDocument("30123456").currency(Currency.ARS).balance(BigDecimal.TEN)
+				.status(AccountStatus.ACTIVE).branchCode("001").build();
+		account.prepareForCreate(LocalDateTime.now());
+		return account;
+	}
+}
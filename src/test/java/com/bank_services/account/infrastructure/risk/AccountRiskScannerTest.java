@@ -0,0 +1,112 @@
+package com.bank_services.account.infrastructure.risk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.model.RiskRule;
+import com.bank_services.account.domain.model.RiskRuleType;
+import com.bank_services.account.domain.service.AccountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class AccountRiskScannerTest {
+
+	private static final int ACCOUNTS = 1_050;
+
+	private final AccountService accountService = mock(AccountService.class);
+	private final RiskRuleProperties properties = new RiskRuleProperties();
+	private AccountRiskScanner scanner;
+
+	@AfterEach
+	void close() {
+		scanner.close();
+	}
+
+	@Test
+	void scan_shouldEvaluateEveryChunk_andDeliverEachFlaggedAccountOnce() {
+		streamAccounts();
+		scanner = scanner();
+		Set<UUID> delivered = ConcurrentHashMap.newKeySet();
+		AtomicInteger chunks = new AtomicInteger();
+
+		RiskScanReport report = scanner.scan(EnumSet.allOf(RiskRuleType.class), (table, flagged) -> {
+			chunks.incrementAndGet();
+			flagged.forEach(account -> assertThat(delivered.add(account.getId())).isTrue());
+		});
+
+		// cada cuenta par tiene saldo bajo y una de cada cinco está bloqueada
+		assertThat(report.getScanned()).isEqualTo(ACCOUNTS);
+		assertThat(report.getByType()).isEqualTo(Map.of(RiskRuleType.LOW_BALANCE, 525L,
+				RiskRuleType.HIGH_BALANCE, 0L, RiskRuleType.NOT_ACTIVE, 210L));
+		assertThat(report.getFlagged()).isEqualTo(630).isEqualTo(delivered.size());
+		assertThat(chunks).hasValue(11);
+	}
+
+	@Test
+	void scan_shouldOnlyFlagRequestedTypes() {
+		streamAccounts();
+		scanner = scanner();
+		AtomicInteger delivered = new AtomicInteger();
+
+		RiskScanReport report = scanner.scan(Set.of(RiskRuleType.NOT_ACTIVE),
+				(table, flagged) -> delivered.addAndGet(flagged.size()));
+
+		assertThat(report.getFlagged()).isEqualTo(210);
+		assertThat(report.getByType()).containsOnlyKeys(RiskRuleType.NOT_ACTIVE);
+		assertThat(delivered).hasValue(210);
+	}
+
+	@Test
+	void scan_shouldStopReading_whenTheSinkFails() {
+		streamAccounts();
+		scanner = scanner();
+
+		UncheckedIOException ex = assertThrows(UncheckedIOException.class,
+				() -> scanner.scan(EnumSet.allOf(RiskRuleType.class), (table, flagged) -> {
+					throw new IOException("Broken pipe");
+				}));
+
+		assertThat(ex.getCause()).hasMessage("Broken pipe");
+	}
+
+	private AccountRiskScanner scanner() {
+		properties.getScan().setChunkSize(100);
+		properties.getScan().setWorkers(3);
+		properties.getScan().setQueueCapacity(1);
+		properties.getRules().add(new RiskRule(RiskRuleType.NOT_ACTIVE, null, null, null));
+		RiskRules rules = new RiskRules(properties, new ObjectMapper());
+		return new AccountRiskScanner(accountService, rules, properties, false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void streamAccounts() {
+		doAnswer(invocation -> {
+			Consumer<BankAccount> consumer = invocation.getArgument(0);
+			for (int i = 0; i < ACCOUNTS; i++) {
+				consumer.accept(BankAccount.builder().id(UUID.randomUUID()).branchCode("001").currency(Currency.ARS)
+						.balance(new BigDecimal(i % 2 == 0 ? "500.00" : "5000.00"))
+						.status(i % 5 == 0 ? AccountStatus.BLOCKED : AccountStatus.ACTIVE).build());
+			}
+			return null;
+		}).when(accountService).streamAll(any(Consumer.class));
+	}
+}
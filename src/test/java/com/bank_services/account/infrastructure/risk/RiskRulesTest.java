@@ -0,0 +1,98 @@
+package com.bank_services.account.infrastructure.risk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.bank_services.account.domain.exception.InvalidRiskRuleException;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.model.RiskRule;
+import com.bank_services.account.domain.model.RiskRuleType;
+import com.bank_services.account.domain.service.RiskRuleTable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class RiskRulesTest {
+
+	private static final BigDecimal BALANCE = new BigDecimal("500.00");
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void rules_shouldDefaultToLowBalanceUnder1000() {
+		RiskRules rules = new RiskRules(new RiskRuleProperties(), new ObjectMapper());
+
+		assertThat(rules.snapshot().getSource()).isEqualTo("config");
+		assertThat(lowBalance(rules.table(), Currency.USD)).isTrue();
+	}
+
+	@Test
+	void reloadIfChanged_shouldPickUpFileChanges_andKeepPreviousVersionWhenInvalid() throws IOException {
+		Path file = dir.resolve("risk-rules.json");
+		write(file, """
+				[{"type":"LOW_BALANCE","threshold":1000},{"type":"LOW_BALANCE","currency":"USD","threshold":100}]
+				""", 1);
+		RiskRuleProperties properties = new RiskRuleProperties();
+		properties.setRulesFile(file.toString());
+		RiskRules rules = new RiskRules(properties, new ObjectMapper());
+		RiskRuleTable first = rules.table();
+		assertThat(lowBalance(first, Currency.USD)).isFalse();
+
+		write(file, """
+				[{"type":"LOW_BALANCE","threshold":100}]
+				""", 2);
+		rules.reloadIfChanged();
+
+		assertThat(rules.snapshot().getVersion()).isEqualTo(2);
+		assertThat(lowBalance(rules.table(), Currency.ARS)).isFalse();
+		// quien tomó la tabla anterior sigue evaluando con ella
+		assertThat(lowBalance(first, Currency.ARS)).isTrue();
+
+		write(file, """
+				[{"type":"LOW_BALANCE"}]
+				""", 3);
+		assertThrows(InvalidRiskRuleException.class, rules::reloadIfChanged);
+		assertThat(rules.snapshot().getVersion()).isEqualTo(2);
+
+		// sin cambios en el archivo no se vuelve a leer
+		rules.reloadIfChanged();
+		assertThat(rules.snapshot().getVersion()).isEqualTo(2);
+	}
+
+	@Test
+	void replace_shouldPublishNewVersion_orRejectInvalidRules() {
+		RiskRules rules = new RiskRules(new RiskRuleProperties(), new ObjectMapper());
+
+		RiskRuleSnapshot snapshot = rules.replace(List.of(new RiskRule(RiskRuleType.HIGH_BALANCE, null, null,
+				new BigDecimal("100"))));
+
+		assertThat(snapshot.getVersion()).isEqualTo(2);
+		assertThat(snapshot.getSource()).isEqualTo("api");
+		assertThat(rules.table().evaluate(Currency.ARS, "001", BALANCE, AccountStatus.ACTIVE))
+				.isEqualTo(RiskRuleType.HIGH_BALANCE.bit());
+		assertThrows(InvalidRiskRuleException.class,
+				() -> rules.replace(List.of(new RiskRule(RiskRuleType.HIGH_BALANCE, null, null, null))));
+		assertThat(rules.snapshot().getVersion()).isEqualTo(2);
+	}
+
+	private static boolean lowBalance(RiskRuleTable table, Currency currency) {
+		return table.evaluate(currency, "001", BALANCE, AccountStatus.ACTIVE) == RiskRuleType.LOW_BALANCE.bit();
+	}
+
+	// la fecha de modificación se fija a mano: dos escrituras seguidas pueden caer en el mismo tick del filesystem
+	private static void write(Path file, String content, int second) throws IOException {
+		Files.writeString(file, content);
+		Files.setLastModifiedTime(file, FileTime.from(Instant.ofEpochSecond(1_700_000_000L + second)));
+	}
+}
@@ -0,0 +1,99 @@
+package com.bank_services.account.infrastructure.rollup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.bank_services.account.application.dto.AccountAggregateResponse;
+import com.bank_services.account.domain.model.AccountPosition;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+
+class AccountRollupTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private AccountRollup rollup;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:rollup-test;DB_CLOSE_DELAY=-1"));
+		jdbcTemplate.execute("create table bank_accounts (id int primary key, branch_code varchar(10),"
+				+ " currency varchar(3), status varchar(20), balance decimal(19,2))");
+		rollup = new AccountRollup(jdbcTemplate, new AccountRollupProperties());
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("drop table bank_accounts");
+	}
+
+	@Test
+	void reconcile_shouldLoadFromTable_andMutationsShouldMoveBetweenCells() {
+		insert(1, "001", "ARS", "ACTIVE", "100.10");
+		insert(2, "001", "ARS", "ACTIVE", "0.20");
+		insert(3, "002", "USD", "ACTIVE", "50.00");
+		rollup.reconcile();
+
+		// cierre de la cuenta 3 y crédito de 10 a la 1
+		rollup.onMutation(position("002", Currency.USD, AccountStatus.ACTIVE, "50.00"),
+				position("002", Currency.USD, AccountStatus.CLOSED, "50.00"));
+		rollup.onMutation(position("001", Currency.ARS, AccountStatus.ACTIVE, "100.10"),
+				position("001", Currency.ARS, AccountStatus.ACTIVE, "110.10"));
+
+		List<AccountAggregateResponse> aggregates = rollup.findAggregates(null, null, null);
+		assertThat(aggregates).extracting(AccountAggregateResponse::getBranchCode,
+				AccountAggregateResponse::getStatus, AccountAggregateResponse::getAccounts)
+				.containsExactly(tuple("001", AccountStatus.ACTIVE, 2L),
+						tuple("002", AccountStatus.CLOSED, 1L));
+		assertThat(aggregates.get(0).getTotalBalance()).isEqualByComparingTo("110.30");
+		assertThat(rollup.findAggregates("002", Currency.USD, AccountStatus.CLOSED)).singleElement()
+				.extracting(AccountAggregateResponse::getTotalBalance).isEqualTo(new BigDecimal("50.00"));
+		assertThat(rollup.findAggregates("002", Currency.USD, AccountStatus.ACTIVE)).isEmpty();
+	}
+
+	@Test
+	void reconcile_shouldCorrectOnlyDriftSeenTwiceInARow() {
+		insert(1, "001", "ARS", "ACTIVE", "100.00");
+		rollup.reconcile();
+
+		// alta confirmada en la tabla pero todavía no notificada: la primera pasada sólo la anota
+		insert(2, "001", "ARS", "ACTIVE", "25.00");
+		RollupReconciliation first = rollup.reconcile();
+		assertThat(first.getPendingCells()).isEqualTo(1);
+		assertThat(first.getCorrectedCells()).isZero();
+		assertThat(rollup.findAggregates("001", Currency.ARS, AccountStatus.ACTIVE).get(0).getAccounts())
+				.isEqualTo(1);
+
+		RollupReconciliation second = rollup.reconcile();
+		assertThat(second.getCorrectedCells()).isEqualTo(1);
+		assertThat(rollup.findAggregates("001", Currency.ARS, AccountStatus.ACTIVE).get(0).getTotalBalance())
+				.isEqualByComparingTo("125.00");
+
+		// si la notificación llega entre pasadas la diferencia desaparece sin corrección
+		insert(3, "001", "ARS", "ACTIVE", "5.00");
+		assertThat(rollup.reconcile().getPendingCells()).isEqualTo(1);
+		rollup.onMutation(null, position("001", Currency.ARS, AccountStatus.ACTIVE, "5.00"));
+		RollupReconciliation settled = rollup.reconcile();
+		assertThat(settled.getPendingCells()).isZero();
+		assertThat(settled.getCorrectedCells()).isZero();
+		assertThat(rollup.findAggregates("001", null, null).get(0).getAccounts()).isEqualTo(3);
+	}
+
+	private void insert(int id, String branchCode, String currency, String status, String balance) {
+		jdbcTemplate.update("insert into bank_accounts values (?, ?, ?, ?, ?)", id, branchCode, currency, status,
+				new BigDecimal(balance));
+	}
+
+	private static AccountPosition position(String branchCode, Currency currency, AccountStatus status,
+			String balance) {
+		return new AccountPosition(branchCode, currency, status, new BigDecimal(balance));
+	}
+}
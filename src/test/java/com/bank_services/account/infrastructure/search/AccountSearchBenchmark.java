@@ -0,0 +1,136 @@
+package com.bank_services.account.infrastructure.search;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.bank_services.account.BankAccountServiceExampleApplication;
+import com.bank_services.account.application.dto.AccountSearchCriteria;
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.application.query.AccountQueryService;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+
+/**
+ * Primera página (50) de {@code /search} sobre 1M de cuentas, con el índice elegido por {@link AccountSearchPlanner}
+ * ({@code indexHints=true}) y con el que elige H2 tras {@code ANALYZE} ({@code false}). Distribución: 80% ARS / 15%
+ * USD / 5% EUR, 90% ACTIVE / 5% BLOCKED / 5% CLOSED, 200 sucursales, 2 cuentas por documento y saldos uniformes en
+ * [0, 1.000.000). Se ejecuta con {@code mvn verify -Pbenchmark -Djmh.args="AccountSearch"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+// 1M filas con seis índices en H2 en memoria no entran en el heap por defecto
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class AccountSearchBenchmark {
+
+	public enum Query {
+		DOCUMENT, BRANCH, BRANCH_BLOCKED, EUR_BLOCKED, ARS_ACTIVE, BALANCE_NARROW, EUR_HIGH_BALANCE, CLOSED
+	}
+
+	private static final int PAGE_SIZE = 50;
+	private static final int LOAD_CHUNK = 50_000;
+
+	@Param({ "1000000" })
+	public int rows;
+
+	@Param({ "true", "false" })
+	public boolean indexHints;
+
+	@Param
+	public Query query;
+
+	private ConfigurableApplicationContext context;
+	private AccountQueryService queryService;
+	private AccountSearchCriteria criteria;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(BankAccountServiceExampleApplication.class)
+				.web(WebApplicationType.NONE)
+				.run("--account.search.index-hints=" + indexHints,
+						"--spring.datasource.url=jdbc:h2:mem:search-benchmark;DB_CLOSE_DELAY=-1",
+						"--logging.level.root=warn");
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		// las filas se generan dentro de H2, en tandas para no acumular una única transacción enorme
+		for (int from = 1; from <= rows; from += LOAD_CHUNK) {
+			jdbcTemplate.update("""
+					insert into bank_accounts (id, account_number, cbu, owner_name, owner_document, currency, balance,
+					                           status, branch_code, created_at, updated_at, version)
+					select random_uuid(), 'BENCH-' || x, lpad(cast(x as varchar), 22, '0'), 'Owner ' || x,
+					       cast(20000000 + mod(x, ?) as varchar),
+					       case when r1 < 0.80 then 'ARS' when r1 < 0.95 then 'USD' else 'EUR' end,
+					       round(r4 * 1000000, 2),
+					       case when r2 < 0.90 then 'ACTIVE' when r2 < 0.95 then 'BLOCKED' else 'CLOSED' end,
+					       lpad(cast(floor(r3 * 200) as varchar), 3, '0'), localtimestamp, localtimestamp, 0
+					  from (select x, rand() r1, rand() r2, rand() r3, rand() r4 from system_range(?, ?))
+					""", rows / 2, from, Math.min(from + LOAD_CHUNK - 1, rows));
+		}
+		jdbcTemplate.execute("analyze");
+		// H2 devuelve el resultado anterior si la misma consulta se repite sin cambios en la tabla
+		jdbcTemplate.execute("set optimize_reuse_results 0");
+		context.getBean(AccountStatisticsCollector.class).refresh();
+		queryService = context.getBean(AccountQueryService.class);
+		criteria = criteria(query);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<BankAccountResponse> firstPage() {
+		return queryService.search(criteria, null, PAGE_SIZE).getItems();
+	}
+
+	private static AccountSearchCriteria criteria(Query query) {
+		AccountSearchCriteria criteria = new AccountSearchCriteria();
+		switch (query) {
+		case DOCUMENT -> criteria.setOwnerDocument("20100000");
+		case BRANCH -> criteria.setBranchCode("017");
+		case BRANCH_BLOCKED -> {
+			criteria.setBranchCode("017");
+			criteria.setStatus(AccountStatus.BLOCKED);
+		}
+		case EUR_BLOCKED -> {
+			criteria.setCurrency(Currency.EUR);
+			criteria.setStatus(AccountStatus.BLOCKED);
+		}
+		case ARS_ACTIVE -> {
+			criteria.setCurrency(Currency.ARS);
+			criteria.setStatus(AccountStatus.ACTIVE);
+		}
+		case BALANCE_NARROW -> {
+			criteria.setMinBalance(new BigDecimal("500000"));
+			criteria.setMaxBalance(new BigDecimal("500100"));
+		}
+		case EUR_HIGH_BALANCE -> {
+			criteria.setCurrency(Currency.EUR);
+			criteria.setMinBalance(new BigDecimal("999000"));
+		}
+		case CLOSED -> criteria.setStatus(AccountStatus.CLOSED);
+		}
+		return criteria;
+	}
+}
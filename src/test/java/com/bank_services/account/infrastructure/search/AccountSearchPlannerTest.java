@@ -0,0 +1,78 @@
+package com.bank_services.account.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.bank_services.account.application.dto.AccountSearchCriteria;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+
+class AccountSearchPlannerTest {
+
+	private final AccountSearchProperties properties = new AccountSearchProperties();
+	private final AccountSearchPlanner planner = new AccountSearchPlanner(properties);
+
+	// 1M filas: 80/15/5 por moneda, 90/5/5 por estado, 200 sucursales, 2 cuentas por documento, saldos 0..999.999
+	private final AccountStatistics statistics = new AccountStatistics(1_000_000,
+			Map.of("017", 5_000L, "018", 5_000L),
+			Map.of(Currency.ARS, 800_000L, Currency.USD, 150_000L, Currency.EUR, 50_000L),
+			Map.of(AccountStatus.ACTIVE, 900_000L, AccountStatus.BLOCKED, 50_000L, AccountStatus.CLOSED, 50_000L),
+			500_000, IntStream.range(0, 2_000).mapToObj(i -> BigDecimal.valueOf(i * 500L)).toArray(BigDecimal[]::new),
+			Map.of(SearchIndex.PRIMARY_KEY, "PRIMARY_KEY_1", SearchIndex.BALANCE, "IDX_BANK_ACCOUNT_BALANCE",
+					SearchIndex.CURRENCY_STATUS, "IDX_BANK_ACCOUNT_CURRENCY_STATUS"),
+			Instant.now());
+
+	@Test
+	void plan_shouldWalkPrimaryKey_whenFiltersAreNotSelective() {
+		AccountSearchCriteria criteria = new AccountSearchCriteria();
+		criteria.setCurrency(Currency.ARS);
+		criteria.setStatus(AccountStatus.ACTIVE);
+
+		SearchPlan plan = planner.plan(criteria, 50, statistics);
+
+		assertThat(plan.getIndex()).isEqualTo(SearchIndex.PRIMARY_KEY);
+		assertThat(plan.getHint()).isEqualTo("PRIMARY_KEY_1");
+		// 51 / (0.8 * 0.9) filas para llenar la página contra 720k por el índice
+		assertThat(plan.getEstimatedRows()).isEqualTo(71);
+		assertThat(plan.getCandidates().get(SearchIndex.CURRENCY_STATUS)).isGreaterThan(1_000_000);
+	}
+
+	@Test
+	void plan_shouldPickTheMostSelectiveIndex() {
+		AccountSearchCriteria criteria = new AccountSearchCriteria();
+		criteria.setCurrency(Currency.EUR);
+		criteria.setMinBalance(new BigDecimal("999000"));
+
+		SearchPlan plan = planner.plan(criteria, 50, statistics);
+
+		// rango de saldo (0,1%) antes que la moneda (5%) y que recorrer la PK
+		assertThat(plan.getIndex()).isEqualTo(SearchIndex.BALANCE);
+		assertThat(plan.getHint()).isEqualTo("IDX_BANK_ACCOUNT_BALANCE");
+		assertThat(plan.getCandidates()).containsOnlyKeys(SearchIndex.PRIMARY_KEY, SearchIndex.CURRENCY_STATUS,
+				SearchIndex.BALANCE);
+	}
+
+	@Test
+	void plan_shouldNotHint_whenHintsDisabledOrIndexUnknownOrNoStatistics() {
+		AccountSearchCriteria criteria = new AccountSearchCriteria();
+		criteria.setOwnerDocument("20100000");
+
+		SearchPlan unknownIndex = planner.plan(criteria, 50, statistics);
+		assertThat(unknownIndex.getIndex()).isEqualTo(SearchIndex.OWNER_DOCUMENT);
+		assertThat(unknownIndex.getHint()).isNull();
+
+		assertThat(planner.plan(criteria, 50, null).getHint()).isNull();
+
+		properties.setIndexHints(false);
+		criteria.setOwnerDocument(null);
+		criteria.setStatus(AccountStatus.CLOSED);
+		assertThat(planner.plan(criteria, 50, statistics).getIndex()).isEqualTo(SearchIndex.PRIMARY_KEY);
+		assertThat(planner.plan(criteria, 50, statistics).getHint()).isNull();
+	}
+}
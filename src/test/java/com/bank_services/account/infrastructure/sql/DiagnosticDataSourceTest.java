@@ -0,0 +1,95 @@
+package com.bank_services.account.infrastructure.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class DiagnosticDataSourceTest {
+
+	private SqlDiagnostics diagnostics;
+	private DiagnosticDataSource dataSource;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		diagnostics = new SqlDiagnostics(new SqlDiagnosticsProperties());
+		dataSource = new DiagnosticDataSource(
+				new DriverManagerDataSource("jdbc:h2:mem:sql-diagnostics;DB_CLOSE_DELAY=-1", "sa", ""), diagnostics);
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("create table if not exists item (id int primary key, name varchar(20))");
+			statement.execute("delete from item");
+		}
+	}
+
+	@Test
+	void inactive_shouldReturnPlainStatementsAndRecordNothing() throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement statement = connection.prepareStatement("select * from item where id = ?")) {
+			statement.setInt(1, 1);
+			statement.executeQuery().close();
+
+			assertThat(connection.getClass().getName()).startsWith("org.h2");
+			assertThat(statement.getClass().getName()).startsWith("org.h2");
+		}
+
+		assertThat(diagnostics.report().getExecutions()).isZero();
+	}
+
+	@Test
+	void window_shouldAggregateExecutionsPerStatement() throws SQLException {
+		diagnostics.openWindow(Duration.ofMinutes(1));
+
+		try (Connection connection = dataSource.getConnection()) {
+			for (int i = 0; i < 3; i++) {
+				try (PreparedStatement insert = connection.prepareStatement("insert into item (id, name)\n values (?, ?)")) {
+					insert.setInt(1, i);
+					insert.setString(2, "item-" + i);
+					insert.executeUpdate();
+				}
+			}
+			try (Statement statement = connection.createStatement()) {
+				statement.executeQuery("select count(*) from item").close();
+			}
+		}
+
+		SqlDiagnosticsReport report = diagnostics.report();
+		assertThat(report.isWindowActive()).isTrue();
+		assertThat(report.getExecutions()).isEqualTo(4);
+		assertThat(report.getTopStatements()).extracting(SqlStatementReport::getSql)
+				.contains("insert into item (id, name) values (?, ?)", "select count(*) from item");
+		SqlStatementReport insert = report.getTopStatements().stream()
+				.filter(s -> s.getSql().startsWith("insert")).findFirst().orElseThrow();
+		assertThat(insert.getExecutions()).isEqualTo(3);
+		assertThat(insert.getP99Millis()).isGreaterThan(0.0);
+	}
+
+	@Test
+	void requestTrace_shouldOnlyMeasureTheMarkedThread() throws Exception {
+		AtomicBoolean activeInOtherThread = new AtomicBoolean(true);
+		SqlDiagnostics.RequestTrace trace = diagnostics.beginRequest();
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement statement = connection.prepareStatement("select * from item")) {
+			statement.executeQuery().close();
+
+			Thread other = Thread.ofPlatform().start(() -> activeInOtherThread.set(diagnostics.isActive()));
+			other.join();
+		} finally {
+			diagnostics.endRequest();
+		}
+
+		assertThat(trace.getStatements()).isEqualTo(1);
+		try (Connection connection = dataSource.getConnection()) {
+			assertThat(connection.getClass().getName()).startsWith("org.h2");
+		}
+		assertThat(activeInOtherThread).isFalse();
+		assertThat(diagnostics.isActive()).isFalse();
+	}
+}
@@ -0,0 +1,99 @@
+package com.bank_services.account.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bank_services.account.BankAccountServiceExampleApplication;
+import com.bank_services.account.support.LoadRunner;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compara el alta de cuentas de a una (POST /) contra el alta masiva (POST /batch). Se ejecuta con
+ * {@code mvn test -Pload-tests}.
+ */
+@Tag("load")
+class AccountBatchLoadTest {
+
+	private static final int ACCOUNTS = 10_000;
+	private static final int BATCH_SIZE = 1_000;
+	private static final int CLIENT_THREADS = 4;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void batchCreate_shouldOutperformOneByOneCreation() throws Exception {
+		int port = LoadRunner.freePort();
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+				BankAccountServiceExampleApplication.class).run("--server.port=" + port,
+						"--spring.datasource.url=jdbc:h2:mem:batch-load;DB_CLOSE_DELAY=-1",
+						"--logging.level.com.bank_services.account=info")) {
+
+			HttpClient client = HttpClient.newHttpClient();
+			URI accounts = URI.create("http://localhost:" + port + "/api/v1/accounts");
+			URI batch = URI.create("http://localhost:" + port + "/api/v1/accounts/batch");
+
+			LoadRunner.run("warmup", CLIENT_THREADS, 500, i -> post(client, accounts, account("W", i), 201));
+
+			LoadRunner.Result single = LoadRunner.run("create-one-by-one", CLIENT_THREADS, ACCOUNTS,
+					i -> post(client, accounts, account("S", i), 201));
+
+			int batches = ACCOUNTS / BATCH_SIZE;
+			long[] created = new long[batches];
+			LoadRunner.Result bulk = LoadRunner.run("create-batch-" + BATCH_SIZE, CLIENT_THREADS, batches, b -> {
+				List<String> items = new ArrayList<>(BATCH_SIZE);
+				for (int i = 0; i < BATCH_SIZE; i++) {
+					items.add(account("B", b * BATCH_SIZE + i));
+				}
+				String body = post(client, batch, "[" + String.join(",", items) + "]", 200);
+				created[b] = objectMapper.readTree(body).path("created").asLong();
+			});
+
+			double singleRate = single.throughput();
+			double bulkRate = bulk.throughput() * BATCH_SIZE;
+			System.out.println(single);
+			System.out.println(bulk);
+			System.out.printf("accounts/s one-by-one=%.0f batch=%.0f speedup=%.1fx%n", singleRate, bulkRate,
+					bulkRate / singleRate);
+
+			assertThat(single.errors()).isZero();
+			assertThat(bulk.errors()).isZero();
+			assertThat(created).containsOnly(BATCH_SIZE);
+			assertThat(bulkRate).isGreaterThan(singleRate);
+
+			// el duplicado se informa por ítem, sin abortar el resto del lote
+			String body = post(client, batch, "[" + account("S", 0) + "," + account("D", 0) + "]", 200);
+			JsonNode response = objectMapper.readTree(body);
+			assertThat(response.path("duplicates").asInt()).isEqualTo(1);
+			assertThat(response.path("created").asInt()).isEqualTo(1);
+		}
+	}
+
+	private static String post(HttpClient client, URI uri, String json, int expectedStatus) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(uri).header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json)).build();
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() != expectedStatus) {
+			throw new IllegalStateException("HTTP " + response.statusCode());
+		}
+		return response.body();
+	}
+
+	private static String account(String prefix, int i) {
+		String cbu = prefix + "%021d".formatted(i);
+		return """
+				{"accountNumber":"%s","cbu":"%s","ownerName":"Owner %d","ownerDocument":"%d","currency":"ARS",\
+				"balance":100.00,"branchCode":"001"}""".formatted(cbu, cbu, i, i);
+	}
+}
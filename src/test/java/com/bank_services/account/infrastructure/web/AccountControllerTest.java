@@ -1,37 +1,76 @@
 package com.bank_services.account.infrastructure.web;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import com.bank_services.account.application.dto.AccountAggregateResponse;
+import com.bank_services.account.application.dto.AccountResponsePage;
+import com.bank_services.account.application.dto.AccountSearchCriteria;
 import com.bank_services.account.application.dto.AccountSummaryResponse;
+import com.bank_services.account.application.dto.AccountVersion;
 import com.bank_services.account.application.dto.BankAccountRequest;
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.application.dto.VersionedAccountResponse;
+import com.bank_services.account.application.dto.VersionedAccountSummary;
+import com.bank_services.account.application.mapper.AccountResponseMapper;
+import com.bank_services.account.application.port.AccountAggregatePort;
+import com.bank_services.account.application.port.AccountLedgerQueryPort;
+import com.bank_services.account.application.port.AccountQueryPort;
+import com.bank_services.account.application.query.AccountQueryService;
 import com.bank_services.account.domain.exception.DuplicateResourceException;
-import com.bank_services.account.domain.exception.ResourceNotFoundException;
+import com.bank_services.account.domain.exception.InsufficientFundsException;
+import com.bank_services.account.domain.exception.InvalidAccountOperationException;
+import com.bank_services.account.domain.exception.PreconditionFailedException;
 import com.bank_services.account.domain.model.AccountStatus;
 import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.BatchItemResult;
 import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.service.AccountBatchService;
 import com.bank_services.account.domain.service.AccountService;
+import com.bank_services.account.infrastructure.config.AccountIdempotencyConfig;
+import com.bank_services.account.infrastructure.config.AccountJsonConfig;
+import com.bank_services.account.infrastructure.config.AccountRiskConfig;
+import com.bank_services.account.infrastructure.idempotency.IdempotentRequests;
+import com.bank_services.account.infrastructure.risk.RiskRules;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(AccountController.class)
+@Import({ AccountRequestMapper.class, AccountResponseMapper.class, AccountSummaryMapper.class,
+		AccountQueryService.class, AccountIdempotencyConfig.class, AccountRiskConfig.class,
+		AccountJsonConfig.class })
 class AccountControllerTest {
 
 	@Autowired
@@ -40,11 +79,26 @@ class AccountControllerTest {
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	@Autowired
+	private RiskRules riskRules;
+
 	@MockitoBean
 	private AccountService accountService;
 
 	@MockitoBean
-	private SelfAccountClient selfAccountClient;
+	private AccountBatchService batchService;
+
+	@MockitoBean
+	private AccountQueryPort queryPort;
+
+	@MockitoBean
+	private AccountAggregatePort aggregatePort;
+
+	@MockitoBean
+	private AccountLedgerQueryPort ledgerPort;
+
+	@MockitoBean
+	private AccountSummaryProvider summaryProvider;
 
 	@Test
 	void create_shouldReturn201AndBody_whenOk() throws Exception {
@@ -69,6 +123,37 @@ class AccountControllerTest {
 				.andExpect(jsonPath("$.ownerName").value("Juan Perez")).andExpect(jsonPath("$.currency").value("ARS"));
 	}
 
+	@Test
+	void create_shouldReplayFirstResponse_whenIdempotencyKeyRepeats() throws Exception {
+		BankAccountRequest request = new BankAccountRequest();
+		request.setAccountNumber("ACC-001");
+		request.setCbu("1230000100000000000011");
+		request.setOwnerName("Juan Perez");
+		request.setOwnerDocument("30123456");
+		request.setCurrency(Currency.ARS);
+		request.setBalance(new BigDecimal("500.00"));
+		request.setBranchCode("001");
+		UUID id = UUID.randomUUID();
+		Mockito.when(accountService.create(any(BankAccount.class))).thenReturn(BankAccount.builder().id(id)
+				.accountNumber("ACC-001").cbu("1230000100000000000011").ownerName("Juan Perez")
+				.ownerDocument("30123456").currency(Currency.ARS).balance(new BigDecimal("500.00"))
+				.status(AccountStatus.ACTIVE).branchCode("001").build());
+
+		for (int i = 0; i < 2; i++) {
+			mockMvc.perform(post("/api/v1/accounts").header(IdempotentRequests.KEY_HEADER, "retry-1")
+					.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(request)))
+					.andExpect(status().isCreated())
+					.andExpect(header().string(HttpHeaders.LOCATION, containsString(id.toString())))
+					.andExpect(jsonPath("$.id").value(id.toString()));
+		}
+		Mockito.verify(accountService, Mockito.times(1)).create(any(BankAccount.class));
+
+		request.setOwnerName("Otro");
+		mockMvc.perform(post("/api/v1/accounts").header(IdempotentRequests.KEY_HEADER, "retry-1")
+				.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isUnprocessableEntity());
+	}
+
 	@Test
 	void create_shouldReturn409_whenDuplicateCbu() throws Exception {
 		BankAccountRequest request = new BankAccountRequest();
@@ -92,42 +177,217 @@ class AccountControllerTest {
 	void getById_shouldReturn200_whenFound() throws Exception {
 		UUID id = UUID.randomUUID();
 
-		BankAccount domainAccount = BankAccount.builder().id(id).accountNumber("ACC-001").cbu("1230000100000000000011")
-				.ownerName("Juan Perez").ownerDocument("30123456").currency(Currency.ARS)
-				.balance(new BigDecimal("500.00")).status(AccountStatus.ACTIVE).branchCode("001").build();
+		BankAccountResponse response = response(id);
 
-		Mockito.when(accountService.getById(id)).thenReturn(domainAccount);
+		Mockito.when(queryPort.findVersionedById(id)).thenReturn(Optional.of(new VersionedAccountResponse(response, 3L)));
 
 		mockMvc.perform(get("/api/v1/accounts/{id}", id)).andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+				.andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
 				.andExpect(jsonPath("$.id").value(id.toString()))
 				.andExpect(jsonPath("$.accountNumber").value("ACC-001"))
 				.andExpect(jsonPath("$.ownerName").value("Juan Perez"));
+
+		// sin validadores en el request: una única lectura, sin consultar antes la versión
+		Mockito.verify(queryPort, Mockito.never()).findVersion(id);
+	}
+
+	@Test
+	void getById_shouldReturn200WithCurrentETag_whenConditionalRequestIsStale() throws Exception {
+		UUID id = UUID.randomUUID();
+		Mockito.when(queryPort.findVersion(id)).thenReturn(Optional.of(new AccountVersion(3L, LocalDateTime.now())));
+		// otra escritura entre la consulta de la versión y la lectura: los validadores son los de la fila devuelta
+		Mockito.when(queryPort.findVersionedById(id))
+				.thenReturn(Optional.of(new VersionedAccountResponse(response(id), 4L)));
+
+		mockMvc.perform(get("/api/v1/accounts/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+				.andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+				.andExpect(jsonPath("$.id").value(id.toString()));
 	}
 
 	@Test
 	void getById_shouldReturn404_whenNotFound() throws Exception {
 		UUID id = UUID.randomUUID();
-		Mockito.when(accountService.getById(id)).thenThrow(new ResourceNotFoundException("not found"));
+		Mockito.when(queryPort.findVersionedById(id)).thenReturn(Optional.empty());
 
 		mockMvc.perform(get("/api/v1/accounts/{id}", id)).andExpect(status().isNotFound())
-				.andExpect(jsonPath("$.status").value(404));
+				.andExpect(jsonPath("$.status").value(404))
+				.andExpect(jsonPath("$.message", containsString(id.toString())));
+	}
+
+	@Test
+	void getById_shouldReturn304WithoutLoadingTheAccount_whenETagMatches() throws Exception {
+		UUID id = UUID.randomUUID();
+		Mockito.when(queryPort.findVersion(id)).thenReturn(Optional.of(new AccountVersion(3L, LocalDateTime.now())));
+
+		mockMvc.perform(get("/api/v1/accounts/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+				.andExpect(status().isNotModified()).andExpect(content().string(""));
+
+		Mockito.verify(queryPort, Mockito.never()).findVersionedById(id);
 	}
 
 	@Test
-	void getAll_shouldReturnList() throws Exception {
+	void update_shouldReturnNewETag_andPassIfMatchVersion() throws Exception {
 		UUID id = UUID.randomUUID();
+		BankAccount updated = BankAccount.builder().id(id).accountNumber("ACC-001").cbu("1230000100000000000011")
+				.ownerName("Juan Perez").ownerDocument("30123456").currency(Currency.ARS)
+				.balance(new BigDecimal("500.00")).status(AccountStatus.ACTIVE).branchCode("001").version(4L)
+				.updatedAt(LocalDateTime.now()).build();
+		Mockito.when(accountService.update(eq(id), any(BankAccount.class), eq(3L))).thenReturn(updated);
+
+		mockMvc.perform(put("/api/v1/accounts/{id}", id).header(HttpHeaders.IF_MATCH, "\"3\"")
+				.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(validRequest())))
+				.andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+	}
 
-		BankAccount account = BankAccount.builder().id(id).accountNumber("ACC-001").cbu("1230000100000000000011")
+	@Test
+	void update_shouldNotDefaultAMissingBalanceToZero() throws Exception {
+		UUID id = UUID.randomUUID();
+		BankAccountRequest request = validRequest();
+		request.setBalance(null);
+		BankAccount updated = BankAccount.builder().id(id).accountNumber("ACC-001").cbu("1230000100000000000011")
 				.ownerName("Juan Perez").ownerDocument("30123456").currency(Currency.ARS)
-				.balance(new BigDecimal("500.00")).status(AccountStatus.ACTIVE).branchCode("001").build();
+				.balance(new BigDecimal("500.00")).status(AccountStatus.ACTIVE).branchCode("001").version(4L)
+				.updatedAt(LocalDateTime.now()).build();
+		Mockito.when(accountService.update(eq(id), any(BankAccount.class), eq(null))).thenReturn(updated);
+
+		mockMvc.perform(put("/api/v1/accounts/{id}", id).contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request))).andExpect(status().isOk())
+				.andExpect(jsonPath("$.balance").value(500.00));
+
+		Mockito.verify(accountService).update(eq(id), Mockito.argThat(account -> account.getBalance() == null),
+				eq(null));
+	}
 
-		Mockito.when(accountService.getAll()).thenReturn(Collections.singletonList(account));
+	@Test
+	void update_shouldReturn412_whenIfMatchIsStaleOrWeak() throws Exception {
+		UUID id = UUID.randomUUID();
+		Mockito.when(accountService.update(eq(id), any(BankAccount.class), eq(3L)))
+				.thenThrow(new PreconditionFailedException("stale"));
+
+		mockMvc.perform(put("/api/v1/accounts/{id}", id).header(HttpHeaders.IF_MATCH, "\"3\"")
+				.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(validRequest())))
+				.andExpect(status().isPreconditionFailed()).andExpect(jsonPath("$.status").value(412));
+		mockMvc.perform(put("/api/v1/accounts/{id}", id).header(HttpHeaders.IF_MATCH, "W/\"3\"")
+				.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(validRequest())))
+				.andExpect(status().isPreconditionFailed());
+	}
 
-		mockMvc.perform(get("/api/v1/accounts")).andExpect(status().isOk())
+	@Test
+	void getAll_shouldReturnFirstPageWithNextCursor() throws Exception {
+		UUID id = UUID.randomUUID();
+
+		Mockito.when(queryPort.findPage(null, 1)).thenReturn(new AccountResponsePage(List.of(response(id)), id));
+
+		mockMvc.perform(get("/api/v1/accounts").param("limit", "1")).andExpect(status().isOk())
+				.andExpect(header().string(AccountController.NEXT_CURSOR_HEADER, id.toString()))
 				.andExpect(jsonPath("$[0].id").value(id.toString()))
 				.andExpect(jsonPath("$[0].accountNumber").value("ACC-001"));
 	}
 
+	@Test
+	void getAll_shouldOmitNextCursor_onLastPage() throws Exception {
+		UUID after = UUID.randomUUID();
+
+		Mockito.when(queryPort.findPage(after, AccountService.DEFAULT_PAGE_SIZE))
+				.thenReturn(new AccountResponsePage(Collections.emptyList(), null));
+
+		mockMvc.perform(get("/api/v1/accounts").param("after", after.toString())).andExpect(status().isOk())
+				.andExpect(header().doesNotExist(AccountController.NEXT_CURSOR_HEADER))
+				.andExpect(jsonPath("$").isEmpty());
+	}
+
+	@Test
+	void search_shouldBindFiltersAndReturnCursor() throws Exception {
+		UUID id = UUID.randomUUID();
+		AccountSearchCriteria expected = new AccountSearchCriteria();
+		expected.setBranchCode("001");
+		expected.setCurrency(Currency.ARS);
+		expected.setStatus(AccountStatus.ACTIVE);
+		expected.setMinBalance(new BigDecimal("100"));
+		Mockito.when(queryPort.search(expected, null, 1)).thenReturn(new AccountResponsePage(List.of(response(id)), id));
+
+		mockMvc.perform(get("/api/v1/accounts/search").param("branchCode", "001").param("currency", "ARS")
+				.param("status", "ACTIVE").param("minBalance", "100").param("limit", "1")).andExpect(status().isOk())
+				.andExpect(header().string(AccountController.NEXT_CURSOR_HEADER, id.toString()))
+				.andExpect(jsonPath("$[0].id").value(id.toString()));
+	}
+
+	@Test
+	void search_shouldReturn400_whenBalanceRangeIsInverted() throws Exception {
+		mockMvc.perform(get("/api/v1/accounts/search").param("minBalance", "10").param("maxBalance", "1"))
+				.andExpect(status().isBadRequest()).andExpect(jsonPath("$.message", containsString("minBalance")));
+	}
+
+	@Test
+	void aggregates_shouldPassOptionalFilters() throws Exception {
+		Mockito.when(aggregatePort.findAggregates(null, Currency.USD, AccountStatus.ACTIVE)).thenReturn(List.of(
+				new AccountAggregateResponse("001", Currency.USD, AccountStatus.ACTIVE, 3, new BigDecimal("150.25"))));
+
+		mockMvc.perform(get("/api/v1/accounts/aggregates").param("currency", "USD").param("status", "ACTIVE"))
+				.andExpect(status().isOk()).andExpect(jsonPath("$[0].branchCode").value("001"))
+				.andExpect(jsonPath("$[0].accounts").value(3)).andExpect(jsonPath("$[0].totalBalance").value(150.25));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void export_shouldStreamOneJsonDocumentPerLine() throws Exception {
+		BankAccount first = BankAccount.builder().id(UUID.randomUUID()).accountNumber("ACC-001")
+				.currency(Currency.ARS).status(AccountStatus.ACTIVE).build();
+		BankAccount second = BankAccount.builder().id(UUID.randomUUID()).accountNumber("ACC-002")
+				.currency(Currency.USD).status(AccountStatus.ACTIVE).build();
+
+		Mockito.doAnswer(inv -> {
+			Consumer<BankAccount> consumer = inv.getArgument(0);
+			consumer.accept(first);
+			consumer.accept(second);
+			return null;
+		}).when(accountService).streamAll(any(Consumer.class));
+
+		MvcResult result = mockMvc.perform(get("/api/v1/accounts/export")).andExpect(request().asyncStarted())
+				.andReturn();
+
+		String body = mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+				.andExpect(content().contentType(AccountController.NDJSON)).andReturn().getResponse()
+				.getContentAsString();
+
+		String[] lines = body.split("\n");
+		assertThat(lines).hasSize(2);
+		assertThat(lines[0]).contains("ACC-001");
+		assertThat(lines[1]).contains("ACC-002");
+	}
+
+	@Test
+	void debit_shouldReturnUpdatedAccount() throws Exception {
+		UUID id = UUID.randomUUID();
+		BankAccount account = BankAccount.builder().id(id).accountNumber("ACC-001").currency(Currency.ARS)
+				.balance(new BigDecimal("400.00")).status(AccountStatus.ACTIVE).build();
+
+		Mockito.when(accountService.debit(id, new BigDecimal("100.00"))).thenReturn(account);
+
+		mockMvc.perform(post("/api/v1/accounts/{id}/debit", id).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"amount\":100.00}")).andExpect(status().isOk()).andExpect(jsonPath("$.balance").value(400.00));
+	}
+
+	@Test
+	void debit_shouldReturn400_whenAmountNotPositive() throws Exception {
+		mockMvc.perform(post("/api/v1/accounts/{id}/debit", UUID.randomUUID()).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"amount\":-1}")).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void transfer_shouldReturn422_whenInsufficientFunds() throws Exception {
+		UUID source = UUID.randomUUID();
+		UUID target = UUID.randomUUID();
+		Mockito.when(accountService.transfer(source, target, new BigDecimal("10")))
+				.thenThrow(new InsufficientFundsException("insufficient funds"));
+
+		mockMvc.perform(post("/api/v1/accounts/transfers").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"sourceAccountId\":\"%s\",\"targetAccountId\":\"%s\",\"amount\":10}".formatted(source,
+						target)))
+				.andExpect(status().isUnprocessableEntity()).andExpect(jsonPath("$.status").value(422));
+	}
+
 	@Test
 	void delete_shouldReturn204_whenOk() throws Exception {
 		UUID id = UUID.randomUUID();
@@ -149,10 +409,150 @@ class AccountControllerTest {
 		summary.setStatus(AccountStatus.ACTIVE);
 		summary.setLowBalanceRisk(false);
 
-		Mockito.when(selfAccountClient.getAccountSummary(eq(id))).thenReturn(summary);
+		Mockito.when(summaryProvider.getAccountSummary(eq(id), any()))
+				.thenReturn(new VersionedAccountSummary(summary, 3L, LocalDateTime.now()));
 
 		mockMvc.perform(get("/api/v1/accounts/{id}/summary", id)).andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"3-" + riskRules.snapshot().getVersion() + "\""))
 				.andExpect(jsonPath("$.ownerName").value("Juan Perez"))
 				.andExpect(jsonPath("$.lowBalanceRisk").value(false));
+
+		// sin validadores en el request: la versión sale de la misma lectura y se evalúa la tabla del ETag
+		Mockito.verify(queryPort, Mockito.never()).findVersion(id);
+		Mockito.verify(summaryProvider).getAccountSummary(id, riskRules.snapshot().getTable());
+	}
+
+	@Test
+	void summary_shouldTakeTheETagFromTheLoadedAccount_whenConditionalRequestIsStale() throws Exception {
+		UUID id = UUID.randomUUID();
+		Mockito.when(queryPort.findVersion(id)).thenReturn(Optional.of(new AccountVersion(3L, LocalDateTime.now())));
+		// otra escritura entre la consulta de la versión y la lectura del resumen
+		Mockito.when(summaryProvider.getAccountSummary(eq(id), any()))
+				.thenReturn(new VersionedAccountSummary(new AccountSummaryResponse(), 4L, LocalDateTime.now()));
+		String rules = riskRules.snapshot().getVersion() + "\"";
+
+		mockMvc.perform(get("/api/v1/accounts/{id}/summary", id).header(HttpHeaders.IF_NONE_MATCH, "W/\"2-" + rules))
+				.andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, "W/\"4-" + rules));
+	}
+
+	@Test
+	void summary_shouldReturn304_untilRiskRulesChange() throws Exception {
+		UUID id = UUID.randomUUID();
+		Mockito.when(queryPort.findVersion(id)).thenReturn(Optional.of(new AccountVersion(3L, LocalDateTime.now())));
+		Mockito.when(summaryProvider.getAccountSummary(eq(id), any()))
+				.thenAnswer(inv -> new VersionedAccountSummary(new AccountSummaryResponse(), 3L, null));
+		String etag = "W/\"3-" + riskRules.snapshot().getVersion() + "\"";
+
+		mockMvc.perform(get("/api/v1/accounts/{id}/summary", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		// mismas reglas, nueva versión
+		riskRules.replace(riskRules.snapshot().getRules());
+
+		mockMvc.perform(get("/api/v1/accounts/{id}/summary", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "W/\"3-" + riskRules.snapshot().getVersion() + "\""));
+		Mockito.verify(summaryProvider, Mockito.times(1)).getAccountSummary(id, riskRules.snapshot().getTable());
+	}
+
+	@Test
+	void summaries_shouldResolveAllIdsInOneLookup_andMarkMissingOnes() throws Exception {
+		UUID low = UUID.randomUUID();
+		UUID missing = UUID.randomUUID();
+		UUID high = UUID.randomUUID();
+		BankAccount lowAccount = BankAccount.builder().id(low).accountNumber("ACC-001").ownerName("Juan Perez")
+				.branchCode("001").currency(Currency.ARS).balance(new BigDecimal("500.00"))
+				.status(AccountStatus.ACTIVE).build();
+		BankAccount highAccount = lowAccount.toBuilder().id(high).accountNumber("ACC-002")
+				.balance(new BigDecimal("5000.00")).build();
+		Mockito.when(accountService.getByIds(Set.of(low, missing, high)))
+				.thenReturn(Map.of(low, lowAccount, high, highAccount));
+
+		mockMvc.perform(post("/api/v1/accounts/summaries").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(List.of(low, missing, high, low))))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.found").value(3))
+				.andExpect(jsonPath("$.notFound").value(1))
+				.andExpect(jsonPath("$.results[0].summary.lowBalanceRisk").value(true))
+				.andExpect(jsonPath("$.results[0].summary.risks[0]").value("LOW_BALANCE"))
+				.andExpect(jsonPath("$.results[1].id").value(missing.toString()))
+				.andExpect(jsonPath("$.results[1].status").value("NOT_FOUND"))
+				.andExpect(jsonPath("$.results[1].summary").doesNotExist())
+				.andExpect(jsonPath("$.results[2].summary.accountNumber").value("ACC-002"))
+				.andExpect(jsonPath("$.results[2].summary.lowBalanceRisk").value(false))
+				.andExpect(jsonPath("$.results[3].status").value("FOUND"));
+		Mockito.verify(accountService, Mockito.times(1)).getByIds(any());
+	}
+
+	@Test
+	void summaries_shouldCountRepeatedIdsAgainstTheLimit_andRejectANullBody() throws Exception {
+		List<UUID> repeated = Collections.nCopies(AccountService.MAX_LOOKUP_IDS + 1, UUID.randomUUID());
+
+		mockMvc.perform(post("/api/v1/accounts/summaries").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(repeated))).andExpect(status().isUnprocessableEntity());
+		mockMvc.perform(post("/api/v1/accounts/summaries").contentType(MediaType.APPLICATION_JSON).content("null"))
+				.andExpect(status().is4xxClientError());
+
+		Mockito.verify(accountService, Mockito.never()).getByIds(any());
+	}
+
+	@Test
+	void createBatch_shouldReturnPerItemResults_andSkipInvalidItems() throws Exception {
+		BankAccountRequest valid = new BankAccountRequest();
+		valid.setAccountNumber("ACC-001");
+		valid.setCbu("1230000100000000000011");
+		valid.setOwnerName("Juan Perez");
+		valid.setOwnerDocument("30123456");
+		valid.setCurrency(Currency.ARS);
+		valid.setBranchCode("001");
+		BankAccountRequest invalid = new BankAccountRequest();
+		invalid.setCbu("9990000100000000000011");
+
+		UUID id = UUID.randomUUID();
+		Mockito.when(batchService.createAll(Mockito.anyList())).thenAnswer(inv -> {
+			List<BankAccount> accounts = inv.getArgument(0);
+			assertThat(accounts).hasSize(1);
+			return List.of(BatchItemResult.created(accounts.get(0).toBuilder().id(id).build()));
+		});
+
+		mockMvc.perform(post("/api/v1/accounts/batch").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(List.of(invalid, valid)))).andExpect(status().isOk())
+				.andExpect(jsonPath("$.created").value(1)).andExpect(jsonPath("$.invalid").value(1))
+				.andExpect(jsonPath("$.results[0].status").value("INVALID"))
+				.andExpect(jsonPath("$.results[0].cbu").value("9990000100000000000011"))
+				.andExpect(jsonPath("$.results[0].message").value(containsString("ownerName")))
+				.andExpect(jsonPath("$.results[1].status").value("CREATED"))
+				.andExpect(jsonPath("$.results[1].id").value(id.toString()));
+	}
+
+	@Test
+	void createBatch_shouldRejectOversizedBatch_beforeMappingItems() throws Exception {
+		Mockito.doThrow(new InvalidAccountOperationException("Batch of 3 accounts exceeds the limit of 2"))
+				.when(batchService).checkSize(3);
+
+		mockMvc.perform(post("/api/v1/accounts/batch").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(List.of(validRequest(), validRequest(), validRequest()))))
+				.andExpect(status().isUnprocessableEntity())
+				.andExpect(jsonPath("$.message").value("Batch of 3 accounts exceeds the limit of 2"));
+
+		Mockito.verify(batchService, Mockito.never()).createAll(Mockito.anyList());
+	}
+
+	private static BankAccountRequest validRequest() {
+		BankAccountRequest request = new BankAccountRequest();
+		request.setAccountNumber("ACC-001");
+		request.setCbu("1230000100000000000011");
+		request.setOwnerName("Juan Perez");
+		request.setOwnerDocument("30123456");
+		request.setCurrency(Currency.ARS);
+		request.setBalance(new BigDecimal("500.00"));
+		request.setBranchCode("001");
+		return request;
+	}
+
+	private static BankAccountResponse response(UUID id) {
+		return new BankAccountResponse(id, "ACC-001", "1230000100000000000011", "Juan Perez", "30123456",
+				Currency.ARS, new BigDecimal("500.00"), AccountStatus.ACTIVE, "001",
+				LocalDateTime.of(2024, 1, 1, 10, 0), LocalDateTime.of(2024, 1, 2, 10, 0));
 	}
 }
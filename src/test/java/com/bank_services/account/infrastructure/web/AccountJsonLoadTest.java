@@ -0,0 +1,141 @@
+package com.bank_services.account.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bank_services.account.BankAccountServiceExampleApplication;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.service.AccountBatchService;
+import com.bank_services.account.support.LoadRunner;
+
+/**
+ * Throughput de {@code GET /{id}} y del listado de 50 con el BeanSerializer de Jackson y con los serializadores de
+ * {@code AccountJsonModule} ({@code account.json.fast-serializers}), sobre HTTP. Las dos aplicaciones corren a la
+ * vez en el mismo JVM y se miden alternadas, así el código compartido llega igual de caliente a las dos; se reporta la
+ * mejor vuelta de cada una. Se ejecuta con {@code mvn test -Pload-tests}.
+ */
+@Tag("load")
+class AccountJsonLoadTest {
+
+	private static final String SEEDED_ID = "11111111-1111-1111-1111-111111111111";
+	private static final int ACCOUNTS = 500;
+	private static final int CLIENT_THREADS = 16;
+	private static final int REQUESTS = 8_000;
+	private static final int ROUNDS = 2;
+
+	@Test
+	void fastSerializers_shouldServeSameBodies_andReportThroughput() throws Exception {
+		try (Target standard = start(false); Target fast = start(true)) {
+			standard.run(2_000);
+			fast.run(2_000);
+			for (int round = 0; round < ROUNDS; round++) {
+				standard.run(REQUESTS);
+				fast.run(REQUESTS);
+			}
+
+			System.out.println(standard);
+			System.out.println(fast);
+
+			assertThat(standard.errors).isZero();
+			assertThat(fast.errors).isZero();
+			assertThat(withoutTimestamps(fast.body(SEEDED_ID))).isEqualTo(withoutTimestamps(standard.body(SEEDED_ID)));
+		}
+	}
+
+	private static Target start(boolean fastSerializers) throws Exception {
+		String mode = fastSerializers ? "fast" : "standard";
+		int port = LoadRunner.freePort();
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(BankAccountServiceExampleApplication.class)
+				.run("--server.port=" + port, "--account.json.fast-serializers=" + fastSerializers,
+						"--spring.datasource.url=jdbc:h2:mem:json-" + mode + ";DB_CLOSE_DELAY=-1",
+						"--account.http-logging.enabled=false",
+						"--logging.level.com.bank_services.account=info");
+		return new Target(mode, "http://localhost:" + port + "/api/v1/accounts", context,
+				seed(context.getBean(AccountBatchService.class)));
+	}
+
+	private static List<UUID> seed(AccountBatchService batchService) {
+		List<BankAccount> accounts = new ArrayList<>(ACCOUNTS);
+		for (int i = 0; i < ACCOUNTS; i++) {
+			accounts.add(BankAccount.createNew("JSON-" + i, "%022d".formatted(8_000_000L + i), "Owner " + i,
+					"30" + (100_000 + i), Currency.ARS, "001"));
+		}
+		return batchService.createAll(accounts).stream().map(result -> result.getAccount().getId()).toList();
+	}
+
+	// data.sql carga las cuentas con CURRENT_TIMESTAMP
+	private static String withoutTimestamps(String body) {
+		return body.replaceAll("\"(createdAt|updatedAt)\":\"[^\"]*\"", "");
+	}
+
+	private static final class Target implements AutoCloseable {
+
+		private final String mode;
+		private final String base;
+		private final ConfigurableApplicationContext context;
+		private final HttpClient client = HttpClient.newHttpClient();
+		private final List<HttpRequest> byIdRequests;
+		private final HttpRequest pageRequest;
+		private LoadRunner.Result bestById;
+		private LoadRunner.Result bestPage;
+		private long errors;
+
+		Target(String mode, String base, ConfigurableApplicationContext context, List<UUID> ids) {
+			this.mode = mode;
+			this.base = base;
+			this.context = context;
+			this.byIdRequests = ids.stream().map(id -> HttpRequest.newBuilder(URI.create(base + "/" + id)).GET().build())
+					.toList();
+			this.pageRequest = HttpRequest.newBuilder(URI.create(base + "?limit=50")).GET().build();
+		}
+
+		void run(int requests) throws InterruptedException {
+			LoadRunner.Result byId = LoadRunner.run("get-by-id-" + mode, CLIENT_THREADS, requests,
+					i -> send(byIdRequests.get(i % byIdRequests.size())));
+			LoadRunner.Result page = LoadRunner.run("list-50-" + mode, CLIENT_THREADS, requests / 4,
+					i -> send(pageRequest));
+			errors += byId.errors() + page.errors();
+			if (bestById == null || byId.throughput() > bestById.throughput()) {
+				bestById = byId;
+			}
+			if (bestPage == null || page.throughput() > bestPage.throughput()) {
+				bestPage = page;
+			}
+		}
+
+		String body(String id) throws Exception {
+			return client.send(HttpRequest.newBuilder(URI.create(base + "/" + id)).GET().build(),
+					HttpResponse.BodyHandlers.ofString()).body();
+		}
+
+		private void send(HttpRequest request) throws Exception {
+			HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+			if (response.statusCode() != 200) {
+				throw new IllegalStateException("HTTP " + response.statusCode());
+			}
+		}
+
+		@Override
+		public void close() {
+			context.close();
+		}
+
+		@Override
+		public String toString() {
+			return bestById + "\n" + bestPage;
+		}
+	}
+}
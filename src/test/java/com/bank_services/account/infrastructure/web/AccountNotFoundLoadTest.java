@@ -0,0 +1,84 @@
+package com.bank_services.account.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bank_services.account.BankAccountServiceExampleApplication;
+import com.bank_services.account.infrastructure.error.ApiErrorCounters;
+import com.bank_services.account.infrastructure.error.GlobalExceptionHandler;
+import com.bank_services.account.support.LoadRunner;
+
+/**
+ * Barrido de ids inexistentes (todo 404) contra lecturas de una cuenta que existe, ambos sin cache: los dos pasan por
+ * la base, así que la diferencia es el camino de error. Se ejecuta con {@code mvn test -Pload-tests}.
+ */
+@Tag("load")
+class AccountNotFoundLoadTest {
+
+	private static final String ACCOUNT_ID = "11111111-1111-1111-1111-111111111111";
+	private static final int CLIENT_THREADS = 32;
+	private static final int WARMUP = 2_000;
+	private static final int REQUESTS = 5_000;
+
+	@Test
+	void notFoundScan_shouldKeepUpWithSuccessfulReads_andBeCountedByType() throws Exception {
+		int port = LoadRunner.freePort();
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+				BankAccountServiceExampleApplication.class)
+				.run("--server.port=" + port, "--account.cache.enabled=false",
+						"--spring.datasource.url=jdbc:h2:mem:not-found;DB_CLOSE_DELAY=-1",
+						"--logging.level.com.bank_services.account=info")) {
+
+			HttpClient client = HttpClient.newHttpClient();
+			String base = "http://localhost:" + port;
+			HttpRequest found = HttpRequest.newBuilder(URI.create(base + "/api/v1/accounts/" + ACCOUNT_ID)).GET()
+					.build();
+
+			LoadRunner.Action read = i -> expect(client, found, 200);
+			LoadRunner.Action scan = i -> expect(client,
+					HttpRequest.newBuilder(URI.create(base + "/api/v1/accounts/" + UUID.randomUUID())).GET().build(),
+					404);
+
+			LoadRunner.run("warmup-found", CLIENT_THREADS, WARMUP, read);
+			LoadRunner.run("warmup-not-found", CLIENT_THREADS, WARMUP, scan);
+			LoadRunner.Result reads = LoadRunner.run("found", CLIENT_THREADS, REQUESTS, read);
+			LoadRunner.Result notFound = LoadRunner.run("not-found", CLIENT_THREADS, REQUESTS, scan);
+
+			System.out.println(reads);
+			System.out.println(notFound);
+
+			assertThat(reads.errors()).isZero();
+			assertThat(notFound.errors()).isZero();
+			// sin stack trace ni formateo un 404 cuesta lo mismo que una lectura: no hay fila que mapear
+			assertThat(notFound.throughput()).isGreaterThan(reads.throughput() * 0.8);
+
+			ApiErrorCounters counters = context.getBean(GlobalExceptionHandler.class).counters();
+			assertThat(counters.count(ApiErrorCounters.Type.NOT_FOUND)).isEqualTo(WARMUP + REQUESTS);
+
+			HttpResponse<String> metric = client.send(HttpRequest
+					.newBuilder(URI.create(base + "/actuator/metrics/account.http.errors?tag=type:not_found")).GET()
+					.build(), HttpResponse.BodyHandlers.ofString());
+			assertThat(metric.body()).contains("\"value\":" + (double) (WARMUP + REQUESTS));
+		}
+	}
+
+	private static void expect(HttpClient client, HttpRequest request, int status) throws Exception {
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() != status) {
+			throw new IllegalStateException("HTTP " + response.statusCode());
+		}
+		if (status == 404 && !response.body().contains("\"error\":\"Not Found\"")) {
+			throw new IllegalStateException("Unexpected body " + response.body());
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package com.bank_services.account.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bank_services.account.BankAccountServiceExampleApplication;
+import com.bank_services.account.application.mapper.AccountResponseMapper;
+import com.bank_services.account.application.query.AccountQueryService;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.domain.service.AccountBatchService;
+import com.bank_services.account.domain.service.AccountService;
+import com.bank_services.account.support.LoadRunner;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Bytes asignados por lectura (detalle y página de 50) con el camino anterior (entidad → dominio → respuesta) y con
+ * el modelo de lectura, medidos con el evento JFR {@code jdk.ThreadAllocationStatistics} del hilo que ejecuta las
+ * lecturas. Se ejecuta con {@code mvn test -Pload-tests}.
+ */
+@Tag("load")
+class AccountReadAllocationLoadTest {
+
+	private static final int ACCOUNTS = 300;
+	private static final int PAGE_SIZE = 50;
+	private static final int WARMUP = 3_000;
+	private static final int ITERATIONS = 5_000;
+
+	@Test
+	void readModel_shouldAllocateLessPerRequest_withAndWithoutCache() throws Exception {
+		for (boolean cache : new boolean[] { true, false }) {
+			try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+					BankAccountServiceExampleApplication.class)
+					.run("--server.port=" + LoadRunner.freePort(), "--account.cache.enabled=" + cache,
+							"--spring.datasource.url=jdbc:h2:mem:read-alloc-" + cache + ";DB_CLOSE_DELAY=-1",
+							"--logging.level.com.bank_services.account=info")) {
+
+				AccountService accountService = context.getBean(AccountService.class);
+				AccountQueryService queryService = context.getBean(AccountQueryService.class);
+				AccountResponseMapper mapper = context.getBean(AccountResponseMapper.class);
+				List<UUID> ids = seed(context.getBean(AccountBatchService.class));
+
+				Read legacyById = i -> mapper.toResponse(accountService.getById(ids.get(i % ids.size())));
+				Read queryById = i -> queryService.getById(ids.get(i % ids.size()));
+				Read legacyPage = i -> accountService.getPage(null, PAGE_SIZE).getItems().stream()
+						.map(mapper::toResponse).collect(Collectors.toList());
+				Read queryPage = i -> queryService.getPage(null, PAGE_SIZE).getItems();
+
+				long legacyByIdBytes = bytesPerRead(legacyById);
+				long queryByIdBytes = bytesPerRead(queryById);
+				long legacyPageBytes = bytesPerRead(legacyPage);
+				long queryPageBytes = bytesPerRead(queryPage);
+
+				System.out.printf("[read-alloc] cache=%s getById legacy=%d B query=%d B | page(%d) legacy=%d B"
+						+ " query=%d B%n", cache, legacyByIdBytes, queryByIdBytes, PAGE_SIZE, legacyPageBytes,
+						queryPageBytes);
+
+				// con cache el detalle sólo se ahorra la copia defensiva: puede quedar parejo
+				assertThat(queryByIdBytes).isLessThanOrEqualTo(legacyByIdBytes);
+				assertThat(queryPageBytes).isLessThan(legacyPageBytes);
+			}
+		}
+	}
+
+	private static List<UUID> seed(AccountBatchService batchService) {
+		List<BankAccount> accounts = new ArrayList<>(ACCOUNTS);
+		for (int i = 0; i < ACCOUNTS; i++) {
+			accounts.add(BankAccount.createNew("ALLOC-" + i, "%022d".formatted(9_000_000L + i), "Owner " + i,
+					"30" + (100_000 + i), Currency.ARS, "001"));
+		}
+		return batchService.createAll(accounts).stream().map(result -> result.getAccount().getId()).toList();
+	}
+
+	// Bytes asignados por este hilo en ITERATIONS lecturas, tras calentar el camino
+	private static long bytesPerRead(Read read) throws IOException {
+		for (int i = 0; i < WARMUP; i++) {
+			read.run(i);
+		}
+		String thread = Thread.currentThread().getName();
+		Path file = Files.createTempFile("read-alloc", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("jdk.ThreadAllocationStatistics").with("period", "everyChunk");
+			recording.start();
+			for (int i = 0; i < ITERATIONS; i++) {
+				read.run(i);
+			}
+			recording.stop();
+			recording.dump(file);
+
+			long min = Long.MAX_VALUE;
+			long max = Long.MIN_VALUE;
+			for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+				if (thread.equals(event.getThread("thread").getJavaName())) {
+					long allocated = event.getLong("allocated");
+					min = Math.min(min, allocated);
+					max = Math.max(max, allocated);
+				}
+			}
+			return (max - min) / ITERATIONS;
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Read {
+		Object run(int iteration);
+	}
+}
@@ -0,0 +1,72 @@
+package com.bank_services.account.infrastructure.web;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.application.mapper.AccountResponseMapper;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.BankAccount;
+import com.bank_services.account.domain.model.Currency;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Camino de respuesta de una cuenta: dominio → {@link BankAccountResponse} → JSON. Se ejecuta con
+ * {@code mvn verify -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountResponseBenchmark {
+
+	private AccountResponseMapper mapper;
+	private ObjectWriter writer;
+	private BankAccount account;
+	private BankAccountResponse response;
+
+	@Setup
+	public void setUp() {
+		mapper = new AccountResponseMapper();
+		// misma configuración base que el ObjectMapper de Spring Boot
+		writer = Jackson2ObjectMapperBuilder.json().build().writerFor(BankAccountResponse.class);
+		LocalDateTime now = LocalDateTime.now();
+		account = BankAccount.builder().id(UUID.randomUUID()).accountNumber("ACC-001").cbu("1230000100000000000011")
+				.ownerName("Juan Perez").ownerDocument("30123456").currency(Currency.ARS)
+				.balance(new BigDecimal("1500.00")).status(AccountStatus.ACTIVE).branchCode("001").createdAt(now)
+				.updatedAt(now).version(3L).build();
+		response = mapper.toResponse(account);
+	}
+
+	@Benchmark
+	public BankAccountResponse mapToResponse() {
+		return mapper.toResponse(account);
+	}
+
+	@Benchmark
+	public byte[] serializeResponse() throws JsonProcessingException {
+		return writer.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public byte[] mapAndSerialize() throws JsonProcessingException {
+		return writer.writeValueAsBytes(mapper.toResponse(account));
+	}
+}
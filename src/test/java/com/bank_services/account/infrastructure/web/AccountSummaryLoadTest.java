@@ -0,0 +1,82 @@
+package com.bank_services.account.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import com.bank_services.account.BankAccountServiceExampleApplication;
+import com.bank_services.account.support.LoadRunner;
+
+/**
+ * Compara el resumen en proceso contra el loopback HTTP de SelfAccountClient. Se ejecuta con
+ * {@code mvn test -Pload-tests}.
+ */
+@Tag("load")
+class AccountSummaryLoadTest {
+
+	private static final String ACCOUNT_ID = "11111111-1111-1111-1111-111111111111";
+	private static final int CLIENT_THREADS = 32;
+	private static final int REQUESTS = 2_000;
+
+	@Test
+	void localSummary_shouldUseFewerTomcatThreadsThanRemoteLoopback() throws Exception {
+		Measurement local = measure("local");
+		Measurement remote = measure("remote");
+
+		System.out.println(local);
+		System.out.println(remote);
+
+		assertThat(local.result.errors()).isZero();
+		assertThat(remote.result.errors()).isZero();
+		assertThat(local.peakTomcatThreads).isLessThanOrEqualTo(remote.peakTomcatThreads);
+	}
+
+	private Measurement measure(String mode) throws Exception {
+		int port = LoadRunner.freePort();
+		try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(
+				BankAccountServiceExampleApplication.class)
+				.run("--server.port=" + port, "--account.summary.mode=" + mode,
+						"--account.summary.remote.base-url=http://localhost:" + port,
+						"--spring.datasource.url=jdbc:h2:mem:summary-" + mode + ";DB_CLOSE_DELAY=-1",
+						"--server.tomcat.threads.max=100",
+						"--logging.level.com.bank_services.account=info")) {
+
+			HttpClient client = HttpClient.newHttpClient();
+			HttpRequest request = HttpRequest
+					.newBuilder(URI.create("http://localhost:" + port + "/api/v1/accounts/" + ACCOUNT_ID + "/summary"))
+					.GET().build();
+
+			LoadRunner.Action call = i -> {
+				HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+				if (response.statusCode() != 200) {
+					throw new IllegalStateException("HTTP " + response.statusCode());
+				}
+			};
+
+			LoadRunner.run("warmup-" + mode, CLIENT_THREADS, 500, call);
+			LoadRunner.Result result = LoadRunner.run("summary-" + mode, CLIENT_THREADS, REQUESTS, call);
+
+			ThreadPoolExecutor executor = (ThreadPoolExecutor) ((TomcatWebServer) context.getWebServer()).getTomcat()
+					.getConnector().getProtocolHandler().getExecutor();
+			return new Measurement(result, executor.getLargestPoolSize());
+		}
+	}
+
+	private record Measurement(LoadRunner.Result result, int peakTomcatThreads) {
+
+		@Override
+		public String toString() {
+			return result + " peakTomcatThreads=" + peakTomcatThreads;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.bank_services.account.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.bank_services.account.application.dto.AccountSummaryResponse;
+import com.bank_services.account.application.dto.BankAccountResponse;
+import com.bank_services.account.application.dto.VersionedAccountResponse;
+import com.bank_services.account.application.dto.VersionedAccountSummary;
+import com.bank_services.account.domain.exception.ResourceNotFoundException;
+import com.bank_services.account.domain.model.AccountStatus;
+import com.bank_services.account.domain.model.Currency;
+import com.bank_services.account.application.query.AccountQueryService;
+import com.bank_services.account.infrastructure.risk.RiskRuleProperties;
+import com.bank_services.account.infrastructure.risk.RiskRules;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class LocalAccountSummaryProviderTest {
+
+	private final AccountQueryService queryService = mock(AccountQueryService.class);
+	private final RiskRules riskRules = new RiskRules(new RiskRuleProperties(), new ObjectMapper());
+	private final LocalAccountSummaryProvider provider = new LocalAccountSummaryProvider(queryService,
+			new AccountSummaryMapper(riskRules));
+
+	@Test
+	void getAccountSummary_shouldBuildSummaryFromReadModelWithoutHttp() {
+		UUID id = UUID.randomUUID();
+		BankAccountResponse account = new BankAccountResponse(id, "ACC-001", null, "Juan Perez", null, Currency.ARS,
+				new BigDecimal("999.99"), AccountStatus.ACTIVE, "001", null, LocalDateTime.of(2025, 1, 1, 10, 0));
+		when(queryService.getVersionedById(id)).thenReturn(new VersionedAccountResponse(account, 7L));
+
+		VersionedAccountSummary versioned = provider.getAccountSummary(id, riskRules.table());
+
+		assertThat(versioned.getVersion()).isEqualTo(7L);
+		assertThat(versioned.getUpdatedAt()).isEqualTo(account.getUpdatedAt());
+		AccountSummaryResponse summary = versioned.getSummary();
+		assertThat(summary.getId()).isEqualTo(id);
+		assertThat(summary.getOwnerName()).isEqualTo("Juan Perez");
+		assertThat(summary.getBalance()).isEqualTo(new BigDecimal("999.99"));
+		assertThat(summary.isLowBalanceRisk()).isTrue();
+	}
+
+	@Test
+	void getAccountSummary_shouldNotFlagRisk_whenBalanceAboveThreshold() {
+		UUID id = UUID.randomUUID();
+		BankAccountResponse account = new BankAccountResponse();
+		account.setId(id);
+		account.setBalance(new BigDecimal("1000.00"));
+		when(queryService.getVersionedById(id)).thenReturn(new VersionedAccountResponse(account, 1L));
+
+		assertThat(provider.getAccountSummary(id, riskRules.table()).getSummary().isLowBalanceRisk()).isFalse();
+	}
+
+	@Test
+	void getAccountSummary_shouldPropagateNotFound() {
+		UUID id = UUID.randomUUID();
+		when(queryService.getVersionedById(id)).thenThrow(new ResourceNotFoundException("not found"));
+
+		assertThrows(ResourceNotFoundException.class, () -> provider.getAccountSummary(id, riskRules.table()));
+	}
+}
@@ -0,0 +1,273 @@
+package com.bank_services.account.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.bank_services.account.application.dto.AccountSummaryResponse;
+import com.bank_services.account.application.dto.VersionedAccountSummary;
+import com.bank_services.account.infrastructure.client.CircuitBreaker;
+import com.bank_services.account.infrastructure.client.OutboundCalls;
+import com.bank_services.account.infrastructure.client.OutboundClientProperties;
+import com.bank_services.account.infrastructure.client.OutboundHttpClients;
+import com.bank_services.account.infrastructure.client.RemoteCallRejectedException;
+import com.bank_services.account.infrastructure.risk.RiskRuleProperties;
+import com.bank_services.account.infrastructure.risk.RiskRules;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * SelfAccountClient contra un servidor local que responde cada request con la demora y el status programados.
+ */
+class SelfAccountClientTest {
+
+	private static final UUID ACCOUNT_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+	private static final String BODY = """
+			{"id":"%s","accountNumber":"ACC-1","cbu":"0000000000000000000001","ownerName":"Ana","ownerDocument":"1",
+			 "currency":"ARS","balance":500.00,"status":"ACTIVE","branchCode":"001","createdAt":"2025-01-01T10:00:00"}
+			""".formatted(ACCOUNT_ID);
+
+	private final OutboundClientProperties properties = new OutboundClientProperties();
+	private final RiskRules riskRules = new RiskRules(new RiskRuleProperties(), new ObjectMapper());
+	private final ConcurrentLinkedQueue<Reply> script = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger received = new AtomicInteger();
+	private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+	private volatile Reply fallback = new Reply(0, 200);
+
+	private final ExecutorService serverThreads = Executors.newCachedThreadPool();
+	private HttpServer server;
+	private PoolingHttpClientConnectionManager connectionManager;
+	private CloseableHttpClient httpClient;
+	private OutboundCalls calls;
+
+	@BeforeEach
+	void startStub() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.setExecutor(serverThreads);
+		server.createContext("/api/v1/accounts/", this::reply);
+		server.start();
+
+		properties.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+		properties.setResponseTimeout(Duration.ofMillis(300));
+		properties.getHedge().setDelay(Duration.ofMillis(100));
+	}
+
+	@AfterEach
+	void stop() throws IOException {
+		if (calls != null) {
+			calls.close();
+			httpClient.close();
+			connectionManager.close();
+		}
+		server.stop(0);
+		serverThreads.shutdownNow();
+	}
+
+	@Test
+	void getAccountSummary_shouldReusePooledConnection() {
+		properties.getHedge().setEnabled(false);
+		SelfAccountClient client = client();
+
+		for (int i = 0; i < 5; i++) {
+			VersionedAccountSummary versioned = client.getAccountSummary(ACCOUNT_ID, riskRules.table());
+			assertThat(versioned.getVersion()).isEqualTo(7L);
+			assertThat(versioned.getSummary().getId()).isEqualTo(ACCOUNT_ID);
+			assertThat(versioned.getSummary().isLowBalanceRisk()).isTrue();
+		}
+
+		assertThat(received).hasValue(5);
+		assertThat(clientPorts).hasSize(1);
+		assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+		assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+	}
+
+	@Test
+	void getAccountSummary_shouldFailAtResponseTimeout_insteadOfWaitingForSlowTarget() {
+		properties.getHedge().setEnabled(false);
+		fallback = new Reply(2_000, 200);
+		SelfAccountClient client = client();
+
+		long started = System.nanoTime();
+		ResourceAccessException ex = assertThrows(ResourceAccessException.class,
+				() -> summary(client));
+
+		assertThat(ex.getCause()).isInstanceOf(InterruptedIOException.class);
+		assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(1_500));
+		assertThat(calls.failureCount()).isEqualTo(1);
+	}
+
+	@Test
+	void getAccountSummary_shouldRejectCallsBeyondBulkhead() throws Exception {
+		properties.getHedge().setEnabled(false);
+		properties.getBulkhead().setMaxConcurrent(2);
+		properties.getBulkhead().setMaxWait(Duration.ZERO);
+		fallback = new Reply(250, 200);
+		SelfAccountClient client = client();
+
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+		try {
+			Future<AccountSummaryResponse> first = callers.submit(() -> summary(client));
+			Future<AccountSummaryResponse> second = callers.submit(() -> summary(client));
+			awaitReceived(2);
+
+			RemoteCallRejectedException ex = assertThrows(RemoteCallRejectedException.class,
+					() -> summary(client));
+
+			assertThat(ex.getReason()).isEqualTo(RemoteCallRejectedException.Reason.BULKHEAD_FULL);
+			assertThat(first.get().getId()).isEqualTo(ACCOUNT_ID);
+			assertThat(second.get().getId()).isEqualTo(ACCOUNT_ID);
+			assertThat(received).hasValue(2);
+			assertThat(calls.bulkheadRejectedCount()).isEqualTo(1);
+			assertThat(calls.activeCalls()).isZero();
+		} finally {
+			callers.shutdownNow();
+		}
+	}
+
+	@Test
+	void getAccountSummary_shouldFailFastWhileOpen_andCloseAfterSuccessfulProbes() throws Exception {
+		properties.getHedge().setEnabled(false);
+		OutboundClientProperties.CircuitBreakerSettings breaker = properties.getCircuitBreaker();
+		breaker.setWindowSize(4);
+		breaker.setMinimumCalls(4);
+		breaker.setOpenDuration(Duration.ofMillis(300));
+		breaker.setHalfOpenCalls(1);
+		fallback = new Reply(0, 500);
+		SelfAccountClient client = client();
+
+		for (int i = 0; i < 4; i++) {
+			assertThrows(HttpServerErrorException.class, () -> summary(client));
+		}
+		assertThat(calls.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+		RemoteCallRejectedException ex = assertThrows(RemoteCallRejectedException.class,
+				() -> summary(client));
+		assertThat(ex.getReason()).isEqualTo(RemoteCallRejectedException.Reason.CIRCUIT_OPEN);
+		assertThat(ex.getRetryAfterSeconds()).isEqualTo(1);
+		assertThat(received).hasValue(4);
+
+		fallback = new Reply(0, 200);
+		Thread.sleep(350);
+		assertThat(summary(client).getId()).isEqualTo(ACCOUNT_ID);
+		assertThat(calls.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void getAccountSummary_shouldNotCountNotFoundAsFailure_norRetryIt() {
+		fallback = new Reply(0, 404);
+		SelfAccountClient client = client();
+
+		for (int i = 0; i < 12; i++) {
+			assertThrows(HttpClientErrorException.NotFound.class, () -> summary(client));
+		}
+
+		assertThat(received).hasValue(12);
+		assertThat(calls.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(calls.hedgeCount()).isZero();
+	}
+
+	@Test
+	void getAccountSummary_shouldHedgeSlowRead_andTakeTheFirstResponse() {
+		SelfAccountClient client = client();
+		warmUp(client);
+		script.add(new Reply(1_000, 200));
+
+		long started = System.nanoTime();
+		AccountSummaryResponse summary = summary(client);
+
+		assertThat(summary.getId()).isEqualTo(ACCOUNT_ID);
+		// el primer intento sigue esperando al servidor: respondió el segundo, lanzado a los 100 ms
+		assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(280));
+		assertThat(received).hasValue(2);
+		assertThat(calls.hedgeCount()).isEqualTo(1);
+		assertThat(calls.hedgeWinCount()).isEqualTo(1);
+	}
+
+	@Test
+	void getAccountSummary_shouldRetryFailedRead_onAnotherAttempt() {
+		script.add(new Reply(0, 503));
+		SelfAccountClient client = client();
+
+		assertThat(summary(client).getId()).isEqualTo(ACCOUNT_ID);
+
+		assertThat(received).hasValue(2);
+		assertThat(calls.failureCount()).isEqualTo(1);
+		assertThat(calls.successCount()).isEqualTo(1);
+	}
+
+	// la primera llamada carga clases y abre la conexión: puede superar hedge.delay por sí sola
+	private void warmUp(SelfAccountClient client) {
+		summary(client);
+		received.set(0);
+	}
+
+	private SelfAccountClient client() {
+		connectionManager = OutboundHttpClients.connectionManager(properties);
+		httpClient = OutboundHttpClients.httpClient(connectionManager, properties);
+		calls = new OutboundCalls("self-account", properties, Executors.newCachedThreadPool());
+		return new SelfAccountClient(properties, httpClient, calls, new AccountSummaryMapper(riskRules));
+	}
+
+	private AccountSummaryResponse summary(SelfAccountClient client) {
+		return client.getAccountSummary(ACCOUNT_ID, riskRules.table()).getSummary();
+	}
+
+	private void reply(HttpExchange exchange) throws IOException {
+		received.incrementAndGet();
+		clientPorts.add(exchange.getRemoteAddress().getPort());
+		Reply reply = script.poll();
+		if (reply == null) {
+			reply = fallback;
+		}
+		try (exchange) {
+			Thread.sleep(reply.delayMillis());
+			byte[] body = reply.status() == 200 ? BODY.getBytes(StandardCharsets.UTF_8) : new byte[0];
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			if (reply.status() == 200) {
+				exchange.getResponseHeaders().add("ETag", "\"7\"");
+			}
+			exchange.sendResponseHeaders(reply.status(), body.length == 0 ? -1 : body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException e) {
+			// el cliente ya cortó por timeout
+		}
+	}
+
+	private void awaitReceived(int expected) throws InterruptedException {
+		long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+		while (received.get() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+	}
+
+	private record Reply(long delayMillis, int status) {
+	}
+}
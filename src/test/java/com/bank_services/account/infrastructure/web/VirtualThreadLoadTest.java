@@ -0,0 +1,100 @@
+package com.bank_services.account.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bank_services.account.BankAccountServiceExampleApplication;
+import com.bank_services.account.infrastructure.metrics.PinningReport;
+import com.bank_services.account.infrastructure.metrics.VirtualThreadPinningMonitor;
+import com.bank_services.account.support.LoadRunner;
+
+/**
+ * Compara hilos de plataforma contra virtual threads con alta concurrencia sobre el resumen remoto, donde cada request
+ * bloquea un hilo de Tomcat esperando al loopback HTTP y otro más atiende la llamada interna. Se ejecuta con
+ * {@code mvn test -Pload-tests}.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+	private static final String ACCOUNT_ID = "11111111-1111-1111-1111-111111111111";
+	// por debajo de server.tomcat.threads.max (200): con más clientes el modo plataforma se queda sin hilos para
+	// atender las llamadas internas y se bloquea
+	private static final int CLIENT_THREADS = 180;
+	private static final int REQUESTS = 6_000;
+
+	@Test
+	void virtualThreads_shouldServeRemoteSummaryWithFewerPlatformThreads() throws Exception {
+		Measurement platform = measure(false);
+		Measurement virtual = measure(true);
+
+		System.out.println(platform);
+		System.out.println(virtual);
+
+		assertThat(platform.result.errors()).isZero();
+		assertThat(virtual.result.errors()).isZero();
+		assertThat(virtual.peakPlatformThreads).isLessThan(platform.peakPlatformThreads);
+	}
+
+	private Measurement measure(boolean virtualThreads) throws Exception {
+		String mode = virtualThreads ? "virtual" : "platform";
+		int port = LoadRunner.freePort();
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+				BankAccountServiceExampleApplication.class)
+				.run("--server.port=" + port, "--spring.threads.virtual.enabled=" + virtualThreads,
+						"--account.summary.mode=remote", "--account.summary.remote.base-url=http://localhost:" + port,
+						"--spring.datasource.url=jdbc:h2:mem:threads-" + mode + ";DB_CLOSE_DELAY=-1",
+						"--account.virtual-threads.pinning.threshold=1ms",
+						"--logging.level.com.bank_services.account=info")) {
+
+			HttpClient client = HttpClient.newHttpClient();
+			HttpRequest request = HttpRequest
+					.newBuilder(URI.create("http://localhost:" + port + "/api/v1/accounts/" + ACCOUNT_ID + "/summary"))
+					.timeout(Duration.ofSeconds(30)).GET().build();
+
+			LoadRunner.Action call = i -> {
+				HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+				if (response.statusCode() != 200) {
+					throw new IllegalStateException("HTTP " + response.statusCode());
+				}
+			};
+
+			LoadRunner.run("warmup-" + mode, CLIENT_THREADS, 1_000, call);
+			ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+			threads.resetPeakThreadCount();
+			LoadRunner.Result result = LoadRunner.run("summary-" + mode, CLIENT_THREADS, REQUESTS, call);
+			int peakPlatformThreads = threads.getPeakThreadCount();
+
+			VirtualThreadPinningMonitor monitor = context.getBeanProvider(VirtualThreadPinningMonitor.class)
+					.getIfAvailable();
+			PinningReport pinning = monitor != null ? monitor.report() : null;
+			return new Measurement(result, peakPlatformThreads, pinning);
+		}
+	}
+
+	private record Measurement(LoadRunner.Result result, int peakPlatformThreads, PinningReport pinning) {
+
+		@Override
+		public String toString() {
+			StringBuilder out = new StringBuilder(result + " peakPlatformThreads=" + peakPlatformThreads);
+			if (pinning != null) {
+				out.append(" pinnedEvents=").append(pinning.getEvents())
+						.append(" pinnedMaxMs=%.3f".formatted(pinning.getMaxMillis()));
+				pinning.getSites().stream().limit(5).forEach(site -> out.append("\n    pinned ").append(site.getEvents())
+						.append("x at ").append(site.getFrame()));
+			}
+			return out.toString();
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.bank_services.account.support;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Utilidad mínima para los tests de carga (@Tag("load")): ejecuta una acción con N hilos concurrentes y reporta
+ * latencias y throughput.
+ */
+public final class LoadRunner {
+
+	private LoadRunner() {
+	}
+
+	@FunctionalInterface
+	public interface Action {
+		void run(int iteration) throws Exception;
+	}
+
+	public static Result run(String name, int threads, int iterations, Action action) throws InterruptedException {
+		long[] latencies = new long[iterations];
+		AtomicInteger next = new AtomicInteger();
+		AtomicLong errors = new AtomicLong();
+		Map<String, LongAdder> errorTypes = new ConcurrentHashMap<>();
+		CountDownLatch done = new CountDownLatch(threads);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+		long start = System.nanoTime();
+		for (int t = 0; t < threads; t++) {
+			pool.execute(() -> {
+				try {
+					int i;
+					while ((i = next.getAndIncrement()) < iterations) {
+						long begin = System.nanoTime();
+						try {
+							action.run(i);
+						} catch (Exception e) {
+							errors.incrementAndGet();
+							errorTypes.computeIfAbsent(e.getClass().getSimpleName(), k -> new LongAdder()).increment();
+						}
+						latencies[i] = System.nanoTime() - begin;
+					}
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		done.await();
+		long elapsed = System.nanoTime() - start;
+		pool.shutdown();
+		pool.awaitTermination(10, TimeUnit.SECONDS);
+
+		Arrays.sort(latencies);
+		Map<String, Long> errorsByType = new TreeMap<>();
+		errorTypes.forEach((type, count) -> errorsByType.put(type, count.sum()));
+		return new Result(name, iterations, errors.get(), errorsByType, elapsed, latencies);
+	}
+
+	public static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	public static final class Result {
+
+		private final String name;
+		private final int iterations;
+		private final long errors;
+		private final Map<String, Long> errorsByType;
+		private final long elapsedNanos;
+		private final long[] sortedLatencies;
+
+		Result(String name, int iterations, long errors, Map<String, Long> errorsByType, long elapsedNanos,
+				long[] sortedLatencies) {
+			this.name = name;
+			this.iterations = iterations;
+			this.errors = errors;
+			this.errorsByType = errorsByType;
+			this.elapsedNanos = elapsedNanos;
+			this.sortedLatencies = sortedLatencies;
+		}
+
+		public long errors() {
+			return errors;
+		}
+
+		public Map<String, Long> errorsByType() {
+			return errorsByType;
+		}
+
+		public double throughput() {
+			return iterations / (elapsedNanos / 1_000_000_000.0);
+		}
+
+		public double percentileMillis(double percentile) {
+			int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+			return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+		}
+
+		@Override
+		public String toString() {
+			return "%-28s ops=%d errors=%d%s throughput=%.0f ops/s p50=%.3fms p99=%.3fms max=%.3fms".formatted(name,
+					iterations, errors, errorsByType.isEmpty() ? "" : errorsByType.toString(), throughput(),
+					percentileMillis(50), percentileMillis(99), percentileMillis(100));
+		}
+	}
+}